@@ -120,6 +120,13 @@ public class Properties {
 	@Parameter(key = "reset_static_field_gets", group = "Test Creation", description = "Call static constructors also after each static field was read")
 	public static boolean RESET_STATIC_FIELD_GETS = false;
 
+	public enum StaticResetMode {
+		REINITIALIZE, SNAPSHOT
+	}
+
+	@Parameter(key = "static_reset_mode", group = "Test Creation", description = "How classes are re-initialized after a test execution: re-run the static initializer, or restore the written static fields from a snapshot taken after the first initialization")
+	public static StaticResetMode STATIC_RESET_MODE = StaticResetMode.REINITIALIZE;
+
 	@Parameter(key = "reset_all_classes_during_test_generation", group = "Test Creation", description = "Test Generation does not apply the selective method of selection of class re-initalization")
 	public static boolean RESET_ALL_CLASSES_DURING_TEST_GENERATION = false;
 
@@ -321,6 +328,9 @@ public class Properties {
 	@Parameter(key = "migrants_communication_rate", group = "Test Creation", description = "Determines amount of migrants per communication step")
 	public static int MIGRANTS_COMMUNICATION_RATE = 3;
 
+	@Parameter(key = "migrants_share_archive", group = "Test Creation", description = "Send the archive solutions of newly covered goals along with the migrants, so that other clients do not need to cover these goals again")
+	public static boolean MIGRANTS_SHARE_ARCHIVE = true;
+
 	// ---------------------------------------------------------------
 	// Search algorithm
 	public enum Algorithm {
@@ -418,6 +428,9 @@ public class Properties {
 	@Parameter(key = "local_search_dse", group = "DSE", description = "Granularity of DSE application")
 	public static DSEType LOCAL_SEARCH_DSE = DSEType.TEST;
 
+	@Parameter(key = "dse_instrument_only_call_graph", group = "DSE", description = "Only instrument concolically the target class and the classes it calls, all other classes are executed concretely")
+	public static boolean DSE_INSTRUMENT_ONLY_CALL_GRAPH = false;
+
 	@Deprecated
 	@Parameter(key = "dse_keep_all_tests", group = "DSE", description = "Keep tests even if they do not increase fitness")
 	public static boolean DSE_KEEP_ALL_TESTS = false;
@@ -580,6 +593,10 @@ public class Properties {
 	@IntValue(min = 1)
 	public static int POPULATION = 50;
 
+	@Parameter(key = "novelty_neighbours", group = "Search Algorithm", description = "Number of nearest neighbours the novelty of an individual is measured against in novelty search (0 = all other individuals)")
+	@IntValue(min = 0)
+	public static int NOVELTY_NEIGHBOURS = 0;
+
 	public enum PopulationLimit {
 		INDIVIDUALS, TESTS, STATEMENTS;
 	}
@@ -643,7 +660,9 @@ public class Properties {
 	public static TheReplacementFunction REPLACEMENT_FUNCTION = TheReplacementFunction.DEFAULT;
 
 	public enum SelectionFunction {
-		RANK, ROULETTEWHEEL, TOURNAMENT, BINARY_TOURNAMENT, RANK_CROWD_DISTANCE_TOURNAMENT, BESTK, RANDOMK
+		RANK, ROULETTEWHEEL, TOURNAMENT, BINARY_TOURNAMENT, RANK_CROWD_DISTANCE_TOURNAMENT, BESTK, RANDOMK,
+		/** Only for emigrant selection */
+		DIVERSEK, NOVELK
 	}
 
 	@Parameter(key = "selection_function", group = "Search Algorithm", description = "Selection function during search")
@@ -822,6 +841,13 @@ public class Properties {
 	@Parameter(key = "ctg_seeds_ext", group = "Continuous Test Generation", description = "File extension for serialized test files")
 	public static String CTG_SEEDS_EXT = "seed";
 
+	public enum SerializationFormat {
+		JAVA, BINARY
+	}
+
+	@Parameter(key = "serialization_format", group = "Continuous Test Generation", description = "Format used to write serialized tests and object pools (both formats can be read)")
+	public static SerializationFormat SERIALIZATION_FORMAT = SerializationFormat.BINARY;
+
 	@Parameter(key = "ctg_project_info", group = "Continuous Test Generation", description = "XML file which stores stats about all CTG executions")
 	public static String CTG_PROJECT_INFO = "project_info.xml";
 
@@ -911,6 +937,13 @@ public class Properties {
 	@Parameter(key = "coverage_matrix_filename", group = "Output", description = "File to which the coverage matrix is written")
 	public static String COVERAGE_MATRIX_FILENAME = "matrix";
 
+	public enum CoverageMatrixFormat {
+		TEXT, BINARY
+	}
+
+	@Parameter(key = "coverage_matrix_format", group = "Output", description = "Format of the coverage matrix: one line of 0/1 per test, or run-length encoded bit sets (see CoverageMatrixReader)")
+	public static CoverageMatrixFormat COVERAGE_MATRIX_FORMAT = CoverageMatrixFormat.TEXT;
+
 	@Parameter(key = "junit_tests", group = "Output", description = "Create JUnit test suites")
 	public static boolean JUNIT_TESTS = true;
 
@@ -1105,12 +1138,16 @@ public class Properties {
 	public static boolean SERIALIZE_GA = false;
 
 	public enum StatisticsBackend {
-		NONE, CONSOLE, CSV, HTML, DEBUG;
+		NONE, CONSOLE, CSV, HTML, DEBUG, COLUMNAR;
 	}
 
 	@Parameter(key = "statistics_backend", group = "Output", description = "Which backend to use to collect data")
 	public static StatisticsBackend STATISTICS_BACKEND = StatisticsBackend.CSV;
 
+	@Parameter(key = "statistics_batch_size", group = "Output", description = "Number of rows of statistics the columnar backend collects before writing them to disk")
+	@IntValue(min = 1)
+	public static int STATISTICS_BATCH_SIZE = 1;
+
 	@Parameter(key = "timeline_interval", group = "Output", description = "Time interval in milliseconds for timeline statistics")
 	public static long TIMELINE_INTERVAL = 60 * 1000;
 
@@ -1295,6 +1332,10 @@ public class Properties {
 	@Parameter(key = "tt_scope", description = "Testability transformation")
 	public static TransformationScope TT_SCOPE = TransformationScope.ALL;
 
+	@Parameter(key = "tt_container_sample_size", description = "Maximum number of elements of a container that are compared with a missing element, to compute how close a contains check is to be true")
+	@IntValue(min = 1)
+	public static int TT_CONTAINER_SAMPLE_SIZE = 1000;
+
 	// ---------------------------------------------------------------
 	// Contracts / Asserts:
 	@Parameter(key = "check_contracts", description = "Check contracts during test execution")
@@ -1372,6 +1413,9 @@ public class Properties {
     @Parameter(key = "max_loop_iterations", group = "Test Execution", description = "Max number of iterations allowed per loop. A negative value means no check is done.")
     public static long MAX_LOOP_ITERATIONS = RuntimeSettings.maxNumberOfIterationsPerLoop;
 
+	@Parameter(key = "prefix_execution_cache", group = "Test Execution", description = "When re-executing a changed test, resume from a checkpoint of its unchanged prefix if the prefix has no side effects. Static field accesses and class initialization are traced while this is enabled (experimental)")
+	public static boolean PREFIX_EXECUTION_CACHE = false;
+
     // ---------------------------------------------------------------
 	// Debugging
 
@@ -1565,6 +1609,10 @@ public class Properties {
 	@Parameter(key = "min_free_mem", group = "Runtime", description = "Minimum amount of available memory")
 	public static int MIN_FREE_MEM = 50 * 1000 * 1000;
 
+	@Parameter(key = "setup_threads", group = "Runtime", description = "Number of threads used to parse the bytecode of the class path when the client is set up (1 = no parallelism)")
+	@IntValue(min = 1)
+	public static int SETUP_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
 
 	@Parameter(key = "client_on_thread", group = "Runtime", description = "Run client process on same JVM of master in separate thread. To be used only for debugging purposes")
 	public static volatile boolean CLIENT_ON_THREAD = false;
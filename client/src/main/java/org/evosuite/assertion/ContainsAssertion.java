@@ -19,6 +19,10 @@ public class ContainsAssertion extends Assertion {
         return containedVariable;
     }
 
+    public void setContainedVariable(VariableReference containedVariable) {
+        this.containedVariable = containedVariable;
+    }
+
 
     /** {@inheritDoc} */
     @Override
@@ -25,7 +25,13 @@ package org.evosuite.dse;
     http://ranger.uta.edu/~csallner/dsc/index.html
  */
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.evosuite.PackageInfo;
+import org.evosuite.Properties;
+import org.evosuite.setup.DependencyAnalysis;
+import org.evosuite.setup.callgraph.CallGraph;
 
 /**
  * Constant values
@@ -196,9 +202,50 @@ public class MainConfig {
 			if (typeName.startsWith(prefix))
 				return true;
 
+		if (Properties.DSE_INSTRUMENT_ONLY_CALL_GRAPH)
+			return !isInCallGraph(typeName);
+
 		return false;
 	}
 
+	private CallGraph callGraph;
+
+	private Set<String> callGraphClasses;
+
+	/**
+	 * Nested classes belong to the call graph together with their outer
+	 * class. Names are compared with '.' as separator of nested classes, as
+	 * callers pass either binary or canonical names.
+	 * 
+	 * @param typeName
+	 *            some.package.SomeType
+	 * @return if typeName is the target class or one of the classes it calls
+	 */
+	private synchronized boolean isInCallGraph(String typeName) {
+		CallGraph currentCallGraph = DependencyAnalysis.getCallGraph();
+		if (currentCallGraph == null)
+			return true; // no analysis, nothing to restrict to
+
+		if (currentCallGraph != callGraph) {
+			callGraph = currentCallGraph;
+			callGraphClasses = new HashSet<String>();
+			if (Properties.TARGET_CLASS != null)
+				callGraphClasses.add(Properties.TARGET_CLASS.replace('$', '.'));
+			for (String className : currentCallGraph.getClasses())
+				callGraphClasses.add(className.replace('$', '.'));
+		}
+
+		String name = typeName.replace('$', '.');
+		while (true) {
+			if (callGraphClasses.contains(name))
+				return true;
+			int index = name.lastIndexOf('.');
+			if (index <= 0)
+				return false;
+			name = name.substring(0, index);
+		}
+	}
+
 	/* LOG options */
 
 	// @Help("log trivially true conjuncts (x==x) etc. when logging the path condition in Dsc notation")
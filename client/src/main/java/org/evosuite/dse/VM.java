@@ -19,6 +19,9 @@
  */
 package org.evosuite.dse;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -101,6 +104,14 @@ public final class VM {
 	// protected IVM[] listeners = new IVM[] { new InsnLogger() };
 	protected IVM[] listeners = new IVM[0];
 
+	/*
+	 * For each callback, the listeners that implement it, in the order of
+	 * listeners. A listener that inherits the empty callback of AbstractVM is
+	 * left out, so most instructions reach a single listener instead of
+	 * calling every listener in turn.
+	 */
+	private IVM[][] dispatch = emptyDispatch();
+
 	protected List<IVM> prependListeners = new LinkedList<IVM>();
 	protected List<IVM> appendListeners = new LinkedList<IVM>();
 
@@ -116,6 +127,45 @@ public final class VM {
 		list.addAll(paramListeners);
 		list.addAll(appendListeners);
 		this.listeners = list.toArray(new IVM[list.size()]);
+
+		this.dispatch = new IVM[Callback.values().length][];
+		for (Callback callback : Callback.values()) {
+			List<IVM> implementors = new ArrayList<IVM>(listeners.length);
+			for (IVM listener : listeners)
+				if (implementsCallback(listener, callback))
+					implementors.add(listener);
+			dispatch[callback.ordinal()] = implementors.toArray(new IVM[implementors.size()]);
+		}
+	}
+
+	/**
+	 * @return the listeners to be called for the callback
+	 */
+	private IVM[] listenersOf(Callback callback) {
+		return dispatch[callback.ordinal()];
+	}
+
+	/**
+	 * A listener implements a callback unless all methods of that name are
+	 * the empty ones inherited from AbstractVM. The final methods of
+	 * AbstractVM are not empty, they report callbacks that must not happen.
+	 */
+	private static boolean implementsCallback(IVM listener, Callback callback) {
+		for (Method method : listener.getClass().getMethods()) {
+			if (!method.getName().equals(callback.name()))
+				continue;
+			if (method.getDeclaringClass() != AbstractVM.class
+					|| Modifier.isFinal(method.getModifiers()))
+				return true;
+		}
+		return false;
+	}
+
+	private static IVM[][] emptyDispatch() {
+		IVM[][] empty = new IVM[Callback.values().length][];
+		for (int i = 0; i < empty.length; i++)
+			empty[i] = new IVM[0];
+		return empty;
 	}
 
 	/**
@@ -149,7 +199,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.NEW))
 				listener.NEW(typeName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -169,6 +219,7 @@ public final class VM {
 			// TODO catch StopVMException in Listeners. Enforce no listener
 			// exception reaches the VM.
 			vm.listeners = new IVM[0];
+			vm.dispatch = emptyDispatch();
 			vm.stopped = true;
 		} else if (t instanceof OutOfMemoryError) {
 			// do not wrap memory exceptions
@@ -206,7 +257,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.CALLER_STACK_PARAM))
 				listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -221,7 +272,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.CALLER_STACK_PARAM))
 				listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -236,7 +287,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.CALLER_STACK_PARAM))
 				listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -251,7 +302,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.CALLER_STACK_PARAM))
 				listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -266,7 +317,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.CALLER_STACK_PARAM))
 				listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -281,7 +332,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.CALLER_STACK_PARAM))
 				listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -296,7 +347,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.CALLER_STACK_PARAM))
 				listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -311,7 +362,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.CALLER_STACK_PARAM))
 				listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -326,7 +377,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.CALLER_STACK_PARAM))
 				listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -343,7 +394,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.SRC_LINE_NUMBER))
 				listener.SRC_LINE_NUMBER(lineNr);
 		} catch (Throwable t) {
 			handleException(t);
@@ -361,7 +412,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.METHOD_BEGIN))
 				listener.METHOD_BEGIN(access, className, methName, methDesc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -379,7 +430,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.METHOD_MAXS))
 				listener.METHOD_MAXS(className, methName, methDesc, maxStack,
 						maxLocals);
 		} catch (Throwable t) {
@@ -399,7 +450,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.METHOD_BEGIN_PARAM))
 				listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -414,7 +465,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.METHOD_BEGIN_PARAM))
 				listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -429,7 +480,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.METHOD_BEGIN_PARAM))
 				listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -444,7 +495,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.METHOD_BEGIN_PARAM))
 				listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -459,7 +510,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.METHOD_BEGIN_PARAM))
 				listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -474,7 +525,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.METHOD_BEGIN_PARAM))
 				listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -489,7 +540,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.METHOD_BEGIN_PARAM))
 				listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -504,7 +555,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.METHOD_BEGIN_PARAM))
 				listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -519,7 +570,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.METHOD_BEGIN_PARAM))
 				listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -533,7 +584,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.METHOD_BEGIN_RECEIVER))
 				listener.METHOD_BEGIN_RECEIVER(value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -547,7 +598,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.CALL_RESULT))
 				listener.CALL_RESULT(owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -562,7 +613,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.CALL_RESULT))
 				listener.CALL_RESULT(res, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -577,7 +628,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.CALL_RESULT))
 				listener.CALL_RESULT(res, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -592,7 +643,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.CALL_RESULT))
 				listener.CALL_RESULT(res, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -607,7 +658,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.CALL_RESULT))
 				listener.CALL_RESULT(res, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -622,7 +673,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.CALL_RESULT))
 				listener.CALL_RESULT(res, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -637,7 +688,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.CALL_RESULT))
 				listener.CALL_RESULT(res, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -654,7 +705,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.BB_BEGIN))
 				listener.BB_BEGIN();
 		} catch (Throwable t) {
 			handleException(t);
@@ -672,7 +723,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.HANDLER_BEGIN))
 				listener.HANDLER_BEGIN(access, className, methName, methDesc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -690,7 +741,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.NOP))
 				listener.NOP();
 		} catch (Throwable t) {
 			handleException(t);
@@ -704,7 +755,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ACONST_NULL))
 				listener.ACONST_NULL();
 		} catch (Throwable t) {
 			handleException(t);
@@ -722,7 +773,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ICONST_M1))
 				listener.ICONST_M1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -740,7 +791,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ICONST_0))
 				listener.ICONST_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -758,7 +809,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ICONST_1))
 				listener.ICONST_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -776,7 +827,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ICONST_2))
 				listener.ICONST_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -794,7 +845,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ICONST_3))
 				listener.ICONST_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -812,7 +863,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ICONST_4))
 				listener.ICONST_4();
 		} catch (Throwable t) {
 			handleException(t);
@@ -830,7 +881,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ICONST_5))
 				listener.ICONST_5();
 		} catch (Throwable t) {
 			handleException(t);
@@ -844,7 +895,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LCONST_0))
 				listener.LCONST_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -858,7 +909,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LCONST_1))
 				listener.LCONST_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -872,7 +923,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FCONST_0))
 				listener.FCONST_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -886,7 +937,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FCONST_1))
 				listener.FCONST_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -900,7 +951,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FCONST_2))
 				listener.FCONST_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -914,7 +965,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DCONST_0))
 				listener.DCONST_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -928,7 +979,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DCONST_1))
 				listener.DCONST_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -942,7 +993,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.BIPUSH))
 				listener.BIPUSH(value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -956,7 +1007,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.SIPUSH))
 				listener.SIPUSH(value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -974,7 +1025,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LDC))
 				listener.LDC(x);
 		} catch (Throwable t) {
 			handleException(t);
@@ -992,7 +1043,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LDC))
 				listener.LDC(x);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1010,7 +1061,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LDC))
 				listener.LDC(x);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1028,7 +1079,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LDC))
 				listener.LDC(x);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1043,7 +1094,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LDC_W))
 				listener.LDC_W();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1061,7 +1112,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LDC2_W))
 				listener.LDC2_W(x);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1079,7 +1130,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LDC2_W))
 				listener.LDC2_W(x);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1097,7 +1148,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ILOAD))
 				listener.ILOAD(i);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1111,7 +1162,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LLOAD))
 				listener.LLOAD(i);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1125,7 +1176,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FLOAD))
 				listener.FLOAD(i);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1139,7 +1190,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DLOAD))
 				listener.DLOAD(i);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1153,7 +1204,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ALOAD))
 				listener.ALOAD(i);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1171,7 +1222,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ILOAD_0))
 				listener.ILOAD_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1185,7 +1236,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ILOAD_1))
 				listener.ILOAD_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1199,7 +1250,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ILOAD_2))
 				listener.ILOAD_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1213,7 +1264,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ILOAD_3))
 				listener.ILOAD_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1231,7 +1282,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LLOAD_0))
 				listener.LLOAD_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1245,7 +1296,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LLOAD_1))
 				listener.LLOAD_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1259,7 +1310,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LLOAD_2))
 				listener.LLOAD_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1273,7 +1324,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LLOAD_3))
 				listener.LLOAD_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1291,7 +1342,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FLOAD_0))
 				listener.FLOAD_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1305,7 +1356,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FLOAD_1))
 				listener.FLOAD_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1319,7 +1370,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FLOAD_2))
 				listener.FLOAD_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1333,7 +1384,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FLOAD_3))
 				listener.FLOAD_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1351,7 +1402,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DLOAD_0))
 				listener.DLOAD_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1365,7 +1416,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DLOAD_1))
 				listener.DLOAD_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1379,7 +1430,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DLOAD_2))
 				listener.DLOAD_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1393,7 +1444,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DLOAD_3))
 				listener.DLOAD_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1411,7 +1462,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ALOAD_0))
 				listener.ALOAD_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1425,7 +1476,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ALOAD_1))
 				listener.ALOAD_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1439,7 +1490,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ALOAD_2))
 				listener.ALOAD_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1453,7 +1504,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ALOAD_3))
 				listener.ALOAD_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1467,7 +1518,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IALOAD))
 				listener.IALOAD(receiver, index);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1481,7 +1532,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LALOAD))
 				listener.LALOAD(receiver, index);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1495,7 +1546,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FALOAD))
 				listener.FALOAD(receiver, index);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1509,7 +1560,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DALOAD))
 				listener.DALOAD(receiver, index);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1523,7 +1574,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.AALOAD))
 				listener.AALOAD(receiver, index);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1537,7 +1588,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.BALOAD))
 				listener.BALOAD(receiver, index);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1551,7 +1602,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.CALOAD))
 				listener.CALOAD(receiver, index);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1565,7 +1616,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.SALOAD))
 				listener.SALOAD(receiver, index);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1583,7 +1634,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ISTORE))
 				listener.ISTORE(i);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1597,7 +1648,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LSTORE))
 				listener.LSTORE(i);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1611,7 +1662,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FSTORE))
 				listener.FSTORE(i);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1625,7 +1676,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DSTORE))
 				listener.DSTORE(i);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1639,7 +1690,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ASTORE))
 				listener.ASTORE(i);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1657,7 +1708,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ISTORE_0))
 				listener.ISTORE_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1671,7 +1722,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ISTORE_1))
 				listener.ISTORE_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1685,7 +1736,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ISTORE_2))
 				listener.ISTORE_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1699,7 +1750,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ISTORE_3))
 				listener.ISTORE_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1717,7 +1768,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LSTORE_0))
 				listener.LSTORE_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1731,7 +1782,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LSTORE_1))
 				listener.LSTORE_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1745,7 +1796,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LSTORE_2))
 				listener.LSTORE_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1759,7 +1810,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LSTORE_3))
 				listener.LSTORE_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1777,7 +1828,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FSTORE_0))
 				listener.FSTORE_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1791,7 +1842,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FSTORE_1))
 				listener.FSTORE_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1805,7 +1856,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FSTORE_2))
 				listener.FSTORE_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1819,7 +1870,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FSTORE_3))
 				listener.FSTORE_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1837,7 +1888,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DSTORE_0))
 				listener.DSTORE_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1851,7 +1902,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DSTORE_1))
 				listener.DSTORE_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1865,7 +1916,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DSTORE_2))
 				listener.DSTORE_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1879,7 +1930,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DSTORE_3))
 				listener.DSTORE_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1897,7 +1948,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ASTORE_0))
 				listener.ASTORE_0();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1911,7 +1962,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ASTORE_1))
 				listener.ASTORE_1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1925,7 +1976,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ASTORE_2))
 				listener.ASTORE_2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1939,7 +1990,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ASTORE_3))
 				listener.ASTORE_3();
 		} catch (Throwable t) {
 			handleException(t);
@@ -1953,7 +2004,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IASTORE))
 				listener.IASTORE(receiver, index);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1967,7 +2018,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LASTORE))
 				listener.LASTORE(receiver, index);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1981,7 +2032,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FASTORE))
 				listener.FASTORE(receiver, index);
 		} catch (Throwable t) {
 			handleException(t);
@@ -1995,7 +2046,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DASTORE))
 				listener.DASTORE(receiver, index);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2009,7 +2060,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.AASTORE))
 				listener.AASTORE(receiver, index);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2023,7 +2074,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.BASTORE))
 				listener.BASTORE(receiver, index);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2037,7 +2088,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.CASTORE))
 				listener.CASTORE(receiver, index);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2051,7 +2102,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.SASTORE))
 				listener.SASTORE(receiver, index);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2065,7 +2116,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.POP))
 				listener.POP();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2079,7 +2130,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.POP2))
 				listener.POP2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2093,7 +2144,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DUP))
 				listener.DUP();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2107,7 +2158,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DUP_X1))
 				listener.DUP_X1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2121,7 +2172,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DUP_X2))
 				listener.DUP_X2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2135,7 +2186,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DUP2))
 				listener.DUP2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2149,7 +2200,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DUP2_X1))
 				listener.DUP2_X1();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2163,7 +2214,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DUP2_X2))
 				listener.DUP2_X2();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2177,7 +2228,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.SWAP))
 				listener.SWAP();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2195,7 +2246,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IADD))
 				listener.IADD();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2209,7 +2260,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LADD))
 				listener.LADD();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2223,7 +2274,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FADD))
 				listener.FADD();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2237,7 +2288,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DADD))
 				listener.DADD();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2251,7 +2302,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ISUB))
 				listener.ISUB();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2265,7 +2316,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LSUB))
 				listener.LSUB();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2279,7 +2330,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FSUB))
 				listener.FSUB();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2293,7 +2344,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DSUB))
 				listener.DSUB();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2311,7 +2362,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IMUL))
 				listener.IMUL();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2325,7 +2376,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LMUL))
 				listener.LMUL();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2339,7 +2390,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FMUL))
 				listener.FMUL();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2353,7 +2404,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DMUL))
 				listener.DMUL();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2367,7 +2418,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IDIV))
 				listener.IDIV(rhs);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2381,7 +2432,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LDIV))
 				listener.LDIV(rhs);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2395,7 +2446,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FDIV))
 				listener.FDIV(rhs);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2409,7 +2460,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DDIV))
 				listener.DDIV(rhs);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2423,7 +2474,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IREM))
 				listener.IREM(rhs);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2437,7 +2488,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LREM))
 				listener.LREM(rhs);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2451,7 +2502,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FREM))
 				listener.FREM(rhs);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2465,7 +2516,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DREM))
 				listener.DREM(rhs);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2479,7 +2530,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.INEG))
 				listener.INEG();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2493,7 +2544,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LNEG))
 				listener.LNEG();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2507,7 +2558,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FNEG))
 				listener.FNEG();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2521,7 +2572,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DNEG))
 				listener.DNEG();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2535,7 +2586,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ISHL))
 				listener.ISHL();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2549,7 +2600,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LSHL))
 				listener.LSHL();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2563,7 +2614,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ISHR))
 				listener.ISHR();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2577,7 +2628,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LSHR))
 				listener.LSHR();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2591,7 +2642,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IUSHR))
 				listener.IUSHR();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2605,7 +2656,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LUSHR))
 				listener.LUSHR();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2619,7 +2670,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IAND))
 				listener.IAND();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2633,7 +2684,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LAND))
 				listener.LAND();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2647,7 +2698,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IOR))
 				listener.IOR();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2661,7 +2712,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LOR))
 				listener.LOR();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2675,7 +2726,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IXOR))
 				listener.IXOR();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2689,7 +2740,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LXOR))
 				listener.LXOR();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2703,7 +2754,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IINC))
 				listener.IINC(i, value);
 		} catch (Throwable t) {
 			handleException(t);
@@ -2717,7 +2768,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.I2L))
 				listener.I2L();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2731,7 +2782,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.I2F))
 				listener.I2F();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2745,7 +2796,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.I2D))
 				listener.I2D();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2759,7 +2810,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.L2I))
 				listener.L2I();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2773,7 +2824,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.L2F))
 				listener.L2F();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2787,7 +2838,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.L2D))
 				listener.L2D();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2801,7 +2852,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.F2I))
 				listener.F2I();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2815,7 +2866,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.F2L))
 				listener.F2L();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2829,7 +2880,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.F2D))
 				listener.F2D();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2843,7 +2894,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.D2I))
 				listener.D2I();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2857,7 +2908,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.D2L))
 				listener.D2L();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2871,7 +2922,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.D2F))
 				listener.D2F();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2885,7 +2936,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.I2B))
 				listener.I2B();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2899,7 +2950,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.I2C))
 				listener.I2C();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2913,7 +2964,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.I2S))
 				listener.I2S();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2927,7 +2978,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LCMP))
 				listener.LCMP();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2941,7 +2992,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FCMPL))
 				listener.FCMPL();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2955,7 +3006,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FCMPG))
 				listener.FCMPG();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2969,7 +3020,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DCMPL))
 				listener.DCMPL();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2983,7 +3034,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DCMPG))
 				listener.DCMPG();
 		} catch (Throwable t) {
 			handleException(t);
@@ -2998,7 +3049,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IFEQ))
 				listener.IFEQ(className, methName, branchIndex, param);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3013,7 +3064,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IFNE))
 				listener.IFNE(className, methName, branchIndex, param);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3028,7 +3079,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IFLT))
 				listener.IFLT(className, methName, branchIndex, param);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3043,7 +3094,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IFGE))
 				listener.IFGE(className, methName, branchIndex, param);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3058,7 +3109,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IFGT))
 				listener.IFGT(className, methName, branchIndex, param);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3073,7 +3124,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IFLE))
 				listener.IFLE(className, methName, branchIndex, param);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3088,7 +3139,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IF_ICMPEQ))
 				listener.IF_ICMPEQ(className, methName, branchIndex, left,
 						right);
 		} catch (Throwable t) {
@@ -3104,7 +3155,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IF_ICMPNE))
 				listener.IF_ICMPNE(className, methName, branchIndex, left,
 						right);
 		} catch (Throwable t) {
@@ -3120,7 +3171,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IF_ICMPLT))
 				listener.IF_ICMPLT(className, methName, branchIndex, left,
 						right);
 		} catch (Throwable t) {
@@ -3136,7 +3187,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IF_ICMPGE))
 				listener.IF_ICMPGE(className, methName, branchIndex, left,
 						right);
 		} catch (Throwable t) {
@@ -3152,7 +3203,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IF_ICMPGT))
 				listener.IF_ICMPGT(className, methName, branchIndex, left,
 						right);
 		} catch (Throwable t) {
@@ -3168,7 +3219,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IF_ICMPLE))
 				listener.IF_ICMPLE(className, methName, branchIndex, left,
 						right);
 		} catch (Throwable t) {
@@ -3184,7 +3235,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IF_ACMPEQ))
 				listener.IF_ACMPEQ(className, methName, branchIndex, left,
 						right);
 		} catch (Throwable t) {
@@ -3200,7 +3251,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IF_ACMPNE))
 				listener.IF_ACMPNE(className, methName, branchIndex, left,
 						right);
 		} catch (Throwable t) {
@@ -3215,7 +3266,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.GOTO))
 				listener.GOTO();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3229,7 +3280,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.JSR))
 				listener.JSR();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3243,7 +3294,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.RET))
 				listener.RET();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3258,7 +3309,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.TABLESWITCH))
 				listener.TABLESWITCH(className, methName, branchIndex, target,
 						min, max);
 		} catch (Throwable t) {
@@ -3274,7 +3325,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LOOKUPSWITCH))
 				listener.LOOKUPSWITCH(className, methName, branchIndex, target,
 						goals);
 		} catch (Throwable t) {
@@ -3289,7 +3340,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IRETURN))
 				listener.IRETURN();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3303,7 +3354,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.LRETURN))
 				listener.LRETURN();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3317,7 +3368,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.FRETURN))
 				listener.FRETURN();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3331,7 +3382,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.DRETURN))
 				listener.DRETURN();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3345,7 +3396,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ARETURN))
 				listener.ARETURN();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3359,7 +3410,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.RETURN))
 				listener.RETURN();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3373,7 +3424,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.GETSTATIC))
 				listener.GETSTATIC(owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3387,7 +3438,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.PUTSTATIC))
 				listener.PUTSTATIC(owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3402,7 +3453,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.GETFIELD))
 				listener.GETFIELD(receiver, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3417,7 +3468,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.PUTFIELD))
 				listener.PUTFIELD(receiver, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3431,7 +3482,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.INVOKESTATIC))
 				listener.INVOKESTATIC(owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3445,7 +3496,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.INVOKESPECIAL))
 				listener.INVOKESPECIAL(owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3460,7 +3511,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.INVOKEVIRTUAL))
 				listener.INVOKEVIRTUAL(receiver, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3475,7 +3526,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.INVOKESPECIAL))
 				listener.INVOKESPECIAL(receiver, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3490,7 +3541,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.INVOKEINTERFACE))
 				listener.INVOKEINTERFACE(receiver, owner, name, desc);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3504,7 +3555,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.UNUSED))
 				listener.UNUSED();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3542,7 +3593,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.NEWARRAY))
 				listener.NEWARRAY(length,
 						getArrayComponentType(componentTypeInt));
 		} catch (Throwable t) {
@@ -3557,7 +3608,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ANEWARRAY))
 				listener.ANEWARRAY(length, componentTypeName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3571,7 +3622,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ARRAYLENGTH))
 				listener.ARRAYLENGTH(reference);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3585,7 +3636,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.ATHROW))
 				listener.ATHROW((Throwable) throwable);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3599,7 +3650,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.CHECKCAST))
 				listener.CHECKCAST(reference, typeName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3613,7 +3664,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.INSTANCEOF))
 				listener.INSTANCEOF(reference, typeName);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3627,7 +3678,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.MONITORENTER))
 				listener.MONITORENTER();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3641,7 +3692,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.MONITOREXIT))
 				listener.MONITOREXIT();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3655,7 +3706,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.WIDE))
 				listener.WIDE();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3669,7 +3720,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.MULTIANEWARRAY))
 				listener.MULTIANEWARRAY(arrayTypeDesc, nrDimensions);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3684,7 +3735,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IFNULL))
 				listener.IFNULL(className, methName, branchIndex, param);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3699,7 +3750,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.IFNONNULL))
 				listener.IFNONNULL(className, methName, branchIndex, param);
 		} catch (Throwable t) {
 			handleException(t);
@@ -3713,7 +3764,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.GOTO_W))
 				listener.GOTO_W();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3727,7 +3778,7 @@ public final class VM {
 		ignoreCallback = true;
 		vm.countCallback();
 		try {
-			for (IVM listener : vm.listeners)
+			for (IVM listener : vm.listenersOf(Callback.JSR_W))
 				listener.JSR_W();
 		} catch (Throwable t) {
 			handleException(t);
@@ -3742,5 +3793,39 @@ public final class VM {
 	public static void clearInstance() {
 		vm = new VM();
 	}
+
+	/**
+	 * The callbacks that are multiplexed to the listeners, named after the
+	 * methods of IVM they are forwarded to
+	 */
+	private enum Callback {
+		NEW, CALLER_STACK_PARAM, SRC_LINE_NUMBER, METHOD_BEGIN, METHOD_MAXS,
+		METHOD_BEGIN_PARAM, METHOD_BEGIN_RECEIVER, CALL_RESULT, BB_BEGIN,
+		HANDLER_BEGIN, NOP, ACONST_NULL, ICONST_M1, ICONST_0, ICONST_1,
+		ICONST_2, ICONST_3, ICONST_4, ICONST_5, LCONST_0, LCONST_1, FCONST_0,
+		FCONST_1, FCONST_2, DCONST_0, DCONST_1, BIPUSH, SIPUSH, LDC, LDC_W,
+		LDC2_W, ILOAD, LLOAD, FLOAD, DLOAD, ALOAD, ILOAD_0, ILOAD_1, ILOAD_2,
+		ILOAD_3, LLOAD_0, LLOAD_1, LLOAD_2, LLOAD_3, FLOAD_0, FLOAD_1, FLOAD_2,
+		FLOAD_3, DLOAD_0, DLOAD_1, DLOAD_2, DLOAD_3, ALOAD_0, ALOAD_1, ALOAD_2,
+		ALOAD_3, IALOAD, LALOAD, FALOAD, DALOAD, AALOAD, BALOAD, CALOAD,
+		SALOAD, ISTORE, LSTORE, FSTORE, DSTORE, ASTORE, ISTORE_0, ISTORE_1,
+		ISTORE_2, ISTORE_3, LSTORE_0, LSTORE_1, LSTORE_2, LSTORE_3, FSTORE_0,
+		FSTORE_1, FSTORE_2, FSTORE_3, DSTORE_0, DSTORE_1, DSTORE_2, DSTORE_3,
+		ASTORE_0, ASTORE_1, ASTORE_2, ASTORE_3, IASTORE, LASTORE, FASTORE,
+		DASTORE, AASTORE, BASTORE, CASTORE, SASTORE, POP, POP2, DUP, DUP_X1,
+		DUP_X2, DUP2, DUP2_X1, DUP2_X2, SWAP, IADD, LADD, FADD, DADD, ISUB,
+		LSUB, FSUB, DSUB, IMUL, LMUL, FMUL, DMUL, IDIV, LDIV, FDIV, DDIV, IREM,
+		LREM, FREM, DREM, INEG, LNEG, FNEG, DNEG, ISHL, LSHL, ISHR, LSHR,
+		IUSHR, LUSHR, IAND, LAND, IOR, LOR, IXOR, LXOR, IINC, I2L, I2F, I2D,
+		L2I, L2F, L2D, F2I, F2L, F2D, D2I, D2L, D2F, I2B, I2C, I2S, LCMP,
+		FCMPL, FCMPG, DCMPL, DCMPG, IFEQ, IFNE, IFLT, IFGE, IFGT, IFLE,
+		IF_ICMPEQ, IF_ICMPNE, IF_ICMPLT, IF_ICMPGE, IF_ICMPGT, IF_ICMPLE,
+		IF_ACMPEQ, IF_ACMPNE, GOTO, JSR, RET, TABLESWITCH, LOOKUPSWITCH,
+		IRETURN, LRETURN, FRETURN, DRETURN, ARETURN, RETURN, GETSTATIC,
+		PUTSTATIC, GETFIELD, PUTFIELD, INVOKESTATIC, INVOKESPECIAL,
+		INVOKEVIRTUAL, INVOKEINTERFACE, UNUSED, NEWARRAY, ANEWARRAY,
+		ARRAYLENGTH, ATHROW, CHECKCAST, INSTANCEOF, MONITORENTER, MONITOREXIT,
+		WIDE, MULTIANEWARRAY, IFNULL, IFNONNULL, GOTO_W, JSR_W;
+	}
 	
 }
@@ -1,12 +1,19 @@
 package org.evosuite.ga;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.PriorityQueue;
+
+import org.evosuite.Properties;
 
 public abstract class NoveltyFunction<T extends Chromosome> {
 
     public abstract double getDistance(T individual1, T individual2);
 
     public double getNovelty(T individual, Collection<T> population) {
+        if (Properties.NOVELTY_NEIGHBOURS > 0 && Properties.NOVELTY_NEIGHBOURS < population.size() - 1)
+            return getNovelty(individual, population, Properties.NOVELTY_NEIGHBOURS);
+
         double distance = 0.0;
 
         for(T other : population) {
@@ -21,4 +28,39 @@ public abstract class NoveltyFunction<T extends Chromosome> {
 
         return distance;
     }
+
+    /**
+     * Average distance to the k nearest neighbours of the individual, which
+     * are found by keeping the k smallest distances in a bounded heap
+     *
+     * @param individual
+     * @param population
+     * @param k
+     * @return
+     */
+    public double getNovelty(T individual, Collection<T> population, int k) {
+        PriorityQueue<Double> nearest = new PriorityQueue<>(k, Collections.reverseOrder());
+
+        for(T other : population) {
+            if(other == individual)
+                continue;
+
+            double d = getDistance(individual, other);
+            if(nearest.size() < k) {
+                nearest.add(d);
+            } else if(d < nearest.peek()) {
+                nearest.poll();
+                nearest.add(d);
+            }
+        }
+
+        if(nearest.isEmpty())
+            return 0.0;
+
+        double distance = 0.0;
+        for(double d : nearest)
+            distance += d;
+
+        return distance / nearest.size();
+    }
 }
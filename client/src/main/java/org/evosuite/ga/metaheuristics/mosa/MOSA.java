@@ -32,14 +32,19 @@ import org.evosuite.Properties;
 import org.evosuite.ga.Chromosome;
 import org.evosuite.ga.ChromosomeFactory;
 import org.evosuite.ga.FitnessFunction;
+import org.evosuite.ga.archive.Archive;
 import org.evosuite.ga.comparators.OnlyCrowdingComparator;
 import org.evosuite.ga.operators.ranking.CrowdingDistance;
 import org.evosuite.ga.operators.selection.BestKSelection;
+import org.evosuite.ga.operators.selection.DiverseKSelection;
+import org.evosuite.ga.operators.selection.NovelKSelection;
 import org.evosuite.ga.operators.selection.RandomKSelection;
 import org.evosuite.ga.operators.selection.RankSelection;
 import org.evosuite.ga.operators.selection.SelectionFunction;
 import org.evosuite.rmi.ClientServices;
 import org.evosuite.statistics.RuntimeVariable;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.TestFitnessFunction;
 import org.evosuite.utils.Listener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,6 +66,9 @@ public class MOSA<T extends Chromosome> extends AbstractMOSA<T> {
 
 	private SelectionFunction<T> emigrantsSelection;
 
+	/** Goals whose archive solution has already been sent to other clients */
+	private final Set<FitnessFunction<T>> sharedGoals = new HashSet<>();
+
 	/** Crowding distance measure to use */
 	protected CrowdingDistance<T> distance = new CrowdingDistance<T>();
 
@@ -78,6 +86,12 @@ public class MOSA<T extends Chromosome> extends AbstractMOSA<T> {
 			case RANDOMK:
 				this.emigrantsSelection = new RandomKSelection<>();
 				break;
+			case DIVERSEK:
+				this.emigrantsSelection = new DiverseKSelection<>();
+				break;
+			case NOVELK:
+				this.emigrantsSelection = new NovelKSelection<>();
+				break;
 			default:
 				this.emigrantsSelection = new BestKSelection<>();
 		}
@@ -97,7 +111,13 @@ public class MOSA<T extends Chromosome> extends AbstractMOSA<T> {
 
 		// for parallel runs: integrate possible immigrants
 		if (Properties.NUM_PARALLEL_CLIENTS > 1 && !immigrants.isEmpty()) {
-			union.addAll(immigrants.poll());
+			// immigrants are evaluated on the goals of this client, which also
+			// adds the solutions of other clients to the archive
+			for (T immigrant : immigrants.poll()) {
+				immigrant.setChanged(true);
+				this.calculateFitness(immigrant);
+				union.add(immigrant);
+			}
 		}
 
 		Set<FitnessFunction<T>> uncoveredGoals = this.getUncoveredGoals();
@@ -146,6 +166,9 @@ public class MOSA<T extends Chromosome> extends AbstractMOSA<T> {
 		if (Properties.NUM_PARALLEL_CLIENTS > 1 && Properties.MIGRANTS_ITERATION_FREQUENCY > 0) {
 			if ((currentIteration + 1) % Properties.MIGRANTS_ITERATION_FREQUENCY == 0 && !this.population.isEmpty()) {
 				HashSet<T> emigrants = new HashSet<>(emigrantsSelection.select(this.population, Properties.MIGRANTS_COMMUNICATION_RATE));
+				if (Properties.MIGRANTS_SHARE_ARCHIVE) {
+					emigrants.addAll(this.getUnsharedSolutions());
+				}
 				ClientServices.getInstance().getClientNode().emigrate(emigrants);
 			}
 		}
@@ -153,6 +176,26 @@ public class MOSA<T extends Chromosome> extends AbstractMOSA<T> {
 		this.currentIteration++;
 	}
 
+	/**
+	 * Returns the archive solutions of the goals covered since the last
+	 * migration.
+	 * 
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private List<T> getUnsharedSolutions() {
+		List<T> solutions = new ArrayList<T>();
+		for (FitnessFunction<T> goal : this.getCoveredGoals()) {
+			if (this.sharedGoals.add(goal)) {
+				TestChromosome solution = Archive.getArchiveInstance().getSolution((TestFitnessFunction) goal);
+				if (solution != null) {
+					solutions.add((T) solution);
+				}
+			}
+		}
+		return solutions;
+	}
+
 	protected void preGenerationProcedure() {
 		// keep track of covered goals
 		this.fitnessFunctions.forEach(this::addUncoveredGoal);
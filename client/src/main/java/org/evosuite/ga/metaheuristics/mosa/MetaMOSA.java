@@ -29,6 +29,8 @@ import org.evosuite.Properties;
 import org.evosuite.ga.Chromosome;
 import org.evosuite.ga.ChromosomeFactory;
 import org.evosuite.ga.operators.selection.BestKSelection;
+import org.evosuite.ga.operators.selection.DiverseKSelection;
+import org.evosuite.ga.operators.selection.NovelKSelection;
 import org.evosuite.ga.operators.selection.RandomKSelection;
 import org.evosuite.ga.operators.selection.RankSelection;
 import org.evosuite.ga.operators.selection.SelectionFunction;
@@ -73,6 +75,12 @@ public class MetaMOSA<T extends Chromosome> extends AbstractMOSA<T> {
       case RANDOMK:
         this.emigrantsSelection = new RandomKSelection<>();
         break;
+      case DIVERSEK:
+        this.emigrantsSelection = new DiverseKSelection<>();
+        break;
+      case NOVELK:
+        this.emigrantsSelection = new NovelKSelection<>();
+        break;
       default:
         this.emigrantsSelection = new BestKSelection<>();
     }
@@ -19,7 +19,10 @@
  */
 package org.evosuite.ga.metaheuristics.mosa.structural;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.evosuite.coverage.branch.Branch;
@@ -47,6 +50,9 @@ public class BranchFitnessGraph<T extends Chromosome, V extends FitnessFunction<
 
 	protected Set<FitnessFunction<T>> rootBranches = new HashSet<FitnessFunction<T>>();
 
+	/** Children of the goals, collected from the graph the first time they are asked for */
+	private final Map<FitnessFunction<T>, Set<FitnessFunction<T>>> children = new HashMap<FitnessFunction<T>, Set<FitnessFunction<T>>>();
+
 	@SuppressWarnings("unchecked")
 	public BranchFitnessGraph(Set<FitnessFunction<T>> goals){
 		for (FitnessFunction<T> fitness : goals){
@@ -136,8 +142,21 @@ public class BranchFitnessGraph<T extends Chromosome, V extends FitnessFunction<
 		return this.rootBranches;
 	}
 	
-	@SuppressWarnings("unchecked")
+	/**
+	 * @param parent
+	 * @return the goals depending on the parent, which must not be modified
+	 */
 	public Set<FitnessFunction<T>> getStructuralChildren(FitnessFunction<T> parent){
+		Set<FitnessFunction<T>> result = this.children.get(parent);
+		if (result == null){
+			result = Collections.unmodifiableSet(computeStructuralChildren(parent));
+			this.children.put(parent, result);
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Set<FitnessFunction<T>> computeStructuralChildren(FitnessFunction<T> parent){
 		Set<DependencyEdge> outgoingEdges = this.graph.outgoingEdgesOf(parent);
 		Set<FitnessFunction<T>> children = new HashSet<FitnessFunction<T>>();
 		for (DependencyEdge edge : outgoingEdges){
@@ -19,11 +19,12 @@
  */
 package org.evosuite.ga.metaheuristics.mosa.structural;
 
+import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import org.evosuite.coverage.branch.BranchCoverageTestFitness;
@@ -32,6 +33,7 @@ import org.evosuite.ga.FitnessFunction;
 import org.evosuite.testcase.TestCase;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.execution.ExecutionResult;
+import org.evosuite.testcase.execution.ExecutionTrace;
 import org.evosuite.testcase.execution.TestCaseExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -95,51 +97,63 @@ public class BranchesManager<T extends Chromosome> extends StructuralGoalManager
 		ExecutionResult result = TestCaseExecutor.runTest(test);
 		((TestChromosome) c).setLastExecutionResult(result);
 		c.setChanged(false);
-		
+
+		calculateFitness(c, result);
+	}
+
+	/**
+	 * Update the goals with the result of the execution of a test
+	 * 
+	 * @param c the executed test
+	 * @param result the result of its execution
+	 */
+	protected void calculateFitness(T c, ExecutionResult result){
 		if (result.hasTimeout() || result.hasTestException()){
 			for (FitnessFunction<T> f : currentGoals)
 					c.setFitness(f, Double.MAX_VALUE);
 			return;
 		}
 
+		ExecutionTrace trace = result.getTrace();
+
 		// 1) we update the set of currents goals
-		Set<FitnessFunction<T>> visitedStatements = new HashSet<FitnessFunction<T>>(uncoveredGoals.size()*2);
-		LinkedList<FitnessFunction<T>> targets = new LinkedList<FitnessFunction<T>>();
-		targets.addAll(this.currentGoals);
+		Set<FitnessFunction<T>> visitedStatements = new HashSet<FitnessFunction<T>>(currentGoals.size()*2);
+		ArrayDeque<FitnessFunction<T>> targets = new ArrayDeque<FitnessFunction<T>>(this.currentGoals);
 
 		while (targets.size()>0){
 			FitnessFunction<T> fitnessFunction = targets.poll();
 			
-			int past_size = visitedStatements.size();
-			visitedStatements.add(fitnessFunction);
-			if (past_size == visitedStatements.size())
+			if (!visitedStatements.add(fitnessFunction))
 				continue;
-			
+
+			// goals covered by earlier tests are evaluated as well, as the
+			// evaluation also updates the archive with shorter solutions
 			double value = fitnessFunction.getFitness(c);
 			if (value == 0.0) {
 				updateCoveredGoals(fitnessFunction, c);
-				for (FitnessFunction<T> child : graph.getStructuralChildren(fitnessFunction)){
-					targets.addLast(child);
-				}
-			} else {
+				targets.addAll(graph.getStructuralChildren(fitnessFunction));
+			} else if (!coveredGoals.containsKey(fitnessFunction)) {
 				currentGoals.add(fitnessFunction);
 			}	
 		}
-		currentGoals.removeAll(coveredGoals.keySet());
-		// 2) we update the archive
-		for (Integer branchid : result.getTrace().getCoveredFalseBranches()){
-			FitnessFunction<T> branch = this.branchCoverageFalseMap.get(branchid);
+		// 2) we update the archive, only looking at the branches in the trace
+		for (Entry<Integer, Double> entry : trace.getFalseDistances().entrySet()){
+			if (entry.getValue() != 0.0)
+				continue;
+			FitnessFunction<T> branch = this.branchCoverageFalseMap.get(entry.getKey());
 			if (branch == null)
 				continue;
 			updateCoveredGoals((FitnessFunction<T>) branch, c);
 		}
-		for (Integer branchid : result.getTrace().getCoveredTrueBranches()){
-			FitnessFunction<T> branch = this.branchCoverageTrueMap.get(branchid);
+		for (Entry<Integer, Double> entry : trace.getTrueDistances().entrySet()){
+			if (entry.getValue() != 0.0)
+				continue;
+			FitnessFunction<T> branch = this.branchCoverageTrueMap.get(entry.getKey());
 			if (branch == null)
 				continue;
 			updateCoveredGoals((FitnessFunction<T>) branch, c);
 		}
-		for (String method : result.getTrace().getCoveredBranchlessMethods()){
+		for (String method : trace.getCoveredBranchlessMethods()){
 			FitnessFunction<T> branch = this.branchlessMethodCoverageMap.get(method);
 			if (branch == null)
 				continue;
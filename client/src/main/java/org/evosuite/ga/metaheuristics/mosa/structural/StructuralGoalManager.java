@@ -19,9 +19,9 @@
  */
 package org.evosuite.ga.metaheuristics.mosa.structural;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -48,13 +48,13 @@ public abstract class StructuralGoalManager<T extends Chromosome> {
 	protected Map<FitnessFunction<T>, T> coveredGoals;
 
 	/** Map of test to archive and corresponding covered targets*/
-	protected Map<T, List<FitnessFunction<T>>> archive;
+	protected Map<T, Set<FitnessFunction<T>>> archive;
 
 	protected StructuralGoalManager(List<FitnessFunction<T>> fitnessFunctions){
 		uncoveredGoals = new HashSet<FitnessFunction<T>>(fitnessFunctions.size());
 		currentGoals = new HashSet<FitnessFunction<T>>(fitnessFunctions.size());
 		coveredGoals = new HashMap<FitnessFunction<T>, T>(fitnessFunctions.size());
-		archive = new HashMap<T, List<FitnessFunction<T>>>();
+		archive = new HashMap<T, Set<FitnessFunction<T>>>();
 	}
 
 	/**
@@ -107,22 +107,21 @@ public abstract class StructuralGoalManager<T extends Chromosome> {
 			if (size < bestSize && size > 1){
 				toArchive = true;
 				coveredGoals.put(f, tc);
-				archive.get(best).remove(f);
-				if (archive.get(best).size() == 0)
+				Set<FitnessFunction<T>> bestTargets = archive.get(best);
+				bestTargets.remove(f);
+				if (bestTargets.isEmpty())
 					archive.remove(best);
 			}
 		}
 
 		// update archive
 		if (toArchive){
-			List<FitnessFunction<T>> coveredTargets = archive.get(tc);
+			Set<FitnessFunction<T>> coveredTargets = archive.get(tc);
 			if (coveredTargets == null){
-				List<FitnessFunction<T>> list = new ArrayList<FitnessFunction<T>>();
-				list.add(f);
-				archive.put(tc, list);
-			} else {
-				coveredTargets.add(f);
+				coveredTargets = new LinkedHashSet<FitnessFunction<T>>();
+				archive.put(tc, coveredTargets);
 			}
+			coveredTargets.add(f);
 		}
 	}
 
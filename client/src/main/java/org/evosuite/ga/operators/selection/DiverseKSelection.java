@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.operators.selection;
+
+import org.evosuite.ga.Chromosome;
+import org.evosuite.ga.FitnessFunction;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@inheritDoc}
+ * 
+ * Select individuals that cover different goals: each selected individual is
+ * the one covering most goals not covered by the individuals selected before.
+ * Ties, and individuals that do not cover any new goal, are resolved by the
+ * order of the population.
+ */
+public class DiverseKSelection<T extends Chromosome> extends SelectionFunction<T> {
+
+    private static final long serialVersionUID = -3620585284520391245L;
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Population has to be sorted!
+     */
+    @Override
+    public List<T> select(List<T> population, int number) {
+        return select(population, number, new HashSet<FitnessFunction<?>>());
+    }
+
+    /**
+     * @param covered
+     *            goals considered as already covered, to which the goals of the
+     *            selected individuals are added
+     */
+    protected List<T> select(List<T> population, int number, Set<FitnessFunction<?>> covered) {
+        List<T> candidates = new ArrayList<T>(population);
+        List<T> offspring = new ArrayList<T>();
+
+        int bound = Math.min(number, population.size());
+
+        for (int i = 0; i < bound; i++) {
+            int best = 0;
+            int bestNewGoals = -1;
+            for (int j = 0; j < candidates.size(); j++) {
+                int newGoals = 0;
+                for (Map.Entry<FitnessFunction<?>, Double> entry : candidates.get(j).getFitnessValues().entrySet()) {
+                    if (entry.getValue() == 0.0 && !covered.contains(entry.getKey())) {
+                        newGoals++;
+                    }
+                }
+                if (newGoals > bestNewGoals) {
+                    best = j;
+                    bestNewGoals = newGoals;
+                }
+            }
+            T selected = candidates.remove(best);
+            addCoveredGoals(selected, covered);
+            offspring.add(selected);
+        }
+
+        return offspring;
+    }
+
+    private static void addCoveredGoals(Chromosome individual, Set<FitnessFunction<?>> covered) {
+        for (Map.Entry<FitnessFunction<?>, Double> entry : individual.getFitnessValues().entrySet()) {
+            if (entry.getValue() == 0.0) {
+                covered.add(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Selects index of best offspring.
+     *
+     * Population has to be sorted!
+     */
+    @Override
+    public int getIndex(List<T> population) {
+        return 0;
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.operators.selection;
+
+import org.evosuite.ga.Chromosome;
+import org.evosuite.ga.FitnessFunction;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@inheritDoc}
+ * 
+ * Select individuals that cover goals not covered by any individual selected
+ * so far by this selection function, i.e., for migration, individuals that
+ * bring goals the other clients have not received yet.
+ */
+public class NovelKSelection<T extends Chromosome> extends DiverseKSelection<T> {
+
+    private static final long serialVersionUID = 2214360937893305437L;
+
+    private final Set<FitnessFunction<?>> selectedGoals = new HashSet<FitnessFunction<?>>();
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Population has to be sorted!
+     */
+    @Override
+    public List<T> select(List<T> population, int number) {
+        return select(population, number, selectedGoals);
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.evosuite.graphs;
 
+import java.lang.ref.SoftReference;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -38,7 +39,9 @@ import org.slf4j.LoggerFactory;
  * 
  * For each CUT and each of their methods a Raw- and an ActualControlFlowGraph
  * instance are stored within this pool. Additionally a ControlDependenceGraph
- * is computed and stored for each such method.
+ * can be retrieved for each such method: it is computed on first use from the
+ * ActualControlFlowGraph, and only softly reachable afterwards, as it can
+ * always be computed again.
  * 
  * This pool also offers the possibility to generate the ClassCallGraph and
  * ClassControlFlowGraph for a CUT. They represents the call hierarchy and
@@ -90,9 +93,11 @@ public class GraphPool {
 	/**
 	 * Control Dependence Graphs for each method.
 	 * 
-	 * Maps from classNames to methodNames to corresponding CDGs
+	 * Maps from classNames to methodNames to corresponding CDGs. A method is
+	 * mapped to null until its CDG is requested for the first time, and the
+	 * CDG may be collected again when memory gets low.
 	 */
-	private final Map<String, Map<String, ControlDependenceGraph>> controlDependencies = new HashMap<String, Map<String, ControlDependenceGraph>>();
+	private final Map<String, Map<String, SoftReference<ControlDependenceGraph>>> controlDependencies = new HashMap<String, Map<String, SoftReference<ControlDependenceGraph>>>();
 
 	/**
 	 * Cache of all created CCFGs
@@ -164,9 +169,8 @@ public class GraphPool {
 	}
 
 	/**
-	 * <p>
-	 * getCDG
-	 * </p>
+	 * Returns the CDG of the given method, computing it from the
+	 * ActualControlFlowGraph if it is not known yet or has been collected
 	 * 
 	 * @param className
 	 *            a {@link java.lang.String} object.
@@ -176,10 +180,20 @@ public class GraphPool {
 	 */
 	public ControlDependenceGraph getCDG(String className, String methodName) {
 
-		if (controlDependencies.get(className) == null)
+		Map<String, SoftReference<ControlDependenceGraph>> cds = controlDependencies.get(className);
+		if (cds == null || !cds.containsKey(methodName))
 			return null;
 
-		return controlDependencies.get(className).get(methodName);
+		SoftReference<ControlDependenceGraph> reference = cds.get(methodName);
+		ControlDependenceGraph cd = reference == null ? null : reference.get();
+		if (cd == null) {
+			cd = new ControlDependenceGraph(getActualCFG(className, methodName));
+			// only write the graph the first time it is computed
+			if (Properties.WRITE_CFG && reference == null)
+				cd.toDot();
+			cds.put(methodName, new SoftReference<ControlDependenceGraph>(cd));
+		}
+		return cd;
 	}
 
 	// register graphs
@@ -242,29 +256,23 @@ public class GraphPool {
 			cfg.toDot();
 
 		if (DependencyAnalysis.shouldInstrument(cfg.getClassName(), cfg.getMethodName())) {
-			createAndRegisterControlDependence(cfg);
+			registerControlDependence(className, methodName);
 		}
 	}
 
-	private void createAndRegisterControlDependence(ActualControlFlowGraph cfg) {
-
-		ControlDependenceGraph cd = new ControlDependenceGraph(cfg);
-
-		String className = cd.getClassName();
-		String methodName = cd.getMethodName();
-
-		if (className == null || methodName == null)
-			throw new IllegalStateException(
-			        "expect class and method name of CFGs to be set before entering the GraphPool");
+	/**
+	 * Remembers that the given method has a CDG, which is only computed once
+	 * it is requested through {@link #getCDG(String, String)}: most CDGs are
+	 * never needed during the search.
+	 */
+	private void registerControlDependence(String className, String methodName) {
 
 		if (!controlDependencies.containsKey(className))
 			controlDependencies.put(className,
-			                        new HashMap<String, ControlDependenceGraph>());
-		Map<String, ControlDependenceGraph> cds = controlDependencies.get(className);
+			                        new HashMap<String, SoftReference<ControlDependenceGraph>>());
+		Map<String, SoftReference<ControlDependenceGraph>> cds = controlDependencies.get(className);
 
-		cds.put(methodName, cd);
-		if (Properties.WRITE_CFG)
-			cd.toDot();
+		cds.put(methodName, null);
 	}
 
 	/**
@@ -177,7 +177,7 @@ public class BytecodeInstrumentation {
 			cv = new TraceClassVisitor(cv, new PrintWriter(System.err));
 		}
 
-		if (Properties.RESET_STATIC_FIELDS) {
+		if (Properties.RESET_STATIC_FIELDS || Properties.PREFIX_EXECUTION_CACHE) {
 			cv = new StaticAccessClassAdapter(cv, className);
 		}
 
@@ -231,6 +231,9 @@ public class BytecodeInstrumentation {
 
 		if (Properties.RESET_STATIC_FIELDS) {
 			cv = handleStaticReset(className, cv);
+		} else if (Properties.PREFIX_EXECUTION_CACHE) {
+			// Checkpoints must not cover class initialization
+			cv = new EndOfClassInitializerVisitor(cv, className);
 		}
 
 		// Mock instrumentation (eg File and TCP).
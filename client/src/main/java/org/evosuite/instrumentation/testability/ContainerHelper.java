@@ -19,11 +19,14 @@
  */
 package org.evosuite.instrumentation.testability;
 
+import org.evosuite.Properties;
 import org.evosuite.seeding.ConstantPoolManager;
 import org.evosuite.setup.TestCluster;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Created by Andrea Arcuri on 26/03/15.
@@ -65,39 +68,121 @@ public class ContainerHelper {
         if(o1 != null) {
             TestCluster.getInstance().addCastClassForContainer(o1.getClass());
         }
+        if (c instanceof Set) {
+            // a set contains each element at most once, so its own (usually hash based)
+            // lookup gives the same result as comparing all elements
+            boolean contained;
+            try {
+                contained = c.contains(o1);
+            } catch (RuntimeException e) {
+                // e.g., a sorted set that cannot compare o1: compare the elements one by one
+                return countMatchingOrDistance(c, o1);
+            }
+            return contained ? 1 : distance(c, o1);
+        }
+        return countMatchingOrDistance(c, o1);
+    }
+
+    private static int countMatchingOrDistance(Collection<?> c, Object o1) {
         int matching = 0;
-        double min_distance = Double.MAX_VALUE;
         for (Object o2 : c) {
             if (o2 == o1 || (o2 != null && o2.equals(o1)))
                 matching++;
-            else {
-                if (o2 != null && o1 != null) {
-                    if (o2.getClass().equals(o1.getClass())) {
-                        if (o1 instanceof Number) {
-                            Number n1 = (Number) o1;
-                            Number n2 = (Number) o2;
-                            min_distance = Math.min(min_distance,
-                                    Math.abs(n1.doubleValue()
-                                            - n2.doubleValue()));
-                        } else if (o2 instanceof String) {
-                            ConstantPoolManager.getInstance().addDynamicConstant(o1);
-                            min_distance = Math.min(min_distance,
-                                    StringHelper.editDistance((String) o1, (String) o2));
-                        }
-                    }
-                }
-            }
         }
-        if (matching > 0)
-            return matching;
-        else {
-            if (min_distance == Double.MAX_VALUE)
-                return -c.size() - 1;
-            else {
-                return -1 * (int) Math.ceil(BooleanHelper.K * min_distance / (min_distance + 1.0));
+        return matching > 0 ? matching : distance(c, o1);
+    }
+
+    /**
+     * Distance of a collection not containing o1 from containing it, based on
+     * the closest element among the first
+     * {@link Properties#TT_CONTAINER_SAMPLE_SIZE} ones
+     */
+    private static int distance(Collection<?> c, Object o1) {
+        if (o1 == null || c.isEmpty()) {
+            return -c.size() - 1;
+        }
+        if (o1 instanceof String) {
+            ConstantPoolManager.getInstance().addDynamicConstant(o1);
+        }
+        int sampled = 0;
+        double min_distance = Double.MAX_VALUE;
+        for (Object o2 : c) {
+            if (sampled++ >= Properties.TT_CONTAINER_SAMPLE_SIZE)
+                break;
+            if (o2 == null || !o2.getClass().equals(o1.getClass()))
+                continue;
+            if (o1 instanceof Number) {
+                Number n1 = (Number) o1;
+                Number n2 = (Number) o2;
+                min_distance = Math.min(min_distance,
+                        Math.abs(n1.doubleValue()
+                                - n2.doubleValue()));
+                if (normalize(min_distance) <= 1)
+                    break;
+            } else if (o1 instanceof String) {
+                String s1 = (String) o1;
+                String s2 = (String) o2;
+                // only a closer element can change the result
+                int limit = Math.max(s1.length(), s2.length());
+                if (min_distance != Double.MAX_VALUE)
+                    limit = Math.min(limit, (int) min_distance - 1);
+                int distance = editDistance(s1, s2, limit);
+                if (distance <= limit)
+                    min_distance = distance;
+                // distinct strings cannot be any closer
+                if (min_distance <= 1)
+                    break;
             }
+        }
+        if (min_distance == Double.MAX_VALUE)
+            return -c.size() - 1;
+        else
+            return -1 * normalize(min_distance);
+    }
+
+    private static int normalize(double distance) {
+        return (int) Math.ceil(BooleanHelper.K * distance / (distance + 1.0));
+    }
+
+    /**
+     * Edit distances computed during the current execution. Contains checks
+     * are often repeated with the same elements, e.g. in loops
+     */
+    private static final Map<String, Map<String, Integer>> editDistances = new HashMap<>();
+
+    private static final int MAX_CACHED_DISTANCES = 10000;
+
+    private static int numCachedDistances = 0;
+
+    /**
+     * Reset for new execution
+     */
+    public static synchronized void clearCache() {
+        editDistances.clear();
+        numCachedDistances = 0;
+    }
+
+    /**
+     * @return the edit distance if it is at most limit, otherwise a value
+     *         greater than limit
+     */
+    private static synchronized int editDistance(String s1, String s2, int limit) {
+        Map<String, Integer> distances = editDistances.get(s1);
+        Integer cached = distances == null ? null : distances.get(s2);
+        // distances above the limit of their computation are stored negated, as lower bounds
+        if (cached != null && (cached >= 0 || -cached > limit))
+            return cached >= 0 ? cached : -cached;
 
+        int distance = StringHelper.editDistance(s1, s2, limit);
+        if (numCachedDistances >= MAX_CACHED_DISTANCES)
+            clearCache();
+        if (distances == null) {
+            distances = new HashMap<>();
+            editDistances.put(s1, distances);
         }
+        if (distances.put(s2, distance <= limit ? distance : -distance) == null)
+            numCachedDistances++;
+        return distance;
     }
 
     /**
@@ -111,6 +111,71 @@ public class StringHelper {
         return p[n];
     }
 
+    /**
+     * Edit distance that gives up as soon as the distance is known to exceed
+     * the limit. Only the cells within {@code limit} of the diagonal are
+     * computed, as a path through any other cell costs more than the limit.
+     *
+     * @param s
+     *            a {@link java.lang.String} object.
+     * @param t
+     *            a {@link java.lang.String} object.
+     * @param limit
+     *            a non-negative int
+     * @return the edit distance if it is at most limit, otherwise limit + 1
+     */
+    public static int editDistance(String s, String t, int limit) {
+        int n = s.length();
+        int m = t.length();
+
+        if (Math.abs(n - m) > limit) {
+            return limit + 1;
+        } else if (n == 0) {
+            return m;
+        } else if (m == 0) {
+            return n;
+        }
+
+        final int outside = limit + 1;
+        int p[] = new int[n + 1];
+        int d[] = new int[n + 1];
+        int _d[];
+
+        for (int i = 0; i <= n; i++) {
+            p[i] = i <= limit ? i : outside;
+        }
+
+        for (int j = 1; j <= m; j++) {
+            char t_j = t.charAt(j - 1);
+            int from = Math.max(1, j - limit);
+            int to = Math.min(n, j + limit);
+
+            d[0] = j <= limit ? j : outside;
+            d[from - 1] = from == 1 ? d[0] : outside;
+            int rowMin = d[from - 1];
+
+            for (int i = from; i <= to; i++) {
+                int cost = s.charAt(i - 1) == t_j ? 0 : 1;
+                d[i] = Math.min(Math.min(d[i - 1] + 1, p[i] + 1), p[i - 1] + cost);
+                rowMin = Math.min(rowMin, d[i]);
+            }
+            if (to < n) {
+                d[to + 1] = outside;
+            }
+
+            // distances can only grow from one row to the next
+            if (rowMin > limit) {
+                return outside;
+            }
+
+            _d = p;
+            p = d;
+            d = _d;
+        }
+
+        return Math.min(p[n], outside);
+    }
+
 	/*
 	 * Return a positive number if the 2 strings are equal, or a <=0 value representing
 	 * how different they are
@@ -34,6 +34,7 @@ import org.evosuite.classpath.ResourceList;
 import org.evosuite.coverage.CoverageCriteriaAnalyzer;
 import org.evosuite.coverage.FitnessFunctions;
 import org.evosuite.coverage.TestFitnessFactory;
+import org.evosuite.coverage.line.LineCoverageTestFitness;
 import org.evosuite.coverage.mutation.Mutation;
 import org.evosuite.coverage.mutation.MutationObserver;
 import org.evosuite.coverage.mutation.MutationPool;
@@ -95,11 +96,19 @@ public class CoverageAnalysis {
 	private static int totalCoveredGoals = 0;
 	private static Set<String> targetClasses = new LinkedHashSet<String>();
 
+	/**
+	 * Failure counts of the tests of a test class when executed with a mutant,
+	 * by test class and mutant, so that a test class is executed only once per
+	 * mutant, and not once for each of its tests touching the mutant
+	 */
+	private static final Map<Class<?>, Map<Integer, Set<Integer>>> failureCountsWithMutant = new HashMap<>();
+
 	/**
 	 * Identify all JUnit tests starting with the given name prefix, instrument
 	 * and run tests
 	 */
 	public static void analyzeCoverage() {
+		failureCountsWithMutant.clear();
 		Sandbox.goingToExecuteSUTCode();
         TestGenerationContext.getInstance().goingToExecuteSUTCode();
 		Sandbox.goingToExecuteUnsafeCodeOnSameThread();
@@ -144,6 +153,13 @@ public class CoverageAnalysis {
          */
 		sortTestClasses(testClasses);
 
+		if (Properties.SELECTED_JUNIT == null) {
+			testClasses = getShard(testClasses);
+		} else if (getClientIndex() != 0) {
+			// carved tests are not sharded, so the first client does all the work
+			return;
+		}
+
 		Class<?>[] tests = testClasses.toArray(new Class<?>[testClasses.size()]);
 		LoggingUtils.getEvoLogger().info("* " + ClientProcess.getPrettyPrintIdentifier() + "Executing test(s)");
 		if (Properties.SELECTED_JUNIT == null) {
@@ -188,6 +204,66 @@ public class CoverageAnalysis {
 		}
 	}
 
+	/**
+	 * With several clients, the sorted test classes are assigned to the
+	 * clients in turn, and each client only executes its own share
+	 * 
+	 * @param testClasses
+	 * @return the test classes to be executed by this client
+	 */
+	private static List<Class<?>> getShard(List<Class<?>> testClasses) {
+		if (Properties.NUM_PARALLEL_CLIENTS <= 1) {
+			return testClasses;
+		}
+		List<Class<?>> shard = new ArrayList<Class<?>>();
+		for (int i = getClientIndex(); i < testClasses.size(); i += Properties.NUM_PARALLEL_CLIENTS) {
+			shard.add(testClasses.get(i));
+		}
+		LoggingUtils.getEvoLogger().info("* " + ClientProcess.getPrettyPrintIdentifier() + "Executing " + shard.size()
+                + " of " + testClasses.size() + " test class(es)");
+		return shard;
+	}
+
+	/**
+	 * @return the index of this client among the clients measuring coverage
+	 */
+	private static int getClientIndex() {
+		if (Properties.NUM_PARALLEL_CLIENTS <= 1 || ClientProcess.getIdentifier() == null) {
+			return 0;
+		}
+		return Integer.parseInt(ClientProcess.getIdentifier().substring(ClientProcess.CLIENT_PREFIX.length()));
+	}
+
+	/**
+	 * With several clients, the first one merges the coverage of the shards of
+	 * all the others into its own, and the others send it their coverage
+	 * 
+	 * @param shard
+	 *            the coverage of the tests executed by this client
+	 * @return whether this client reports the coverage
+	 */
+	private static boolean mergeShards(CoverageShard shard) {
+		if (Properties.NUM_PARALLEL_CLIENTS <= 1) {
+			return true;
+		}
+		if (getClientIndex() != 0) {
+			ClientServices.getInstance().getClientNode().sendCoverageShard(shard);
+			return false;
+		}
+
+		for (CoverageShard other : ClientServices.getInstance().getClientNode().getCoverageShards()) {
+			try {
+				shard.merge(other);
+			} catch (IllegalArgumentException e) {
+				logger.error("Cannot merge the coverage of another client: " + e.getMessage());
+			}
+		}
+		LoggingUtils.getEvoLogger().info("* " + ClientProcess.getPrettyPrintIdentifier() + "Merged coverage of "
+                + shard.getNumTests() + " unit test(s)");
+		ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Tests_Executed, shard.getNumTests());
+		return true;
+	}
+
 	/**
 	 * Return the number of covered goals
 	 * 
@@ -204,24 +280,86 @@ public class CoverageAnalysis {
         // Execution result of a dummy Test Case
         ExecutionResult executionResult = new ExecutionResult(dummy.getTestCase());
 
-		Set<TestFitnessFunction> coveredGoals = new HashSet<TestFitnessFunction>();
+		BitSet covered = new BitSet(allGoals.size());
 
 		List<JUnitResult> results = executeTests(testClass);
 		for (JUnitResult testResult : results) {
 		    executionResult.setTrace(testResult.getExecutionTrace());
             dummy.setLastExecutionResult(executionResult);
 
-            for(TestFitnessFunction goal : allGoals) {
-            	if(coveredGoals.contains(goal))
-            		continue;
-            	else if (goal.isCovered(dummy))
-                    coveredGoals.add(goal);
-            }
+            covered.or(getCoveredGoals(testResult.getExecutionTrace(), allGoals, dummy));
 		}
 
+		Set<TestFitnessFunction> coveredGoals = new HashSet<TestFitnessFunction>();
+		for (int i = covered.nextSetBit(0); i >= 0; i = covered.nextSetBit(i + 1)) {
+			coveredGoals.add(allGoals.get(i));
+		}
 		return coveredGoals;
 	}
 
+	/**
+	 * Determine the goals covered by an execution trace. Line goals are looked
+	 * up in the set of lines covered by the trace, which is computed only once
+	 * per trace; the other goals are checked one by one.
+	 * 
+	 * @param trace
+	 * @param goals
+	 * @param dummy
+	 *            a chromosome whose last execution result has the trace
+	 * @return the indexes of the covered goals
+	 */
+	private static BitSet getCoveredGoals(ExecutionTrace trace, List<?> goals, TestChromosome dummy) {
+		BitSet covered = new BitSet(goals.size());
+		Set<Integer> coveredLines = null;
+
+		for (int index_component = 0; index_component < goals.size(); index_component++) {
+			TestFitnessFunction goal = (TestFitnessFunction) goals.get(index_component);
+
+			if (goal instanceof LineCoverageTestFitness) {
+				// same as goal.isCovered(dummy), without computing the
+				// covered lines again, or the branch distances of uncovered lines
+				if (coveredLines == null) {
+					coveredLines = trace.getCoveredLines();
+				}
+				if (coveredLines.contains(((LineCoverageTestFitness) goal).getLine())) {
+					covered.set(index_component);
+				}
+			} else if (goal.isCovered(dummy)) {
+				covered.set(index_component);
+			}
+		}
+		return covered;
+	}
+
+	/**
+	 * Execute a test class with a mutant, unless already done
+	 * 
+	 * @param testClass
+	 * @param mutationID
+	 * @return the distinct failure counts of the tests of the class
+	 */
+	private static Set<Integer> getFailureCountsWithMutant(Class<?> testClass, Integer mutationID) {
+		Map<Integer, Set<Integer>> byMutant = failureCountsWithMutant.get(testClass);
+		if (byMutant == null) {
+			byMutant = new HashMap<>();
+			failureCountsWithMutant.put(testClass, byMutant);
+		}
+
+		Set<Integer> failureCounts = byMutant.get(mutationID);
+		if (failureCounts == null) {
+			MutationObserver.activateMutation(mutationID);
+			List<JUnitResult> mutationResults = executeTests(testClass);
+			MutationObserver.deactivateMutation();
+
+			failureCounts = new HashSet<>();
+			for (JUnitResult mR : mutationResults) {
+				failureCounts.add(mR.getFailureCount());
+			}
+			byMutant.put(mutationID, failureCounts);
+		}
+		return failureCounts;
+	}
+
 	private static List<Class<?>> getTestClassesFromClasspath() {
 		List<Class<?>> classes = new ArrayList<Class<?>>();
 		for(String prefix : Properties.JUNIT.split(":")) {
@@ -460,7 +598,8 @@ public class CoverageAnalysis {
 		return testClasses;
 	}
 
-	private static void analyzeCoverageCriterion(List<JUnitResult> results, Properties.Criterion criterion) {
+	private static void analyzeCoverageCriterion(List<JUnitResult> results, Properties.Criterion criterion,
+			CoverageShard shard) {
 
 		logger.info("analysing coverage of " + criterion);
 
@@ -476,7 +615,6 @@ public class CoverageAnalysis {
 		} else {
 			goals = factory.getCoverageGoals();
 		}
-		totalGoals += goals.size();
 
 		// A dummy Chromosome
         TestChromosome dummy = new TestChromosome();
@@ -488,11 +626,14 @@ public class CoverageAnalysis {
         // coverage matrix (each row represents the coverage of each test case
         // and each column represents the coverage of each component (e.g., line)
         // this coverage matrix is useful for Rho fitness
-    	boolean[][] coverage_matrix = new boolean[results.size()][goals.size() + 1]; // +1 because we also want to include the test result
+    	CoverageMatrix coverage_matrix = new CoverageMatrix(goals.size());
     	BitSet covered = new BitSet(goals.size());
+    	Set<Object> mutants = criterion == Criterion.MUTATION || criterion == Criterion.STRONGMUTATION
+    			? new HashSet<Object>(goals) : Collections.<Object>emptySet();
 
         for (int index_test = 0; index_test < results.size(); index_test++) {
         	JUnitResult tR = results.get(index_test);
+        	coverage_matrix.addTest(tR.wasSuccessful());
 
         	ExecutionTrace trace = tR.getExecutionTrace();
             executionResult.setTrace(trace);
@@ -504,18 +645,18 @@ public class CoverageAnalysis {
             	for (Integer mutationID : trace.getTouchedMutants()) {
             		Mutation mutation = MutationPool.getMutant(mutationID);
 
-            		if (goals.contains(mutation)) {
-            			MutationObserver.activateMutation(mutationID);
-            			List<JUnitResult> mutationResults = executeTests(tR.getJUnitClass());
-            			MutationObserver.deactivateMutation();
-
-            			for (JUnitResult mR : mutationResults) {
-            				if (mR.getFailureCount() != tR.getFailureCount()) {
-            					logger.info("Mutation killed: " + mutationID);
-            					covered.set(mutation.getId());
-                                coverage_matrix[index_test][mutationID.intValue()] = true;
-                                break;
-            				}
+            		if (mutants.contains(mutation)) {
+            			Set<Integer> failureCounts = getFailureCountsWithMutant(tR.getJUnitClass(), mutationID);
+
+            			if (failureCounts.size() > 1 || (failureCounts.size() == 1
+            					&& !failureCounts.contains(tR.getFailureCount()))) {
+            				logger.info("Mutation killed: " + mutationID);
+            				covered.set(mutation.getId());
+            				// mutants outside the goals have no column in the matrix
+            				if (mutationID >= 0 && mutationID < coverage_matrix.getNumGoals())
+            					coverage_matrix.setCovered(index_test, mutationID.intValue());
+            				else
+            					logger.debug("Mutation " + mutationID + " is not a goal of the coverage matrix");
             			}
             		}
             	}
@@ -524,22 +665,25 @@ public class CoverageAnalysis {
             	if (criterion==Criterion.EXCEPTION) {
             		// TODO collect exception goals from execution results
             	}
-            	
-	            for (int index_component = 0; index_component < goals.size(); index_component++) {
-	            	TestFitnessFunction goal = (TestFitnessFunction) goals.get(index_component);
-
-	                if (goal.isCovered(dummy)) {
-	                	covered.set(index_component);
-	                	coverage_matrix[index_test][index_component] = true;
-	                }
-	                else {
-	                	coverage_matrix[index_test][index_component] = false;
-	                }
-	            }
-            }
 
-            coverage_matrix[index_test][goals.size()] = tR.wasSuccessful();
+            	BitSet coveredByTest = getCoveredGoals(trace, goals, dummy);
+            	covered.or(coveredByTest);
+            	for (int index_component = coveredByTest.nextSetBit(0); index_component >= 0;
+            			index_component = coveredByTest.nextSetBit(index_component + 1)) {
+            		coverage_matrix.setCovered(index_test, index_component);
+            	}
+            }
         }
+        shard.setCoverage(Properties.TARGET_CLASS, criterion, coverage_matrix, covered);
+	}
+
+	private static void reportCoverageCriterion(CoverageShard shard, Properties.Criterion criterion) {
+
+		CoverageMatrix coverage_matrix = shard.getCoverageMatrix(Properties.TARGET_CLASS, criterion);
+		BitSet covered = shard.getCoveredGoals(Properties.TARGET_CLASS, criterion);
+		int numGoals = coverage_matrix.getNumGoals();
+
+		totalGoals += numGoals;
         totalCoveredGoals += covered.cardinality();
 
         if (Properties.COVERAGE_MATRIX) {
@@ -547,13 +691,13 @@ public class CoverageAnalysis {
         }
 
         StringBuilder str = new StringBuilder();
-        for (int index_component = 0; index_component < goals.size(); index_component++) {
+        for (int index_component = 0; index_component < numGoals; index_component++) {
         	str.append(covered.get(index_component) ? "1" : "0");
         }
         logger.info("* CoverageBitString " + str.toString());
 
         RuntimeVariable bitStringVariable = CoverageCriteriaAnalyzer.getBitStringVariable(criterion);
-        if (goals.isEmpty()) {
+        if (numGoals == 0) {
 			LoggingUtils.getEvoLogger().info("* " + ClientProcess.getPrettyPrintIdentifier() + "Coverage of criterion "
                     + criterion + ": 100% (no goals)");
 			ClientServices.getInstance().getClientNode().trackOutputVariable(CoverageCriteriaAnalyzer.getCoverageVariable(criterion), 1.0);
@@ -562,11 +706,11 @@ public class CoverageAnalysis {
 			}
 		} 
         else {
-        	double coverage = ((double) covered.cardinality()) / ((double) goals.size());
+        	double coverage = ((double) covered.cardinality()) / ((double) numGoals);
         	LoggingUtils.getEvoLogger().info("* " + ClientProcess.getPrettyPrintIdentifier() + "Coverage of criterion " + criterion
                     + ": " + NumberFormat.getPercentInstance().format(coverage));
 			LoggingUtils.getEvoLogger().info("* " + ClientProcess.getPrettyPrintIdentifier() + "Number of covered goals: "
-                    + covered.cardinality() + " / " + goals.size());
+                    + covered.cardinality() + " / " + numGoals);
 
 			ClientServices.getInstance().getClientNode().trackOutputVariable(CoverageCriteriaAnalyzer.getCoverageVariable(criterion), coverage);
 			if (bitStringVariable != null) {
@@ -577,9 +721,26 @@ public class CoverageAnalysis {
 
 	private static void printReport(List<JUnitResult> results) {
 
-		Iterator<String> it = targetClasses.iterator();
 		Criterion[] criterion = Properties.CRITERION;
 
+		CoverageShard shard = new CoverageShard(results.size());
+		for (String targetClass : targetClasses) {
+			Properties.TARGET_CLASS = targetClass;
+			for (int criterion_index = 0; criterion_index < criterion.length; criterion_index++) {
+				Properties.Criterion c = criterion[criterion_index];
+				Properties.CRITERION = new Criterion[] { c };
+
+				analyzeCoverageCriterion(results, c, shard);
+			}
+		}
+		Properties.CRITERION = criterion;
+
+		if (!mergeShards(shard)) {
+			// the first client reports the coverage of all the shards
+			return;
+		}
+
+		Iterator<String> it = targetClasses.iterator();
 		while (it.hasNext()) {
 			String targetClass = it.next();
 
@@ -596,7 +757,7 @@ public class CoverageAnalysis {
 				Properties.Criterion c = criterion[criterion_index];
 				Properties.CRITERION = new Criterion[] { c };
 
-				analyzeCoverageCriterion(results, c);
+				reportCoverageCriterion(shard, c);
 			}
 
 			// restore
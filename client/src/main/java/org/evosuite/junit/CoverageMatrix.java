@@ -0,0 +1,172 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.junit;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Coverage of a set of goals by a set of tests: each row represents the
+ * goals covered by a test, together with the outcome of the test. Rows are
+ * bit sets, so a matrix takes one bit per cell, and no memory at all beyond
+ * the last covered goal of a row.
+ */
+public class CoverageMatrix implements Serializable {
+
+	private static final long serialVersionUID = -2633436432539637520L;
+
+	private final int numGoals;
+
+	private final List<BitSet> rows = new ArrayList<>();
+
+	private final BitSet successful = new BitSet();
+
+	public CoverageMatrix(int numGoals) {
+		this.numGoals = numGoals;
+	}
+
+	/**
+	 * Add a row for a test that does not cover any goal yet
+	 *
+	 * @param wasSuccessful
+	 * @return the index of the test
+	 */
+	public int addTest(boolean wasSuccessful) {
+		return addTest(new BitSet(), wasSuccessful);
+	}
+
+	/**
+	 * @param coveredGoals
+	 *            the matrix takes ownership of the bit set
+	 * @param wasSuccessful
+	 * @return the index of the test
+	 */
+	public int addTest(BitSet coveredGoals, boolean wasSuccessful) {
+		if (coveredGoals.length() > numGoals) {
+			throw new IllegalArgumentException("Goal " + (coveredGoals.length() - 1)
+			        + " does not exist, there are only " + numGoals + " goals");
+		}
+		int index = rows.size();
+		rows.add(coveredGoals);
+		successful.set(index, wasSuccessful);
+		return index;
+	}
+
+	/**
+	 * Add the rows of another matrix of the same goals, eg the coverage of
+	 * the tests executed by another client
+	 *
+	 * @param other
+	 */
+	public void addTests(CoverageMatrix other) {
+		if (other.numGoals != numGoals) {
+			throw new IllegalArgumentException("Cannot add a matrix of " + other.numGoals
+			        + " goals to a matrix of " + numGoals + " goals");
+		}
+		for (int test = 0; test < other.rows.size(); test++) {
+			addTest((BitSet) other.rows.get(test).clone(), other.successful.get(test));
+		}
+	}
+
+	public void setCovered(int test, int goal) {
+		if (goal < 0 || goal >= numGoals) {
+			throw new IndexOutOfBoundsException("Goal " + goal + " does not exist, there are only " + numGoals
+			        + " goals");
+		}
+		rows.get(test).set(goal);
+	}
+
+	public void setSuccessful(int test, boolean wasSuccessful) {
+		successful.set(test, wasSuccessful);
+	}
+
+	public boolean isCovered(int test, int goal) {
+		return rows.get(test).get(goal);
+	}
+
+	public boolean isSuccessful(int test) {
+		return successful.get(test);
+	}
+
+	/**
+	 * @param test
+	 * @return the goals covered by the test, which must not be modified
+	 */
+	public BitSet getCoveredGoals(int test) {
+		return rows.get(test);
+	}
+
+	/**
+	 * @return the goals covered by at least one test
+	 */
+	public BitSet getCoveredGoals() {
+		BitSet covered = new BitSet(numGoals);
+		for (BitSet row : rows) {
+			covered.or(row);
+		}
+		return covered;
+	}
+
+	public int getNumTests() {
+		return rows.size();
+	}
+
+	public int getNumGoals() {
+		return numGoals;
+	}
+
+	/**
+	 * @return the matrix in the layout used before, with the test result as
+	 *         last column
+	 */
+	public boolean[][] toArray() {
+		boolean[][] array = new boolean[rows.size()][numGoals + 1];
+		for (int test = 0; test < rows.size(); test++) {
+			BitSet row = rows.get(test);
+			for (int goal = row.nextSetBit(0); goal >= 0; goal = row.nextSetBit(goal + 1)) {
+				array[test][goal] = true;
+			}
+			array[test][numGoals] = successful.get(test);
+		}
+		return array;
+	}
+
+	/**
+	 * @param array
+	 *            a matrix with the test result as last column
+	 * @return
+	 */
+	public static CoverageMatrix fromArray(boolean[][] array) {
+		int numGoals = array.length == 0 ? 0 : array[0].length - 1;
+		CoverageMatrix matrix = new CoverageMatrix(numGoals);
+		for (boolean[] testCoverage : array) {
+			BitSet row = new BitSet(numGoals);
+			for (int goal = 0; goal < numGoals; goal++) {
+				if (testCoverage[goal]) {
+					row.set(goal);
+				}
+			}
+			matrix.addTest(row, testCoverage[numGoals]);
+		}
+		return matrix;
+	}
+}
@@ -0,0 +1,146 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.junit;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.BitSet;
+
+/**
+ * Reads a coverage matrix written by {@link CoverageMatrixWriter}, one test
+ * at a time.
+ */
+public class CoverageMatrixReader implements Closeable {
+
+	private final DataInputStream in;
+
+	private final int numGoals;
+
+	private byte nextRow;
+
+	private boolean lastSuccessful;
+
+	/**
+	 * @param in
+	 * @throws IOException
+	 *             if the stream is not in the binary coverage matrix format,
+	 *             or its version is not supported
+	 */
+	public CoverageMatrixReader(InputStream in) throws IOException {
+		this.in = new DataInputStream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in));
+		if (this.in.readInt() != CoverageMatrixWriter.MAGIC) {
+			throw new IOException("Not a binary coverage matrix");
+		}
+		int version = readVarInt();
+		if (version != CoverageMatrixWriter.VERSION) {
+			throw new IOException("Unsupported coverage matrix format version: " + version);
+		}
+		numGoals = readVarInt();
+		nextRow = this.in.readByte();
+	}
+
+	public int getNumGoals() {
+		return numGoals;
+	}
+
+	public boolean hasNext() {
+		return nextRow != CoverageMatrixWriter.ROW_END;
+	}
+
+	/**
+	 * Read the goals covered by the next test
+	 *
+	 * @return
+	 * @throws IOException
+	 */
+	public BitSet next() throws IOException {
+		if (!hasNext()) {
+			throw new IllegalStateException("There are no more tests");
+		}
+		if (nextRow != CoverageMatrixWriter.ROW_PASSED && nextRow != CoverageMatrixWriter.ROW_FAILED) {
+			throw new IOException("Unknown row tag: " + nextRow);
+		}
+		lastSuccessful = nextRow == CoverageMatrixWriter.ROW_PASSED;
+
+		BitSet row = new BitSet();
+		int numRuns = readVarInt();
+		int position = 0;
+		for (int i = 0; i < numRuns; i += 2) {
+			int start = position + readVarInt();
+			position = start + readVarInt();
+			if (position > numGoals) {
+				throw new IOException("Goal " + (position - 1) + " does not exist, there are only " + numGoals
+				        + " goals");
+			}
+			row.set(start, position);
+		}
+
+		nextRow = in.readByte();
+		return row;
+	}
+
+	/**
+	 * @return whether the test returned by the last call of {@link #next()}
+	 *         was successful
+	 */
+	public boolean wasSuccessful() {
+		return lastSuccessful;
+	}
+
+	/**
+	 * Read all remaining tests
+	 *
+	 * @return
+	 * @throws IOException
+	 */
+	public CoverageMatrix readAll() throws IOException {
+		CoverageMatrix matrix = new CoverageMatrix(numGoals);
+		while (hasNext()) {
+			BitSet row = next();
+			matrix.addTest(row, wasSuccessful());
+		}
+		return matrix;
+	}
+
+	private int readVarInt() throws IOException {
+		int shift = 0;
+		int value = 0;
+		while (true) {
+			int b = in.read();
+			if (b < 0) {
+				throw new EOFException();
+			}
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+			shift += 7;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.junit;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.BitSet;
+
+/**
+ * Writes a coverage matrix one test at a time, so that the whole matrix does
+ * not have to be kept in memory to be saved.
+ *
+ * <p>
+ * The file starts with {@link #MAGIC}, {@link #VERSION} and the number of
+ * goals, followed by one record per test and {@link #ROW_END}. The record of
+ * a test is its result ({@link #ROW_PASSED} or {@link #ROW_FAILED}) and the
+ * goals it covers, run-length encoded as the lengths of alternating runs of
+ * uncovered and covered goals, starting with uncovered ones. Runs after the
+ * last covered goal are not written. All numbers are unsigned varints, so a
+ * sparse row takes a few bytes regardless of the number of goals. The file
+ * is read with {@link CoverageMatrixReader}.
+ * </p>
+ */
+public class CoverageMatrixWriter implements Closeable {
+
+	/** "EVOM" */
+	public static final int MAGIC = 0x45564F4D;
+
+	/** Has to be increased whenever the encoding changes */
+	public static final int VERSION = 1;
+
+	static final byte ROW_END = 0;
+	static final byte ROW_PASSED = 1;
+	static final byte ROW_FAILED = 2;
+
+	private final DataOutputStream out;
+
+	private final int numGoals;
+
+	private boolean finished = false;
+
+	public CoverageMatrixWriter(OutputStream out, int numGoals) throws IOException {
+		this.out = new DataOutputStream(out instanceof BufferedOutputStream ? out : new BufferedOutputStream(out));
+		this.numGoals = numGoals;
+		this.out.writeInt(MAGIC);
+		writeVarInt(VERSION);
+		writeVarInt(numGoals);
+	}
+
+	/**
+	 * @param coveredGoals
+	 * @param wasSuccessful
+	 * @throws IOException
+	 */
+	public void writeTest(BitSet coveredGoals, boolean wasSuccessful) throws IOException {
+		if (finished) {
+			throw new IllegalStateException("The matrix has already been finished");
+		}
+		if (coveredGoals.length() > numGoals) {
+			throw new IllegalArgumentException("Goal " + (coveredGoals.length() - 1)
+			        + " does not exist, there are only " + numGoals + " goals");
+		}
+		out.writeByte(wasSuccessful ? ROW_PASSED : ROW_FAILED);
+
+		int numRuns = 0;
+		for (int start = coveredGoals.nextSetBit(0); start >= 0; start = coveredGoals.nextSetBit(coveredGoals
+		        .nextClearBit(start))) {
+			numRuns += 2;
+		}
+		writeVarInt(numRuns);
+
+		int position = 0;
+		for (int start = coveredGoals.nextSetBit(0); start >= 0;) {
+			int end = coveredGoals.nextClearBit(start);
+			writeVarInt(start - position);
+			writeVarInt(end - start);
+			position = end;
+			start = coveredGoals.nextSetBit(end);
+		}
+	}
+
+	/**
+	 * Write all tests of the matrix
+	 *
+	 * @param matrix
+	 * @param skipUncovering
+	 *            whether tests that do not cover any goal are left out, as in
+	 *            the text format
+	 * @throws IOException
+	 */
+	public void writeAll(CoverageMatrix matrix, boolean skipUncovering) throws IOException {
+		for (int test = 0; test < matrix.getNumTests(); test++) {
+			BitSet row = matrix.getCoveredGoals(test);
+			if (skipUncovering && row.isEmpty()) {
+				continue;
+			}
+			writeTest(row, matrix.isSuccessful(test));
+		}
+	}
+
+	/**
+	 * Write the end of the matrix; no more tests can be written afterwards
+	 *
+	 * @throws IOException
+	 */
+	public void finish() throws IOException {
+		if (!finished) {
+			out.writeByte(ROW_END);
+			out.flush();
+			finished = true;
+		}
+	}
+
+	private void writeVarInt(int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+
+	/**
+	 * Check whether the given stream starts with the binary coverage matrix
+	 * format. The stream is not consumed.
+	 *
+	 * @param in
+	 *            a stream supporting mark/reset
+	 * @return
+	 * @throws IOException
+	 */
+	public static boolean isBinaryFormat(BufferedInputStream in) throws IOException {
+		in.mark(4);
+		int magic = 0;
+		for (int i = 0; i < 4; i++) {
+			int b = in.read();
+			if (b < 0) {
+				in.reset();
+				return false;
+			}
+			magic = (magic << 8) | b;
+		}
+		in.reset();
+		return magic == MAGIC;
+	}
+
+	/**
+	 * Finishes the matrix, if not done yet, and closes the stream
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			finish();
+		} finally {
+			out.close();
+		}
+	}
+}
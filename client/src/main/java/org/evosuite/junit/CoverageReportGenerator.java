@@ -22,10 +22,18 @@
  */
 package org.evosuite.junit;
 
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.BitSet;
 
 import org.evosuite.Properties;
-import org.evosuite.utils.FileIOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * <p>
@@ -36,34 +44,72 @@ import org.evosuite.utils.FileIOUtils;
  */
 public class CoverageReportGenerator {
 
+	private static final Logger logger = LoggerFactory.getLogger(CoverageReportGenerator.class);
+
 	public static void writeCoverage(boolean[][] coverage, Properties.Criterion criterion) {
+		writeCoverage(CoverageMatrix.fromArray(coverage), criterion);
+	}
+
+	/**
+	 * Write the coverage matrix of a criterion in the format given by
+	 * {@link Properties#COVERAGE_MATRIX_FORMAT}. Tests that do not cover any
+	 * goal are not written.
+	 * 
+	 * @param coverage
+	 * @param criterion
+	 */
+	public static void writeCoverage(CoverageMatrix coverage, Properties.Criterion criterion) {
 
-		StringBuilder suite = new StringBuilder();
-		for (int i = 0; i < coverage.length; i++) {
-			StringBuilder test = new StringBuilder();
+		File file = new File(getReportDir().getAbsolutePath() +
+				File.separator + "data" + File.separator +
+				Properties.TARGET_CLASS + File.separator +
+				criterion.toString() + File.separator + Properties.COVERAGE_MATRIX_FILENAME);
+		File parent = file.getParentFile();
+		if (!parent.exists() && !parent.mkdirs()) {
+			logger.error("Cannot create directory " + parent);
+			return;
+		}
 
-			for (int j = 0; j < coverage[i].length - 1; j++) {
-				if (coverage[i][j])
-					test.append("1 ");
-				else
-					test.append("0 ");
+		try {
+			if (Properties.COVERAGE_MATRIX_FORMAT == Properties.CoverageMatrixFormat.BINARY) {
+				try (CoverageMatrixWriter writer = new CoverageMatrixWriter(new FileOutputStream(file),
+						coverage.getNumGoals())) {
+					writer.writeAll(coverage, true);
+				}
+			} else {
+				try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file),
+						Charset.defaultCharset()))) {
+					writeText(coverage, writer);
+				}
 			}
+		} catch (IOException e) {
+			logger.error("Error while writing file " + file.getName() + " , " + e.getMessage(), e);
+		}
+	}
 
-			if (!test.toString().contains("1")) // if a test case does not contains a "1", means it does not coverage anything
+	/**
+	 * Write one line per test that covers at least one goal, with "1 " or
+	 * "0 " for each goal and "+" or "-" for the test result
+	 * 
+	 * @param coverage
+	 * @param writer
+	 * @throws IOException
+	 */
+	public static void writeText(CoverageMatrix coverage, Writer writer) throws IOException {
+		char[] line = new char[2 * coverage.getNumGoals() + 2];
+		for (int i = 0; i < coverage.getNumTests(); i++) {
+			BitSet row = coverage.getCoveredGoals(i);
+			if (row.isEmpty()) // if a test case does not contains a "1", means it does not coverage anything
 				continue ;
 
-			if (coverage[i][coverage[i].length - 1])
-				test.append("+\n");
-			else
-				test.append("-\n");
-
-			suite.append(test);
+			for (int j = 0; j < coverage.getNumGoals(); j++) {
+				line[2 * j] = row.get(j) ? '1' : '0';
+				line[2 * j + 1] = ' ';
+			}
+			line[line.length - 2] = coverage.isSuccessful(i) ? '+' : '-';
+			line[line.length - 1] = '\n';
+			writer.write(line);
 		}
-
-		FileIOUtils.writeFile(suite.toString(), new File(getReportDir().getAbsolutePath() +
-				File.separator + "data" + File.separator +
-				Properties.TARGET_CLASS + File.separator +
-				criterion.toString() + File.separator + Properties.COVERAGE_MATRIX_FILENAME));
 	}
 
 	/**
@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.junit;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.evosuite.Properties.Criterion;
+
+/**
+ * The coverage of the test classes executed by one client. When coverage is
+ * measured by several clients, each of them executes a shard of the test
+ * classes, and the first client merges the coverage of all the shards before
+ * reporting it.
+ */
+public class CoverageShard implements Serializable {
+
+	private static final long serialVersionUID = 5320956613380787473L;
+
+	private int numTests;
+
+	/** Coverage matrices, by target class and criterion */
+	private final Map<String, Map<Criterion, CoverageMatrix>> matrices = new LinkedHashMap<>();
+
+	/**
+	 * Covered goals, by target class and criterion. Killed mutants that are
+	 * not goals have no column in the matrix, but are covered nonetheless
+	 */
+	private final Map<String, Map<Criterion, BitSet>> coveredGoals = new LinkedHashMap<>();
+
+	public CoverageShard(int numTests) {
+		this.numTests = numTests;
+	}
+
+	public int getNumTests() {
+		return numTests;
+	}
+
+	public void setCoverage(String targetClass, Criterion criterion, CoverageMatrix matrix, BitSet covered) {
+		getByCriterion(matrices, targetClass).put(criterion, matrix);
+		getByCriterion(coveredGoals, targetClass).put(criterion, covered);
+	}
+
+	/**
+	 * @param targetClass
+	 * @param criterion
+	 * @return the coverage matrix of the tests, or null
+	 */
+	public CoverageMatrix getCoverageMatrix(String targetClass, Criterion criterion) {
+		Map<Criterion, CoverageMatrix> byCriterion = matrices.get(targetClass);
+		return byCriterion == null ? null : byCriterion.get(criterion);
+	}
+
+	/**
+	 * @param targetClass
+	 * @param criterion
+	 * @return the goals covered by at least one test, or null
+	 */
+	public BitSet getCoveredGoals(String targetClass, Criterion criterion) {
+		Map<Criterion, BitSet> byCriterion = coveredGoals.get(targetClass);
+		return byCriterion == null ? null : byCriterion.get(criterion);
+	}
+
+	/**
+	 * Add the coverage of the tests of another shard. The goals of a target
+	 * class and criterion have to be the same in both shards.
+	 *
+	 * @param other
+	 * @throws IllegalArgumentException
+	 *             if the shards do not have the same goals
+	 */
+	public void merge(CoverageShard other) throws IllegalArgumentException {
+		for (Map.Entry<String, Map<Criterion, CoverageMatrix>> entry : other.matrices.entrySet()) {
+			for (Map.Entry<Criterion, CoverageMatrix> coverage : entry.getValue().entrySet()) {
+				CoverageMatrix matrix = getCoverageMatrix(entry.getKey(), coverage.getKey());
+				if (matrix != null && matrix.getNumGoals() != coverage.getValue().getNumGoals()) {
+					throw new IllegalArgumentException("Criterion " + coverage.getKey() + " has "
+					        + coverage.getValue().getNumGoals() + " goals for " + entry.getKey()
+					        + " in the other shard, but " + matrix.getNumGoals() + " in this one");
+				}
+			}
+		}
+		for (Map.Entry<String, Map<Criterion, CoverageMatrix>> entry : other.matrices.entrySet()) {
+			for (Map.Entry<Criterion, CoverageMatrix> coverage : entry.getValue().entrySet()) {
+				CoverageMatrix matrix = getCoverageMatrix(entry.getKey(), coverage.getKey());
+				if (matrix == null) {
+					matrix = new CoverageMatrix(coverage.getValue().getNumGoals());
+					getByCriterion(matrices, entry.getKey()).put(coverage.getKey(), matrix);
+				}
+				matrix.addTests(coverage.getValue());
+			}
+		}
+		for (Map.Entry<String, Map<Criterion, BitSet>> entry : other.coveredGoals.entrySet()) {
+			for (Map.Entry<Criterion, BitSet> coverage : entry.getValue().entrySet()) {
+				BitSet covered = getCoveredGoals(entry.getKey(), coverage.getKey());
+				if (covered == null) {
+					covered = new BitSet();
+					getByCriterion(coveredGoals, entry.getKey()).put(coverage.getKey(), covered);
+				}
+				covered.or(coverage.getValue());
+			}
+		}
+		numTests += other.numTests;
+	}
+
+	private static <T> Map<Criterion, T> getByCriterion(Map<String, Map<Criterion, T>> map, String targetClass) {
+		Map<Criterion, T> byCriterion = map.get(targetClass);
+		if (byCriterion == null) {
+			byCriterion = new LinkedHashMap<>();
+			map.put(targetClass, byCriterion);
+		}
+		return byCriterion;
+	}
+}
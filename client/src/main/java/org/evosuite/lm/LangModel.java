@@ -21,10 +21,14 @@ package org.evosuite.lm;
 
 import java.io.*;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.TreeMap;
-import java.util.Comparator;
+import java.util.Set;
 
 import java.util.regex.Pattern;
 import java.util.regex.Matcher;
@@ -32,76 +36,165 @@ import java.util.regex.Matcher;
 /**
  * Represents a language model, a set of bigrams, unigrams and associated
  * log-probabilities.
+ *
+ * Once loaded, the model is compiled into tables indexed by unigram ids:
+ * every unigram is given an id, the unigram probabilities are stored in
+ * arrays and the bigram probabilities in an open addressing hash table keyed
+ * by the pair of ids. Scoring a string thus only maps each character to its
+ * id and looks up primitive arrays, without creating any object.
  */
 public class LangModel {
 
-    // class variables
-    // Hashes storing various Language Model probabilities
+    //Sentinel unigram values:
+    public static final String START_OF_STRING = "<s>";
+    public static final String END_OF_STRING="</s>";
+    public static final String START_NEW_WORD="<w>";
+
+    /**
+     * Suffix of the resource holding the compiled image of a language model,
+     * which is loaded instead of the text file if it exists
+     */
+    public static final String IMAGE_SUFFIX = ".bin";
+
+    private static final int IMAGE_MAGIC = 0x45564c4d;
+
+    private static final int IMAGE_VERSION = 1;
+
+    private static final long NO_BIGRAM = -1L;
+
+    private double unknown_char_prob = 0;
+
+    // Maximum number of characters to predict for each bigram
+    int predicted_chars = 10;
+
     /**
-     * Probability of a unigram occurring.
+     * The unigrams, by id.
      */
-    private Map<String, Double> unigram_probs = new HashMap<String, Double>();
+    private String[] unigrams;
+
     /**
-     * Unigram backoff probabilities (used in bigram probability estimation).
+     * Id of each unigram.
      */
-    private Map<String, Double> unigram_backoff_probs = new HashMap<String, Double>();
+    private final Map<String, Integer> unigramIds = new HashMap<String, Integer>();
+
     /**
-     * Probability that Unigram2 follows Unigram1, where each key is of the form "Unigram1 Unigram2".
+     * Id of the unigram of each single character, -1 if the model does not
+     * know the character. Spaces are mapped to {@link #START_NEW_WORD}.
      */
-    private Map<String, Double> bigram_probs = new HashMap<String, Double>();
+    private int[] charIds;
 
-    //Sentinel unigram values:
-    public static final String START_OF_STRING = "<s>";
-    public static final String END_OF_STRING="</s>";
-    public static final String START_NEW_WORD="<w>";
+    private int startOfStringId;
 
-    private double unknown_char_prob = 0;
+    /**
+     * Probability of a unigram occurring, NaN if unknown.
+     */
+    private double[] unigramProbs;
 
+    /**
+     * Unigram backoff probabilities (used in bigram probability estimation),
+     * NaN if unknown.
+     */
+    private double[] backoffProbs;
 
-    // Hashes to store most probable next characters in bigram
     /**
-     * Mapping of the nth most likely unigrams to follow each unigram.
-     * Encoded as: <code>(unigram)(n)> -> (unigram)</code>
+     * Open addressing hash table of the bigram probabilities. A key packs the
+     * ids of both unigrams, empty slots are {@link #NO_BIGRAM}.
      */
-    private HashMap<String, String> context_char = new HashMap<String, String>();
+    private long[] bigramKeys;
+
+    private double[] bigramProbs;
+
+    private int bigramMask;
+
     /**
-     * Mapping of the probability of the nth most likely unigram to follow each unigram.
-     * Encoded as: <code>(unigram)(n)> -> (log_probability)</code>
+     * The bigrams in the order of the model, kept to write the image.
      */
-    private HashMap<String, Double> context_prob = new HashMap<String, Double>();
+    private int[] bigramFirst;
 
-    // Maximum number of characters to predict for each bigram
-    int predicted_chars = 10;
+    private int[] bigramSecond;
+
+    private double[] bigramList;
+
+    /**
+     * For each unigram id, the predicted_chars unigrams most likely to follow
+     * it, and their log probabilities.
+     */
+    private String[][] contextChars;
+
+    private double[][] contextProbs;
 
     // Constructors
     // Read in data from language model to be manipulated later
     // Takes language model file as argument
 
     /**
-     * Load the language model.
+     * Load the language model. If a resource with the same name and
+     * {@link #IMAGE_SUFFIX} exists, the compiled image is loaded instead.
      * @param lmFileName path to a language model file.
      * @throws IOException if the model file can't be found or read.
      */
     public LangModel(String lmFileName) throws IOException {
 
+        InputStream image = LangModel.class.getClassLoader().getResourceAsStream(lmFileName + IMAGE_SUFFIX);
+        if (image != null) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(image));
+            try {
+                readImage(in);
+            } finally {
+                in.close();
+            }
+            return;
+        }
+
+        InputStream fstream = LangModel.class.getClassLoader().getResourceAsStream(lmFileName);
+        // FileInputStream fstream = new FileInputStream(lmFileName);
+        if (fstream == null) {
+            throw new FileNotFoundException("Language model " + lmFileName + " not found");
+        }
+
+        BufferedReader br = new BufferedReader(new InputStreamReader(fstream));
+        try {
+            parse(br);
+        } finally {
+            br.close();
+        }
+    }
 
+    private LangModel() {
+    }
+
+    /**
+     * Load a language model from an image written by {@link #writeImage(OutputStream)}.
+     * @param image the image, not closed
+     * @throws IOException if the image can't be read
+     */
+    public static LangModel fromImage(InputStream image) throws IOException {
+        LangModel model = new LangModel();
+        model.readImage(new DataInputStream(new BufferedInputStream(image)));
+        return model;
+    }
+
+    private void parse(BufferedReader br) throws IOException {
+
+        // Hashes storing various Language Model probabilities, compiled once read
+        Map<String, Double> unigram_probs = new LinkedHashMap<String, Double>();
+        Map<String, Double> unigram_backoff_probs = new LinkedHashMap<String, Double>();
+        // Each key is of the form "Unigram1 Unigram2"
+        Map<String, Double> bigram_probs = new LinkedHashMap<String, Double>();
 
         // Flag to indicate length of n-grams currently being read (0 == read
         // nothing)
         int ngram_len = 0; //size of the n-grams we're reading (i.e. ngram_len = 5 implies 5-grams).
 
-        InputStream fstream = LangModel.class.getClassLoader().getResourceAsStream(lmFileName);
-        // FileInputStream fstream = new FileInputStream(lmFileName);
+        Pattern ngram_len_p = Pattern.compile("(\\d+)-grams:");
+        Pattern unigram_p = Pattern
+                .compile("([-0-9\\.]+)\\s*(\\S+)\\s*([-0-9\\.]+)");
+        Pattern bigram_p = Pattern.compile("([-0-9\\.]+)\\s*(\\S+) (\\S+)");
 
-        DataInputStream in = new DataInputStream(fstream);
-        BufferedReader br = new BufferedReader(new InputStreamReader(in));
         String strLine;
 
-        double highest_unigram_prob = 0;
-
         // Read file line by line
         while ((strLine = br.readLine()) != null) {
-            Pattern ngram_len_p = Pattern.compile("(\\d+)-grams:");
             Matcher match_ngram_len = ngram_len_p.matcher(strLine);
             //does line match (\d+)-grams: ?
             if (match_ngram_len.find()) {
@@ -109,8 +202,6 @@ public class LangModel {
 
             } else if (ngram_len == 1) {
                 //We're looking at unigrams;
-                Pattern unigram_p = Pattern
-                        .compile("([-0-9\\.]+)\\s*(\\S+)\\s*([-0-9\\.]+)");
                 // Match with <floating point number> <one or more chars> <floating point number>
                 //                        |                   |                 +------ backoff probability
                 //                        |                   +------------------------ unigram
@@ -130,14 +221,10 @@ public class LangModel {
                     if(unigram_prob < unknown_char_prob) {
                         unknown_char_prob = unigram_prob;
                     } // if
-                    if(unigram_prob > highest_unigram_prob) {
-                        highest_unigram_prob = unigram_prob;
-                    } //if
 
                 } // if
 
             } else if (ngram_len == 2) {
-                Pattern bigram_p = Pattern.compile("([-0-9\\.]+)\\s*(\\S+) (\\S+)");
                 //Match line with <floating point number> <one or more chars> <one or more chars>
                 //                            |                   |                    +---- end char of bigram
                 //                            |                   +------------------------- start char of bigram
@@ -156,50 +243,226 @@ public class LangModel {
 
             } // if/else
         } // while
-        // Close the input stream
-        in.close();
 
-        ValueComparator bvc = new ValueComparator(bigram_probs);
-        TreeMap<String, Double> sorted_bigram_probs = new TreeMap<String, Double>(
-                bvc);
+        Set<String> names = new LinkedHashSet<String>(unigram_probs.keySet());
+        for (String bigram : bigram_probs.keySet()) {
+            int space = bigram.indexOf(' ');
+            names.add(bigram.substring(0, space));
+            names.add(bigram.substring(space + 1));
+        }
+        initUnigrams(names.toArray(new String[names.size()]));
 
-        //Store bigrams sorted by probability:
-        sorted_bigram_probs.putAll(bigram_probs);
+        for (int id = 0; id < unigrams.length; id++) {
+            Double prob = unigram_probs.get(unigrams[id]);
+            unigramProbs[id] = prob == null ? Double.NaN : prob;
+            Double backoff = unigram_backoff_probs.get(unigrams[id]);
+            backoffProbs[id] = backoff == null ? Double.NaN : backoff;
+        }
 
-        // Regular expressions setup
-        Pattern context_p = Pattern.compile("(\\S+) (\\S+)");
+        int numBigrams = bigram_probs.size();
+        int[] first = new int[numBigrams];
+        int[] second = new int[numBigrams];
+        double[] probs = new double[numBigrams];
+        int i = 0;
+        for (Map.Entry<String, Double> entry : bigram_probs.entrySet()) {
+            String bigram = entry.getKey();
+            int space = bigram.indexOf(' ');
+            first[i] = unigramIds.get(bigram.substring(0, space));
+            second[i] = unigramIds.get(bigram.substring(space + 1));
+            probs[i] = entry.getValue();
+            i++;
+        }
+        initBigrams(first, second, probs);
+    } // parse
+
+    private void initUnigrams(String[] names) {
+        unigrams = names;
+        unigramIds.clear();
+        int maxChar = 0;
+        for (int id = 0; id < names.length; id++) {
+            unigramIds.put(names[id], id);
+            if (names[id].length() == 1) {
+                maxChar = Math.max(maxChar, names[id].charAt(0));
+            }
+        }
+        maxChar = Math.max(maxChar, ' ');
+
+        charIds = new int[maxChar + 1];
+        Arrays.fill(charIds, -1);
+        for (int id = 0; id < names.length; id++) {
+            if (names[id].length() == 1) {
+                charIds[names[id].charAt(0)] = id;
+            }
+        }
+        charIds[' '] = getId(START_NEW_WORD);
+        startOfStringId = getId(START_OF_STRING);
+
+        unigramProbs = new double[names.length];
+        backoffProbs = new double[names.length];
+    }
+
+    private void initBigrams(int[] first, int[] second, double[] probs) {
+        bigramFirst = first;
+        bigramSecond = second;
+        bigramList = probs;
+
+        int capacity = Integer.highestOneBit(Math.max(2, probs.length) * 2 - 1) * 2;
+        bigramKeys = new long[capacity];
+        bigramProbs = new double[capacity];
+        bigramMask = capacity - 1;
+        Arrays.fill(bigramKeys, NO_BIGRAM);
+        for (int i = 0; i < probs.length; i++) {
+            long key = bigramKey(first[i], second[i]);
+            int slot = bigramSlot(key);
+            while (bigramKeys[slot] != NO_BIGRAM && bigramKeys[slot] != key) {
+                slot = (slot + 1) & bigramMask;
+            }
+            bigramKeys[slot] = key;
+            bigramProbs[slot] = probs[i];
+        }
 
         //Go through each bigram in order (most likely first) and build a
         // table of the predicted_chars most likely characters to follow each character.
-        for (Map.Entry<String, Double> entry : sorted_bigram_probs.entrySet()) {
-            Matcher match_context = context_p.matcher(entry.getKey());
-            if (match_context.find()) {
-                String pre = match_context.group(1);
-                String middle = match_context.group(2);
-
-                // Add to hash (do this by starting counter at 0 and then
-                // testing hash and
-                // filling first empty slot. If no empty slot found then value
-                // is not stored.
-                for (int c = 0; c < predicted_chars; c++) {
-                    String key = pre + c;
-                    if (!context_char.containsKey(key)) {
-                        context_char.put(key, middle);
-                        context_prob.put(key, entry.getValue());
-                        break;
-                    } // if
-                } // for
-            } // if
+        Integer[] order = new Integer[probs.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        final double[] bigramProbsInOrder = probs;
+        Arrays.sort(order, Collections.reverseOrder(new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return Double.compare(bigramProbsInOrder[a], bigramProbsInOrder[b]);
+            }
+        }));
+
+        contextChars = new String[unigrams.length][predicted_chars];
+        contextProbs = new double[unigrams.length][predicted_chars];
+        int[] filled = new int[unigrams.length];
+        for (int i : order) {
+            int pre = first[i];
+            // If no empty slot is left then the value is not stored.
+            if (filled[pre] < predicted_chars) {
+                contextChars[pre][filled[pre]] = unigrams[second[i]];
+                contextProbs[pre][filled[pre]] = probs[i];
+                filled[pre]++;
+            }
+        }
+    }
 
-        } // for
+    private static long bigramKey(int first, int second) {
+        return ((long) first << 32) | second;
+    }
+
+    private int bigramSlot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & bigramMask;
+    }
+
+    /**
+     * @return the log probability of the bigram, NaN if not in the model
+     */
+    private double getBigramProb(int first, int second) {
+        long key = bigramKey(first, second);
+        int slot = bigramSlot(key);
+        while (bigramKeys[slot] != NO_BIGRAM) {
+            if (bigramKeys[slot] == key) {
+                return bigramProbs[slot];
+            }
+            slot = (slot + 1) & bigramMask;
+        }
+        return Double.NaN;
+    }
 
-        // Print out as sanity check
-        //for (Map.Entry<String, String> entry : context_char.entrySet()) {
-        // System.out.println("Key = " + entry.getKey() + ", Value = " +
-        // entry.getValue());
-        //}
+    /**
+     * @return the id of the unigram, -1 if not in the model
+     */
+    private int getId(String unigram) {
+        Integer id = unigramIds.get(unigram);
+        return id == null ? -1 : id;
+    }
+
+    private int getId(char c) {
+        return c < charIds.length ? charIds[c] : -1;
+    }
+
+    /**
+     * Writes the compiled model, so that it can be loaded without parsing
+     * the text file again.
+     *
+     * @param out where to write the image, not closed
+     * @throws IOException
+     */
+    public void writeImage(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(IMAGE_MAGIC);
+        data.writeInt(IMAGE_VERSION);
+        data.writeInt(predicted_chars);
+        data.writeDouble(unknown_char_prob);
+        data.writeInt(unigrams.length);
+        for (int id = 0; id < unigrams.length; id++) {
+            data.writeUTF(unigrams[id]);
+            data.writeDouble(unigramProbs[id]);
+            data.writeDouble(backoffProbs[id]);
+        }
+        data.writeInt(bigramList.length);
+        for (int i = 0; i < bigramList.length; i++) {
+            data.writeInt(bigramFirst[i]);
+            data.writeInt(bigramSecond[i]);
+            data.writeDouble(bigramList[i]);
+        }
+        data.flush();
+    }
+
+    private void readImage(DataInputStream in) throws IOException {
+        if (in.readInt() != IMAGE_MAGIC || in.readInt() != IMAGE_VERSION) {
+            throw new IOException("Not an image of a language model");
+        }
+        predicted_chars = in.readInt();
+        unknown_char_prob = in.readDouble();
+
+        String[] names = new String[in.readInt()];
+        double[] probs = new double[names.length];
+        double[] backoffs = new double[names.length];
+        for (int id = 0; id < names.length; id++) {
+            names[id] = in.readUTF();
+            probs[id] = in.readDouble();
+            backoffs[id] = in.readDouble();
+        }
+        initUnigrams(names);
+        System.arraycopy(probs, 0, unigramProbs, 0, names.length);
+        System.arraycopy(backoffs, 0, backoffProbs, 0, names.length);
+
+        int numBigrams = in.readInt();
+        int[] first = new int[numBigrams];
+        int[] second = new int[numBigrams];
+        double[] bigrams = new double[numBigrams];
+        for (int i = 0; i < numBigrams; i++) {
+            first[i] = in.readInt();
+            second[i] = in.readInt();
+            bigrams[i] = in.readDouble();
+        }
+        initBigrams(first, second, bigrams);
+    }
 
-    } // LangModel
+    /**
+     * Compiles a language model into its image.
+     *
+     * @param args the resource name of the language model and the image file to write
+     * @throws IOException
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: LangModel <language model resource> <image file>");
+            return;
+        }
+        LangModel model = new LangModel(args[0]);
+        OutputStream out = new FileOutputStream(args[1]);
+        try {
+            model.writeImage(out);
+        } finally {
+            out.close();
+        }
+    }
 
     // Method which returns language model score for string str Splits
     // string into bigrams and looks up the probability for each. If
@@ -232,60 +495,41 @@ public class LangModel {
         int no_chars = str.length();
 
         // Break string down into bigrams
-        for (int i = -1; i < (no_chars - 1); i++) {
-            String first_char;
-            String second_char;
-            if (i == -1) {
-                first_char = "<s>";
-                second_char = str.substring(0, 1);
-            } else {
-                first_char = str.substring(i, i + 1);
-                second_char = str.substring(i + 1, i + 2);
-            } // if/else
-
-            if (first_char.equals(" ")) {
-                first_char = "<w>";
-            } // if
-            if (second_char.equals(" ")) {
-                second_char = "<w>";
-            } // if
-            String bigram = first_char + " " + second_char;
+        int first = startOfStringId;
+        for (int i = 0; i < no_chars; i++) {
+            int second = getId(str.charAt(i));
 
             if (verbose == true) {
-                System.out.println("Bigram is " + bigram);
+                System.out.println("Bigram is " + (i == 0 ? START_OF_STRING : unigramOf(str.charAt(i - 1)))
+                        + " " + unigramOf(str.charAt(i)));
             } // if
 
             // Get negative log likelihood for each bigram
             // (Either get directly or estimate using backoff)
-            if (bigram_probs.containsKey(bigram)) {
+            double bigram_prob = first < 0 || second < 0 ? Double.NaN : getBigramProb(first, second);
+            if (!Double.isNaN(bigram_prob)) {
                 // Get direct bigram probabilities
-                double bigram_prob = bigram_probs.get(bigram);
                 log_prob = log_prob + bigram_prob;
                 if (verbose == true) {
                     System.out.println("Direct bigram prob: "
                             + Math.pow(10, bigram_prob) + "\n");
                 } // if
-            } else if(unigram_probs.containsKey(second_char) && unigram_backoff_probs.containsKey(first_char)){
+            } else if (second >= 0 && !Double.isNaN(unigramProbs[second])
+                    && first >= 0 && !Double.isNaN(backoffProbs[first])) {
 
                 // Otherwise split into unigrams and do backoff
-                double unigram_backoff_prob = unigram_backoff_probs
-                        .get(first_char);
+                double unigram_backoff_prob = backoffProbs[first];
                 log_prob = log_prob + unigram_backoff_prob;
-                // System.out.println("Unigram ("+first_char+") backoff prob: "+unigram_backoff_prob);
-
-
-
 
-                double unigram_prob = unigram_probs.get(second_char);
+                double unigram_prob = unigramProbs[second];
                 log_prob = log_prob + unigram_prob;
 
                 if (verbose == true) {
-                    double bigram_prob = unigram_backoff_prob + unigram_prob;
                     System.out.println("Inferred bigram prob: "
-                            + Math.pow(10, bigram_prob)
-                            + " (formed from unigram probs " + first_char
+                            + Math.pow(10, unigram_backoff_prob + unigram_prob)
+                            + " (formed from unigram probs " + unigrams[first]
                             + ": " + Math.pow(10, unigram_backoff_prob)
-                            + " and " + second_char + ": "
+                            + " and " + unigrams[second] + ": "
                             + Math.pow(10, unigram_prob) + ")\n");
                 } // if
             } else {
@@ -297,6 +541,7 @@ public class LangModel {
 
             }
 
+            first = second;
         } // for
 
         // Convert log probs to probs and take geometric mean
@@ -308,6 +553,10 @@ public class LangModel {
 
     } // score
 
+    private static String unigramOf(char c) {
+        return c == ' ' ? START_NEW_WORD : String.valueOf(c);
+    }
+
     /**
      * Convenience method for {@link #score(String, boolean)} with verbose flag set to false.
      */
@@ -323,15 +572,14 @@ public class LangModel {
     public String predict_char(String pre, int n) {
 
         if (pre.equals(" ")) {
-            pre = "<w>";
+            pre = START_NEW_WORD;
         }
 
-        String key = pre + n;
-
-        if (n < 0 || n > predicted_chars) {
+        int id = getId(pre);
+        if (n < 0 || n >= predicted_chars || id < 0) {
             return null;
         } else {
-            return context_char.get(key);
+            return contextChars[id][n];
         } // if/else
 
     } // predict_char
@@ -341,33 +589,28 @@ public class LangModel {
      */
     public String predict_char(int n) {
 
-        return predict_char("<s>", n);
+        return predict_char(START_OF_STRING, n);
 
     } // predict_char
 
     /**
      * Method which returns the probability of the nth most likely character, given a
      * preceeding character (pre). Use in combination with the predict_char methods.
-     * @return the probability of the nth character that is most likely to appear
+     * @return the probability of the nth character that is most likely to appear,
+     * 0 if there is no such character
      */
     public double predict_char_prob(String pre, int n) {
 
-        if (n < 0 || n > predicted_chars) {
-            return 0;
-        }
-
         if (pre.equals(" ")) {
-            pre = "<w>";
+            pre = START_NEW_WORD;
         }
 
-        String key = pre + n;
-        Double prob = context_prob.get(key);
-
-        if (prob != null) {
-            prob = Math.pow(10, prob);
-        } // if
+        int id = getId(pre);
+        if (n < 0 || n >= predicted_chars || id < 0 || contextChars[id][n] == null) {
+            return 0;
+        }
 
-        return prob;
+        return Math.pow(10, contextProbs[id][n]);
 
     } // predict_char_prob
 
@@ -379,7 +622,7 @@ public class LangModel {
      */
     public double predict_char_prob(int n) {
 
-        return predict_char_prob("<s>", n);
+        return predict_char_prob(START_OF_STRING, n);
 
     } // predict_char_prob
 
@@ -394,31 +637,3 @@ public class LangModel {
 
 
 } // LangModel
-
-/**
- * Compares values based on their values in an associated Map.
- */
-class ValueComparator implements Comparator<String> {
-
-    Map<String, Double> base;
-
-    /**
-     * Create a new comparator using a mapping of probabilities.
-     * The comparator will use the attached probabilities to return the
-     * ordering for two Strings.
-     * @param base a mapping of probabilities for strings.
-     */
-    public ValueComparator(Map<String, Double> base) {
-        this.base = base;
-    }
-
-    // Note: this comparator imposes orderings that are inconsistent with
-    // equals.
-    public int compare(String a, String b) {
-        if (base.get(a) >= base.get(b)) {
-            return -1;
-        } else {
-            return 1;
-        } // returning 0 would merge keys
-    }
-}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package org.evosuite.novelty;
+
+import java.util.BitSet;
+
+/**
+ * The behaviour of a test as compared by {@link BranchNoveltyFunction}: the
+ * true distance of each branch, NaN if the branch was not reached, and the
+ * branchless methods that were covered. A test is embedded once, so that
+ * comparing it to other tests needs no lookups in the execution traces.
+ */
+final class BehaviorVector {
+
+    private final double[] distances;
+
+    private final long[] methods;
+
+    BehaviorVector(double[] distances, BitSet methods) {
+        this.distances = distances;
+        this.methods = methods.toLongArray();
+    }
+
+    /**
+     * Each branch reached by both tests adds the difference of its
+     * distances, each branch reached by only one of them adds 1, and so does
+     * each branchless method covered by only one of them.
+     *
+     * @param other
+     *            a vector of the same branches and methods
+     * @return the non-normalized difference
+     */
+    double distance(BehaviorVector other) {
+        double difference = 0.0;
+
+        for (int i = 0; i < distances.length; i++) {
+            double distance1 = distances[i];
+            double distance2 = other.distances[i];
+            boolean reached1 = !Double.isNaN(distance1);
+            boolean reached2 = !Double.isNaN(distance2);
+            if (reached1 && reached2) {
+                difference += Math.abs(distance1 - distance2);
+            } else if (reached1 || reached2) {
+                difference += 1.0;
+            }
+        }
+
+        long[] shorter = methods.length <= other.methods.length ? methods : other.methods;
+        long[] longer = shorter == methods ? other.methods : methods;
+        for (int i = 0; i < shorter.length; i++) {
+            difference += Long.bitCount(shorter[i] ^ longer[i]);
+        }
+        for (int i = shorter.length; i < longer.length; i++) {
+            difference += Long.bitCount(longer[i]);
+        }
+
+        return difference;
+    }
+}
@@ -12,8 +12,13 @@ import org.evosuite.testcase.execution.TestCaseExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 public class BranchNoveltyFunction extends NoveltyFunction<TestChromosome> {
 
@@ -23,6 +28,13 @@ public class BranchNoveltyFunction extends NoveltyFunction<TestChromosome> {
 
     private Set<String> branchlessMethods = new LinkedHashSet<>();
 
+    private final Map<Integer, Integer> branchIndices = new HashMap<>();
+
+    private final Map<String, Integer> methodIndices = new HashMap<>();
+
+    /** Behaviour of each execution result, computed when first compared */
+    private final Map<ExecutionResult, BehaviorVector> behaviors = new WeakHashMap<>();
+
     public BranchNoveltyFunction() {
         for (Branch branch : BranchPool.getInstance(TestGenerationContext.getInstance().getClassLoaderForSUT()).getAllBranches()) {
             if(!branch.isInstrumented()) {
@@ -30,6 +42,12 @@ public class BranchNoveltyFunction extends NoveltyFunction<TestChromosome> {
             }
         }
         branchlessMethods.addAll(BranchPool.getInstance(TestGenerationContext.getInstance().getClassLoaderForSUT()).getBranchlessMethods());
+        for (Integer branch : branches) {
+            branchIndices.put(branch, branchIndices.size());
+        }
+        for (String branchlessMethod : branchlessMethods) {
+            methodIndices.put(branchlessMethod, methodIndices.size());
+        }
         logger.warn("Number of branches: "+branches.size()+" branches and "+branchlessMethods.size() +" branchless methods");
     }
 
@@ -48,35 +66,40 @@ public class BranchNoveltyFunction extends NoveltyFunction<TestChromosome> {
     }
 
 
-    @Override
-    public double getDistance(TestChromosome individual1, TestChromosome individual2) {
-        ExecutionResult result1 = getExecutionResult(individual1);
-        ExecutionResult result2 = getExecutionResult(individual2);
-
-        ExecutionTrace trace1 = result1.getTrace();
-        ExecutionTrace trace2 = result2.getTrace();
-
-        double difference = 0.0;
+    private BehaviorVector getBehavior(ExecutionResult result) {
+        BehaviorVector behavior = behaviors.get(result);
+        if (behavior == null) {
+            ExecutionTrace trace = result.getTrace();
 
-        for(Integer branch : branches) {
-            if(trace1.hasTrueDistance(branch) && trace2.hasTrueDistance(branch)) {
-                double distance1 = trace1.getTrueDistance(branch);
-                double distance2 = trace2.getTrueDistance(branch);
-
-                difference += Math.abs(distance1 - distance2);
-
-            } else if(trace1.hasTrueDistance(branch) || trace2.hasTrueDistance(branch)) {
-                difference += 1.0;
+            double[] distances = new double[branches.size()];
+            Arrays.fill(distances, Double.NaN);
+            for (Map.Entry<Integer, Double> entry : trace.getTrueDistances().entrySet()) {
+                Integer index = branchIndices.get(entry.getKey());
+                if (index != null) {
+                    distances[index] = entry.getValue();
+                }
             }
-        }
 
-        Set<String> methods1 = trace1.getCoveredBranchlessMethods();
-        Set<String> methods2 = trace2.getCoveredBranchlessMethods();
-        for(String branchlessMethod : branchlessMethods) {
-            if(methods1.contains(branchlessMethod) != methods2.contains(branchlessMethod)) {
-                difference += 1.0;
+            BitSet methods = new BitSet(branchlessMethods.size());
+            for (String method : trace.getCoveredBranchlessMethods()) {
+                Integer index = methodIndices.get(method);
+                if (index != null) {
+                    methods.set(index);
+                }
             }
+
+            behavior = new BehaviorVector(distances, methods);
+            behaviors.put(result, behavior);
         }
+        return behavior;
+    }
+
+    @Override
+    public double getDistance(TestChromosome individual1, TestChromosome individual2) {
+        ExecutionResult result1 = getExecutionResult(individual1);
+        ExecutionResult result2 = getExecutionResult(individual2);
+
+        double difference = getBehavior(result1).distance(getBehavior(result2));
 
         difference /= (branches.size() + branchlessMethods.size());
 
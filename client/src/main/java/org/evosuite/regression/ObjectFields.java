@@ -22,7 +22,6 @@ package org.evosuite.regression;
 import org.apache.commons.lang3.ClassUtils;
 import org.evosuite.testcase.execution.Scope;
 import org.evosuite.testcase.variable.VariableReference;
-import org.evosuite.utils.generic.GenericClass;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -160,7 +159,8 @@ public class ObjectFields {
 				((String) p).hashCode();
 			}*/
             Class<?> fieldType = field.getType();
-            field.setAccessible(true);
+            if (!field.isAccessible())
+                field.setAccessible(true);
             if (fieldType.isPrimitive()) {
                 if (fieldType.equals(Boolean.TYPE)) {
                     return field.getBoolean(p);
@@ -419,6 +419,66 @@ public class ObjectFields {
         return dim;
     }
 
+    /**
+     * How getAllVars reads a field, which only depends on the declared type
+     * of the field
+     */
+    private enum FieldKind {
+        /** Primitives, their wrappers and strings, whose value is kept */
+        ELEMENTARY,
+        /** Fields of type Object, for which only null is distinguished */
+        OBJECT,
+        ARRAY,
+        COMPOSITE
+    }
+
+    private static final class FieldAccessor {
+
+        private final Field field;
+
+        private final FieldKind kind;
+
+        private FieldAccessor(Field field, FieldKind kind) {
+            this.field = field;
+            this.kind = kind;
+        }
+    }
+
+    /**
+     * The fields read by getAllVars for each class, already accessible and
+     * classified, so that taking a snapshot of an object does not look up
+     * and analyze the fields of its class again
+     */
+    private static final ClassValue<FieldAccessor[]> fieldAccessors = new ClassValue<FieldAccessor[]>() {
+        @Override
+        protected FieldAccessor[] computeValue(Class<?> type) {
+            List<FieldAccessor> accessors = new ArrayList<FieldAccessor>();
+            for (Field field : getAllFields(type)) {
+                Class<?> fieldType = field.getType();
+                FieldKind kind;
+                if (ClassUtils.isPrimitiveOrWrapper(fieldType)
+                        || fieldType.equals(String.class)) {
+                    if (field.getName().equals("serialVersionUID"))
+                        continue;
+                    kind = FieldKind.ELEMENTARY;
+                } else if (fieldType.equals(Object.class)) {
+                    kind = FieldKind.OBJECT;
+                } else if (fieldType.isArray()) {
+                    kind = FieldKind.ARRAY;
+                } else {
+                    kind = FieldKind.COMPOSITE;
+                }
+                try {
+                    field.setAccessible(true);
+                } catch (SecurityException e) {
+                    logger.debug("Cannot access field " + field + ": " + e);
+                }
+                accessors.add(new FieldAccessor(field, kind));
+            }
+            return accessors.toArray(new FieldAccessor[accessors.size()]);
+        }
+    };
+
     private static Map<String, Object> getAllVars(Object p, int counter,
                                                   String prefix) {
         // TODO Auto-generated method stub
@@ -433,27 +493,22 @@ public class ObjectFields {
         if (p == null)
             return values;
 
-        Collection<Field> fields = getAllFields(p.getClass());
-
-        for (Field field : fields) {
+        for (FieldAccessor accessor : fieldAccessors.get(p.getClass())) {
             // String what_happened = "";
 
-            GenericClass gc = new GenericClass(field.getType());
+            Field field = accessor.field;
 
-            if (ClassUtils.isPrimitiveOrWrapper(field.getType())
-                    || gc.isString()) {
+            if (accessor.kind == FieldKind.ELEMENTARY) {
                 // what_happened += ", " + field.getType() + " is primitive,";
-                if (field.getName().equals("serialVersionUID"))
-                    continue;
                 values.put(prefix + field.getName(),
                         getObjectValue(getFieldValue(field, p)));
 
-            } else if (field.getType().equals(Object.class)
+            } else if (accessor.kind == FieldKind.OBJECT
                     || counter >= MAX_RECURSION) {
                 values.put(prefix + field.getName(),
                         (getObjectValue(getFieldValue(field, p)) != null));
                 // what_happened += ", " + field.getType() + ",reached end,";
-            } else if (field.getType().isArray()) {
+            } else if (accessor.kind == FieldKind.ARRAY) {
 				/*
 				 * values.put(prefix + field.getName(), Array
 				 * .getLength(getObjectValue(getFieldValue(field, p))));
@@ -480,8 +535,6 @@ public class ObjectFields {
 
             } else {
                 try {
-                    field.setAccessible(true);
-
                     // values.putAll(getAllVars(field.get(p), counter + 1,prefix
                     // + ((prefix.isEmpty())?"":".")+field.getName()));
                     values.put(
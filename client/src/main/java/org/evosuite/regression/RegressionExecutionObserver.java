@@ -97,12 +97,12 @@ public class RegressionExecutionObserver extends ExecutionObserver {
 
   @Override
   public void testExecutionFinished(ExecutionResult r, Scope scope) {
-    ObjectFields scopeObjectFields = new ObjectFields(scope);
-
     if (isDisabled) {
       return;
     }
 
+    ObjectFields scopeObjectFields = new ObjectFields(scope);
+
     if (isRegression) {
       currentRegressionObjectMapPool.add(scopeObjectFields.getObjectVariables());
     } else {
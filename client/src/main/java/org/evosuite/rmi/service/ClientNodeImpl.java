@@ -46,12 +46,14 @@ import org.evosuite.coverage.ClassStatisticsPrinter;
 import org.evosuite.ga.Chromosome;
 import org.evosuite.ga.stoppingconditions.RMIStoppingCondition;
 import org.evosuite.junit.CoverageAnalysis;
+import org.evosuite.junit.CoverageShard;
 import org.evosuite.result.TestGenerationResult;
 import org.evosuite.result.TestGenerationResultBuilder;
 import org.evosuite.runtime.sandbox.PermissionStatistics;
 import org.evosuite.runtime.sandbox.Sandbox;
 import org.evosuite.setup.DependencyAnalysis;
 import org.evosuite.setup.TestCluster;
+import org.evosuite.statistics.MetricsSnapshot;
 import org.evosuite.statistics.RuntimeVariable;
 import org.evosuite.utils.Listener;
 import org.evosuite.utils.LoggingUtils;
@@ -102,9 +104,27 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 	private final BlockingQueue<OutputVariable> outputVariableQueue = new LinkedBlockingQueue<OutputVariable>();
 
 	private Collection<Set<? extends Chromosome>> bestSolutions;
+
+	private final BlockingQueue<CoverageShard> coverageShards = new LinkedBlockingQueue<>();
+
+	private final Set<String> coverageSenders = Collections.synchronizedSet(new HashSet<String>());
+
+	/**
+	 * How long to wait for a coverage shard before checking whether the
+	 * clients that did not send theirs yet are still running
+	 */
+	private static final long COVERAGE_SHARD_POLL_MS = 1000;
 	
 	private Thread statisticsThread; 
 
+	/**
+	 * Emigrants not sent yet. Only the latest selection is kept: if the
+	 * receiver is slow, older emigrants are outdated by the time they arrive
+	 */
+	private final BlockingQueue<Set<? extends Chromosome>> emigrantsQueue = new LinkedBlockingQueue<>(1);
+
+	private Thread migrationThread;
+
 	//only for testing
 	protected ClientNodeImpl() {
 	}
@@ -212,12 +232,29 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 
     @Override
     public void emigrate(Set<? extends Chromosome> immigrants) {
-        try {
-            logger.debug(ClientProcess.getPrettyPrintIdentifier() + "Sending " + immigrants.size() + " immigrants");
-            masterNode.evosuite_migrate(clientRmiIdentifier, immigrants);
-        } catch (RemoteException e) {
-            logger.error(ClientProcess.getPrettyPrintIdentifier() + "Cannot send immigrating individuals to master", e);
+        /*
+         * The search does not wait for the migration: the individuals are copied,
+         * as the search might change them before they are serialized, and sent
+         * directly to the receiver by the migration thread
+         */
+        Set<Chromosome> copies = new CompressedMigrants<>(Collections.<Chromosome>emptySet());
+        for (Chromosome individual : immigrants) {
+            copies.add(individual.clone());
+        }
+        emigrantsQueue.clear();
+        if (!emigrantsQueue.offer(copies)) {
+            logger.debug(ClientProcess.getPrettyPrintIdentifier() + "Dropping emigrants, previous ones are still pending");
+        }
+    }
+
+    private void sendEmigrants(Set<? extends Chromosome> emigrants) throws RemoteException {
+        // the master only decides the receiver, according to the topology
+        ClientNodeRemote receiver = masterNode.evosuite_selectMigrationReceiver(clientRmiIdentifier);
+        if (receiver == null) {
+            return;
         }
+        logger.debug(ClientProcess.getPrettyPrintIdentifier() + "Sending " + emigrants.size() + " immigrants");
+        receiver.immigrate(emigrants);
     }
 
     @Override
@@ -230,6 +267,16 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
         }
     }
 
+    @Override
+    public void sendCoverageShard(CoverageShard shard) {
+        try {
+            logger.debug(ClientProcess.getPrettyPrintIdentifier() + "sending coverage to " + ClientProcess.DEFAULT_CLIENT_NAME);
+            masterNode.evosuite_collectCoverageShard(clientRmiIdentifier, shard);
+        } catch (RemoteException e) {
+            logger.error(ClientProcess.getPrettyPrintIdentifier() + "Cannot send coverage to master", e);
+        }
+    }
+
     @Override
 	public void changeState(ClientState state) {
 		changeState(state, new ClientStateInformation(state));
@@ -271,6 +318,17 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 		}
 	}
 
+	@Override
+	public void updateMetrics(List<MetricsSnapshot> snapshots) {
+		logger.info("Sending metrics of {} individuals to master process", snapshots.size());
+
+		try {
+			masterNode.evosuite_collectMetrics(clientRmiIdentifier, snapshots);
+		} catch (RemoteException e) {
+			logger.error("Cannot send metrics to master", e);
+		}
+	}
+
 	@Override
 	public void flushStatisticsForClassChange() {
 		logger.info("Flushing output variables to master process");
@@ -368,6 +426,11 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 			statisticsThread = null;
 		}
 
+		if (migrationThread != null) {
+			migrationThread.interrupt();
+			migrationThread = null;
+		}
+
 		changeState(ClientState.FINISHED);
 	}
 
@@ -400,6 +463,28 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 			Sandbox.addPrivilegedThread(statisticsThread);
 			statisticsThread.start();
 
+			if (Properties.NUM_PARALLEL_CLIENTS > 1) {
+				migrationThread = new Thread() {
+					@Override
+					public void run() {
+						while (!this.isInterrupted()) {
+							try {
+								sendEmigrants(emigrantsQueue.take()); //this is blocking
+							} catch (InterruptedException e) {
+								break;
+							} catch (RemoteException e) {
+								logger.error(ClientProcess.getPrettyPrintIdentifier()
+										+ "Cannot send immigrating individuals to other client", e);
+							}
+						}
+					}
+				};
+				migrationThread.setName("Migration sender in client process");
+				migrationThread.setDaemon(true);
+				Sandbox.addPrivilegedThread(migrationThread);
+				migrationThread.start();
+			}
+
 		} catch (Exception e) {
 			logger.error("Error when connecting to master via RMI", e);
 			return false;
@@ -546,6 +631,14 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
         bestSolutions.add(solutions);
     }
 
+    @Override
+    public void collectCoverageShard(String clientRmiIdentifier, CoverageShard shard) throws RemoteException {
+        logger.debug(ClientProcess.getPrettyPrintIdentifier() + "added coverage of " + shard.getNumTests()
+                + " tests from " + clientRmiIdentifier);
+        coverageSenders.add(clientRmiIdentifier);
+        coverageShards.add(shard);
+    }
+
     @Override
     public void addListener(Listener<Set<? extends Chromosome>> listener) {
 	    listeners.add(listener);
@@ -583,4 +676,64 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
         
         return null;
     }
+
+    @Override
+    public List<CoverageShard> getCoverageShards() {
+        List<CoverageShard> shards = new ArrayList<>(Properties.NUM_PARALLEL_CLIENTS - 1);
+        try {
+            while (shards.size() < Properties.NUM_PARALLEL_CLIENTS - 1) {
+                CoverageShard shard = coverageShards.poll(COVERAGE_SHARD_POLL_MS, TimeUnit.MILLISECONDS);
+                if (shard != null) {
+                    shards.add(shard);
+                    continue;
+                }
+                if (finishedLatch.getCount() == 0
+                        || !TimeController.getInstance().isThereStillTimeInThisPhase(COVERAGE_SHARD_POLL_MS)) {
+                    break;
+                }
+                if (!isAnyClientRunning(getMissingCoverageSenders())) {
+                    // a client sends its shard before it is done, so it is already queued if it was sent at all
+                    coverageShards.drainTo(shards);
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (shards.size() < Properties.NUM_PARALLEL_CLIENTS - 1) {
+            logger.warn(ClientProcess.getPrettyPrintIdentifier() + "No coverage received from "
+                    + getMissingCoverageSenders() + ", merging the coverage of " + shards.size() + " of "
+                    + (Properties.NUM_PARALLEL_CLIENTS - 1) + " other client(s)");
+        }
+        return shards;
+    }
+
+    /**
+     * @return the identifiers of the clients other than client 0 that did not send their coverage yet
+     */
+    private List<String> getMissingCoverageSenders() {
+        List<String> missing = new ArrayList<>();
+        for (int i = 1; i < Properties.NUM_PARALLEL_CLIENTS; i++) {
+            String id = ClientProcess.CLIENT_PREFIX + i;
+            if (!coverageSenders.contains(id)) {
+                missing.add(id);
+            }
+        }
+        return missing;
+    }
+
+    private boolean isAnyClientRunning(List<String> clientRmiIdentifiers) {
+        for (String id : clientRmiIdentifiers) {
+            try {
+                if (masterNode.evosuite_isClientRunning(id)) {
+                    return true;
+                }
+            } catch (RemoteException e) {
+                logger.error(ClientProcess.getPrettyPrintIdentifier() + "Cannot ask master about " + id, e);
+                return false;
+            }
+        }
+        return false;
+    }
 }
@@ -20,6 +20,8 @@
 package org.evosuite.rmi.service;
 
 import org.evosuite.ga.Chromosome;
+import org.evosuite.junit.CoverageShard;
+import org.evosuite.statistics.MetricsSnapshot;
 import org.evosuite.statistics.RuntimeVariable;
 import org.evosuite.utils.Listenable;
 
@@ -45,6 +47,8 @@ public interface ClientNodeLocal extends Listenable<Set<? extends Chromosome>> {
 
 	public void updateStatistics(Chromosome individual);
 
+	public void updateMetrics(List<MetricsSnapshot> snapshots);
+
 	public void flushStatisticsForClassChange();
 
 	public void updateProperty(String propertyName, Object value);
@@ -56,4 +60,20 @@ public interface ClientNodeLocal extends Listenable<Set<? extends Chromosome>> {
 	public void sendBestSolution(Set<? extends Chromosome> solutions);
 
     public Set<Set<? extends Chromosome>> getBestSolutions();
+
+    /**
+     * Send the coverage measured by this client to the first client
+     *
+     * @param shard
+     */
+    public void sendCoverageShard(CoverageShard shard);
+
+    /**
+     * Returns the coverage measured by all clients other than client 0. This method blocks
+     * until all of it is collected, or until the remaining clients are finished or
+     * unreachable, or the time budget is over.
+     *
+     * @return the collected coverage, which is incomplete if some clients did not send theirs
+     */
+    public List<CoverageShard> getCoverageShards();
 }
@@ -20,6 +20,7 @@
 package org.evosuite.rmi.service;
 
 import org.evosuite.ga.Chromosome;
+import org.evosuite.junit.CoverageShard;
 
 import java.rmi.Remote;
 import java.rmi.RemoteException;
@@ -58,4 +59,6 @@ public interface ClientNodeRemote extends Remote {
 	public void immigrate(Set<? extends Chromosome> migrants) throws RemoteException;
 
     public void collectBestSolutions(Set<? extends Chromosome> solutions) throws RemoteException;
+
+    public void collectCoverageShard(String clientRmiIdentifier, CoverageShard shard) throws RemoteException;
 }
@@ -0,0 +1,122 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.rmi.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.evosuite.TestGenerationContext;
+import org.evosuite.ga.Chromosome;
+
+/**
+ * Set of individuals migrating between clients. When sent over RMI, the
+ * individuals are serialized into a single compressed block: individuals of
+ * the same island share most of their structure (classes, statements,
+ * values), so this is considerably smaller than the plain serialized set.
+ */
+public class CompressedMigrants<T extends Chromosome> extends LinkedHashSet<T> {
+
+	private static final long serialVersionUID = -2150941741437396510L;
+
+	public CompressedMigrants(Collection<? extends T> migrants) {
+		super(migrants);
+	}
+
+	private Object writeReplace() throws ObjectStreamException {
+		return new Encoded(this);
+	}
+
+	/**
+	 * Serialized form of {@link CompressedMigrants}
+	 */
+	private static class Encoded implements Serializable {
+
+		private static final long serialVersionUID = 5532189003317265947L;
+
+		private final byte[] data;
+
+		Encoded(Collection<? extends Chromosome> migrants) throws ObjectStreamException {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(bytes))) {
+				out.writeInt(migrants.size());
+				for (Chromosome migrant : migrants) {
+					out.writeObject(migrant);
+				}
+			} catch (IOException e) {
+				NotSerializableException exception = new NotSerializableException(e.getMessage());
+				exception.initCause(e);
+				throw exception;
+			}
+			this.data = bytes.toByteArray();
+		}
+
+		private Object readResolve() throws ObjectStreamException {
+			try (ObjectInputStream in = new SUTObjectInputStream(new GZIPInputStream(
+			        new ByteArrayInputStream(data)))) {
+				int size = in.readInt();
+				CompressedMigrants<Chromosome> migrants = new CompressedMigrants<>(
+				        Collections.<Chromosome>emptySet());
+				for (int i = 0; i < size; i++) {
+					migrants.add((Chromosome) in.readObject());
+				}
+				return migrants;
+			} catch (IOException | ClassNotFoundException e) {
+				InvalidObjectException exception = new InvalidObjectException(e.getMessage());
+				exception.initCause(e);
+				throw exception;
+			}
+		}
+	}
+
+	/**
+	 * Individuals refer to classes of the SUT, which might not be visible to
+	 * the class loader that loaded EvoSuite
+	 */
+	private static class SUTObjectInputStream extends ObjectInputStream {
+
+		SUTObjectInputStream(InputStream in) throws IOException {
+			super(in);
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			try {
+				return super.resolveClass(desc);
+			} catch (ClassNotFoundException e) {
+				return Class.forName(desc.getName(), false,
+				        TestGenerationContext.getInstance().getClassLoaderForSUT());
+			}
+		}
+	}
+}
@@ -21,8 +21,10 @@ package org.evosuite.rmi.service;
 
 import java.rmi.RemoteException;
 import java.rmi.registry.Registry;
+import java.util.List;
 
 import org.evosuite.ga.Chromosome;
+import org.evosuite.statistics.MetricsSnapshot;
 import org.evosuite.statistics.RuntimeVariable;
 
 public class DummyClientNodeImpl extends ClientNodeImpl {
@@ -61,6 +63,12 @@ public class DummyClientNodeImpl extends ClientNodeImpl {
 		
 	}
 
+	@Override
+	public void updateMetrics(List<MetricsSnapshot> snapshots) {
+		// TODO Auto-generated method stub
+
+	}
+
 	@Override
 	public void trackOutputVariable(RuntimeVariable name, Object value) {
 		// TODO Auto-generated method stub
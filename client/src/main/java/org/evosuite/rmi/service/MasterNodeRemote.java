@@ -26,7 +26,9 @@ import java.util.Set;
 
 import org.evosuite.Properties.NoSuchParameterException;
 import org.evosuite.ga.Chromosome;
+import org.evosuite.junit.CoverageShard;
 import org.evosuite.result.TestGenerationResult;
+import org.evosuite.statistics.MetricsSnapshot;
 import org.evosuite.statistics.RuntimeVariable;
 
 /**
@@ -51,6 +53,8 @@ public interface MasterNodeRemote extends Remote {
 
 	public void evosuite_collectStatistics(String clientRmiIdentifier, RuntimeVariable variable, Object value) throws RemoteException;
 
+	public void evosuite_collectMetrics(String clientRmiIdentifier, List<MetricsSnapshot> snapshots) throws RemoteException;
+
 	public void evosuite_collectTestGenerationResult(String clientRmiIdentifier, List<TestGenerationResult> results) throws RemoteException;
 
 	public void evosuite_flushStatisticsForClassChange(String clientRmiIdentifier) throws RemoteException;
@@ -59,5 +63,22 @@ public interface MasterNodeRemote extends Remote {
 	
 	public void evosuite_migrate(String clientRmiIdentifier, Set<? extends Chromosome> migrants) throws RemoteException;
 
+	/**
+	 * Select, according to the topology, the client that should receive the
+	 * next migrants of the given client, which then sends them directly
+	 *
+	 * @return {@code null} if there is no receiver
+	 */
+	public ClientNodeRemote evosuite_selectMigrationReceiver(String clientRmiIdentifier) throws RemoteException;
+
     public void evosuite_collectBestSolutions(String clientRmiIdentifier, Set<? extends Chromosome> solutions) throws RemoteException;
+
+    public void evosuite_collectCoverageShard(String clientRmiIdentifier, CoverageShard shard) throws RemoteException;
+
+    /**
+     * Check whether the given client is still reachable and has not finished yet
+     *
+     * @return {@code false} if the client is done, finished, or cannot be reached
+     */
+    public boolean evosuite_isClientRunning(String clientRmiIdentifier) throws RemoteException;
 }
@@ -102,6 +102,53 @@ public class ConstantPoolManager {
 		pools[DYNAMIC_POOL_INDEX].add(value);
 	}
 
+	/*
+	 * The primitive versions are called by the instrumented code for each
+	 * comparison, and avoid boxing if the dynamic pool supports it
+	 */
+
+	public void addDynamicConstant(int value) {
+		if (pools[DYNAMIC_POOL_INDEX] instanceof DynamicConstantPool) {
+			((DynamicConstantPool) pools[DYNAMIC_POOL_INDEX]).addInt(value);
+		} else {
+			pools[DYNAMIC_POOL_INDEX].add(value);
+		}
+	}
+
+	public void addDynamicConstant(long value) {
+		if (pools[DYNAMIC_POOL_INDEX] instanceof DynamicConstantPool) {
+			((DynamicConstantPool) pools[DYNAMIC_POOL_INDEX]).addLong(value);
+		} else {
+			pools[DYNAMIC_POOL_INDEX].add(value);
+		}
+	}
+
+	public void addDynamicConstant(float value) {
+		if (pools[DYNAMIC_POOL_INDEX] instanceof DynamicConstantPool) {
+			((DynamicConstantPool) pools[DYNAMIC_POOL_INDEX]).addFloat(value);
+		} else {
+			pools[DYNAMIC_POOL_INDEX].add(value);
+		}
+	}
+
+	public void addDynamicConstant(double value) {
+		if (pools[DYNAMIC_POOL_INDEX] instanceof DynamicConstantPool) {
+			((DynamicConstantPool) pools[DYNAMIC_POOL_INDEX]).addDouble(value);
+		} else {
+			pools[DYNAMIC_POOL_INDEX].add(value);
+		}
+	}
+
+	/**
+	 * Merge the dynamic constants collected during a test execution into the
+	 * dynamic pool
+	 */
+	public void flushDynamicConstants() {
+		if (pools[DYNAMIC_POOL_INDEX] instanceof DynamicConstantPool) {
+			((DynamicConstantPool) pools[DYNAMIC_POOL_INDEX]).flush();
+		}
+	}
+
 	public ConstantPool getConstantPool() {
 		double p = Randomness.nextDouble();
 		double k = 0d;
@@ -24,6 +24,7 @@ package org.evosuite.seeding;
 
 import org.evosuite.Properties;
 import org.evosuite.utils.DefaultRandomAccessQueue;
+import org.evosuite.utils.PrimitiveRandomAccessQueue;
 import org.evosuite.utils.RandomAccessQueue;
 import org.objectweb.asm.Type;
 
@@ -37,13 +38,17 @@ public class DynamicConstantPool implements ConstantPool {
 
 	private final RandomAccessQueue<Type> typePool = new DefaultRandomAccessQueue<Type>();
 
-	private final RandomAccessQueue<Integer> intPool = new DefaultRandomAccessQueue<Integer>();
+	/*
+	 * Numeric constants are added for every comparison in the SUT, so they are
+	 * kept without boxing. Floating point values are stored by their bits.
+	 */
+	private final PrimitiveRandomAccessQueue intPool = new PrimitiveRandomAccessQueue(Properties.DYNAMIC_POOL_SIZE);
 
-	private final RandomAccessQueue<Double> doublePool = new DefaultRandomAccessQueue<Double>();
+	private final PrimitiveRandomAccessQueue doublePool = new PrimitiveRandomAccessQueue(Properties.DYNAMIC_POOL_SIZE);
 
-	private final RandomAccessQueue<Long> longPool = new DefaultRandomAccessQueue<Long>();
+	private final PrimitiveRandomAccessQueue longPool = new PrimitiveRandomAccessQueue(Properties.DYNAMIC_POOL_SIZE);
 
-	private final RandomAccessQueue<Float> floatPool = new DefaultRandomAccessQueue<Float>();
+	private final PrimitiveRandomAccessQueue floatPool = new PrimitiveRandomAccessQueue(Properties.DYNAMIC_POOL_SIZE);
 
 	public DynamicConstantPool() {
 		/*
@@ -55,10 +60,10 @@ public class DynamicConstantPool implements ConstantPool {
 		} else {
 			typePool.restrictedAdd(Type.getType(Object.class));
 		}
-		intPool.restrictedAdd(0);
-		longPool.restrictedAdd(0L);
-		floatPool.restrictedAdd(0.0f);
-		doublePool.restrictedAdd(0.0);
+		addInt(0);
+		addLong(0L);
+		addFloat(0.0f);
+		addDouble(0.0);
 	}
 
 	/* (non-Javadoc)
@@ -79,7 +84,7 @@ public class DynamicConstantPool implements ConstantPool {
 	 */
 	@Override
 	public int getRandomInt() {
-		return intPool.getRandomValue();
+		return (int) intPool.getRandomValue();
 	}
 
 	/* (non-Javadoc)
@@ -87,7 +92,7 @@ public class DynamicConstantPool implements ConstantPool {
 	 */
 	@Override
 	public float getRandomFloat() {
-		return floatPool.getRandomValue();
+		return Float.intBitsToFloat((int) floatPool.getRandomValue());
 	}
 
 	/* (non-Javadoc)
@@ -95,7 +100,7 @@ public class DynamicConstantPool implements ConstantPool {
 	 */
 	@Override
 	public double getRandomDouble() {
-		return doublePool.getRandomValue();
+		return Double.longBitsToDouble(doublePool.getRandomValue());
 	}
 
 	/* (non-Javadoc)
@@ -129,44 +134,51 @@ public class DynamicConstantPool implements ConstantPool {
 		}
 
 		else if (object instanceof Integer) {
-			if (Properties.RESTRICT_POOL) {
-				int val = (Integer) object;
-				if (Math.abs(val) < Properties.MAX_INT) {
-					intPool.restrictedAdd((Integer) object);
-				}
-			} else {
-				intPool.restrictedAdd((Integer) object);
-			}
+			addInt((Integer) object);
 		} else if (object instanceof Long) {
-			if (Properties.RESTRICT_POOL) {
-				long val = (Long) object;
-				if (Math.abs(val) < Properties.MAX_INT) {
-					longPool.restrictedAdd((Long) object);
-				}
-			} else {
-				longPool.restrictedAdd((Long) object);
-			}
+			addLong((Long) object);
 		} else if (object instanceof Float) {
-			if (Properties.RESTRICT_POOL) {
-				float val = (Float) object;
-				if (Math.abs(val) < Properties.MAX_INT) {
-					floatPool.restrictedAdd((Float) object);
-				}
-			} else {
-				floatPool.restrictedAdd((Float) object);
-			}
+			addFloat((Float) object);
 		} else if (object instanceof Double) {
-			if (Properties.RESTRICT_POOL) {
-				double val = (Double) object;
-				if (Math.abs(val) < Properties.MAX_INT) {
-					doublePool.restrictedAdd((Double) object);
-				}
-			} else {
-				doublePool.restrictedAdd((Double) object);
-			}
+			addDouble((Double) object);
+		}
+	}
+
+	public void addInt(int value) {
+		if (!Properties.RESTRICT_POOL || Math.abs(value) < Properties.MAX_INT) {
+			intPool.restrictedAdd(value);
+		}
+	}
+
+	public void addLong(long value) {
+		if (!Properties.RESTRICT_POOL || Math.abs(value) < Properties.MAX_INT) {
+			longPool.restrictedAdd(value);
+		}
+	}
+
+	public void addFloat(float value) {
+		if (!Properties.RESTRICT_POOL || Math.abs(value) < Properties.MAX_INT) {
+			floatPool.restrictedAdd(Float.floatToIntBits(value));
 		}
 	}
 
+	public void addDouble(double value) {
+		if (!Properties.RESTRICT_POOL || Math.abs(value) < Properties.MAX_INT) {
+			doublePool.restrictedAdd(Double.doubleToLongBits(value));
+		}
+	}
+
+	/**
+	 * Merge the numeric constants collected during the last test execution
+	 * into the pools
+	 */
+	public void flush() {
+		intPool.flush();
+		longPool.flush();
+		floatPool.flush();
+		doublePool.flush();
+	}
+
 	@Override
 	public String toString() {
 		String res = "DynamicConstantPool:{";
@@ -174,8 +186,16 @@ public class DynamicConstantPool implements ConstantPool {
 		res += "typePool=" + typePool.toString() + " ; ";
 		res += "intPool=" + intPool.toString() + " ; ";
 		res += "longPool=" + longPool.toString() + " ; ";
-		res += "floatPool=" + floatPool.toString() + " ; ";
-		res += "doublePool=" + doublePool.toString() + "}";	
+		res += "floatPool=[ ";
+		for (long bits : floatPool.getValues()) {
+			res += Float.intBitsToFloat((int) bits) + " ";
+		}
+		res += "] ; ";
+		res += "doublePool=[ ";
+		for (long bits : doublePool.getValues()) {
+			res += Double.longBitsToDouble(bits) + " ";
+		}
+		res += "]}";
 		return res;
 	}
 
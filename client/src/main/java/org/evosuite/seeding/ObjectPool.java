@@ -22,6 +22,7 @@
  */
 package org.evosuite.seeding;
 
+import java.io.BufferedInputStream;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -30,18 +31,22 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
 import org.evosuite.Properties;
+import org.evosuite.TestGenerationContext;
 import org.evosuite.testcarver.extraction.CarvingRunListener;
 import org.evosuite.testcase.TestCase;
 import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testsuite.BinaryTestFormat;
+import org.evosuite.testsuite.BinaryTestReader;
+import org.evosuite.testsuite.BinaryTestWriter;
 import org.evosuite.testsuite.TestSuiteChromosome;
 import org.evosuite.utils.DebuggingObjectOutputStream;
+import org.evosuite.utils.RandomAccessSet;
 import org.evosuite.utils.generic.GenericClass;
 import org.evosuite.utils.Randomness;
 import org.junit.runner.JUnitCore;
@@ -82,7 +87,7 @@ public class ObjectPool implements Serializable {
 	 */
 	private void addSequence(ObjectSequence sequence) {
 		if (!pool.containsKey(sequence.getGeneratedClass()))
-			pool.put(sequence.getGeneratedClass(), new HashSet<TestCase>());
+			pool.put(sequence.getGeneratedClass(), new RandomAccessSet<TestCase>());
 
 		pool.get(sequence.getGeneratedClass()).add(sequence.getSequence());
 		logger.info("Added new sequence for " + sequence.getGeneratedClass());
@@ -168,9 +173,14 @@ public class ObjectPool implements Serializable {
 	 */
 	public static ObjectPool getPoolFromFile(String fileName) {
 		try {
-			InputStream in = new FileInputStream(fileName);
-			ObjectInputStream objectIn = new ObjectInputStream(in);
-			ObjectPool pool = (ObjectPool) objectIn.readObject();
+			BufferedInputStream in = new BufferedInputStream(new FileInputStream(fileName));
+			ObjectPool pool;
+			if (BinaryTestFormat.isBinaryFormat(in)) {
+				pool = readBinaryPool(in);
+			} else {
+				ObjectInputStream objectIn = new ObjectInputStream(in);
+				pool = (ObjectPool) objectIn.readObject();
+			}
 			in.close();
 			// TODO: Do we also need to call that in the other factory methods?
 			pool.filterUnaccessibleTests();
@@ -182,6 +192,20 @@ public class ObjectPool implements Serializable {
 		return null;
 	}
 
+	private static ObjectPool readBinaryPool(InputStream in) throws IOException, ClassNotFoundException {
+		ObjectPool pool = new ObjectPool();
+		BinaryTestReader reader = new BinaryTestReader(in, TestGenerationContext.getInstance().getClassLoaderForSUT());
+		GenericClass clazz = null;
+		while (reader.hasNext()) {
+			if (reader.isNextGenericClass()) {
+				clazz = reader.readGenericClass();
+			} else {
+				pool.addSequence(clazz, reader.readTest());
+			}
+		}
+		return pool;
+	}
+
 	protected void filterUnaccessibleTests() {
 		for(Set<TestCase> testSet : pool.values()) {
 			Iterator<TestCase> testIterator = testSet.iterator();
@@ -266,6 +290,19 @@ public class ObjectPool implements Serializable {
 	}
 
 	public void writePool(String fileName) {
+		if (Properties.SERIALIZATION_FORMAT == Properties.SerializationFormat.BINARY) {
+			try (BinaryTestWriter out = new BinaryTestWriter(new FileOutputStream(fileName))) {
+				for (Map.Entry<GenericClass, Set<TestCase>> entry : pool.entrySet()) {
+					out.writeGenericClass(entry.getKey());
+					for (TestCase sequence : entry.getValue()) {
+						out.writeTest(sequence);
+					}
+				}
+			} catch (IOException e) {
+				logger.warn("Error while writing pool to file "+fileName+": "+e);
+			}
+			return;
+		}
 		try {
 			ObjectOutputStream out = new DebuggingObjectOutputStream(
 			        new FileOutputStream(fileName));
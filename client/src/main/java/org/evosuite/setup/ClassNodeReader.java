@@ -0,0 +1,193 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.setup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.evosuite.Properties;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.ClassNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the class nodes of many classes, parsing the bytecode with ASM on
+ * several threads.
+ * 
+ * <p>
+ * The class files are read on the calling thread, as the class path caches
+ * are not thread safe, and only the parsing is done concurrently. The nodes
+ * are handed to the consumer on the calling thread and in the order of the
+ * class names, so whatever is built from them, and the random seeds that
+ * depend on it, does not depend on the scheduling of the threads.
+ */
+public class ClassNodeReader {
+
+	private static final Logger logger = LoggerFactory.getLogger(ClassNodeReader.class);
+
+	/**
+	 * Number of classes read before they are parsed, which bounds the number
+	 * of class files held in memory at the same time
+	 */
+	private static final int BATCH_SIZE = 256;
+
+	private final int parsingOptions;
+
+	private final int numThreads;
+
+	/**
+	 * @param parsingOptions
+	 *            the options of {@link ClassReader#accept}
+	 */
+	public ClassNodeReader(int parsingOptions) {
+		this(parsingOptions, Properties.SETUP_THREADS);
+	}
+
+	public ClassNodeReader(int parsingOptions, int numThreads) {
+		this.parsingOptions = parsingOptions;
+		this.numThreads = numThreads;
+	}
+
+	/**
+	 * @param classNames
+	 *            the classes to read
+	 * @param classFiles
+	 *            gives the class file of a class, or null if it cannot be
+	 *            found
+	 * @param consumer
+	 *            called with each class name and its node, in the order of
+	 *            classNames; classes that cannot be found or parsed are left
+	 *            out
+	 */
+	public void read(List<String> classNames, Function<String, InputStream> classFiles,
+	        BiConsumer<String, ClassNode> consumer) {
+		if (numThreads <= 1 || classNames.size() <= 1) {
+			for (String className : classNames) {
+				ClassReader reader = getReader(className, classFiles);
+				if (reader != null) {
+					ClassNode cn = parse(className, reader);
+					if (cn != null)
+						consumer.accept(className, cn);
+				}
+			}
+			return;
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(numThreads, new ReaderThreadFactory());
+		try {
+			for (int start = 0; start < classNames.size(); start += BATCH_SIZE) {
+				List<String> batch = classNames.subList(start, Math.min(classNames.size(), start + BATCH_SIZE));
+				List<Future<ClassNode>> nodes = new ArrayList<>(batch.size());
+				for (final String className : batch) {
+					final ClassReader reader = getReader(className, classFiles);
+					if (reader == null) {
+						nodes.add(null);
+					} else {
+						nodes.add(executor.submit(new Callable<ClassNode>() {
+							@Override
+							public ClassNode call() {
+								ClassNode cn = new ClassNode();
+								reader.accept(cn, parsingOptions);
+								return cn;
+							}
+						}));
+					}
+				}
+
+				for (int i = 0; i < batch.size(); i++) {
+					ClassNode cn = getNode(batch.get(i), nodes.get(i));
+					if (cn != null)
+						consumer.accept(batch.get(i), cn);
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static ClassReader getReader(String className, Function<String, InputStream> classFiles) {
+		InputStream classStream = classFiles.apply(className);
+		if (classStream == null) {
+			logger.info("Could not find class file: " + className);
+			return null;
+		}
+		try {
+			return new ClassReader(classStream);
+		} catch (IOException e) {
+			logger.error("Error while reading class " + className, e);
+			return null;
+		} finally {
+			try {
+				classStream.close(); // ASM does not close the stream
+			} catch (IOException e) {
+				// ignore
+			}
+		}
+	}
+
+	private ClassNode parse(String className, ClassReader reader) {
+		try {
+			ClassNode cn = new ClassNode();
+			reader.accept(cn, parsingOptions);
+			return cn;
+		} catch (RuntimeException e) {
+			logger.error("ASM Error while reading class " + className + " (" + e.getMessage() + ")");
+			return null;
+		}
+	}
+
+	private static ClassNode getNode(String className, Future<ClassNode> node) {
+		if (node == null)
+			return null;
+		try {
+			return node.get();
+		} catch (ExecutionException e) {
+			logger.error("ASM Error while reading class " + className + " (" + e.getCause().getMessage() + ")");
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while reading class " + className, e);
+		}
+	}
+
+	private static class ReaderThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger counter = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread thread = new Thread(r, "EvoSuite class reader " + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -96,11 +96,16 @@ public class DependencyAnalysis {
 		if (ArrayUtil.contains(Properties.CRITERION, Criterion.IBRANCH)
 				|| Properties.INSTRUMENT_CONTEXT) { 
  
+			List<String> projectClasses = new ArrayList<String>();
 			for (String classn : inheritanceTree.getAllClasses()) {
 				if (isTargetProject(classn)) {
-					CallGraphGenerator.analyzeOtherClasses(callGraph, classn);
+					projectClasses.add(classn);
 				}
 			}
+			loadClassNodes(projectClasses);
+			for (String classn : projectClasses) {
+				CallGraphGenerator.analyzeOtherClasses(callGraph, classn);
+			}
 		}
 
 		// TODO: Need to make sure that all classes in calltree are instrumented
@@ -333,6 +338,22 @@ public class DependencyAnalysis {
 
 	}
 
+	/**
+	 * Parse the class nodes of the classes not in the cache yet, on several
+	 * threads. The cache is filled in the order of the class names, and
+	 * classes that cannot be read are left to {@link #getClassNode(String)}.
+	 */
+	private static void loadClassNodes(List<String> classNames) {
+		List<String> missing = new ArrayList<String>();
+		for (String className : classNames) {
+			if (!classCache.containsKey(className))
+				missing.add(className);
+		}
+		final ResourceList resources = ResourceList.getInstance(TestGenerationContext.getInstance().getClassLoaderForSUT());
+		new ClassNodeReader(ClassReader.SKIP_FRAMES).read(missing, resources::getClassAsStream,
+				(className, cn) -> classCache.put(className, cn));
+	}
+
 	public static Collection<ClassNode> getAllClassNodes() {
 		return classCache.values();
 	}
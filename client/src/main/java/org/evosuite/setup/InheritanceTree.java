@@ -209,4 +209,23 @@ public class InheritanceTree {
 		return inheritanceGraph.vertexSet().size();
 	}
 
+	// raw access for InheritanceTreeImage, which stores names as they are
+
+	DirectedMultigraph<String, DefaultEdge> getInheritanceGraph() {
+		return inheritanceGraph;
+	}
+
+	Set<String> getInterfaces() {
+		return interfacesSet;
+	}
+
+	Set<String> getAbstractClasses() {
+		return abstractClassesSet;
+	}
+
+	Map<String, Set<String>> getAnalyzedMethods() {
+		initialiseMap();
+		return analyzedMethods;
+	}
+
 }
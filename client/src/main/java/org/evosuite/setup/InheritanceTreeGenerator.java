@@ -23,6 +23,8 @@
 package org.evosuite.setup;
 
 import java.io.*;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.util.*;
 import java.util.regex.Pattern;
 import java.util.zip.GZIPInputStream;
@@ -59,6 +61,8 @@ public class InheritanceTreeGenerator {
 	private static final String resourceFolder = "client/src/main/resources/";
 	private static final String jdkFile =  "JDK_inheritance.xml";
 	private static final String shadedJdkFile = "JDK_inheritance_shaded.xml";
+	/** The image stores no EvoSuite class names, so shaded builds use it as well */
+	private static final String jdkImageFile =  "JDK_inheritance.bin";
 
 	/**
 	 * Iterate over items in classpath and analyze them
@@ -97,12 +101,13 @@ public class InheritanceTreeGenerator {
 
 			logger.debug("Analyzing classpath entry {}", classPathEntry);
 			LoggingUtils.getEvoLogger().info("  - " + classPathEntry);
-	        for(String className : ResourceList.getInstance(
-					TestGenerationContext.getInstance().getClassLoaderForSUT()).getAllClasses(classPathEntry, "", true, false)) {
-	        	// handle individual class
-				analyzeClassStream(inheritanceTree, ResourceList.getInstance(
-						TestGenerationContext.getInstance().getClassLoaderForSUT()).getClassAsStream(className), false);
-	        }
+			final ResourceList resources = ResourceList.getInstance(
+					TestGenerationContext.getInstance().getClassLoaderForSUT());
+			List<String> classNames = new ArrayList<>(resources.getAllClasses(classPathEntry, "", true, false));
+			// handle individual classes, in the order they are listed
+			final InheritanceTree tree = inheritanceTree;
+			new ClassNodeReader(ClassReader.SKIP_FRAMES | ClassReader.SKIP_DEBUG | ClassReader.SKIP_CODE).read(
+					classNames, resources::getClassAsStream, (className, cn) -> analyzeClassNode(tree, cn, false));
 
 			// analyze(inheritanceTree, classPathEntry);
 		}
@@ -439,9 +444,20 @@ public class InheritanceTreeGenerator {
 		} catch (FileNotFoundException e) {
 			logger.error("", e);
 		}
+
+		// The binary image is what the clients actually read
+		try {
+			InheritanceTreeImage.write(inheritanceTree, new File(resourceFolder+jdkImageFile));
+		} catch (IOException e) {
+			logger.error("", e);
+		}
 	}
 
 	public static InheritanceTree readJDKData() {
+		InheritanceTree image = readJDKImage();
+		if (image != null)
+			return image;
+
 		XStream xstream = new XStream();
 		XStream.setupDefaultSecurity(xstream);
 		xstream.allowTypesByWildcard(new String[] {"org.evosuite.**", "org.jgrapht.**"});
@@ -463,6 +479,33 @@ public class InheritanceTreeGenerator {
         }
 	}
 
+	/**
+	 * Reads the JDK data from its binary image, which is memory-mapped if it
+	 * is not inside a jar
+	 * 
+	 * @return null if there is no image, or it cannot be read
+	 */
+	private static InheritanceTree readJDKImage() {
+		String fileName = "/" + jdkImageFile;
+
+		URL url = InheritanceTreeGenerator.class.getResource(fileName);
+		if (url == null) {
+			logger.debug("Found no JDK inheritance image in the resource path: "+fileName);
+			return null;
+		}
+
+		try {
+			if ("file".equals(url.getProtocol()))
+				return InheritanceTreeImage.read(new File(url.toURI()));
+			try (InputStream stream = url.openStream()) {
+				return InheritanceTreeImage.read(stream);
+			}
+		} catch (IOException | URISyntaxException | RuntimeException e) {
+			logger.warn("Cannot read JDK inheritance image "+fileName+": "+e);
+			return null;
+		}
+	}
+
 	public static InheritanceTree readInheritanceTree(String fileName) throws IOException {
 		XStream xstream = new XStream();
 		XStream.setupDefaultSecurity(xstream);
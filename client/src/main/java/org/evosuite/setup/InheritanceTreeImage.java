@@ -0,0 +1,223 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.setup;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.DirectedMultigraph;
+
+/**
+ * Binary image of an {@link InheritanceTree}, used for the JDK data that
+ * every client loads at startup.
+ * 
+ * <p>
+ * All names (classes and method signatures) are stored once in a string
+ * table, everything else refers to them by index: the classes of the graph,
+ * the edges as pairs of class indices, the interfaces, the abstract classes
+ * and the analyzed methods of each class. Classes and edges keep the order of
+ * the original graph, so that breadth-first traversals give the same results
+ * on the loaded tree. Reading the image does not need any reflection, and a
+ * file is memory-mapped rather than read.
+ */
+final class InheritanceTreeImage {
+
+	private static final int MAGIC = 0x45564954;
+
+	private static final int VERSION = 1;
+
+	private InheritanceTreeImage() {
+	}
+
+	public static void write(InheritanceTree tree, File file) throws IOException {
+		try (OutputStream output = new BufferedOutputStream(new FileOutputStream(file))) {
+			write(tree, output);
+		}
+	}
+
+	public static void write(InheritanceTree tree, OutputStream output) throws IOException {
+		DirectedMultigraph<String, DefaultEdge> graph = tree.getInheritanceGraph();
+		Map<String, Set<String>> analyzedMethods = tree.getAnalyzedMethods();
+
+		StringTable strings = new StringTable();
+		int[] classes = strings.indicesOf(graph.vertexSet());
+		int[] interfaces = strings.indicesOf(tree.getInterfaces());
+		int[] abstractClasses = strings.indicesOf(tree.getAbstractClasses());
+
+		int[] edges = new int[2 * graph.edgeSet().size()];
+		int e = 0;
+		for (DefaultEdge edge : graph.edgeSet()) {
+			edges[e++] = strings.indexOf(graph.getEdgeSource(edge));
+			edges[e++] = strings.indexOf(graph.getEdgeTarget(edge));
+		}
+
+		int[] methodClasses = strings.indicesOf(analyzedMethods.keySet());
+		int[][] methods = new int[methodClasses.length][];
+		int m = 0;
+		for (Set<String> classMethods : analyzedMethods.values()) {
+			methods[m++] = strings.indicesOf(classMethods);
+		}
+
+		DataOutputStream out = new DataOutputStream(output);
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(strings.size());
+		for (byte[] bytes : strings.encoded) {
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+		writeInts(out, classes);
+		writeInts(out, edges);
+		writeInts(out, interfaces);
+		writeInts(out, abstractClasses);
+		writeInts(out, methodClasses);
+		for (int[] classMethods : methods) {
+			writeInts(out, classMethods);
+		}
+		out.flush();
+	}
+
+	/**
+	 * Maps the file into memory and reads the tree from it
+	 */
+	public static InheritanceTree read(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	public static InheritanceTree read(InputStream input) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 20);
+		byte[] buffer = new byte[1 << 16];
+		int read;
+		while ((read = input.read(buffer)) != -1) {
+			bytes.write(buffer, 0, read);
+		}
+		return read(ByteBuffer.wrap(bytes.toByteArray()));
+	}
+
+	public static InheritanceTree read(ByteBuffer buffer) throws IOException {
+		if (buffer.remaining() < 8 || buffer.getInt() != MAGIC)
+			throw new IOException("Not an inheritance tree image");
+		int version = buffer.getInt();
+		if (version != VERSION)
+			throw new IOException("Unsupported inheritance tree image version " + version);
+
+		String[] strings = new String[buffer.getInt()];
+		byte[] bytes = new byte[256];
+		for (int i = 0; i < strings.length; i++) {
+			int length = buffer.getInt();
+			if (length > bytes.length)
+				bytes = new byte[Math.max(length, 2 * bytes.length)];
+			buffer.get(bytes, 0, length);
+			strings[i] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+		}
+
+		InheritanceTree tree = new InheritanceTree();
+		DirectedMultigraph<String, DefaultEdge> graph = tree.getInheritanceGraph();
+		for (int index : readInts(buffer)) {
+			graph.addVertex(strings[index]);
+		}
+		int[] edges = readInts(buffer);
+		for (int e = 0; e < edges.length; e += 2) {
+			graph.addEdge(strings[edges[e]], strings[edges[e + 1]]);
+		}
+		for (int index : readInts(buffer)) {
+			tree.getInterfaces().add(strings[index]);
+		}
+		for (int index : readInts(buffer)) {
+			tree.getAbstractClasses().add(strings[index]);
+		}
+		Map<String, Set<String>> analyzedMethods = tree.getAnalyzedMethods();
+		for (int classIndex : readInts(buffer)) {
+			int[] methods = readInts(buffer);
+			Set<String> classMethods = new LinkedHashSet<>(2 * methods.length);
+			for (int index : methods) {
+				classMethods.add(strings[index]);
+			}
+			analyzedMethods.put(strings[classIndex], classMethods);
+		}
+		return tree;
+	}
+
+	private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+		out.writeInt(values.length);
+		for (int value : values) {
+			out.writeInt(value);
+		}
+	}
+
+	private static int[] readInts(ByteBuffer buffer) {
+		int[] values = new int[buffer.getInt()];
+		buffer.asIntBuffer().get(values);
+		buffer.position(buffer.position() + 4 * values.length);
+		return values;
+	}
+
+	/**
+	 * Strings of the image, numbered in the order they are first used
+	 */
+	private static class StringTable {
+
+		private final Map<String, Integer> indices = new LinkedHashMap<>();
+
+		private final List<byte[]> encoded = new ArrayList<>();
+
+		int indexOf(String string) {
+			Integer index = indices.get(string);
+			if (index == null) {
+				index = encoded.size();
+				indices.put(string, index);
+				encoded.add(string.getBytes(StandardCharsets.UTF_8));
+			}
+			return index;
+		}
+
+		int[] indicesOf(Set<String> strings) {
+			int[] result = new int[strings.size()];
+			int i = 0;
+			for (String string : strings) {
+				result[i++] = indexOf(string);
+			}
+			return result;
+		}
+
+		int size() {
+			return encoded.size();
+		}
+	}
+}
@@ -42,6 +42,7 @@ import org.evosuite.testcase.TestCase;
 import org.evosuite.testcase.jee.InstanceOnlyOnce;
 import org.evosuite.testcase.variable.VariableReference;
 import org.evosuite.utils.ListUtil;
+import org.evosuite.utils.RandomAccessSet;
 import org.evosuite.utils.generic.GenericAccessibleObject;
 import org.evosuite.utils.generic.GenericClass;
 import org.evosuite.utils.generic.GenericConstructor;
@@ -352,7 +353,7 @@ public class TestCluster {
 	 */
 	public void addModifier(GenericClass target, GenericAccessibleObject<?> call) {
 		if (!modifiers.containsKey(target))
-			modifiers.put(target, new LinkedHashSet<>());
+			modifiers.put(target, new RandomAccessSet<>());
 
 		modifiers.get(target).add(call);
 	}
@@ -404,7 +405,7 @@ public class TestCluster {
 
 		logger.debug("1. Caching generators for {}", clazz);
 
-		Set<GenericAccessibleObject<?>> targetGenerators = new LinkedHashSet<>();
+		Set<GenericAccessibleObject<?>> targetGenerators = new RandomAccessSet<>();
 		if (clazz.isObject()) {
 			logger.debug("2. Target class is object: {}", clazz);
 			for (GenericClass generatorClazz : generators.keySet()) {
@@ -529,7 +530,7 @@ public class TestCluster {
 	 */
 	private Set<GenericAccessibleObject<?>> determineGenericModifiersFor(
 	        GenericClass clazz) throws ConstructionFailedException {
-		Set<GenericAccessibleObject<?>> genericModifiers = new LinkedHashSet<GenericAccessibleObject<?>>();
+		Set<GenericAccessibleObject<?>> genericModifiers = new RandomAccessSet<GenericAccessibleObject<?>>();
 		if (clazz.isParameterizedType()) {
 			logger.debug("Is parameterized class");
 			for (Entry<GenericClass, Set<GenericAccessibleObject<?>>> entry : modifiers.entrySet()) {
@@ -704,7 +705,7 @@ public class TestCluster {
 			logger.debug("Got modifiers");
 			all.addAll(modifiers.get(clazz));
 		}
-		Set<GenericAccessibleObject<?>> calls = new LinkedHashSet<GenericAccessibleObject<?>>();
+		Set<GenericAccessibleObject<?>> calls = new RandomAccessSet<GenericAccessibleObject<?>>();
 
 		if (clazz.isAssignableTo(Collection.class)) {
 			for (GenericAccessibleObject<?> call : all) {
@@ -840,7 +841,7 @@ public class TestCluster {
 	private Set<GenericAccessibleObject<?>> getGeneratorsForSpecialCase(GenericClass clazz)
 	        throws ConstructionFailedException {
 		logger.debug("Getting generator for special case: " + clazz);
-		Set<GenericAccessibleObject<?>> calls = new LinkedHashSet<GenericAccessibleObject<?>>();
+		Set<GenericAccessibleObject<?>> calls = new RandomAccessSet<GenericAccessibleObject<?>>();
 
 		if (clazz.isAssignableTo(Collection.class) || clazz.isAssignableTo(Map.class)) {
 			Set<GenericAccessibleObject<?>> all = new LinkedHashSet<>();
@@ -919,7 +920,7 @@ public class TestCluster {
 	 */
 	private void addNumericConstructor(GenericClass clazz) {
 		if (!generatorCache.containsKey(clazz)) {
-			generatorCache.put(clazz, new LinkedHashSet<GenericAccessibleObject<?>>());
+			generatorCache.put(clazz, new RandomAccessSet<GenericAccessibleObject<?>>());
 		}
 		if (!generators.containsKey(clazz)) {
 			generators.put(clazz, new LinkedHashSet<GenericAccessibleObject<?>>());
@@ -976,7 +977,7 @@ public class TestCluster {
 	 */
 	public Set<GenericAccessibleObject<?>> getObjectGenerators() {
 		// TODO: Use probabilities based on distance to SUT
-		Set<GenericAccessibleObject<?>> result = new LinkedHashSet<>();
+		Set<GenericAccessibleObject<?>> result = new RandomAccessSet<>();
 		List<GenericClass> classes = new ArrayList<>(
 		        CastClassManager.getInstance().getCastClasses());
 		for (GenericClass clazz : classes) {
@@ -1072,7 +1073,7 @@ public class TestCluster {
 			}
 		} else {
 			cacheGenerators(clazz);
-			Set<GenericAccessibleObject<?>> candidates = new LinkedHashSet<>(generatorCache.get(clazz));
+			Set<GenericAccessibleObject<?>> candidates = new RandomAccessSet<>(generatorCache.get(clazz));
 			candidates.removeAll(excluded);
 
 			if(Properties.JEE) {
@@ -1119,7 +1120,7 @@ public class TestCluster {
 				 */
 				Set<GenericAccessibleObject<?>> set = candidates.stream()
 						.filter(p -> p.isStatic() || p.isConstructor())
-						.collect(Collectors.toCollection(() -> new LinkedHashSet<GenericAccessibleObject<?>>()));
+						.collect(Collectors.toCollection(() -> new RandomAccessSet<GenericAccessibleObject<?>>()));
 				if(! set.isEmpty()){
 					candidates = set;
 				}
@@ -20,10 +20,9 @@
 package org.evosuite.statistics;
 
 import org.evosuite.statistics.RuntimeVariable;
-import org.evosuite.testsuite.TestSuiteChromosome;
 
 /**
- * Factory to create an output variable when given a test suite chromosome
+ * Factory to create an output variable when given the metrics of a test suite chromosome
  * 
  * @author gordon
  *
@@ -37,9 +36,9 @@ public abstract class ChromosomeOutputVariableFactory<T>  {
 		this.variable = variable;
 	}
 	
-	protected abstract T getData(TestSuiteChromosome individual);
+	protected abstract T getData(MetricsSnapshot individual);
 	
-	public OutputVariable<T> getVariable(TestSuiteChromosome chromosome) {
+	public OutputVariable<T> getVariable(MetricsSnapshot chromosome) {
 		return new OutputVariable<T>(variable.name(), getData(chromosome));
 	}
 
@@ -0,0 +1,140 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.evosuite.ga.FitnessFunction;
+import org.evosuite.testsuite.TestSuiteChromosome;
+
+/**
+ * The values of a test suite that are needed for the statistics, computed on
+ * the client so that the master does not have to receive the whole test
+ * suite for each update of the timelines.
+ */
+public class MetricsSnapshot implements Serializable {
+
+	private static final long serialVersionUID = 4567265391240271398L;
+
+	private final long timeStamp;
+
+	private final double fitness;
+
+	private final double coverage;
+
+	private final int size;
+
+	private final int length;
+
+	private final int numOfNotCoveredGoals;
+
+	private final int fitnessEvaluations;
+
+	/** Fitness value of each fitness function, by its class */
+	private final Map<Class<?>, Double> fitnessValues = new LinkedHashMap<>();
+
+	/** Coverage value of each fitness function, by its class */
+	private final Map<Class<?>, Double> coverageValues = new LinkedHashMap<>();
+
+	/**
+	 * @param individual
+	 * @param fitnessEvaluations
+	 *            number of fitness evaluations so far
+	 */
+	public MetricsSnapshot(TestSuiteChromosome individual, int fitnessEvaluations) {
+		this.timeStamp = System.currentTimeMillis();
+		this.fitness = individual.getFitness();
+		this.coverage = individual.getCoverage();
+		this.size = individual.size();
+		this.length = individual.totalLengthOfTestCases();
+		this.numOfNotCoveredGoals = individual.getNumOfNotCoveredGoals();
+		this.fitnessEvaluations = fitnessEvaluations;
+		for (Map.Entry<FitnessFunction<?>, Double> entry : individual.getFitnessValues().entrySet()) {
+			fitnessValues.putIfAbsent(entry.getKey().getClass(), entry.getValue());
+		}
+		for (Map.Entry<FitnessFunction<?>, Double> entry : individual.getCoverageValues().entrySet()) {
+			coverageValues.putIfAbsent(entry.getKey().getClass(), entry.getValue());
+		}
+	}
+
+	/**
+	 * @return the time (in milliseconds) at which the snapshot was taken
+	 */
+	public long getTimeStamp() {
+		return timeStamp;
+	}
+
+	public double getFitness() {
+		return fitness;
+	}
+
+	public double getCoverage() {
+		return coverage;
+	}
+
+	/**
+	 * @return number of tests
+	 */
+	public int size() {
+		return size;
+	}
+
+	public int totalLengthOfTestCases() {
+		return length;
+	}
+
+	public int getNumOfNotCoveredGoals() {
+		return numOfNotCoveredGoals;
+	}
+
+	public int getFitnessEvaluations() {
+		return fitnessEvaluations;
+	}
+
+	/**
+	 * Same as {@link org.evosuite.ga.Chromosome#getFitnessInstanceOf(Class)}
+	 */
+	public double getFitnessInstanceOf(Class<?> clazz) {
+		return getValueInstanceOf(fitnessValues, clazz);
+	}
+
+	/**
+	 * Same as {@link org.evosuite.ga.Chromosome#getCoverageInstanceOf(Class)}
+	 */
+	public double getCoverageInstanceOf(Class<?> clazz) {
+		return getValueInstanceOf(coverageValues, clazz);
+	}
+
+	private static double getValueInstanceOf(Map<Class<?>, Double> values, Class<?> clazz) {
+		for (Map.Entry<Class<?>, Double> entry : values.entrySet()) {
+			if (clazz.isAssignableFrom(entry.getKey()))
+				return entry.getValue();
+		}
+		return 0.0;
+	}
+
+	@Override
+	public String toString() {
+		return "MetricsSnapshot [timeStamp=" + timeStamp + ", fitness=" + fitness + ", coverage=" + coverage
+		        + ", size=" + size + ", length=" + length + "]";
+	}
+}
@@ -21,14 +21,13 @@ package org.evosuite.statistics;
 
 import org.evosuite.Properties;
 import org.evosuite.TimeController;
-import org.evosuite.testsuite.TestSuiteChromosome;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Creates an output variable that represents a sequence of values extracted from
- * a test suite
+ * the metrics of a test suite
  * 
  * @author gordon
  *
@@ -38,8 +37,11 @@ public abstract class SequenceOutputVariableFactory<T extends Number> {
 
 	protected RuntimeVariable variable;
 	
-	protected List<Long> timeStamps = new ArrayList<Long>();
-	protected List<T> values = new ArrayList<T>();
+	/** Created with the first value, as TIMELINE_INTERVAL is needed */
+	protected Timeline timeline = null;
+
+	/** Type of the values, to return them as they were observed */
+	private Class<?> valueType = null;
 	
 	private long startTime = 0L;
 	
@@ -51,11 +53,18 @@ public abstract class SequenceOutputVariableFactory<T extends Number> {
 		this.startTime = time;
 	}
 	
-	protected abstract T getValue(TestSuiteChromosome individual);
+	protected abstract T getValue(MetricsSnapshot individual);
 	
-	public void update(TestSuiteChromosome individual) {
-		timeStamps.add(System.currentTimeMillis() - startTime);
-		values.add(getValue(individual));
+	public void update(MetricsSnapshot individual) {
+		if (timeline == null) {
+			timeline = new Timeline(Properties.TIMELINE_INTERVAL);
+		}
+		T value = getValue(individual);
+		if (value != null && valueType == null) {
+			valueType = value.getClass();
+		}
+		// the time at which the values were observed on the client, as snapshots are sent in batches
+		timeline.add(individual.getTimeStamp() - startTime, value == null ? Double.NaN : value.doubleValue());
 	}
 	
 	public List<String> getVariableNames() {
@@ -91,25 +100,22 @@ public abstract class SequenceOutputVariableFactory<T extends Number> {
 		 * No data. Is it even possible? Maybe if population is too large,
 		 * and budget was not enough to get even first generation
 		 */
-		if(timeStamps.isEmpty()){
+		if(timeline == null || timeline.isEmpty()){
 			return (T) Integer.valueOf(0); // FIXXME - what else?
 		}
 		
-		for(int i=0; i<timeStamps.size(); i++){
-			/*
-			 * find the first stamp that is after the time we would like to
-			 * get coverage from
-			 */
-			long stamp = timeStamps.get(i);
-			if(stamp < preferredTime){
-				continue;
-			}
+		/*
+		 * find the first stamp that is after the time we would like to
+		 * get coverage from
+		 */
+		int i = timeline.indexOfFirstAtOrAfter(preferredTime);
+		if(i >= 0){
 
 			if(i==0){
 				/*
 				 * it is the first element, so not much to do, we just use it as value
 				 */
-				return values.get(i);
+				return toValue(timeline.getValue(i));
 			}
 
 
@@ -117,22 +123,38 @@ public abstract class SequenceOutputVariableFactory<T extends Number> {
              * If we do not want to interpolate, return last observed value
              */
             if (! Properties.TIMELINE_INTERPOLATION) {
-                return values.get(i-1);
+                return toValue(timeline.getValue(i-1));
             }
 
 			/*
 			 * Now we interpolate the coverage, as usually we don't have the value for exact time we want
 			 */
-			long timeDelta = timeStamps.get(i) - timeStamps.get(i-1);
+			long timeDelta = timeline.getTimeStamp(i) - timeline.getTimeStamp(i-1);
 
 			if(timeDelta > 0 ){
-				double covDelta = values.get(i).doubleValue() - values.get(i-1).doubleValue();
+				double covDelta = timeline.getValue(i) - timeline.getValue(i-1);
 				double ratio = covDelta / timeDelta;
 				
-				long diff = preferredTime - timeStamps.get(i-1);
-				Double cov = values.get(i-1).doubleValue() +  (diff * ratio);
+				long diff = preferredTime - timeline.getTimeStamp(i-1);
+				Double cov = timeline.getValue(i-1) +  (diff * ratio);
 				return (T)cov; // TODO...type
 			}
+
+			/*
+			 * Same time stamp as the previous sample: like before, keep looking for
+			 * a later one, or use the last value seen
+			 */
+			for(int j = i + 1; j < timeline.size(); j++){
+				timeDelta = timeline.getTimeStamp(j) - timeline.getTimeStamp(j-1);
+				if(timeDelta > 0){
+					double covDelta = timeline.getValue(j) - timeline.getValue(j-1);
+					double ratio = covDelta / timeDelta;
+
+					long diff = preferredTime - timeline.getTimeStamp(j-1);
+					Double cov = timeline.getValue(j-1) +  (diff * ratio);
+					return (T)cov; // TODO...type
+				}
+			}
 		}
 		
 		/*
@@ -140,7 +162,32 @@ public abstract class SequenceOutputVariableFactory<T extends Number> {
 		 * So just return last value seen
 		 */
 		
-		return values.get(values.size()-1);
+		return toValue(timeline.getValue(timeline.size()-1));
+	}
+
+	/**
+	 * Box a value of the timeline with the type it was observed with
+	 */
+	@SuppressWarnings("unchecked")
+	private T toValue(double value) {
+		if (valueType == Double.class) {
+			return (T) Double.valueOf(value);
+		}
+		if (Double.isNaN(value)) {
+			return null;
+		}
+		if (valueType == Integer.class) {
+			return (T) Integer.valueOf((int) value);
+		} else if (valueType == Long.class) {
+			return (T) Long.valueOf((long) value);
+		} else if (valueType == Float.class) {
+			return (T) Float.valueOf((float) value);
+		} else if (valueType == Short.class) {
+			return (T) Short.valueOf((short) value);
+		} else if (valueType == Byte.class) {
+			return (T) Byte.valueOf((byte) value);
+		}
+		return (T) Double.valueOf(value);
 	}
 
 	
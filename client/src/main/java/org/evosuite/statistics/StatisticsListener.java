@@ -19,6 +19,8 @@
  */
 package org.evosuite.statistics;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 
@@ -34,14 +36,16 @@ import org.evosuite.runtime.sandbox.Sandbox;
 import org.evosuite.testsuite.TestSuiteChromosome;
 
 /**
- * Client-side listener that transmits data to master
+ * Client-side listener that transmits data to master.
+ * Only the metrics of the individuals are sent, the final test suite
+ * is sent separately once the generation is done.
  * 
  * @author gordon
  *
  */
 public class StatisticsListener implements SearchListener {
 
-	private volatile BlockingQueue<Chromosome> individuals = new LinkedBlockingQueue<Chromosome>();
+	private volatile BlockingQueue<MetricsSnapshot> snapshots = new LinkedBlockingQueue<MetricsSnapshot>();
 	
 	private volatile boolean done = false;
 	
@@ -63,12 +67,14 @@ public class StatisticsListener implements SearchListener {
 			@Override
 			public void run() {
 				// Wait for new element in queue
-				// If there is a new element, then send it to master through RMI
-				while(!done || !individuals.isEmpty()) {
-					Chromosome individual;
+				// If there is a new element, then send it to master through RMI,
+				// together with all the elements added while the previous ones were sent
+				while(!done || !snapshots.isEmpty()) {
+					List<MetricsSnapshot> batch = new ArrayList<MetricsSnapshot>();
 					try {
-						individual = individuals.take();
-						StatisticsSender.sendIndividualToMaster(individual);
+						batch.add(snapshots.take());
+						snapshots.drainTo(batch);
+						StatisticsSender.sendMetricsToMaster(batch);
 					} catch (InterruptedException e) {
 						done = true;
 					}
@@ -93,7 +99,7 @@ public class StatisticsListener implements SearchListener {
 			 */
 			timeFromLastGenerationUpdate = System.currentTimeMillis();
 			// Enqueue current best individual
-			individuals.offer(algorithm.getBestIndividual());
+			offer(algorithm.getBestIndividual());
             // send timeline variable directly
             ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.TotalExceptionsTimeline, ExceptionCoverageSuiteFitness.getMaxExceptionsCovered());
 		}	
@@ -103,8 +109,8 @@ public class StatisticsListener implements SearchListener {
 	public void searchFinished(GeneticAlgorithm<?> algorithm) {
 		
 		// If the search is finished, we may want to clear the queue and just send the final element?
-		//individuals.clear(); // TODO: Maybe have a check on size
-		individuals.offer(algorithm.getBestIndividual());
+		//snapshots.clear(); // TODO: Maybe have a check on size
+		offer(algorithm.getBestIndividual());
 		ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Statements_Executed, MaxStatementsStoppingCondition.getNumExecutedStatements());
 		ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Tests_Executed, MaxTestsStoppingCondition.getNumExecutedTests());
 		ClientServices.getInstance().getClientNode().trackOutputVariable(RuntimeVariable.Generations, algorithm.getAge());
@@ -151,17 +157,29 @@ public class StatisticsListener implements SearchListener {
 			if(fitness < bestFitness) {
 				bestFitness = fitness;
 
-				individuals.offer(individual);
+				offer(individual);
 			}
 		} else {
 			if(fitness > bestFitness) {
 				bestFitness = fitness;
 
-				individuals.offer(individual);				
+				offer(individual);
 			}
 		}
 	}
 
+	/**
+	 * The metrics are computed right away, as the individual
+	 * might be changed before it would be sent
+	 * 
+	 * @param individual
+	 */
+	private void offer(Chromosome individual) {
+		if(individual instanceof TestSuiteChromosome) {
+			snapshots.offer(new MetricsSnapshot((TestSuiteChromosome) individual, numFitnessEvaluations));
+		}
+	}
+
 	@Override
 	public void modification(Chromosome individual) {
 		// Nothing to do
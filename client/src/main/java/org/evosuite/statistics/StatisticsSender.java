@@ -70,6 +70,23 @@ public class StatisticsSender {
 	}
 
 
+	/**
+	 * Send the metrics of individuals observed during the search to the Master,
+	 * with a single call
+	 * 
+	 * @param snapshots
+	 */
+	public static void sendMetricsToMaster(List<MetricsSnapshot> snapshots) throws IllegalArgumentException{
+		if(snapshots == null || snapshots.isEmpty()){
+			throw new IllegalArgumentException("No metrics to send");
+		}
+		if(!Properties.NEW_STATISTICS)
+			return;
+
+		ClientServices.getInstance().getClientNode().updateMetrics(snapshots);
+	}
+
+
 	/**
 	 * First execute (if needed) the test cases to be sure to have latest correct data,
 	 * and then send it to Master
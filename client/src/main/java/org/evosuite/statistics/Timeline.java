@@ -0,0 +1,121 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics;
+
+import java.util.Arrays;
+
+/**
+ * Samples of a timeline, kept in primitive arrays.
+ *
+ * <p>
+ * Timeline values are only ever looked up at multiples of an interval: the
+ * first sample at or after such a time, and the one just before it. So, of
+ * the samples within one interval, only the first and the last one are kept,
+ * and the lookups give the same result as if all samples were kept. The
+ * memory used by a timeline thus grows with the duration of the search
+ * divided by the interval, and not with the number of samples.
+ * </p>
+ */
+class Timeline {
+
+	private final long interval;
+
+	private long[] timeStamps = new long[16];
+
+	private double[] values = new double[16];
+
+	private int size = 0;
+
+	/**
+	 * @param interval
+	 *            the interval (in milliseconds) at whose multiples the
+	 *            timeline is looked up
+	 */
+	public Timeline(long interval) {
+		this.interval = interval;
+	}
+
+	/**
+	 * @param timeStamp
+	 *            in milliseconds since the start of the search
+	 * @param value
+	 */
+	public void add(long timeStamp, double value) {
+		if (size >= 2 && timeStamps[size - 1] <= timeStamp && getInterval(timeStamps[size - 2]) == getInterval(timeStamp)
+		        && getInterval(timeStamps[size - 1]) == getInterval(timeStamp)) {
+			// the last sample is not the last one within its interval any more
+			timeStamps[size - 1] = timeStamp;
+			values[size - 1] = value;
+			return;
+		}
+
+		if (size == timeStamps.length) {
+			timeStamps = Arrays.copyOf(timeStamps, size * 2);
+			values = Arrays.copyOf(values, size * 2);
+		}
+		timeStamps[size] = timeStamp;
+		values[size] = value;
+		size++;
+	}
+
+	private long getInterval(long timeStamp) {
+		return interval > 0 ? Math.floorDiv(timeStamp, interval) : timeStamp;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public long getTimeStamp(int index) {
+		checkIndex(index);
+		return timeStamps[index];
+	}
+
+	public double getValue(int index) {
+		checkIndex(index);
+		return values[index];
+	}
+
+	/**
+	 * @param time
+	 * @return the index of the first sample taken at or after the given time,
+	 *         or -1 if there is none
+	 */
+	public int indexOfFirstAtOrAfter(long time) {
+		// time stamps are sorted unless the clock went backwards, in which
+		// case the linear search gives the same answer as before
+		for (int i = 0; i < size; i++) {
+			if (timeStamps[i] >= time) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+}
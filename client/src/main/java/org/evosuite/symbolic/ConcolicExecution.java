@@ -31,6 +31,7 @@ import org.evosuite.symbolic.expr.ExpressionEvaluator;
 import org.evosuite.symbolic.instrument.ConcolicInstrumentingClassLoader;
 import org.evosuite.symbolic.vm.ArithmeticVM;
 import org.evosuite.symbolic.vm.CallVM;
+import org.evosuite.symbolic.vm.ExpressionFactory;
 import org.evosuite.symbolic.vm.HeapVM;
 import org.evosuite.symbolic.vm.JumpVM;
 import org.evosuite.symbolic.vm.LocalsVM;
@@ -107,6 +108,7 @@ public abstract class ConcolicExecution {
 		listeners.add(new SymbolicFunctionVM(env, pc));
 		VM.getInstance().setListeners(listeners);
 		VM.getInstance().prepareConcolicExecution();
+		ExpressionFactory.clearInternedExpressions();
 
 		defaultTestCase.getChangedClassLoader();
 		defaultTestCase.changeClassLoader(classLoader);
@@ -136,6 +138,7 @@ public abstract class ConcolicExecution {
 		} finally {
 			logger.debug("Cleaning concolic execution");
 			TestCaseExecutor.getInstance().setExecutionObservers(originalExecutionObservers);
+			ExpressionFactory.clearInternedExpressions();
 		}
 		VM.disableCallBacks(); // ignore all callbacks from now on
 
@@ -19,6 +19,7 @@
  */
 package org.evosuite.symbolic.expr;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -74,6 +75,46 @@ public abstract class AbstractExpression<T> implements Expression<T> {
 		return concreteValue;
 	}
 
+	/*
+	 * Expressions are immutable, and they are shared by all the expressions
+	 * built on top of them: caching what is computed recursively avoids
+	 * traversing the same subexpressions again and again
+	 */
+
+	private transient int hash = 0;
+
+	private transient Set<Variable<?>> variables = null;
+
+	@Override
+	public final int hashCode() {
+		if (hash == 0) {
+			hash = computeHashCode();
+		}
+		return hash;
+	}
+
+	/**
+	 * Computes the hash code, which has to be consistent with
+	 * {@link #equals(Object)}. By default expressions are only equal to
+	 * themselves.
+	 */
+	protected int computeHashCode() {
+		return System.identityHashCode(this);
+	}
+
+	/**
+	 * @return the variables of this expression, which must not be modified
+	 */
+	@Override
+	public final Set<Variable<?>> getVariables() {
+		if (variables == null) {
+			variables = Collections.unmodifiableSet(computeVariables());
+		}
+		return variables;
+	}
+
+	protected abstract Set<Variable<?>> computeVariables();
+
 	@Override
 	public Set<Object> getConstants() {
 		Set<Object> result = new HashSet<Object>();
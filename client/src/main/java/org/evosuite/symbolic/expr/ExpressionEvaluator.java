@@ -18,6 +18,8 @@ package org.evosuite.symbolic.expr;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.StringTokenizer;
 
 import org.apache.oro.text.regex.MalformedPatternException;
@@ -73,10 +75,34 @@ public class ExpressionEvaluator implements ExpressionVisitor<Object, Void> {
   private static final long FALSE_VALUE = 0L;
   protected static final Logger log = LoggerFactory.getLogger(ExpressionEvaluator.class);
 
+  /**
+   * Values of the subexpressions evaluated by this evaluator. Subexpressions
+   * are shared, e.g. by all the constraints of a path condition, so each one
+   * is evaluated only once. The variables must not change while an evaluator
+   * is in use.
+   */
+  private final Map<Expression<?>, Object> values = new IdentityHashMap<>();
+
+  private Object evaluate(Expression<?> expr) {
+    if (expr.getSize() == 1) {
+      // constants and variables are cheaper to evaluate than to look up
+      return expr.accept(this, null);
+    }
+    Object value = values.get(expr);
+    if (value == null) {
+      value = expr.accept(this, null);
+      // tokenizers are consumed by the expressions using them
+      if (value != null && !(value instanceof StringTokenizer)) {
+        values.put(expr, value);
+      }
+    }
+    return value;
+  }
+
   @Override
   public Object visit(IntegerBinaryExpression n, Void arg) {
-    Long leftLong = (Long) n.getLeftOperand().accept(this, null);
-    Long rightLong = (Long) n.getRightOperand().accept(this, null);
+    Long leftLong = (Long) evaluate(n.getLeftOperand());
+    Long rightLong = (Long) evaluate(n.getRightOperand());
 
     long leftVal = leftLong.longValue();
     long rightVal = rightLong.longValue();
@@ -135,7 +161,7 @@ public class ExpressionEvaluator implements ExpressionVisitor<Object, Void> {
   @Override
   public Object visit(IntegerUnaryExpression n, Void arg) {
 
-    Long longObject = (Long) n.getOperand().accept(this, null);
+    Long longObject = (Long) evaluate(n.getOperand());
 
     long leftVal = longObject.longValue();
 
@@ -172,13 +198,13 @@ public class ExpressionEvaluator implements ExpressionVisitor<Object, Void> {
 
   @Override
   public Object visit(RealToIntegerCast n, Void arg) {
-    Double doubleObject = (Double) n.getArgument().accept(this, null);
+    Double doubleObject = (Double) evaluate(n.getArgument());
     return doubleObject.longValue();
   }
 
   @Override
   public Object visit(RealUnaryToIntegerExpression n, Void arg) {
-    Double doubleObject = (Double) n.getOperand().accept(this, null);
+    Double doubleObject = (Double) evaluate(n.getOperand());
     double leftVal = doubleObject.doubleValue();
 
     Operator op = n.getOperator();
@@ -197,8 +223,8 @@ public class ExpressionEvaluator implements ExpressionVisitor<Object, Void> {
 
   @Override
   public Object visit(StringBinaryComparison n, Void arg) {
-    String first = (String) n.getLeftOperand().accept(this, null);
-    String second = (String) n.getRightOperand().accept(this, null);
+    String first = (String) evaluate(n.getLeftOperand());
+    String second = (String) evaluate(n.getRightOperand());
 
     Operator op = n.getOperator();
     switch (op) {
@@ -235,8 +261,8 @@ public class ExpressionEvaluator implements ExpressionVisitor<Object, Void> {
 
   @Override
   public Object visit(StringBinaryToIntegerExpression n, Void arg) {
-    String first = (String) n.getLeftOperand().accept(this, null);
-    Object second = (Object) n.getRightOperand().accept(this, null);
+    String first = (String) evaluate(n.getLeftOperand());
+    Object second = (Object) evaluate(n.getRightOperand());
 
     Operator op = n.getOperator();
     switch (op) {
@@ -280,22 +306,22 @@ public class ExpressionEvaluator implements ExpressionVisitor<Object, Void> {
 
   @Override
   public Object visit(StringMultipleComparison n, Void arg) {
-    String first = (String) n.getLeftOperand().accept(this, null);
-    String second = (String) n.getRightOperand().accept(this, null);
+    String first = (String) evaluate(n.getLeftOperand());
+    String second = (String) evaluate(n.getRightOperand());
     ArrayList<Expression<?>> other_v = n.getOther();
 
     Operator op = n.getOperator();
     switch (op) {
       case STARTSWITH:
-        long start = (Long) other_v.get(0).accept(this, null);
+        long start = (Long) evaluate(other_v.get(0));
 
         return first.startsWith(second, (int) start) ? TRUE_VALUE : FALSE_VALUE;
 
       case REGIONMATCHES:
-        long frstStart = (Long) other_v.get(0).accept(this, null);
-        long secStart = (Long) other_v.get(1).accept(this, null);
-        long length = (Long) other_v.get(2).accept(this, null);
-        long ignoreCase = (Long) other_v.get(3).accept(this, null);
+        long frstStart = (Long) evaluate(other_v.get(0));
+        long secStart = (Long) evaluate(other_v.get(1));
+        long length = (Long) evaluate(other_v.get(2));
+        long ignoreCase = (Long) evaluate(other_v.get(3));
 
         return first.regionMatches(ignoreCase != 0, (int) frstStart, second, (int) secStart,
             (int) length) ? TRUE_VALUE : FALSE_VALUE;
@@ -307,8 +333,8 @@ public class ExpressionEvaluator implements ExpressionVisitor<Object, Void> {
 
   @Override
   public Object visit(StringMultipleToIntegerExpression n, Void arg) {
-    String first = (String) n.getLeftOperand().accept(this, null);
-    Object second = (Object) n.getRightOperand().accept(this, null);
+    String first = (String) evaluate(n.getLeftOperand());
+    Object second = (Object) evaluate(n.getRightOperand());
     ArrayList<Expression<?>> other_v = n.getOther();
 
     long secLong, thrdLong;
@@ -320,19 +346,19 @@ public class ExpressionEvaluator implements ExpressionVisitor<Object, Void> {
       // returns int
       case INDEXOFCI:
         secLong = (Long) second;
-        thrdLong = (Long) other_v.get(0).accept(this, null);
+        thrdLong = (Long) evaluate(other_v.get(0));
         return (long) first.indexOf((int) secLong, (int) thrdLong);
       case INDEXOFSI:
         secStr = (String) second;
-        thrdLong = (Long) other_v.get(0).accept(this, null);
+        thrdLong = (Long) evaluate(other_v.get(0));
         return (long) first.indexOf(secStr, (int) thrdLong);
       case LASTINDEXOFCI:
         secLong = (Long) second;
-        thrdLong = (Long) other_v.get(0).accept(this, null);
+        thrdLong = (Long) evaluate(other_v.get(0));
         return (long) first.lastIndexOf((int) secLong, (int) thrdLong);
       case LASTINDEXOFSI:
         secStr = (String) second;
-        thrdLong = (Long) other_v.get(0).accept(this, null);
+        thrdLong = (Long) evaluate(other_v.get(0));
         return (long) first.lastIndexOf(secStr, (int) thrdLong);
 
       default:
@@ -343,14 +369,14 @@ public class ExpressionEvaluator implements ExpressionVisitor<Object, Void> {
 
   @Override
   public Object visit(StringToIntegerCast n, Void arg) {
-    String str = (String) n.getArgument().accept(this, null);
+    String str = (String) evaluate(n.getArgument());
     return Long.parseLong(str);
 
   }
 
   @Override
   public Object visit(StringUnaryToIntegerExpression n, Void arg) {
-    String exOn = (String) n.getOperand().accept(this, null);
+    String exOn = (String) evaluate(n.getOperand());
 
     Operator op = n.getOperator();
     switch (op) {
@@ -375,15 +401,15 @@ public class ExpressionEvaluator implements ExpressionVisitor<Object, Void> {
 
   @Override
   public Object visit(IntegerToRealCast n, Void arg) {
-    Long exprVal = (Long) n.getArgument().accept(this, null);
+    Long exprVal = (Long) evaluate(n.getArgument());
     return exprVal.doubleValue();
   }
 
   @Override
   public Object visit(RealBinaryExpression n, Void arg) {
 
-    Double leftDouble = (Double) n.getLeftOperand().accept(this, null);
-    Double rightDouble = (Double) n.getRightOperand().accept(this, null);
+    Double leftDouble = (Double) evaluate(n.getLeftOperand());
+    Double rightDouble = (Double) evaluate(n.getRightOperand());
 
     double leftVal = leftDouble.doubleValue();
     double rightVal = rightDouble.doubleValue();
@@ -434,7 +460,7 @@ public class ExpressionEvaluator implements ExpressionVisitor<Object, Void> {
 
   @Override
   public Object visit(RealUnaryExpression n, Void arg) {
-    Double doubleObject = (Double) n.getOperand().accept(this, null);
+    Double doubleObject = (Double) evaluate(n.getOperand());
     double doubleVal = doubleObject.doubleValue();
 
     Operator op = n.getOperator();
@@ -508,7 +534,7 @@ public class ExpressionEvaluator implements ExpressionVisitor<Object, Void> {
   @Override
   public Object visit(StringReaderExpr n, Void arg) {
 
-    String conc_string = (String) n.getString().accept(this, null);
+    String conc_string = (String) evaluate(n.getString());
     if (n.getReaderPosition() >= conc_string.length()) {
       return -TRUE_VALUE;
     } else {
@@ -518,20 +544,20 @@ public class ExpressionEvaluator implements ExpressionVisitor<Object, Void> {
 
   @Override
   public Object visit(IntegerToStringCast n, Void arg) {
-    Long exprVal = (Long) n.getArgument().accept(this, null);
+    Long exprVal = (Long) evaluate(n.getArgument());
     return Long.toString(exprVal);
   }
 
   @Override
   public Object visit(RealToStringCast n, Void arg) {
-    Double doubleObject = (Double) n.getArgument().accept(this, null);
+    Double doubleObject = (Double) evaluate(n.getArgument());
     return Double.toString(doubleObject);
   }
 
   @Override
   public Object visit(StringBinaryExpression n, Void arg) {
-    String first = (String) n.getLeftOperand().accept(this, null);
-    Object second = (Object) n.getRightOperand().accept(this, null);
+    String first = (String) evaluate(n.getLeftOperand());
+    Object second = (Object) evaluate(n.getRightOperand());
 
     Operator op = n.getOperator();
     switch (op) {
@@ -578,8 +604,8 @@ public class ExpressionEvaluator implements ExpressionVisitor<Object, Void> {
 
   @Override
   public Object visit(StringMultipleExpression n, Void arg) {
-    String first = (String) n.getLeftOperand().accept(this, null);
-    Object right = (Object) n.getRightOperand().accept(this, null);
+    String first = (String) evaluate(n.getLeftOperand());
+    Object right = (Object) evaluate(n.getRightOperand());
     ArrayList<Expression<?>> other_v = n.getOther();
     long secLong, thrdLong;
     String secStr, thrdStr;
@@ -590,24 +616,24 @@ public class ExpressionEvaluator implements ExpressionVisitor<Object, Void> {
       // returns string
       case SUBSTRING: {
         secLong = (Long) right;
-        thrdLong = (Long) other_v.get(0).accept(this, null);
+        thrdLong = (Long) evaluate(other_v.get(0));
         return first.substring((int) secLong, (int) thrdLong);
       }
       case REPLACEC:
         secLong = (Long) right;
-        thrdLong = (Long) other_v.get(0).accept(this, null);
+        thrdLong = (Long) evaluate(other_v.get(0));
         return first.replace((char) secLong, (char) thrdLong);
       case REPLACECS:
         secStr = (String) right;
-        thrdStr = (String) other_v.get(0).accept(this, null);
+        thrdStr = (String) evaluate(other_v.get(0));
         return first.replace(secStr, thrdStr);
       case REPLACEALL:
         secStr = (String) right;
-        thrdStr = (String) other_v.get(0).accept(this, null);
+        thrdStr = (String) evaluate(other_v.get(0));
         return first.replaceAll(secStr, thrdStr);
       case REPLACEFIRST:
         secStr = (String) right;
-        thrdStr = (String) other_v.get(0).accept(this, null);
+        thrdStr = (String) evaluate(other_v.get(0));
         return first.replaceFirst(secStr, thrdStr);
       default:
         log.warn("StringMultipleExpression: unimplemented operator: " + op);
@@ -618,7 +644,7 @@ public class ExpressionEvaluator implements ExpressionVisitor<Object, Void> {
 
   @Override
   public Object visit(StringUnaryExpression n, Void arg) {
-    String exOn = (String) n.getOperand().accept(this, null);
+    String exOn = (String) evaluate(n.getOperand());
 
     Operator op = n.getOperator();
     switch (op) {
@@ -643,28 +669,28 @@ public class ExpressionEvaluator implements ExpressionVisitor<Object, Void> {
 
   @Override
   public Object visit(HasMoreTokensExpr n, Void arg) {
-    StringTokenizer tokenizer = (StringTokenizer) n.getTokenizerExpr().accept(this, null);
+    StringTokenizer tokenizer = (StringTokenizer) evaluate(n.getTokenizerExpr());
     return tokenizer.hasMoreTokens() ? TRUE_VALUE : FALSE_VALUE;
   }
 
   @Override
   public Object visit(NewTokenizerExpr n, Void arg) {
-    String stringVal = (String) n.getString().accept(this, null);
-    String delimVal = (String) n.getDelimiter().accept(this, null);
+    String stringVal = (String) evaluate(n.getString());
+    String delimVal = (String) evaluate(n.getDelimiter());
     StringTokenizer tokenizer = new StringTokenizer(stringVal, delimVal);
     return tokenizer;
   }
 
   @Override
   public Object visit(NextTokenizerExpr n, Void arg) {
-    StringTokenizer tokenizer = (StringTokenizer) n.getTokenizerExpr().accept(this, null);
+    StringTokenizer tokenizer = (StringTokenizer) evaluate(n.getTokenizerExpr());
     tokenizer.nextToken();
     return tokenizer;
   }
 
   @Override
   public Object visit(StringNextTokenExpr n, Void arg) {
-    StringTokenizer tokenizer = (StringTokenizer) n.getTokenizerExpr().accept(this, null);
+    StringTokenizer tokenizer = (StringTokenizer) evaluate(n.getTokenizerExpr());
     return tokenizer.nextToken();
   }
 
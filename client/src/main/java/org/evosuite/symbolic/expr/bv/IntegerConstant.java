@@ -60,12 +60,12 @@ public final class IntegerConstant extends AbstractExpression<Long> implements
 	}
 
 	@Override
-	public int hashCode() {
+	protected int computeHashCode() {
 		return getConcreteValue().hashCode();
 	}
 
 	@Override
-	public Set<Variable<?>> getVariables() {
+	protected Set<Variable<?>> computeVariables() {
 		Set<Variable<?>> variables = new HashSet<Variable<?>>();
 		return variables;
 	}
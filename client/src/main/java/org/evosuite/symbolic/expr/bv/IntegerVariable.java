@@ -106,12 +106,12 @@ public final class IntegerVariable extends AbstractExpression<Long> implements
 
 	/** {@inheritDoc} */
 	@Override
-	public int hashCode() {
+	protected int computeHashCode() {
 		return name.hashCode();
 	}
 
 	@Override
-	public Set<Variable<?>> getVariables() {
+	protected Set<Variable<?>> computeVariables() {
 		Set<Variable<?>> variables = new HashSet<Variable<?>>();
 		variables.add(this);
 		return variables;
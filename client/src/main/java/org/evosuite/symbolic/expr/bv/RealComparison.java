@@ -80,7 +80,7 @@ public final class RealComparison extends AbstractExpression<Long> implements
 	}
 
 	@Override
-	public int hashCode() {
+	protected int computeHashCode() {
 		return this.left.hashCode() + this.right.hashCode();
 	}
 
@@ -113,7 +113,7 @@ public final class RealComparison extends AbstractExpression<Long> implements
 	}
 
 	@Override
-	public Set<Variable<?>> getVariables() {
+	protected Set<Variable<?>> computeVariables() {
 		Set<Variable<?>> variables = new HashSet<Variable<?>>();
 		variables.addAll(this.left.getVariables());
 		variables.addAll(this.right.getVariables());
@@ -98,7 +98,7 @@ public final class RealUnaryToIntegerExpression extends AbstractExpression<Long>
 	}
 
 	@Override
-	public Set<Variable<?>> getVariables() {
+	protected Set<Variable<?>> computeVariables() {
 		Set<Variable<?>> variables = new HashSet<Variable<?>>();
 		variables.addAll(this.expr.getVariables());
 		return variables;
@@ -110,7 +110,7 @@ public final class RealUnaryToIntegerExpression extends AbstractExpression<Long>
 	}
 
 	@Override
-	public int hashCode() {
+	protected int computeHashCode() {
 		return this.op.hashCode() + this.getSize() + this.expr.hashCode();
 	}
 
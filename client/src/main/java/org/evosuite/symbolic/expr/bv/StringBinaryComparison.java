@@ -98,7 +98,7 @@ public final class StringBinaryComparison extends AbstractExpression<Long> imple
 	}
 
 	@Override
-	public int hashCode() {
+	protected int computeHashCode() {
 		return this.left.hashCode() + this.op.hashCode() + this.right.hashCode();
 	}
 
@@ -142,7 +142,7 @@ public final class StringBinaryComparison extends AbstractExpression<Long> imple
 	}
 
 	@Override
-	public Set<Variable<?>> getVariables() {
+	protected Set<Variable<?>> computeVariables() {
 		Set<Variable<?>> variables = new HashSet<Variable<?>>();
 		variables.addAll(this.left.getVariables());
 		variables.addAll(this.right.getVariables());
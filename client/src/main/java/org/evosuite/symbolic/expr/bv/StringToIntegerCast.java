@@ -94,7 +94,7 @@ public final class StringToIntegerCast extends AbstractExpression<Long> implemen
 	}
 
 	@Override
-	public int hashCode() {
+	protected int computeHashCode() {
 		return this.expr.hashCode();
 	}
 
@@ -103,7 +103,7 @@ public final class StringToIntegerCast extends AbstractExpression<Long> implemen
 	}
 
 	@Override
-	public Set<Variable<?>> getVariables() {
+	protected Set<Variable<?>> computeVariables() {
 		Set<Variable<?>> variables = new HashSet<Variable<?>>();
 		variables.addAll(this.expr.getVariables());
 		return variables;
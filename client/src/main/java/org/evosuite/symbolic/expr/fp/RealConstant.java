@@ -58,12 +58,12 @@ public final class RealConstant extends AbstractExpression<Double> implements Re
 	}
 
 	@Override
-	public int hashCode() {
+	protected int computeHashCode() {
 		return this.concreteValue.hashCode();
 	}
 
 	@Override
-	public Set<Variable<?>> getVariables() {
+	protected Set<Variable<?>> computeVariables() {
 		Set<Variable<?>> variables = new HashSet<Variable<?>>();
 		return variables;
 	}
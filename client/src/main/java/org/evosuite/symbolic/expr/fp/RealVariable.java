@@ -103,12 +103,12 @@ public final class RealVariable extends AbstractExpression<Double> implements Re
 
 	/** {@inheritDoc} */
 	@Override
-	public int hashCode() {
+	protected int computeHashCode() {
 		return this.name.hashCode();
 	}
 
 	@Override
-	public Set<Variable<?>> getVariables() {
+	protected Set<Variable<?>> computeVariables() {
 		Set<Variable<?>> variables = new HashSet<Variable<?>>();
 		variables.add(this);
 		return variables;
@@ -58,7 +58,7 @@ public final class StringReaderExpr extends AbstractExpression<Long> implements
 	}
 
 	@Override
-	public Set<Variable<?>> getVariables() {
+	protected Set<Variable<?>> computeVariables() {
 		Set<Variable<?>> variables = new HashSet<Variable<?>>();
 		variables.addAll(this.string.getVariables());
 		return variables;
@@ -81,7 +81,7 @@ public final class StringReaderExpr extends AbstractExpression<Long> implements
 	}
 
 	@Override
-	public int hashCode() {
+	protected int computeHashCode() {
 		return string.hashCode() + readerPosition;
 	}
 
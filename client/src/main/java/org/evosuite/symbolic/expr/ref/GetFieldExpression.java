@@ -64,7 +64,7 @@ public final class GetFieldExpression extends ReferenceExpression {
 	 * @return
 	 */
 	@Override
-	public Set<Variable<?>> getVariables() {
+	protected Set<Variable<?>> computeVariables() {
 		return this.receiverExpr.getVariables();
 	}
 
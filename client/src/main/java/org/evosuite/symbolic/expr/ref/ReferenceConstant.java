@@ -48,7 +48,7 @@ public final class ReferenceConstant extends ReferenceExpression {
 	}
 
 	@Override
-	public Set<Variable<?>> getVariables() {
+	protected Set<Variable<?>> computeVariables() {
 		return Collections.emptySet();
 	}
 
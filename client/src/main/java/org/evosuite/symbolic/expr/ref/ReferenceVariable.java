@@ -68,7 +68,7 @@ public final class ReferenceVariable extends ReferenceExpression implements Vari
 	 * @return
 	 */
 	@Override
-	public Set<Variable<?>> getVariables() {
+	protected Set<Variable<?>> computeVariables() {
 		return Collections.singleton(this);
 	}
 
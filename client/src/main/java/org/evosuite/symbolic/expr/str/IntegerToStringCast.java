@@ -73,7 +73,7 @@ public final class IntegerToStringCast extends AbstractExpression<String> implem
 	}
 
 	@Override
-	public int hashCode() {
+	protected int computeHashCode() {
 		return expr.hashCode();
 	}
 
@@ -84,7 +84,7 @@ public final class IntegerToStringCast extends AbstractExpression<String> implem
 	}
 
 	@Override
-	public Set<Variable<?>> getVariables() {
+	protected Set<Variable<?>> computeVariables() {
 		Set<Variable<?>> variables = new HashSet<Variable<?>>();
 		variables.addAll(this.expr.getVariables());
 		return variables;
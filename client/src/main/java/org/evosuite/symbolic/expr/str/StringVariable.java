@@ -129,12 +129,12 @@ public final class StringVariable extends AbstractExpression<String>
 
   /** {@inheritDoc} */
   @Override
-  public int hashCode() {
+  protected int computeHashCode() {
     return name.hashCode();
   }
 
   @Override
-  public Set<Variable<?>> getVariables() {
+  protected Set<Variable<?>> computeVariables() {
     Set<Variable<?>> variables = new HashSet<Variable<?>>();
     variables.add(this);
     return variables;
@@ -78,7 +78,7 @@ public final class HasMoreTokensExpr extends AbstractExpression<Long> implements
 	}
 
 	@Override
-	public int hashCode() {
+	protected int computeHashCode() {
 		return this.tokenizerExpr.hashCode();
 	}
 
@@ -89,7 +89,7 @@ public final class HasMoreTokensExpr extends AbstractExpression<Long> implements
 	}
 
 	@Override
-	public Set<Variable<?>> getVariables() {
+	protected Set<Variable<?>> computeVariables() {
 		Set<Variable<?>> variables = new HashSet<Variable<?>>();
 		variables.addAll(this.tokenizerExpr.getVariables());
 		return variables;
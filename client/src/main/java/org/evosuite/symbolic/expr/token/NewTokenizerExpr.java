@@ -49,7 +49,7 @@ public final class NewTokenizerExpr extends TokenizerExpr {
 	}
 
 	@Override
-	public Set<Variable<?>> getVariables() {
+	protected Set<Variable<?>> computeVariables() {
 		Set<Variable<?>> variables = new HashSet<Variable<?>>();
 		variables.addAll(this.string.getVariables());
 		variables.addAll(this.delim.getVariables());
@@ -72,7 +72,7 @@ public final class NewTokenizerExpr extends TokenizerExpr {
 	}
 
 	@Override
-	public int hashCode() {
+	protected int computeHashCode() {
 		return string.hashCode() + delim.hashCode();
 	}
 
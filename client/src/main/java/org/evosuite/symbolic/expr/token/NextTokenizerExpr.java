@@ -45,7 +45,7 @@ public final class NextTokenizerExpr extends TokenizerExpr {
 	private static final long serialVersionUID = -5041244020293557448L;
 
 	@Override
-	public Set<Variable<?>> getVariables() {
+	protected Set<Variable<?>> computeVariables() {
 		return tokenizerExpr.getVariables();
 	}
 
@@ -65,7 +65,7 @@ public final class NextTokenizerExpr extends TokenizerExpr {
 	}
 
 	@Override
-	public int hashCode() {
+	protected int computeHashCode() {
 		return tokenizerExpr.hashCode();
 	}
 
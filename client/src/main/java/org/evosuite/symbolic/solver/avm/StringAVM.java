@@ -59,7 +59,6 @@ final class StringAVM extends VariableAVM {
 	 */
 	public boolean applyAVM() throws SolverTimeoutException {
 
-		ExpressionEvaluator exprExecutor = new ExpressionEvaluator();
 		// try to remove each
 		log.debug("Trying to remove characters");
 		boolean improvement = false;
@@ -154,6 +153,8 @@ final class StringAVM extends VariableAVM {
 			}
 
 			improved = true;
+			// the string variable has changed, so a new evaluator is needed
+			ExpressionEvaluator exprExecutor = new ExpressionEvaluator();
 			String delimiterStr = (String) delimiter.accept(exprExecutor, null);
 			while (improved) {
 
@@ -422,8 +422,8 @@ public final class ArithmeticVM extends AbstractVM {
 
 		int con = left_concrete_value - right_concrete_value;
 
-		IntegerValue intExpr = new IntegerBinaryExpression(left,
-				Operator.MINUS, right, (long) con);
+		IntegerValue intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(left,
+				Operator.MINUS, right, (long) con));
 
 		env.topFrame().operandStack.pushBv32(intExpr);
 
@@ -454,8 +454,8 @@ public final class ArithmeticVM extends AbstractVM {
 
 		long con = left_concrete_value - right_concrete_value;
 
-		IntegerValue intExpr = new IntegerBinaryExpression(left,
-				Operator.MINUS, right, (long) con);
+		IntegerValue intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(left,
+				Operator.MINUS, right, (long) con));
 
 		env.topFrame().operandStack.pushBv64(intExpr);
 	}
@@ -483,8 +483,8 @@ public final class ArithmeticVM extends AbstractVM {
 
 		float con = left_concrete_value - right_concrete_value;
 
-		RealValue realExpr = new RealBinaryExpression(left, Operator.MINUS,
-				right, (double) con);
+		RealValue realExpr = ExpressionFactory.intern(new RealBinaryExpression(left, Operator.MINUS,
+				right, (double) con));
 
 		env.topFrame().operandStack.pushFp32(realExpr);
 	}
@@ -509,8 +509,8 @@ public final class ArithmeticVM extends AbstractVM {
 
 		double con = left_concrete_value - right_concrete_value;
 
-		RealValue realExpr = new RealBinaryExpression(left, Operator.MINUS,
-				right, con);
+		RealValue realExpr = ExpressionFactory.intern(new RealBinaryExpression(left, Operator.MINUS,
+				right, con));
 
 		env.topFrame().operandStack.pushFp64(realExpr);
 	}
@@ -848,8 +848,8 @@ public final class ArithmeticVM extends AbstractVM {
 
 		int con = -param_concrete_value;
 
-		IntegerValue intExpr = new IntegerUnaryExpression(param, Operator.NEG,
-				(long) con);
+		IntegerValue intExpr = ExpressionFactory.intern(new IntegerUnaryExpression(param, Operator.NEG,
+				(long) con));
 
 		env.topFrame().operandStack.pushBv32(intExpr);
 
@@ -873,8 +873,8 @@ public final class ArithmeticVM extends AbstractVM {
 
 		long con = -param_concrete_value;
 
-		IntegerValue intExpr = new IntegerUnaryExpression(param, Operator.NEG,
-				(long) con);
+		IntegerValue intExpr = ExpressionFactory.intern(new IntegerUnaryExpression(param, Operator.NEG,
+				(long) con));
 
 		env.topFrame().operandStack.pushBv64(intExpr);
 	}
@@ -892,8 +892,8 @@ public final class ArithmeticVM extends AbstractVM {
 		}
 		float con = -param_concrete_value;
 
-		RealValue realExpr = new RealUnaryExpression(param, Operator.NEG,
-				(double) con);
+		RealValue realExpr = ExpressionFactory.intern(new RealUnaryExpression(param, Operator.NEG,
+				(double) con));
 
 		env.topFrame().operandStack.pushFp32(realExpr);
 	}
@@ -911,7 +911,7 @@ public final class ArithmeticVM extends AbstractVM {
 		}
 		double con = -param_concrete_value;
 
-		RealValue realExpr = new RealUnaryExpression(param, Operator.NEG, con);
+		RealValue realExpr = ExpressionFactory.intern(new RealUnaryExpression(param, Operator.NEG, con));
 
 		env.topFrame().operandStack.pushFp64(realExpr);
 	}
@@ -937,8 +937,8 @@ public final class ArithmeticVM extends AbstractVM {
 
 		int concrete_value = left_concrete_value << (right_concrete_value & 0x001F);
 
-		IntegerBinaryExpression intExpr = new IntegerBinaryExpression(
-				left_expr, Operator.SHL, right_expr, (long) concrete_value);
+		IntegerBinaryExpression intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(
+				left_expr, Operator.SHL, right_expr, (long) concrete_value));
 
 		env.topFrame().operandStack.pushBv32(intExpr);
 	}
@@ -964,8 +964,8 @@ public final class ArithmeticVM extends AbstractVM {
 
 		int concrete_value = left_concrete_value >> (right_concrete_value & 0x001F);
 
-		IntegerBinaryExpression intExpr = new IntegerBinaryExpression(
-				left_expr, Operator.SHR, right_expr, (long) concrete_value);
+		IntegerBinaryExpression intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(
+				left_expr, Operator.SHR, right_expr, (long) concrete_value));
 
 		env.topFrame().operandStack.pushBv32(intExpr);
 	}
@@ -992,8 +992,8 @@ public final class ArithmeticVM extends AbstractVM {
 
 		int concrete_value = left_concrete_value >>> (right_concrete_value & 0x001F);
 
-		IntegerBinaryExpression intExpr = new IntegerBinaryExpression(
-				left_expr, Operator.USHR, right_expr, (long) concrete_value);
+		IntegerBinaryExpression intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(
+				left_expr, Operator.USHR, right_expr, (long) concrete_value));
 
 		env.topFrame().operandStack.pushBv32(intExpr);
 	}
@@ -1021,8 +1021,8 @@ public final class ArithmeticVM extends AbstractVM {
 
 		long concrete_value = left_concrete_value >>> (right_concrete_value & 0x001F);
 
-		IntegerBinaryExpression intExpr = new IntegerBinaryExpression(
-				left_expr, Operator.USHR, right_expr, (long) concrete_value);
+		IntegerBinaryExpression intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(
+				left_expr, Operator.USHR, right_expr, (long) concrete_value));
 
 		env.topFrame().operandStack.pushBv64(intExpr);
 	}
@@ -1049,8 +1049,8 @@ public final class ArithmeticVM extends AbstractVM {
 
 		long concrete_value = left_concrete_value >> (right_concrete_value & 0x001F);
 
-		IntegerBinaryExpression intExpr = new IntegerBinaryExpression(
-				left_expr, Operator.SHL, right_expr, (long) concrete_value);
+		IntegerBinaryExpression intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(
+				left_expr, Operator.SHL, right_expr, (long) concrete_value));
 
 		env.topFrame().operandStack.pushBv64(intExpr);
 	}
@@ -1076,8 +1076,8 @@ public final class ArithmeticVM extends AbstractVM {
 
 		long concrete_value = left_concrete_value << (right_concrete_value & 0x001F);
 
-		IntegerBinaryExpression intExpr = new IntegerBinaryExpression(
-				left_expr, Operator.SHL, right_expr, (long) concrete_value);
+		IntegerBinaryExpression intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(
+				left_expr, Operator.SHL, right_expr, (long) concrete_value));
 
 		env.topFrame().operandStack.pushBv64(intExpr);
 	}
@@ -1107,8 +1107,8 @@ public final class ArithmeticVM extends AbstractVM {
 
 		int con = left_concrete_value & right_concrete_value;
 
-		IntegerValue intExpr = new IntegerBinaryExpression(left, Operator.IAND,
-				right, (long) con);
+		IntegerValue intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(left, Operator.IAND,
+				right, (long) con));
 
 		env.topFrame().operandStack.pushBv32(intExpr);
 
@@ -1139,8 +1139,8 @@ public final class ArithmeticVM extends AbstractVM {
 
 		int con = left_concrete_value | right_concrete_value;
 
-		IntegerValue intExpr = new IntegerBinaryExpression(left, Operator.IOR,
-				right, (long) con);
+		IntegerValue intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(left, Operator.IOR,
+				right, (long) con));
 
 		env.topFrame().operandStack.pushBv32(intExpr);
 
@@ -1171,8 +1171,8 @@ public final class ArithmeticVM extends AbstractVM {
 
 		int con = left_concrete_value ^ right_concrete_value;
 
-		IntegerValue intExpr = new IntegerBinaryExpression(left, Operator.IXOR,
-				right, (long) con);
+		IntegerValue intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(left, Operator.IXOR,
+				right, (long) con));
 
 		env.topFrame().operandStack.pushBv32(intExpr);
 
@@ -1203,8 +1203,8 @@ public final class ArithmeticVM extends AbstractVM {
 
 		long con = left_concrete_value & right_concrete_value;
 
-		IntegerValue intExpr = new IntegerBinaryExpression(left, Operator.IAND,
-				right, (long) con);
+		IntegerValue intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(left, Operator.IAND,
+				right, (long) con));
 
 		env.topFrame().operandStack.pushBv64(intExpr);
 	}
@@ -1234,8 +1234,8 @@ public final class ArithmeticVM extends AbstractVM {
 
 		long con = left_concrete_value | right_concrete_value;
 
-		IntegerValue intExpr = new IntegerBinaryExpression(left, Operator.IOR,
-				right, (long) con);
+		IntegerValue intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(left, Operator.IOR,
+				right, (long) con));
 
 		env.topFrame().operandStack.pushBv64(intExpr);
 	}
@@ -1265,8 +1265,8 @@ public final class ArithmeticVM extends AbstractVM {
 
 		long con = left_concrete_value ^ right_concrete_value;
 
-		IntegerValue intExpr = new IntegerBinaryExpression(left, Operator.IXOR,
-				right, (long) con);
+		IntegerValue intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(left, Operator.IXOR,
+				right, (long) con));
 
 		env.topFrame().operandStack.pushBv64(intExpr);
 	}
@@ -1335,8 +1335,8 @@ public final class ArithmeticVM extends AbstractVM {
 			concrete_value = -1;
 		}
 
-		IntegerComparison intComp = new IntegerComparison(left, right,
-				(long) concrete_value);
+		IntegerComparison intComp = ExpressionFactory.intern(new IntegerComparison(left, right,
+				(long) concrete_value));
 
 		env.topFrame().operandStack.pushBv32(intComp);
 	}
@@ -1376,8 +1376,8 @@ public final class ArithmeticVM extends AbstractVM {
 			concrete_value = -1;
 		}
 
-		RealComparison ret = new RealComparison(left, right,
-				(long) concrete_value);
+		RealComparison ret = ExpressionFactory.intern(new RealComparison(left, right,
+				(long) concrete_value));
 
 		env.topFrame().operandStack.pushBv32(ret);
 	}
@@ -1424,8 +1424,8 @@ public final class ArithmeticVM extends AbstractVM {
 			concrete_value = -1;
 		}
 
-		RealComparison ret = new RealComparison(left, right,
-				(long) concrete_value);
+		RealComparison ret = ExpressionFactory.intern(new RealComparison(left, right,
+				(long) concrete_value));
 
 		env.topFrame().operandStack.pushBv32(ret);
 	}
@@ -1466,8 +1466,8 @@ public final class ArithmeticVM extends AbstractVM {
 		if (!integerExpr.containsSymbolicVariable()) {
 			realExpr = ExpressionFactory.buildNewRealConstant(concreteValue);
 		} else {
-			realExpr = new IntegerToRealCast(integerExpr,
-					(double) concreteValue);
+			realExpr = ExpressionFactory.intern(new IntegerToRealCast(integerExpr,
+					(double) concreteValue));
 		}
 		env.topFrame().operandStack.pushFp32(realExpr);
 	}
@@ -1485,8 +1485,8 @@ public final class ArithmeticVM extends AbstractVM {
 		if (!integerExpr.containsSymbolicVariable()) {
 			realExpr = ExpressionFactory.buildNewRealConstant(concreteValue);
 		} else {
-			realExpr = new IntegerToRealCast(integerExpr,
-					(double) concreteValue);
+			realExpr = ExpressionFactory.intern(new IntegerToRealCast(integerExpr,
+					(double) concreteValue));
 		}
 		env.topFrame().operandStack.pushFp64(realExpr);
 	}
@@ -1506,8 +1506,8 @@ public final class ArithmeticVM extends AbstractVM {
 		if (!integerExpr.containsSymbolicVariable()) {
 			realExpr = ExpressionFactory.buildNewRealConstant(concreteValue);
 		} else {
-			realExpr = new IntegerToRealCast(integerExpr,
-					(double) concreteValue);
+			realExpr = ExpressionFactory.intern(new IntegerToRealCast(integerExpr,
+					(double) concreteValue));
 		}
 		env.topFrame().operandStack.pushFp32(realExpr);
 	}
@@ -1521,8 +1521,8 @@ public final class ArithmeticVM extends AbstractVM {
 		if (!integerExpr.containsSymbolicVariable()) {
 			realExpr = ExpressionFactory.buildNewRealConstant(concreteValue);
 		} else {
-			realExpr = new IntegerToRealCast(integerExpr,
-					(double) concreteValue);
+			realExpr = ExpressionFactory.intern(new IntegerToRealCast(integerExpr,
+					(double) concreteValue));
 		}
 		env.topFrame().operandStack.pushFp64(realExpr);
 	}
@@ -1536,7 +1536,7 @@ public final class ArithmeticVM extends AbstractVM {
 		if (!realExpr.containsSymbolicVariable()) {
 			intExpr = ExpressionFactory.buildNewIntegerConstant(concreteValue);
 		} else {
-			intExpr = new RealToIntegerCast(realExpr, (long) concreteValue);
+			intExpr = ExpressionFactory.intern(new RealToIntegerCast(realExpr, (long) concreteValue));
 		}
 		env.topFrame().operandStack.pushBv32(intExpr);
 	}
@@ -1550,7 +1550,7 @@ public final class ArithmeticVM extends AbstractVM {
 		if (!realExpr.containsSymbolicVariable()) {
 			intExpr = ExpressionFactory.buildNewIntegerConstant(concreteValue);
 		} else {
-			intExpr = new RealToIntegerCast(realExpr, concreteValue);
+			intExpr = ExpressionFactory.intern(new RealToIntegerCast(realExpr, concreteValue));
 		}
 		env.topFrame().operandStack.pushBv64(intExpr);
 	}
@@ -1571,7 +1571,7 @@ public final class ArithmeticVM extends AbstractVM {
 		if (!realExpr.containsSymbolicVariable()) {
 			intExpr = ExpressionFactory.buildNewIntegerConstant(concreteValue);
 		} else {
-			intExpr = new RealToIntegerCast(realExpr, (long) concreteValue);
+			intExpr = ExpressionFactory.intern(new RealToIntegerCast(realExpr, (long) concreteValue));
 		}
 		env.topFrame().operandStack.pushBv32(intExpr);
 	}
@@ -1586,7 +1586,7 @@ public final class ArithmeticVM extends AbstractVM {
 		if (!realExpr.containsSymbolicVariable()) {
 			intExpr = ExpressionFactory.buildNewIntegerConstant(concreteValue);
 		} else {
-			intExpr = new RealToIntegerCast(realExpr, concreteValue);
+			intExpr = ExpressionFactory.intern(new RealToIntegerCast(realExpr, concreteValue));
 		}
 		env.topFrame().operandStack.pushBv64(intExpr);
 	}
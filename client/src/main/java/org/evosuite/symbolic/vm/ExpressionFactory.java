@@ -19,6 +19,11 @@
  */
 package org.evosuite.symbolic.vm;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.evosuite.symbolic.expr.Expression;
 import org.evosuite.symbolic.expr.Operator;
 import org.evosuite.symbolic.expr.bv.IntegerBinaryExpression;
 import org.evosuite.symbolic.expr.bv.IntegerConstant;
@@ -51,6 +56,43 @@ public abstract class ExpressionFactory {
 	public static final IntegerConstant ICONST_0 = new IntegerConstant(0);
 	public static final IntegerConstant ICONST_M1 = new IntegerConstant(-1);
 
+	/**
+	 * Expressions built during the current concolic execution. Structurally
+	 * equal expressions are represented by the same object (hash consing), so
+	 * that path conditions store common subexpressions only once, and
+	 * comparisons of equal expressions stop at the identity check.
+	 */
+	private static final Map<Expression<?>, Expression<?>> expressions = new HashMap<Expression<?>, Expression<?>>();
+
+	/**
+	 * Returns the expression of the current concolic execution that is equal
+	 * to the given one, or the given one if there is none yet
+	 * 
+	 * @param expr
+	 *            a new expression
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public static synchronized <E extends Expression<?>> E intern(E expr) {
+		Expression<?> existing = expressions.putIfAbsent(expr, expr);
+		if (existing == null) {
+			return expr;
+		}
+		// equality of expressions does not consider the concrete values
+		if (existing.getClass() == expr.getClass()
+				&& Objects.equals(existing.getConcreteValue(), expr.getConcreteValue())) {
+			return (E) existing;
+		}
+		return expr;
+	}
+
+	/**
+	 * Forget the expressions of the last concolic execution
+	 */
+	public static synchronized void clearInternedExpressions() {
+		expressions.clear();
+	}
+
 	public static IntegerConstant buildNewIntegerConstant(int value) {
 		return buildNewIntegerConstant((long) value);
 	}
@@ -109,7 +151,7 @@ public abstract class ExpressionFactory {
 
 		// can only optimize if left is a literal
 		if (!(left instanceof IntegerConstant))
-			return new IntegerBinaryExpression(left, Operator.PLUS, right, con);
+			return intern(new IntegerBinaryExpression(left, Operator.PLUS, right, con));
 
 		/*
 		 * (add 0 x) --> x
@@ -139,12 +181,12 @@ public abstract class ExpressionFactory {
 
 				IntegerConstant a_plus_b = buildNewIntegerConstant(a + b);
 
-				return new IntegerBinaryExpression(a_plus_b, Operator.PLUS,
-						add.getRightOperand(), con);
+				return intern(new IntegerBinaryExpression(a_plus_b, Operator.PLUS,
+						add.getRightOperand(), con));
 			}
 		}
 
-		return new IntegerBinaryExpression(left, Operator.PLUS, right, con);
+		return intern(new IntegerBinaryExpression(left, Operator.PLUS, right, con));
 	}
 
 	public static RealValue add(RealValue left, RealValue right, double con) {
@@ -160,7 +202,7 @@ public abstract class ExpressionFactory {
 			RealValue left, double con) {
 		// can only optimize if left is a literal
 		if (!(left instanceof RealConstant))
-			return new RealBinaryExpression(left, Operator.PLUS, right, con);
+			return intern(new RealBinaryExpression(left, Operator.PLUS, right, con));
 
 		/*
 		 * (add 0 x) --> x
@@ -190,12 +232,12 @@ public abstract class ExpressionFactory {
 
 				RealConstant a_plus_b = buildNewRealConstant(a + b);
 
-				return new RealBinaryExpression(a_plus_b, Operator.PLUS,
-						add.getRightOperand(), con);
+				return intern(new RealBinaryExpression(a_plus_b, Operator.PLUS,
+						add.getRightOperand(), con));
 			}
 		}
 
-		return new RealBinaryExpression(left, Operator.PLUS, right, con);
+		return intern(new RealBinaryExpression(left, Operator.PLUS, right, con));
 
 	}
 
@@ -236,8 +278,8 @@ public abstract class ExpressionFactory {
 
 		}
 
-		return new IntegerBinaryExpression(left, Operator.MUL, right,
-				(long) con);
+		return intern(new IntegerBinaryExpression(left, Operator.MUL, right,
+				(long) con));
 	}
 
 	public static RealValue mul(RealValue left, RealValue right, double con) {
@@ -275,7 +317,7 @@ public abstract class ExpressionFactory {
 
 		}
 
-		return new RealBinaryExpression(left, Operator.MUL, right, (double) con);
+		return intern(new RealBinaryExpression(left, Operator.MUL, right, (double) con));
 	}
 
 	public static RealValue div(RealValue left, RealValue right, double con) {
@@ -286,7 +328,7 @@ public abstract class ExpressionFactory {
 		if (left instanceof RealConstant && left.getConcreteValue() == 0)
 			return buildNewRealConstant(0);
 
-		return new RealBinaryExpression(left, Operator.DIV, right, con);
+		return intern(new RealBinaryExpression(left, Operator.DIV, right, con));
 	}
 
 	public static IntegerValue div(IntegerValue left, IntegerValue right,
@@ -298,7 +340,7 @@ public abstract class ExpressionFactory {
 		if (left instanceof IntegerConstant && left.getConcreteValue() == 0)
 			return buildNewIntegerConstant(0);
 
-		return new IntegerBinaryExpression(left, Operator.DIV, right, con);
+		return intern(new IntegerBinaryExpression(left, Operator.DIV, right, con));
 	}
 
 	public static RealValue rem(RealValue left, RealValue right, double con) {
@@ -309,7 +351,7 @@ public abstract class ExpressionFactory {
 		if (left instanceof RealConstant && left.getConcreteValue() == 0)
 			return buildNewRealConstant(0);
 
-		return new RealBinaryExpression(left, Operator.REM, right, con);
+		return intern(new RealBinaryExpression(left, Operator.REM, right, con));
 	}
 
 	public static IntegerValue rem(IntegerValue left, IntegerValue right,
@@ -321,7 +363,7 @@ public abstract class ExpressionFactory {
 		if (left instanceof IntegerConstant && left.getConcreteValue() == 0)
 			return buildNewIntegerConstant(0);
 
-		return new IntegerBinaryExpression(left, Operator.REM, right, con);
+		return intern(new IntegerBinaryExpression(left, Operator.REM, right, con));
 	}
 
 	public static ReferenceConstant buildNewNullExpression() {
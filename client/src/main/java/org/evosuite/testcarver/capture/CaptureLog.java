@@ -119,21 +119,22 @@ public final class CaptureLog implements Cloneable {
 	 * Would be better to have a single list, with object
 	 * containing the different fields
 	 */
-	private final List<Integer> oids;
-	private final List<Integer> oidInitRecNo;
-	private final List<String> oidClassNames;
-	private final List<Integer> oidFirstInits;
-	private final List<Integer> oidDependencies;
+	// package-private so that the tables can be written and read by CaptureLogWriter and CaptureLogReader
+	final List<Integer> oids;
+	final List<Integer> oidInitRecNo;
+	final List<String> oidClassNames;
+	final List<Integer> oidFirstInits;
+	final List<Integer> oidDependencies;
 
 	/**
 	 * captureId -> field name
 	 */
-	private final Map<Integer, String> oidNamesOfAccessedFields;
+	final Map<Integer, String> oidNamesOfAccessedFields;
 
 	/**
 	 * oid -> index ==> oidInitReco.get(index) + oidClassNames.get(index)
 	 */
-	private final Map<Integer, Integer> oidRecMapping;
+	final Map<Integer, Integer> oidRecMapping;
 
 	private final XStream xstream;
 
@@ -141,19 +142,19 @@ public final class CaptureLog implements Cloneable {
 	 * Main constructor
 	 */
 	public CaptureLog() {
-		this.objectIds = new ArrayList<Integer>();
+		this.objectIds = new ChunkedIntList();
 		this.methodNames = new ArrayList<String>();
 		this.params = new ArrayList<Object[]>();
-		this.captureIds = new ArrayList<Integer>();
+		this.captureIds = new ChunkedIntList();
 		this.returnValues = new ArrayList<Object>();
 		this.descList = new ArrayList<String>();
 
 		this.oidRecMapping = new LinkedHashMap<Integer, Integer>();
-		this.oidInitRecNo = new ArrayList<Integer>();
+		this.oidInitRecNo = new ChunkedIntList();
 		this.oidClassNames = new ArrayList<String>();
-		this.oids = new ArrayList<Integer>();
-		this.oidFirstInits = new ArrayList<Integer>();
-		this.oidDependencies = new ArrayList<Integer>();
+		this.oids = new ChunkedIntList();
+		this.oidFirstInits = new ChunkedIntList();
+		this.oidDependencies = new ChunkedIntList();
 
 		this.isStaticCallList = new ArrayList<Boolean>();
 
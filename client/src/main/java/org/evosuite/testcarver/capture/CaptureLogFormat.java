@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcarver.capture;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+
+/**
+ * Constants of the compact binary format for capture logs, written by
+ * {@link CaptureLogWriter} and read by {@link CaptureLogReader}.
+ *
+ * <p>
+ * A file starts with {@link #MAGIC} and {@link #VERSION}, followed by one
+ * record per log, and ends with {@link #RECORD_END}. Each log record starts
+ * with the names of the classes of the objects in the log and the length of
+ * its body, so that a reader only interested in some classes can skip the
+ * other logs without decoding them. Method names, descriptors and class
+ * names are interned within the body of a log.
+ * </p>
+ */
+public class CaptureLogFormat {
+
+	/** "EVOC" */
+	public static final int MAGIC = 0x45564F43;
+
+	/** Has to be increased whenever the encoding changes */
+	public static final int VERSION = 1;
+
+	// Record tags
+	static final byte RECORD_END = 0;
+	static final byte RECORD_LOG = 1;
+
+	// Flags of a log entry
+	static final int FLAG_STATIC = 1;
+	static final int FLAG_RETURNS_OID = 2;
+
+	// Value tags
+	static final byte VALUE_NULL = 0;
+	static final byte VALUE_BOOLEAN = 1;
+	static final byte VALUE_BYTE = 2;
+	static final byte VALUE_SHORT = 3;
+	static final byte VALUE_CHAR = 4;
+	static final byte VALUE_INT = 5;
+	static final byte VALUE_LONG = 6;
+	static final byte VALUE_FLOAT = 7;
+	static final byte VALUE_DOUBLE = 8;
+	static final byte VALUE_STRING = 9;
+	static final byte VALUE_CLASS = 10;
+
+	private CaptureLogFormat() {
+	}
+
+	/**
+	 * Check whether the given stream starts with the binary capture log
+	 * format. The stream is not consumed.
+	 *
+	 * @param in
+	 *            a stream supporting mark/reset
+	 * @return
+	 * @throws IOException
+	 */
+	public static boolean isBinaryFormat(BufferedInputStream in) throws IOException {
+		in.mark(4);
+		int magic = 0;
+		for (int i = 0; i < 4; i++) {
+			int b = in.read();
+			if (b < 0) {
+				in.reset();
+				return false;
+			}
+			magic = (magic << 8) | b;
+		}
+		in.reset();
+		return magic == MAGIC;
+	}
+}
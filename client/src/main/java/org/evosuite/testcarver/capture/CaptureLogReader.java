@@ -0,0 +1,264 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcarver.capture;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * Reads capture logs written by {@link CaptureLogWriter}, one log at a time.
+ * Logs that do not contain any object of the classes a caller is interested
+ * in can be skipped without being decoded.
+ */
+public class CaptureLogReader implements Closeable {
+
+	private final DataInputStream in;
+
+	private final ClassLoader loader;
+
+	private final List<String> strings = new ArrayList<>();
+
+	private final List<String> classNames = new ArrayList<>();
+
+	private int bodyLength;
+
+	private byte nextRecord;
+
+	/**
+	 * @param in
+	 * @param loader
+	 *            the class loader used to resolve classes captured as values
+	 * @throws IOException
+	 *             if the stream is not in the binary capture log format, or
+	 *             its version is not supported
+	 */
+	public CaptureLogReader(InputStream in, ClassLoader loader) throws IOException {
+		this.in = new DataInputStream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in));
+		this.loader = loader;
+		if (this.in.readInt() != CaptureLogFormat.MAGIC) {
+			throw new IOException("Not a binary capture log");
+		}
+		int version = readVarInt();
+		if (version != CaptureLogFormat.VERSION) {
+			throw new IOException("Unsupported capture log format version: " + version);
+		}
+		readHeader();
+	}
+
+	private void readHeader() throws IOException {
+		nextRecord = in.readByte();
+		classNames.clear();
+		if (nextRecord != CaptureLogFormat.RECORD_LOG) {
+			return;
+		}
+		int numClasses = readVarInt();
+		for (int i = 0; i < numClasses; i++) {
+			classNames.add(readRawString());
+		}
+		bodyLength = readVarInt();
+	}
+
+	public boolean hasNext() {
+		return nextRecord == CaptureLogFormat.RECORD_LOG;
+	}
+
+	/**
+	 * @return the names of the classes of the objects in the next log, which
+	 *         are known without reading the log
+	 */
+	public List<String> getClassNamesOfNext() {
+		return new ArrayList<>(classNames);
+	}
+
+	/**
+	 * Skip logs that do not contain any object of the given classes
+	 *
+	 * @param observedClassNames
+	 * @return true if there is a log containing one of the classes
+	 * @throws IOException
+	 */
+	public boolean skipTo(Collection<String> observedClassNames) throws IOException {
+		while (hasNext()) {
+			for (String className : classNames) {
+				if (observedClassNames.contains(className)) {
+					return true;
+				}
+			}
+			skip();
+		}
+		return false;
+	}
+
+	/**
+	 * Skip the next log without decoding it
+	 *
+	 * @throws IOException
+	 */
+	public void skip() throws IOException {
+		checkHasNext();
+		int remaining = bodyLength;
+		while (remaining > 0) {
+			int skipped = in.skipBytes(remaining);
+			if (skipped <= 0) {
+				throw new EOFException();
+			}
+			remaining -= skipped;
+		}
+		readHeader();
+	}
+
+	/**
+	 * Read the next log
+	 *
+	 * @return
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 *             if a class captured as value is not available
+	 */
+	public CaptureLog read() throws IOException, ClassNotFoundException {
+		checkHasNext();
+		strings.clear();
+		CaptureLog log = new CaptureLog();
+
+		int numRecords = readVarInt();
+		for (int i = 0; i < numRecords; i++) {
+			log.objectIds.add(in.readInt());
+			log.captureIds.add(readVarInt());
+			log.methodNames.add(readString());
+			log.descList.add(readString());
+
+			int flags = in.readByte();
+			log.isStaticCallList.add((flags & CaptureLogFormat.FLAG_STATIC) != 0);
+			if ((flags & CaptureLogFormat.FLAG_RETURNS_OID) != 0) {
+				log.returnValues.add(in.readInt());
+			} else {
+				log.returnValues.add(CaptureLog.RETURN_TYPE_VOID);
+			}
+
+			int numParams = readVarInt();
+			Object[] params = numParams == 0 ? CaptureLog.NO_ARGS : new Object[numParams];
+			for (int j = 0; j < numParams; j++) {
+				params[j] = readValue();
+			}
+			log.params.add(params);
+		}
+
+		int numOids = readVarInt();
+		for (int i = 0; i < numOids; i++) {
+			int oid = in.readInt();
+			log.oidRecMapping.put(oid, i);
+			log.oids.add(oid);
+			int zigZag = readVarInt();
+			log.oidInitRecNo.add((zigZag >>> 1) ^ -(zigZag & 1));
+			log.oidClassNames.add(readString());
+			log.oidFirstInits.add(readVarInt());
+			log.oidDependencies.add(in.readInt());
+		}
+
+		int numFields = readVarInt();
+		for (int i = 0; i < numFields; i++) {
+			int captureId = readVarInt();
+			log.oidNamesOfAccessedFields.put(captureId, readString());
+		}
+
+		readHeader();
+		return log;
+	}
+
+	private Object readValue() throws IOException, ClassNotFoundException {
+		byte tag = in.readByte();
+		switch (tag) {
+		case CaptureLogFormat.VALUE_NULL:
+			return null;
+		case CaptureLogFormat.VALUE_INT:
+			return in.readInt();
+		case CaptureLogFormat.VALUE_STRING:
+			return readRawString();
+		case CaptureLogFormat.VALUE_BOOLEAN:
+			return in.readBoolean();
+		case CaptureLogFormat.VALUE_BYTE:
+			return in.readByte();
+		case CaptureLogFormat.VALUE_SHORT:
+			return in.readShort();
+		case CaptureLogFormat.VALUE_CHAR:
+			return in.readChar();
+		case CaptureLogFormat.VALUE_LONG:
+			return in.readLong();
+		case CaptureLogFormat.VALUE_FLOAT:
+			return in.readFloat();
+		case CaptureLogFormat.VALUE_DOUBLE:
+			return in.readDouble();
+		case CaptureLogFormat.VALUE_CLASS:
+			return ClassUtils.getClass(loader, readString(), false);
+		default:
+			throw new IOException("Unknown value tag: " + tag);
+		}
+	}
+
+	private void checkHasNext() {
+		if (!hasNext()) {
+			throw new IllegalStateException("There are no more logs");
+		}
+	}
+
+	private String readString() throws IOException {
+		int index = readVarInt();
+		if (index > 0) {
+			return strings.get(index - 1);
+		}
+		String s = readRawString();
+		strings.add(s);
+		return s;
+	}
+
+	private String readRawString() throws IOException {
+		byte[] bytes = new byte[readVarInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private int readVarInt() throws IOException {
+		int shift = 0;
+		int value = 0;
+		while (true) {
+			int b = in.readByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+			shift += 7;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+}
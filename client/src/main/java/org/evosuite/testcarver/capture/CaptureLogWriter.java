@@ -0,0 +1,214 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcarver.capture;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes capture logs in the format described in {@link CaptureLogFormat}.
+ * Logs are written one at a time, so a stream can be written while further
+ * logs are still captured.
+ */
+public class CaptureLogWriter implements Closeable {
+
+	private final DataOutputStream out;
+
+	/** The body of the log currently written, as its length is written first */
+	private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+	private final DataOutputStream bodyOut = new DataOutputStream(body);
+
+	/** Interned strings of the current log, by index (starting with 1) */
+	private final Map<String, Integer> strings = new HashMap<>();
+
+	private boolean closed = false;
+
+	public CaptureLogWriter(OutputStream out) throws IOException {
+		this.out = new DataOutputStream(out instanceof BufferedOutputStream ? out : new BufferedOutputStream(out));
+		this.out.writeInt(CaptureLogFormat.MAGIC);
+		writeVarInt(this.out, CaptureLogFormat.VERSION);
+	}
+
+	public void write(CaptureLog log) throws IOException {
+		if (closed) {
+			throw new IllegalStateException("Writer has already been closed");
+		}
+		body.reset();
+		strings.clear();
+		writeBody(log);
+
+		out.writeByte(CaptureLogFormat.RECORD_LOG);
+		Set<String> classNames = new LinkedHashSet<>(log.oidClassNames);
+		writeVarInt(out, classNames.size());
+		for (String className : classNames) {
+			writeRawString(out, className);
+		}
+		writeVarInt(out, body.size());
+		body.writeTo(out);
+	}
+
+	private void writeBody(CaptureLog log) throws IOException {
+		int numRecords = log.objectIds.size();
+		writeVarInt(bodyOut, numRecords);
+		for (int i = 0; i < numRecords; i++) {
+			bodyOut.writeInt(log.objectIds.get(i));
+			writeVarInt(bodyOut, log.captureIds.get(i));
+			writeString(log.methodNames.get(i));
+			writeString(log.descList.get(i));
+
+			Object returnValue = log.returnValues.get(i);
+			int flags = 0;
+			if (log.isStaticCallList.get(i)) {
+				flags |= CaptureLogFormat.FLAG_STATIC;
+			}
+			if (!CaptureLog.RETURN_TYPE_VOID.equals(returnValue)) {
+				flags |= CaptureLogFormat.FLAG_RETURNS_OID;
+			}
+			bodyOut.writeByte(flags);
+			if ((flags & CaptureLogFormat.FLAG_RETURNS_OID) != 0) {
+				bodyOut.writeInt((Integer) returnValue);
+			}
+
+			Object[] params = log.params.get(i);
+			writeVarInt(bodyOut, params.length);
+			for (Object param : params) {
+				writeValue(param);
+			}
+		}
+
+		int numOids = log.oids.size();
+		writeVarInt(bodyOut, numOids);
+		for (int i = 0; i < numOids; i++) {
+			bodyOut.writeInt(log.oids.get(i));
+			writeVarInt(bodyOut, zigZag(log.oidInitRecNo.get(i)));
+			writeString(log.oidClassNames.get(i));
+			writeVarInt(bodyOut, log.oidFirstInits.get(i));
+			bodyOut.writeInt(log.oidDependencies.get(i));
+		}
+
+		writeVarInt(bodyOut, log.oidNamesOfAccessedFields.size());
+		for (Map.Entry<Integer, String> entry : log.oidNamesOfAccessedFields.entrySet()) {
+			writeVarInt(bodyOut, entry.getKey());
+			writeString(entry.getValue());
+		}
+		bodyOut.flush();
+	}
+
+	/**
+	 * Parameters are object identifiers, the values of plain init statements,
+	 * or the serialized form of objects whose construction was not observed
+	 *
+	 * @param value
+	 * @throws IOException
+	 */
+	private void writeValue(Object value) throws IOException {
+		if (value == null) {
+			bodyOut.writeByte(CaptureLogFormat.VALUE_NULL);
+		} else if (value instanceof Integer) {
+			bodyOut.writeByte(CaptureLogFormat.VALUE_INT);
+			bodyOut.writeInt((Integer) value);
+		} else if (value instanceof String) {
+			bodyOut.writeByte(CaptureLogFormat.VALUE_STRING);
+			writeRawString(bodyOut, (String) value);
+		} else if (value instanceof Boolean) {
+			bodyOut.writeByte(CaptureLogFormat.VALUE_BOOLEAN);
+			bodyOut.writeBoolean((Boolean) value);
+		} else if (value instanceof Byte) {
+			bodyOut.writeByte(CaptureLogFormat.VALUE_BYTE);
+			bodyOut.writeByte((Byte) value);
+		} else if (value instanceof Short) {
+			bodyOut.writeByte(CaptureLogFormat.VALUE_SHORT);
+			bodyOut.writeShort((Short) value);
+		} else if (value instanceof Character) {
+			bodyOut.writeByte(CaptureLogFormat.VALUE_CHAR);
+			bodyOut.writeChar((Character) value);
+		} else if (value instanceof Long) {
+			bodyOut.writeByte(CaptureLogFormat.VALUE_LONG);
+			bodyOut.writeLong((Long) value);
+		} else if (value instanceof Float) {
+			bodyOut.writeByte(CaptureLogFormat.VALUE_FLOAT);
+			bodyOut.writeFloat((Float) value);
+		} else if (value instanceof Double) {
+			bodyOut.writeByte(CaptureLogFormat.VALUE_DOUBLE);
+			bodyOut.writeDouble((Double) value);
+		} else if (value instanceof Class) {
+			bodyOut.writeByte(CaptureLogFormat.VALUE_CLASS);
+			writeString(((Class<?>) value).getName());
+		} else {
+			throw new IOException("Cannot encode value of type " + value.getClass().getName());
+		}
+	}
+
+	private void writeString(String s) throws IOException {
+		Integer index = strings.get(s);
+		if (index != null) {
+			writeVarInt(bodyOut, index);
+			return;
+		}
+		strings.put(s, strings.size() + 1);
+		writeVarInt(bodyOut, 0);
+		writeRawString(bodyOut, s);
+	}
+
+	private static void writeRawString(DataOutputStream out, String s) throws IOException {
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(out, bytes.length);
+		out.write(bytes);
+	}
+
+	private static int zigZag(int value) {
+		return (value << 1) ^ (value >> 31);
+	}
+
+	private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+		writeVarLong(out, value & 0xFFFFFFFFL);
+	}
+
+	private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+
+	/**
+	 * Write the end of the stream and close the underlying stream
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		out.writeByte(CaptureLogFormat.RECORD_END);
+		out.close();
+	}
+}
@@ -19,6 +19,7 @@
  */
 package org.evosuite.testcarver.capture;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -115,24 +116,51 @@ public final class Capturer {
 		 */
 	}
 
+	/**
+	 * Write the captured logs in the binary format of {@link CaptureLogWriter}
+	 *
+	 * @param out
+	 * @throws IOException
+	 */
 	public static void save(final OutputStream out) throws IOException {
 		if (out == null) {
 			throw new NullPointerException("given OutputStream must not be null");
 		}
 
-		final XStream xstream = new XStream();
-		xstream.toXML(logs, out);
-		out.close();
+		try (CaptureLogWriter writer = new CaptureLogWriter(out)) {
+			for (CaptureLog log : logs) {
+				writer.write(log);
+			}
+		}
 	}
 
+	/**
+	 * Load logs written by {@link #save(OutputStream)}, or by XStream as in
+	 * previous versions
+	 *
+	 * @param in
+	 */
 	@SuppressWarnings("unchecked")
 	public static void load(final InputStream in) {
 		if (in == null) {
 			throw new NullPointerException("given InputStream must not be null");
 		}
 
-		final XStream xstream = new XStream(new StaxDriver());
-		logs.addAll((ArrayList<CaptureLog>) xstream.fromXML(in));
+		try {
+			final BufferedInputStream bin = new BufferedInputStream(in);
+			if (CaptureLogFormat.isBinaryFormat(bin)) {
+				try (CaptureLogReader reader = new CaptureLogReader(bin, Capturer.class.getClassLoader())) {
+					while (reader.hasNext()) {
+						logs.add(reader.read());
+					}
+				}
+			} else {
+				final XStream xstream = new XStream(new StaxDriver());
+				logs.addAll((ArrayList<CaptureLog>) xstream.fromXML(bin));
+			}
+		} catch (IOException | ClassNotFoundException e) {
+			throw new CapturerException("an error occurred while loading captured logs", e);
+		}
 	}
 
 	 public static void clear() {
@@ -0,0 +1,140 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcarver.capture;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * List of integers stored in chunks of primitive arrays, used for the columns
+ * of a {@link CaptureLog}. Appending never copies the values recorded so far,
+ * and no Integer objects are kept.
+ *
+ * <p>
+ * Only appending at the end and removing the last element are supported,
+ * which is all a capture log needs.
+ * </p>
+ */
+final class ChunkedIntList extends AbstractList<Integer> implements RandomAccess {
+
+	private static final int CHUNK_BITS = 10;
+
+	private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+	private int[][] chunks = new int[4][];
+
+	private int size = 0;
+
+	public int getInt(int index) {
+		checkIndex(index);
+		return chunks[index >>> CHUNK_BITS][index & CHUNK_MASK];
+	}
+
+	public void addInt(int value) {
+		int chunk = size >>> CHUNK_BITS;
+		if (chunk == chunks.length) {
+			chunks = Arrays.copyOf(chunks, chunks.length * 2);
+		}
+		if (chunks[chunk] == null) {
+			chunks[chunk] = new int[CHUNK_SIZE];
+		}
+		chunks[chunk][size & CHUNK_MASK] = value;
+		size++;
+		modCount++;
+	}
+
+	public int setInt(int index, int value) {
+		checkIndex(index);
+		int[] chunk = chunks[index >>> CHUNK_BITS];
+		int old = chunk[index & CHUNK_MASK];
+		chunk[index & CHUNK_MASK] = value;
+		return old;
+	}
+
+	@Override
+	public Integer get(int index) {
+		return getInt(index);
+	}
+
+	@Override
+	public Integer set(int index, Integer value) {
+		return setInt(index, value);
+	}
+
+	@Override
+	public boolean add(Integer value) {
+		addInt(value);
+		return true;
+	}
+
+	@Override
+	public void add(int index, Integer value) {
+		if (index != size) {
+			throw new UnsupportedOperationException("Values can only be appended");
+		}
+		addInt(value);
+	}
+
+	@Override
+	public Integer remove(int index) {
+		if (index != size - 1) {
+			throw new UnsupportedOperationException("Only the last value can be removed");
+		}
+		int old = getInt(index);
+		size--;
+		modCount++;
+		return old;
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends Integer> values) {
+		if (values instanceof ChunkedIntList) {
+			ChunkedIntList other = (ChunkedIntList) values;
+			int n = other.size;
+			for (int i = 0; i < n; i++) {
+				addInt(other.chunks[i >>> CHUNK_BITS][i & CHUNK_MASK]);
+			}
+			return n > 0;
+		}
+		return super.addAll(values);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void clear() {
+		chunks = new int[4][];
+		size = 0;
+		modCount++;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+}
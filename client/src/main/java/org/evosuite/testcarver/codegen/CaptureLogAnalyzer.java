@@ -20,7 +20,9 @@
 package org.evosuite.testcarver.codegen;
 
 
+import java.io.IOException;
 import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -29,6 +31,7 @@ import java.util.Set;
 import org.evosuite.TimeController;
 import org.evosuite.classpath.ResourceList;
 import org.evosuite.testcarver.capture.CaptureLog;
+import org.evosuite.testcarver.capture.CaptureLogReader;
 import org.evosuite.utils.CollectionUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -79,6 +82,35 @@ public final class CaptureLogAnalyzer implements ICaptureLogAnalyzer
 		postProcessLog(originalLog, generator, blackList, log, oidExchange, observedClasses);
 	}
 
+	/**
+	 * Analyze the logs of a stream written by {@link org.evosuite.testcarver.capture.CaptureLogWriter}
+	 * one at a time. Logs without any instance of the observed classes are skipped without being
+	 * decoded, so only a single log has to be kept in memory.
+	 * 
+	 * @return the code generated for each analyzed log
+	 */
+	public <T> List<T> analyze(final CaptureLogReader reader, final ICodeGenerator<T> generator, final Class<?>... observedClasses)
+			throws IOException, ClassNotFoundException
+	{
+		if(reader == null)
+			throw new IllegalArgumentException("log reader must not be null");
+
+		final HashSet<String> observedClassNames = extractObservedClassNames(observedClasses);
+		final List<T> code = new ArrayList<T>();
+		while(reader.skipTo(observedClassNames))
+		{
+			// observed classes might be exchanged during the analysis
+			this.analyze(reader.read(), generator, observedClasses.clone());
+			final T result = generator.getCode();
+			if(result != null)
+			{
+				code.add(result);
+			}
+			generator.clear();
+		}
+		return code;
+	}
+
 	private void postProcessLog(final CaptureLog originalLog,
 			final ICodeGenerator<?> generator, final Set<Class<?>> blackList,
 			CaptureLog log, int[] oidExchange,
@@ -31,7 +31,11 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Remove all statements from a test case that do not contribute to the fitness
@@ -131,6 +135,13 @@ public class TestCaseMinimizer {
 			logger.debug("Timeout reached after verifying test");
 			return;
 		}
+
+		removeChunks(c);
+
+		if (isTimeoutReached()) {
+			logger.debug("Timeout reached after removing chunks");
+			return;
+		}
 		
 		boolean changed = true;
 
@@ -145,6 +156,10 @@ public class TestCaseMinimizer {
 				
 				logger.debug("Deleting statement {}", c.test.getStatement(i).getCode());
 				TestChromosome copy = (TestChromosome) c.clone();
+				List<Statement> preceding = new ArrayList<Statement>(i);
+				for (int j = 0; j < i; j++) {
+					preceding.add(c.test.getStatement(j));
+				}
 				boolean modified;
 				try {
 					modified = TestFactory.getInstance().deleteStatementGracefully(c.test, i);
@@ -169,8 +184,12 @@ public class TestCaseMinimizer {
 
 				if (! isWorse(fitnessFunction, copy, c)) {
 					logger.debug("Keeping shorter version");
+					// Statements before i can be deleted as well (e.g. the
+					// bounding variable of a bounded input), so continue with
+					// the last remaining one. The statements after it are
+					// checked again in the next iteration of the outer loop.
+					i = countRemaining(c.test, preceding);
 					changed = true;
-					break;
 				} else {
 					logger.debug("Keeping original version");
 					restoreTestCase(c, copy);
@@ -202,6 +221,102 @@ public class TestCaseMinimizer {
 
 	}
 
+	/**
+	 * Try to remove large chunks of statements at once, in the style of delta
+	 * debugging: the test is split into chunks, starting with two halves, that
+	 * are removed from the end to the beginning. If no chunk can be removed,
+	 * the chunk size is halved. Removing a single statement at a time is left
+	 * to the main loop, which can also replace variables.
+	 * 
+	 * @param c
+	 */
+	private void removeChunks(TestChromosome c) {
+		int chunkSize = c.test.size() / 2;
+		while (chunkSize > 1) {
+			boolean removed = false;
+			int end = c.test.size();
+			while (end > 0) {
+				if (isTimeoutReached()) {
+					logger.debug("Timeout reached while removing chunks");
+					return;
+				}
+				int start = Math.max(0, end - chunkSize);
+				NavigableSet<Integer> positions = getDependentPositions(c.test, start, end);
+				logger.debug("Deleting chunk of statements {} to {}, affecting {} statements", start, end - 1,
+				        positions.size());
+
+				TestChromosome copy = (TestChromosome) c.clone();
+				for (Integer position : positions.descendingSet()) {
+					c.test.remove(position);
+				}
+				c.setChanged(true);
+
+				if (ConstraintVerifier.verifyTest(c) && !isWorse(fitnessFunction, copy, c)) {
+					logger.debug("Keeping shorter version");
+					removed = true;
+				} else {
+					logger.debug("Keeping original version");
+					restoreTestCase(c, copy);
+				}
+				// the statements before the chunk are unchanged in any case
+				end = start;
+			}
+			if (removed) {
+				chunkSize = Math.min(chunkSize, c.test.size() / 2);
+			} else {
+				chunkSize /= 2;
+			}
+		}
+	}
+
+	/**
+	 * Count how many of the given statements are still part of the test
+	 * 
+	 * @param test
+	 * @param statements
+	 * @return
+	 */
+	static int countRemaining(TestCase test, List<Statement> statements) {
+		Set<Statement> remaining = Collections.newSetFromMap(new IdentityHashMap<Statement, Boolean>());
+		for (Statement statement : test) {
+			remaining.add(statement);
+		}
+		int count = 0;
+		for (Statement statement : statements) {
+			if (remaining.contains(statement)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Determine the positions of the statements in the given range, together
+	 * with all statements that directly or indirectly use their values
+	 * 
+	 * @param test
+	 * @param start
+	 *            first position of the range
+	 * @param end
+	 *            position after the range
+	 * @return
+	 */
+	static NavigableSet<Integer> getDependentPositions(TestCase test, int start, int end) {
+		NavigableSet<Integer> positions = new TreeSet<Integer>();
+		for (int i = start; i < end; i++) {
+			positions.add(i);
+		}
+		for (int i = end; i < test.size(); i++) {
+			for (VariableReference var : test.getStatement(i).getVariableReferences()) {
+				if (positions.contains(var.getStPosition())) {
+					positions.add(i);
+					break;
+				}
+			}
+		}
+		return positions;
+	}
+
 	private static void restoreTestCase(TestChromosome c, TestChromosome copy) {
 		c.test = copy.test;
 		c.copyCachedResults(copy);
@@ -33,6 +33,7 @@ import org.evosuite.setup.TestCluster;
 import org.evosuite.symbolic.BranchCondition;
 import org.evosuite.symbolic.ConcolicExecution;
 import org.evosuite.symbolic.ConcolicMutation;
+import org.evosuite.testcase.execution.ExecutionCheckpoint;
 import org.evosuite.testcase.execution.ExecutionResult;
 import org.evosuite.testcase.localsearch.TestCaseLocalSearch;
 import org.evosuite.testcase.statements.FunctionalMockStatement;
@@ -67,6 +68,13 @@ public class TestChromosome extends ExecutableChromosome {
 	/** To keep track of what has changed since last fitness evaluation */
 	protected MutationHistory<TestMutationHistoryEntry> mutationHistory = new MutationHistory<TestMutationHistoryEntry>();
 
+	/**
+	 * Checkpoint of the last execution. Unlike the last execution result, it is
+	 * kept when the test changes, as it is only used if the prefix it covers
+	 * is unchanged
+	 */
+	private transient ExecutionCheckpoint lastCheckpoint = null;
+
 	/** Secondary objectives used during ranking */
 	private static final List<SecondaryObjective<TestChromosome>> secondaryObjectives = new ArrayList<SecondaryObjective<TestChromosome>>();
 
@@ -103,6 +111,7 @@ public class TestChromosome extends ExecutableChromosome {
 	        return ;
 		assert lastExecutionResult.test.equals(this.test);
 		this.lastExecutionResult = lastExecutionResult;
+		this.lastCheckpoint = lastExecutionResult.getCheckpoint();
 	}
 
 	/** {@inheritDoc} */
@@ -157,6 +166,10 @@ public class TestChromosome extends ExecutableChromosome {
 			this.lastExecutionResult.setTest(this.test);
 		}
 
+		if (other instanceof TestChromosome) {
+			this.lastCheckpoint = ((TestChromosome) other).lastCheckpoint;
+		}
+
 		if (other.lastMutationResult != null) {
 			for (Mutation mutation : other.lastMutationResult.keySet()) {
 				MutationExecutionResult copy = other.lastMutationResult.get(mutation); //.clone();
@@ -689,6 +702,9 @@ public class TestChromosome extends ExecutableChromosome {
 	@Override
 	public ExecutionResult executeForFitnessFunction(
 	        TestSuiteFitnessFunction testSuiteFitnessFunction) {
+		if (lastCheckpoint != null) {
+			return testSuiteFitnessFunction.runTestFromCheckpoint(this.test, lastCheckpoint);
+		}
 		return testSuiteFitnessFunction.runTest(this.test);
 	}
 
@@ -0,0 +1,348 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.evosuite.TestGenerationContext;
+import org.evosuite.runtime.Random;
+import org.evosuite.runtime.vfs.VirtualFileSystem;
+import org.evosuite.runtime.vnet.VirtualNetwork;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.statements.ConstructorStatement;
+import org.evosuite.testcase.statements.FieldStatement;
+import org.evosuite.testcase.statements.MethodStatement;
+import org.evosuite.testcase.statements.NullStatement;
+import org.evosuite.testcase.statements.PrimitiveStatement;
+import org.evosuite.testcase.statements.Statement;
+
+/**
+ * The state of an execution after a prefix of a test case, such that a test
+ * case with the same prefix can be executed starting from the first statement
+ * after it.
+ *
+ * <p>
+ * A prefix is only checkpointed if skipping it cannot make a difference: no
+ * exception is thrown, no static field is read or written, no class is
+ * initialized, and none of the mocked sources of non-determinism or of
+ * external side effects (random numbers, time, system properties, files,
+ * network) is accessed. The trace is shared with copy-on-write.
+ * </p>
+ *
+ * <p>
+ * As the heap of the SUT cannot be copied, the values of the prefix are put
+ * into the scope of the resumed execution as they are. If they are all
+ * immutable (null, boxed primitives and strings), the checkpoint can be used
+ * any number of times. Otherwise it covers the whole executed test, such that
+ * the values are in the state of the end of the prefix, and it is handed over
+ * to the first execution that resumes from it, which may change the values.
+ * Such a checkpoint keeps the checkpoint of the longest prefix of immutable
+ * values of the same execution, if any, as a fallback.
+ * </p>
+ */
+public class ExecutionCheckpoint {
+
+	/** Copies of the statements of the prefix */
+	private final TestCase prefix;
+
+	/** The values of the statements of the prefix, by position */
+	private final Object[] values;
+
+	private final ExecutionTrace trace;
+
+	private final ClassLoader classLoader;
+
+	/** Whether the values of the prefix cannot be changed by an execution */
+	private final boolean reusable;
+
+	/** Set once an execution resumed from a checkpoint that is not reusable */
+	private final AtomicBoolean claimed = new AtomicBoolean(false);
+
+	/** A reusable checkpoint of a shorter prefix of the same execution, or null */
+	private final ExecutionCheckpoint fallback;
+
+	ExecutionCheckpoint(TestCase test, int length, Object[] values, ExecutionTrace trace,
+	        ExecutionCheckpoint fallback) {
+		this.prefix = new DefaultTestCase();
+		for (int i = 0; i < length; i++) {
+			this.prefix.addStatement(test.getStatement(i).copy(prefix, 0));
+		}
+		this.values = new Object[length];
+		System.arraycopy(values, 0, this.values, 0, length);
+		this.trace = trace;
+		this.classLoader = TestGenerationContext.getInstance().getClassLoaderForSUT();
+		boolean immutable = true;
+		for (Object value : this.values) {
+			immutable &= isImmutableValue(value);
+		}
+		this.reusable = immutable;
+		this.fallback = fallback;
+	}
+
+	/**
+	 * Number of statements covered by this checkpoint
+	 *
+	 * @return
+	 */
+	public int size() {
+		return values.length;
+	}
+
+	/**
+	 * Whether the checkpoint can be used by more than one execution
+	 *
+	 * @return
+	 */
+	public boolean isReusable() {
+		return reusable;
+	}
+
+	/**
+	 * A checkpoint can only be used if the test case starts with exactly the
+	 * same statements, the SUT was not reloaded in the meantime, and no other
+	 * execution took over its values
+	 *
+	 * @param test
+	 * @return
+	 */
+	public boolean isApplicableTo(TestCase test) {
+		if (!reusable && claimed.get()) {
+			return false;
+		}
+		if (classLoader != TestGenerationContext.getInstance().getClassLoaderForSUT()) {
+			return false;
+		}
+		if (test.size() < prefix.size()) {
+			return false;
+		}
+		for (int i = 0; i < prefix.size(); i++) {
+			if (!test.getStatement(i).same(prefix.getStatement(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Find the longest checkpoint of this execution the given test can resume
+	 * from. A checkpoint that is not reusable is claimed by the caller, and is
+	 * not applicable to any other test afterwards.
+	 *
+	 * @param test
+	 * @return the checkpoint to pass to
+	 *         {@link #restore(TestCase, Scope)}, or null
+	 */
+	ExecutionCheckpoint claim(TestCase test) {
+		for (ExecutionCheckpoint checkpoint = this; checkpoint != null; checkpoint = checkpoint.fallback) {
+			if (checkpoint.isApplicableTo(test)
+			        && (checkpoint.reusable || checkpoint.claimed.compareAndSet(false, true))) {
+				return checkpoint;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Bring the scope and the execution tracer to the state they had after
+	 * executing the prefix. Has to be called after the tracer was cleared.
+	 *
+	 * @param test
+	 *            a test case for which {@link #isApplicableTo(TestCase)} holds
+	 * @param scope
+	 */
+	void restore(TestCase test, Scope scope) {
+		for (int i = 0; i < values.length; i++) {
+			scope.setObject(test.getStatement(i).getReturnValue(), values[i]);
+		}
+		ExecutionTracer.getExecutionTracer().restoreTrace(trace.lazyClone(), values.length);
+	}
+
+	/**
+	 * Statements that may be part of a checkpointed prefix. Assignments are
+	 * excluded, as they can write static fields through reflection, which is
+	 * not traced. For the same reason, static fields may not be read.
+	 *
+	 * @param statement
+	 * @return
+	 */
+	static boolean isSupportedStatement(Statement statement) {
+		if (statement instanceof FieldStatement) {
+			return !((FieldStatement) statement).isStatic();
+		}
+		return statement instanceof PrimitiveStatement<?> || statement instanceof NullStatement
+		        || statement instanceof ConstructorStatement || statement instanceof MethodStatement;
+	}
+
+	/**
+	 * Values that cannot be changed by the statements following the prefix
+	 *
+	 * @param value
+	 * @return
+	 */
+	static boolean isImmutableValue(Object value) {
+		return value == null || isImmutableClass(value.getClass());
+	}
+
+	private static boolean isImmutableClass(Class<?> clazz) {
+		return clazz.isPrimitive() || clazz == String.class || clazz == Integer.class
+		        || clazz == Long.class || clazz == Short.class || clazz == Byte.class
+		        || clazz == Character.class || clazz == Boolean.class || clazz == Float.class
+		        || clazz == Double.class;
+	}
+
+	/**
+	 * Length of the longest prefix of the test of which all statements are
+	 * supported and produce immutable values, as far as this can be told
+	 * before executing it
+	 *
+	 * @param test
+	 * @return
+	 */
+	static int getImmutablePrefixLength(TestCase test) {
+		int length = 0;
+		while (length < test.size()) {
+			Statement statement = test.getStatement(length);
+			if (!isSupportedStatement(statement)) {
+				break;
+			}
+			if (!(statement instanceof NullStatement) && !isImmutableClass(statement.getReturnClass())) {
+				break;
+			}
+			length++;
+		}
+		return length;
+	}
+
+	/**
+	 * Check that the execution so far had no effect outside of its own values
+	 *
+	 * @param trace
+	 *            the current trace
+	 * @return
+	 */
+	static boolean isSideEffectFree(ExecutionTrace trace) {
+		return trace.getClassesWithStaticWrites().isEmpty()
+		        && trace.getClassesWithStaticReads().isEmpty()
+		        && trace.getInitializedClasses().isEmpty()
+		        && !Random.wasAccessed()
+		        && !org.evosuite.runtime.System.wasTimeAccessed()
+		        && !org.evosuite.runtime.System.wasAnyPropertyWritten()
+		        && org.evosuite.runtime.System.getAllPropertiesReadSoFar().isEmpty()
+		        && VirtualFileSystem.getInstance().getAccessedFiles().isEmpty()
+		        && VirtualNetwork.getInstance().getViewOfRemoteContactedPorts().isEmpty()
+		        && VirtualNetwork.getInstance().getViewOfLocalListeningPorts().isEmpty();
+	}
+
+	/**
+	 * Keeps track of the longest prefix of an execution that can be
+	 * checkpointed. The trace is only copied at the two places a checkpoint
+	 * can end: after the longest prefix of immutable values, and after the
+	 * last statement of the test.
+	 */
+	static class Recorder {
+
+		private final TestCase test;
+
+		private final ExecutionCheckpoint resumedFrom;
+
+		private final Object[] values;
+
+		/** Number of statements of the reusable checkpoint, if there is one */
+		private final int immutableLength;
+
+		private int length = 0;
+
+		/** Checkpoint of the first immutableLength statements */
+		private ExecutionCheckpoint immutablePrefix = null;
+
+		/** Checkpoint of the whole test */
+		private ExecutionCheckpoint wholeTest = null;
+
+		private boolean open = true;
+
+		/**
+		 * @param test
+		 *            the executed test case
+		 * @param resumedFrom
+		 *            the checkpoint the execution starts from, or null
+		 */
+		Recorder(TestCase test, ExecutionCheckpoint resumedFrom) {
+			this.test = test;
+			this.resumedFrom = resumedFrom;
+			this.values = new Object[test.size()];
+			this.immutableLength = getImmutablePrefixLength(test);
+			if (resumedFrom != null) {
+				length = resumedFrom.size();
+				System.arraycopy(resumedFrom.values, 0, values, 0, length);
+				for (ExecutionCheckpoint checkpoint = resumedFrom; checkpoint != null
+				        && immutablePrefix == null; checkpoint = checkpoint.fallback) {
+					if (checkpoint.reusable) {
+						immutablePrefix = checkpoint;
+					}
+				}
+				if (length == test.size()) {
+					// the values now belong to this execution
+					wholeTest = resumedFrom.reusable ? resumedFrom
+					        : new ExecutionCheckpoint(test, length, values, resumedFrom.trace,
+					                immutablePrefix);
+				}
+			}
+		}
+
+		/**
+		 * Extend the prefix by the given statement, if possible
+		 *
+		 * @param statement
+		 *            the statement at the end of the current prefix
+		 * @param scope
+		 * @param exceptionThrown
+		 */
+		void statementExecuted(Statement statement, Scope scope, Throwable exceptionThrown) {
+			if (!open) {
+				return;
+			}
+			if (exceptionThrown != null || !isSupportedStatement(statement)
+			        || !isSideEffectFree(ExecutionTracer.getExecutionTracer().getCurrentTrace())) {
+				open = false;
+				return;
+			}
+			values[length++] = scope.getObject(statement.getReturnValue());
+			if (length == immutableLength) {
+				immutablePrefix = new ExecutionCheckpoint(test, length, values,
+				        ExecutionTracer.getExecutionTracer().getTraceSnapshot(), null);
+			}
+			if (length == test.size()) {
+				wholeTest = length == immutableLength ? immutablePrefix
+				        : new ExecutionCheckpoint(test, length, values,
+				                ExecutionTracer.getExecutionTracer().getTraceSnapshot(),
+				                immutablePrefix);
+			}
+		}
+
+		/**
+		 * @return the checkpoint of the longest valid prefix, or null if there
+		 *         is none
+		 */
+		ExecutionCheckpoint getCheckpoint() {
+			return wholeTest != null ? wholeTest : immutablePrefix;
+		}
+	}
+}
@@ -69,6 +69,12 @@ public class ExecutionResult implements Cloneable {
 	 * Keep track of whether any System property was written
 	 */
 	protected boolean wasAnyPropertyWritten;
+
+	/**
+	 * Checkpoint of the prefix of the test that can be skipped when the test
+	 * is executed again after a change, if any
+	 */
+	protected ExecutionCheckpoint checkpoint;
 	
 	/*
 	 * Regression Object Distance
@@ -442,6 +448,7 @@ public class ExecutionResult implements Cloneable {
 			copy.readProperties.addAll(readProperties);
 		}
 		copy.wasAnyPropertyWritten = wasAnyPropertyWritten;
+		copy.checkpoint = checkpoint;
 
 		return copy;
 	}
@@ -471,6 +478,14 @@ public class ExecutionResult implements Cloneable {
 		this.wasAnyPropertyWritten = wasAnyPropertyWritten;
 	}
 
+	public ExecutionCheckpoint getCheckpoint() {
+		return checkpoint;
+	}
+
+	public void setCheckpoint(ExecutionCheckpoint checkpoint) {
+		this.checkpoint = checkpoint;
+	}
+
 	public void setTest(TestCase tc) {
 		this.test = tc;
 	}
@@ -600,6 +600,15 @@ public interface ExecutionTrace {
 	 */
 	public Set<String> getClassesWithStaticWrites();
 
+	/**
+	 * Retrieve the names of the static fields of the given class that were
+	 * affected by a PUTSTATIC.
+	 *
+	 * @param classNameWithDots
+	 * @return
+	 */
+	public Set<String> getStaticFieldsWritten(String classNameWithDots);
+
 	/**
 	 * Retrieve a list of those classes that were affected by a GETSTATIC.
 	 *
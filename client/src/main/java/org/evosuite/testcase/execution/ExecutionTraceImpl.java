@@ -1763,9 +1763,19 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 	 */
 	private final HashSet<String> classesWithStaticWrites = new HashSet<String>();
 
+	/**
+	 * This map keeps, for each class in classesWithStaticWrites, the names of
+	 * the static fields that were written during test execution.
+	 */
+	private final HashMap<String, Set<String>> staticFieldsWritten = new HashMap<String, Set<String>>();
+
 	@Override
 	public void putStaticPassed(String classNameWithDots, String fieldName) {
 		classesWithStaticWrites.add(classNameWithDots);
+		if (!staticFieldsWritten.containsKey(classNameWithDots)) {
+			staticFieldsWritten.put(classNameWithDots, new HashSet<String>());
+		}
+		staticFieldsWritten.get(classNameWithDots).add(fieldName);
 	}
 
 	/**
@@ -1784,6 +1794,14 @@ public class ExecutionTraceImpl implements ExecutionTrace, Cloneable {
 		return classesWithStaticWrites;
 	}
 
+	@Override
+	public Set<String> getStaticFieldsWritten(String classNameWithDots) {
+		if (!staticFieldsWritten.containsKey(classNameWithDots)) {
+			return Collections.emptySet();
+		}
+		return staticFieldsWritten.get(classNameWithDots);
+	}
+
 	/**
 	 * This field keeps the names of those classes that were initialized (ie
 	 * <clinit> was completed during this test execution). The list has no
@@ -720,6 +720,11 @@ public class ExecutionTraceProxy implements ExecutionTrace, Cloneable {
 		return trace.getClassesWithStaticWrites();
 	}
 
+	@Override
+	public Set<String> getStaticFieldsWritten(String classNameWithDots) {
+		return trace.getStaticFieldsWritten(classNameWithDots);
+	}
+
 	@Override
 	public void classInitialized(String classNameWithDots) {
 		trace.classInitialized(classNameWithDots);
@@ -25,6 +25,7 @@ import org.evosuite.coverage.dataflow.DefUsePool;
 import org.evosuite.coverage.dataflow.Definition;
 import org.evosuite.coverage.dataflow.Use;
 import org.evosuite.instrumentation.testability.BooleanHelper;
+import org.evosuite.instrumentation.testability.ContainerHelper;
 import org.evosuite.seeding.ConstantPoolManager;
 import org.objectweb.asm.Opcodes;
 import org.slf4j.Logger;
@@ -195,9 +196,43 @@ public class ExecutionTracer {
 	public void clear() {
 		trace = new ExecutionTraceProxy();
 		BooleanHelper.clearStack();
+		ContainerHelper.clearCache();
 		num_statements = 0;
 	}
 
+	/**
+	 * Continue an execution from a checkpoint
+	 *
+	 * @param trace
+	 *            the trace of the checkpoint, which is not modified
+	 * @param numStatements
+	 *            the number of statements executed up to the checkpoint
+	 */
+	void restoreTrace(ExecutionTrace trace, int numStatements) {
+		this.trace = trace;
+		num_statements = numStatements;
+	}
+
+	/**
+	 * The trace of the current execution, without finishing the calls on the
+	 * stack
+	 *
+	 * @return
+	 */
+	ExecutionTrace getCurrentTrace() {
+		return trace;
+	}
+
+	/**
+	 * Copy-on-write copy of the trace of the current execution, without
+	 * finishing the calls on the stack
+	 *
+	 * @return
+	 */
+	ExecutionTrace getTraceSnapshot() {
+		return trace.lazyClone();
+	}
+
 	/**
 	 * Obviously more than one thread is executing during the creation of
 	 * concurrent TestCases. #TODO steenbuck we should test if
@@ -23,13 +23,13 @@ import java.lang.reflect.Array;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 
 import org.evosuite.setup.TestUsageChecker;
@@ -39,17 +39,29 @@ import org.evosuite.testcase.variable.VariableReference;
 /**
  * This class represents the state of a test case execution
  *
+ * Each variable gets a slot the first time it is set, and the variables and
+ * their values are kept in slot order, which is the order in which they were
+ * first set. The slots of the values are also indexed by the class of the
+ * value, for the observers and contracts that look for all objects of a type.
+ *
  * @author Gordon Fraser
  */
 public class Scope {
 
-	private final Map<VariableReference, Object> pool;
+	/** Slot of each variable */
+	private final Map<VariableReference, Integer> slots = new HashMap<VariableReference, Integer>();
+
+	private final List<VariableReference> variables = new ArrayList<VariableReference>();
+
+	private final List<Object> values = new ArrayList<Object>();
+
+	/** Slots of the non-null values, by class of the value */
+	private final Map<Class<?>, BitSet> slotsByClass = new HashMap<Class<?>, BitSet>();
 
 	/**
 	 * Constructor
 	 */
 	public Scope() {
-		pool = Collections.synchronizedMap(new LinkedHashMap<VariableReference, Object>());
 	}
 
 	/**
@@ -121,28 +133,52 @@ public class Scope {
 				}
 			}
 		}
-		pool.put(reference, o);
+		put(reference, o);
+	}
+
+	private void put(VariableReference reference, Object o) {
+		Integer slot = slots.get(reference);
+		if (slot == null) {
+			slot = variables.size();
+			slots.put(reference, slot);
+			variables.add(reference);
+			values.add(o);
+		} else {
+			Object old = values.set(slot, o);
+			if (old != null)
+				slotsByClass.get(old.getClass()).clear(slot);
+		}
+		if (o != null) {
+			BitSet classSlots = slotsByClass.get(o.getClass());
+			if (classSlots == null) {
+				classSlots = new BitSet();
+				slotsByClass.put(o.getClass(), classSlots);
+			}
+			classSlots.set(slot);
+		}
 	}
 
 	/**
 	 * Debug output
 	 */
-	public void printPool() {
-		for (Entry<VariableReference, Object> entry : pool.entrySet()) {
-			System.out.println("Pool: " + entry.getKey().getName() + ", "
-			        + entry.getKey().getType() + " : " + entry.getValue());
+	public synchronized void printPool() {
+		for (int slot = 0; slot < variables.size(); slot++) {
+			VariableReference reference = variables.get(slot);
+			System.out.println("Pool: " + reference.getName() + ", "
+			        + reference.getType() + " : " + values.get(slot));
 		}
 	}
 
 	@Override
-	public String toString() {
+	public synchronized String toString() {
 		StringBuilder sb = new StringBuilder();
-		for (Entry<VariableReference, Object> entry : pool.entrySet()) {
-			sb.append(entry.getKey().getName());
+		for (int slot = 0; slot < variables.size(); slot++) {
+			VariableReference reference = variables.get(slot);
+			sb.append(reference.getName());
 			sb.append(", ");
-			sb.append(entry.getKey().getType());
+			sb.append(reference.getType());
 			sb.append(" : ");
-			sb.append(entry.getValue());
+			sb.append(values.get(slot));
 			sb.append("\n");
 		}
 
@@ -157,7 +193,8 @@ public class Scope {
 	 * @return Current value of reference
 	 */
 	public synchronized Object getObject(VariableReference reference) {
-		return pool.get(reference);
+		Integer slot = slots.get(reference);
+		return slot == null ? null : values.get(slot);
 	}
 
 	/**
@@ -167,12 +204,15 @@ public class Scope {
 	 *            Class we are looking for
 	 * @return List of VariableReferences
 	 */
-	public List<VariableReference> getElements(Type type) {
+	public synchronized List<VariableReference> getElements(Type type) {
 		List<VariableReference> refs = new ArrayList<VariableReference>();
-		for (Entry<VariableReference, Object> entry : pool.entrySet()) {
-			if (type.equals(entry.getKey().getType())
-			        || (entry.getValue() != null && type.equals(entry.getValue().getClass()))) {
-				refs.add(entry.getKey());
+		// the types of the variables may change during the execution, so they
+		// are not indexed
+		BitSet classSlots = slotsByClass.get(type);
+		for (int slot = 0; slot < variables.size(); slot++) {
+			VariableReference reference = variables.get(slot);
+			if ((classSlots != null && classSlots.get(slot)) || type.equals(reference.getType())) {
+				refs.add(reference);
 			}
 		}
 		/*
@@ -190,7 +230,7 @@ public class Scope {
 	 * @return Collection of all Objects
 	 */
 	public Collection<Object> getObjects() {
-		return pool.values();
+		return Collections.unmodifiableList(values);
 	}
 	
 	/**
@@ -199,7 +239,7 @@ public class Scope {
 	 * @return Collection of all variableReferences
 	 */
 	public Collection<VariableReference> getVariables() {
-		return pool.keySet();
+		return Collections.unmodifiableList(variables);
 	}
 
 	/**
@@ -210,11 +250,13 @@ public class Scope {
 	 *            a {@link java.lang.reflect.Type} object.
 	 */
 	// TODO: Need to add all fields and stuff as well?
-	public Collection<Object> getObjects(Type type) {
+	public synchronized Collection<Object> getObjects(Type type) {
 		Set<Object> objects = new LinkedHashSet<Object>();
-		for (Object o : pool.values()) {
-			if (o.getClass().equals(type))
-				objects.add(o);
+		BitSet classSlots = slotsByClass.get(type);
+		if (classSlots != null) {
+			for (int slot = classSlots.nextSetBit(0); slot >= 0; slot = classSlots.nextSetBit(slot + 1)) {
+				objects.add(values.get(slot));
+			}
 		}
 		return objects;
 	}
@@ -42,6 +42,7 @@ import org.evosuite.runtime.sandbox.PermissionStatistics;
 import org.evosuite.runtime.sandbox.Sandbox;
 import org.evosuite.runtime.util.JOptionPaneInputs;
 import org.evosuite.runtime.util.SystemInUtil;
+import org.evosuite.seeding.ConstantPoolManager;
 import org.evosuite.setup.TestCluster;
 import org.evosuite.testcase.TestCase;
 import org.evosuite.testcase.execution.reset.ClassReInitializer;
@@ -273,8 +274,28 @@ public class TestCaseExecutor implements ThreadFactory {
 	 * @return a {@link org.evosuite.testcase.execution.ExecutionResult} object.
 	 */
 	public ExecutionResult execute(TestCase tc, int timeout) {
+		return execute(tc, timeout, null);
+	}
+
+	/**
+	 * Execute a test case on a new scope, skipping the prefix covered by the
+	 * given checkpoint if it is still valid for this test case
+	 * 
+	 * @param tc
+	 *            a {@link org.evosuite.testcase.TestCase} object.
+	 * @param checkpoint
+	 *            the checkpoint of a previous execution of the test, can be
+	 *            null
+	 * @return a {@link org.evosuite.testcase.execution.ExecutionResult} object.
+	 */
+	public ExecutionResult execute(TestCase tc, ExecutionCheckpoint checkpoint) {
+		return execute(tc, Properties.TIMEOUT, checkpoint);
+	}
+
+	private ExecutionResult execute(TestCase tc, int timeout, ExecutionCheckpoint checkpoint) {
 		Scope scope = new Scope();
-		ExecutionResult result = execute(tc, scope, timeout);
+		ExecutionResult result = execute(tc, scope, timeout, checkpoint);
+		ConstantPoolManager.getInstance().flushDynamicConstants();
 
 		if (Properties.RESET_STATIC_FIELDS) {
 			logger.debug("Resetting classes after execution");
@@ -290,10 +311,12 @@ public class TestCaseExecutor implements ThreadFactory {
 	 *            a {@link org.evosuite.testcase.TestCase} object.
 	 * @param scope
 	 *            a {@link org.evosuite.testcase.execution.Scope} object.
+	 * @param checkpoint
+	 *            a checkpoint to resume from, can be null
 	 * @return a {@link org.evosuite.testcase.execution.ExecutionResult} object.
 	 */
 	@SuppressWarnings("deprecation")
-	private ExecutionResult execute(TestCase tc, Scope scope, int timeout) {
+	private ExecutionResult execute(TestCase tc, Scope scope, int timeout, ExecutionCheckpoint checkpoint) {
 		ExecutionTracer.getExecutionTracer().clear();
 
 		// TODO: Re-insert!
@@ -306,8 +329,16 @@ public class TestCaseExecutor implements ThreadFactory {
 
 		TimeoutHandler<ExecutionResult> handler = new TimeoutHandler<ExecutionResult>();
 
+		if (checkpoint != null) {
+			checkpoint = Properties.PREFIX_EXECUTION_CACHE && observers.isEmpty() ? checkpoint.claim(tc) : null;
+			if (checkpoint != null) {
+				logger.debug("Resuming test execution at statement {}", checkpoint.size());
+				checkpoint.restore(tc, scope);
+			}
+		}
+
 		// #TODO steenbuck could be nicer (TestRunnable should be an interface
-		TestRunnable callable = new TestRunnable(tc, scope, observers);
+		TestRunnable callable = new TestRunnable(tc, scope, observers, checkpoint);
 		callable.storeCurrentThreads();
 
 		/*
@@ -73,6 +73,12 @@ public class TestRunnable implements InterfaceTestRunnable {
 	protected Set<ExecutionObserver> observers;
 
 	protected final ThreadStopper threadStopper;
+
+	/**
+	 * The checkpoint from which the execution is resumed, or null if the test
+	 * is executed from its first statement
+	 */
+	private final ExecutionCheckpoint checkpoint;
 	
 	/**
 	 * <p>
@@ -87,9 +93,30 @@ public class TestRunnable implements InterfaceTestRunnable {
 	 *            a {@link java.util.Set} object.
 	 */
 	public TestRunnable(TestCase tc, Scope scope, Set<ExecutionObserver> observers) {
+		this(tc, scope, observers, null);
+	}
+
+	/**
+	 * <p>
+	 * Constructor for TestRunnable, for an execution that is resumed after
+	 * the prefix of the test covered by a checkpoint.
+	 * </p>
+	 * 
+	 * @param tc
+	 *            a {@link org.evosuite.testcase.TestCase} object.
+	 * @param scope
+	 *            a {@link org.evosuite.testcase.execution.Scope} object, in
+	 *            which the checkpoint was already restored.
+	 * @param observers
+	 *            a {@link java.util.Set} object.
+	 * @param checkpoint
+	 *            the checkpoint to resume from, or null.
+	 */
+	public TestRunnable(TestCase tc, Scope scope, Set<ExecutionObserver> observers, ExecutionCheckpoint checkpoint) {
 		test = tc;
 		this.scope = scope;
 		this.observers = observers;
+		this.checkpoint = checkpoint;
 		runFinished = false;
 		
 		KillSwitch killSwitch = new KillSwitch() {			
@@ -203,14 +230,19 @@ public class TestRunnable implements InterfaceTestRunnable {
 		 *  need AtomicInteger as we want to get latest updated value even if exception is thrown in the 'try' block.
 		 *  we practically use it as wrapper for int, which we can then pass by reference
 		 */
-		AtomicInteger num = new AtomicInteger(0);
+		AtomicInteger num = new AtomicInteger(checkpoint == null ? 0 : checkpoint.size());
+
+		ExecutionCheckpoint.Recorder recorder = null;
+		if (Properties.PREFIX_EXECUTION_CACHE && observers.isEmpty()) {
+			recorder = new ExecutionCheckpoint.Recorder(test, checkpoint);
+		}
 
 		try {
 			if(Properties.REPLACE_CALLS){
 				ShutdownHookHandler.getInstance().initHandler();
 			}
 			
-			executeStatements(result, out, num);
+			executeStatements(result, out, num, recorder);
 		} catch (ThreadDeath e) {// can't stop these guys
 			logger.info("Found error in " + test.toCode(), e);
 			throw e; // this needs to be propagated
@@ -265,16 +297,22 @@ public class TestRunnable implements InterfaceTestRunnable {
 		result.setThrownExceptions(exceptionsThrown);
 		result.setReadProperties(org.evosuite.runtime.System.getAllPropertiesReadSoFar());
 		result.setWasAnyPropertyWritten(org.evosuite.runtime.System.wasAnyPropertyWritten());
+		if (recorder != null) {
+			result.setCheckpoint(recorder.getCheckpoint());
+		}
 		
 		return result;
 	}
 
 	/**
-	 * Iterate over all statements in the test case, and execute them one at a time
+	 * Iterate over all statements in the test case, and execute them one at a time,
+	 * starting at position <code>num</code>
 	 * 
 	 * @param result
 	 * @param out
 	 * @param num
+	 * @param recorder
+	 *            keeps track of the prefix to checkpoint, can be null
 	 * @throws TimeoutException
 	 * @throws InvocationTargetException
 	 * @throws IllegalAccessException
@@ -283,11 +321,12 @@ public class TestRunnable implements InterfaceTestRunnable {
 	 * @throws EvosuiteError
 	 */
 	private void executeStatements(ExecutionResult result, PrintStream out,
-			AtomicInteger num) throws TimeoutException,
+			AtomicInteger num, ExecutionCheckpoint.Recorder recorder) throws TimeoutException,
 			InvocationTargetException, IllegalAccessException,
 			InstantiationException, VMError, EvosuiteError {
 		
-		for (Statement s : test) {
+		for (int position = num.get(); position < test.size(); position++) {
+			Statement s = test.getStatement(position);
 
 			if (Thread.currentThread().isInterrupted() || Thread.interrupted()) {
 				logger.info("Thread interrupted at statement " + num + ": " + s.getCode());
@@ -306,6 +345,10 @@ public class TestRunnable implements InterfaceTestRunnable {
 			 */
 			Throwable exceptionThrown = s.execute(scope, out);
 
+			if (recorder != null) {
+				recorder.statementExecuted(s, scope, exceptionThrown);
+			}
+
 			if (exceptionThrown != null) {
 				// if internal error, then throw exception
 				// -------------------------------------------------------
@@ -23,8 +23,10 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import org.evosuite.Properties;
+import org.evosuite.TestGenerationContext;
 import org.evosuite.assertion.CheapPurityAnalyzer;
 import org.evosuite.testcase.DefaultTestCase;
 import org.evosuite.testcase.TestCase;
@@ -177,12 +179,51 @@ public class ClassReInitializer {
 					}
 				}
 				if (loader == null) {
-					ClassReInitializeExecutor.getInstance().resetClasses(classesToReset);
-				} else {
-					ClassReInitializeExecutor.getInstance().resetClasses(classesToReset, loader);
+					loader = TestGenerationContext.getInstance().getClassLoaderForSUT();
 				}
+
+				if (Properties.STATIC_RESET_MODE == Properties.StaticResetMode.SNAPSHOT) {
+					classesToReset = restoreClasses(classesToReset, moreClassesForReset, trace, loader);
+				}
+
+				ClassReInitializeExecutor.getInstance().resetClasses(classesToReset, loader);
+
+				if (Properties.STATIC_RESET_MODE == Properties.StaticResetMode.SNAPSHOT) {
+					// the classes were just re-initialized, so this is their
+					// initial state
+					for (String className : classesToReset) {
+						staticStateSnapshot.capture(loader, className);
+					}
+				}
+			}
+		}
+	}
+
+	private final StaticStateSnapshot staticStateSnapshot = new StaticStateSnapshot();
+
+	/**
+	 * Restores the static fields written during the test execution from the
+	 * snapshot of each class. Classes with static state changes that were not
+	 * observed as PUTSTATIC, or that have no snapshot yet, cannot be restored
+	 * this way.
+	 * 
+	 * @param classesToReset
+	 * @param classesWithUntrackedChanges
+	 * @param trace
+	 * @param loader
+	 * @return the classes that still need to be re-initialized
+	 */
+	private List<String> restoreClasses(List<String> classesToReset, Set<String> classesWithUntrackedChanges,
+			ExecutionTrace trace, ClassLoader loader) {
+		List<String> remainingClasses = new LinkedList<String>();
+		for (String className : classesToReset) {
+			if (classesWithUntrackedChanges.contains(className)
+					|| (Properties.RESET_STATIC_FIELD_GETS && trace.getClassesWithStaticReads().contains(className))
+					|| !staticStateSnapshot.restore(loader, className, trace.getStaticFieldsWritten(className))) {
+				remainingClasses.add(className);
 			}
 		}
+		return remainingClasses;
 	}
 
 	private boolean reset_all_observed_classes = false;
@@ -0,0 +1,208 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution.reset;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps a copy of the values of the static fields of a class as they are
+ * right after the class was initialized. A class whose static writes were all
+ * observed (i.e. PUTSTATIC) can then be brought back to its initial state by
+ * setting the written fields only, instead of re-executing the whole
+ * __STATIC_RESET() method.
+ *
+ * The snapshot is shallow: objects referenced by static fields are not
+ * copied, so an object changed in place (e.g. a static list) would keep the
+ * state of the previous test. Therefore, snapshots are only taken of classes
+ * whose static fields all hold immutable values (primitives, strings, boxed
+ * primitives or null), and all other classes are re-initialized.
+ *
+ * Snapshots are kept per class loader, as the same class might be loaded
+ * more than once (e.g. in regression mode). They only refer weakly to the
+ * class loaders and classes, so that class loaders that are not used anymore
+ * can be collected.
+ */
+class StaticStateSnapshot {
+
+	private final static Logger logger = LoggerFactory.getLogger(StaticStateSnapshot.class);
+
+	/**
+	 * The static fields of a class and their values after initialization
+	 */
+	private static class ClassSnapshot {
+
+		private final WeakReference<Class<?>> clazz;
+
+		private final Map<String, Object> values = new HashMap<String, Object>();
+
+		private final Set<String> finalFields = new HashSet<String>();
+
+		private ClassSnapshot(Class<?> clazz) {
+			this.clazz = new WeakReference<Class<?>>(clazz);
+		}
+	}
+
+	private final Map<ClassLoader, Map<String, ClassSnapshot>> snapshots = new WeakHashMap<ClassLoader, Map<String, ClassSnapshot>>();
+
+	/**
+	 * Classes for which no snapshot can be taken (e.g. because their fields
+	 * are not accessible, or refer to mutable objects)
+	 */
+	private final Map<ClassLoader, Set<String>> unsupportedClasses = new WeakHashMap<ClassLoader, Set<String>>();
+
+	private Map<String, ClassSnapshot> getSnapshots(ClassLoader loader) {
+		if (!snapshots.containsKey(loader)) {
+			snapshots.put(loader, new HashMap<String, ClassSnapshot>());
+		}
+		return snapshots.get(loader);
+	}
+
+	private Set<String> getUnsupportedClasses(ClassLoader loader) {
+		if (!unsupportedClasses.containsKey(loader)) {
+			unsupportedClasses.put(loader, new HashSet<String>());
+		}
+		return unsupportedClasses.get(loader);
+	}
+
+	/**
+	 * Returns true if a snapshot of the given class was already taken for this
+	 * class loader
+	 *
+	 * @param loader
+	 * @param classNameWithDots
+	 * @return
+	 */
+	public boolean hasSnapshot(ClassLoader loader, String classNameWithDots) {
+		return getSnapshots(loader).containsKey(classNameWithDots);
+	}
+
+	/**
+	 * Records the current values of all the static fields of the given class.
+	 * This should be invoked when the class is in its initial state, that is,
+	 * right after its class initializer was executed.
+	 *
+	 * @param loader
+	 * @param classNameWithDots
+	 */
+	public void capture(ClassLoader loader, String classNameWithDots) {
+		if (hasSnapshot(loader, classNameWithDots) || getUnsupportedClasses(loader).contains(classNameWithDots)) {
+			return;
+		}
+
+		ClassSnapshot snapshot;
+		try {
+			Class<?> clazz = Class.forName(classNameWithDots, false, loader);
+			snapshot = new ClassSnapshot(clazz);
+			for (Field field : clazz.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+					continue;
+				}
+				field.setAccessible(true);
+				Object value = field.get(null);
+				if (!isImmutable(value)) {
+					logger.debug("Cannot take snapshot of static state of class {}: field {} is mutable",
+							classNameWithDots, field.getName());
+					getUnsupportedClasses(loader).add(classNameWithDots);
+					return;
+				}
+				snapshot.values.put(field.getName(), value);
+				if (Modifier.isFinal(field.getModifiers())) {
+					snapshot.finalFields.add(field.getName());
+				}
+			}
+		} catch (Throwable t) {
+			logger.debug("Cannot take snapshot of static state of class {}: {}", classNameWithDots, t.toString());
+			getUnsupportedClasses(loader).add(classNameWithDots);
+			return;
+		}
+		getSnapshots(loader).put(classNameWithDots, snapshot);
+	}
+
+	/**
+	 * Sets the given static fields back to the values recorded in the
+	 * snapshot of the class.
+	 *
+	 * @param loader
+	 * @param classNameWithDots
+	 * @param writtenFields
+	 *            the names of the static fields that were written
+	 * @return false if the class has to be re-initialized by other means, that
+	 *         is, if there is no snapshot, no written field is known, or a
+	 *         written field cannot be set
+	 */
+	public boolean restore(ClassLoader loader, String classNameWithDots, Set<String> writtenFields) {
+		if (writtenFields.isEmpty()) {
+			return false;
+		}
+		ClassSnapshot snapshot = getSnapshots(loader).get(classNameWithDots);
+		if (snapshot == null) {
+			return false;
+		}
+
+		Class<?> clazz = snapshot.clazz.get();
+		if (clazz == null) {
+			return false;
+		}
+
+		// check all fields first, so that we never leave the class half restored
+		for (String fieldName : writtenFields) {
+			if (!snapshot.values.containsKey(fieldName) || snapshot.finalFields.contains(fieldName)) {
+				return false;
+			}
+		}
+
+		try {
+			for (String fieldName : writtenFields) {
+				Field field = clazz.getDeclaredField(fieldName);
+				field.setAccessible(true);
+				field.set(null, snapshot.values.get(fieldName));
+			}
+		} catch (Throwable t) {
+			logger.debug("Cannot restore static state of class {}: {}", classNameWithDots, t.toString());
+			getSnapshots(loader).remove(classNameWithDots);
+			getUnsupportedClasses(loader).add(classNameWithDots);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Only values that cannot be changed in place can be restored by setting
+	 * the field back
+	 *
+	 * @param value
+	 * @return
+	 */
+	private static boolean isImmutable(Object value) {
+		return value == null || value instanceof String || value instanceof Boolean || value instanceof Character
+				|| value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long
+				|| value instanceof Float || value instanceof Double;
+	}
+}
@@ -67,6 +67,32 @@ public class EvoInvocationListener implements InvocationListener, Serializable {
         active = true;
     }
 
+    /**
+     * Forget all the reported invocations, and stop logging until activated again.
+     * This is used to re-use the listener for a new execution of the same mock
+     */
+    public void reset(){
+        active = false;
+        synchronized (map){
+            map.clear();
+        }
+    }
+
+    /**
+     * Add the invocations reported to another listener, without logging any.
+     * This is used to keep the invocations of the last execution of a mock whose
+     * listener is handed over to a copy of its statement
+     *
+     * @param other
+     */
+    public void addInvocations(EvoInvocationListener other){
+        synchronized (other.map){
+            synchronized (map){
+                map.putAll(other.map);
+            }
+        }
+    }
+
 
     public void changeClassLoader(ClassLoader loader) {
         for(MethodDescriptor descriptor : map.values()){
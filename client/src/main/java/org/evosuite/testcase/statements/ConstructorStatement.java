@@ -193,6 +193,7 @@ public class ConstructorStatement extends EntityWithParametersStatement {
 				        InstantiationException, CodeUnderTestException {
 
 					java.lang.reflect.Type[] parameterTypes = constructor.getParameterTypes();
+					Class<?>[] rawParameterTypes = constructor.getConstructor().getParameterTypes();
 					for (int i = 0; i < parameters.size(); i++) {
 						VariableReference parameterVar = parameters.get(i);
 						try {
@@ -215,7 +216,7 @@ public class ConstructorStatement extends EntityWithParametersStatement {
 							throw new CodeUnderTestException(
 							        new UncompilableCodeException("Cannot assign "+parameterVar.getVariableClass().getName() +" to "+parameterTypes[i]));
 						}
-						if(inputs[i] == null && constructor.getConstructor().getParameterTypes()[i].isPrimitive()) {
+						if(inputs[i] == null && rawParameterTypes[i].isPrimitive()) {
 							throw new CodeUnderTestException(new NullPointerException());
 						}
 
@@ -21,6 +21,7 @@ package org.evosuite.testcase.statements;
 
 import java.io.PrintStream;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -50,6 +51,15 @@ public class FieldStatement extends AbstractStatement {
 	protected GenericField field;
 	protected VariableReference source;
 
+	/**
+	 * Outcome of the last assignability check of a value read from the field:
+	 * the same field usually yields values of the same class each time the
+	 * statement is executed, and the generic check is expensive
+	 */
+	private transient Type lastCheckedType;
+	private transient Class<?> lastCheckedClass;
+	private transient boolean lastCheckedAssignable;
+
 	/**
 	 * <p>
 	 * Constructor for FieldStatement.
@@ -198,6 +208,16 @@ public class FieldStatement extends AbstractStatement {
 
 	}
 
+	private boolean isAssignableToReturnValue(Class<?> valueClass) {
+		Type type = retval.getType();
+		if (type != lastCheckedType || valueClass != lastCheckedClass) {
+			lastCheckedAssignable = retval.isAssignableFrom(valueClass);
+			lastCheckedType = type;
+			lastCheckedClass = valueClass;
+		}
+		return lastCheckedAssignable;
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public Throwable execute(final Scope scope, PrintStream out)
@@ -230,7 +250,7 @@ public class FieldStatement extends AbstractStatement {
 					}
 
 					Object ret = field.getField().get(source_object);
-					if(ret!=null && !retval.isAssignableFrom(ret.getClass())) {
+					if(ret!=null && !isAssignableToReturnValue(ret.getClass())) {
 						throw new CodeUnderTestException(new ClassCastException());
 					}
 					try {
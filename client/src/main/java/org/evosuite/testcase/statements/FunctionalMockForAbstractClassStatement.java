@@ -57,7 +57,7 @@ public class FunctionalMockForAbstractClassStatement extends FunctionalMockState
             copy.parameters.add(r.copy(newTestCase, offset));
         }
 
-        copy.listener = this.listener; //no need to clone, as only read, and created new instance at each new execution
+        handOverListener(copy);
 
         for (MethodDescriptor md : this.mockedMethods) {
             copy.mockedMethods.add(md.getCopy());
@@ -121,6 +121,12 @@ public class FunctionalMockStatement extends EntityWithParametersStatement {
 
     protected transient volatile EvoInvocationListener listener;
 
+    /**
+     * Mock created by the last successful execution. It is reset and used again by
+     * the next execution, together with the listener, instead of creating new ones
+     */
+    protected transient volatile Object mock;
+
     protected transient Method mockCreator;
 
 
@@ -177,6 +183,7 @@ public class FunctionalMockStatement extends EntityWithParametersStatement {
         if(listener != null){
             listener.changeClassLoader(loader);
         }
+        mock = null;
         super.changeClassLoader(loader);
     }
 
@@ -559,7 +566,7 @@ public class FunctionalMockStatement extends EntityWithParametersStatement {
             copy.parameters.add(r.copy(newTestCase, offset));
         }
 
-        copy.listener = this.listener; //no need to clone, as only read, and created new instance at each new execution
+        handOverListener(copy);
 
         for (MethodDescriptor md : this.mockedMethods) {
             copy.mockedMethods.add(md.getCopy());
@@ -574,6 +581,62 @@ public class FunctionalMockStatement extends EntityWithParametersStatement {
         return copy;
     }
 
+    /**
+     * The mock of the last execution and its listener are handed over to the copy,
+     * as a copy is usually what gets changed and executed next. This statement keeps
+     * the reported invocations in a listener that is not attached to any mock.
+     * Without a mock, there is no need to clone the listener, as it is only read
+     * until the next execution, which creates a new one
+     *
+     * @param copy
+     */
+    protected void handOverListener(FunctionalMockStatement copy) {
+        copy.listener = this.listener;
+        if (mock == null || listener == null) {
+            return;
+        }
+        copy.mock = mock;
+        mock = null;
+        listener = createInvocationListener();
+        listener.addInvocations(copy.listener);
+    }
+
+    /**
+     * Only mocks of interfaces are recycled: a mock of a class could keep state
+     * from the previous execution in its fields, eg through final methods, which
+     * Mockito cannot stub
+     *
+     * @return
+     */
+    protected boolean canRecycleMock() {
+        return targetClass.getRawClass().isInterface();
+    }
+
+    /**
+     * Reset the mock and the listener of the last execution, so that they can be
+     * used again. This avoids a whole mock creation, where only a new mock handler
+     * is needed
+     *
+     * @return {@code null} if there is no mock to recycle
+     */
+    private Object recycleMock() {
+        Object previous = mock;
+        mock = null;
+        if (previous == null || listener == null || !canRecycleMock()
+                || !targetClass.getRawClass().isInstance(previous)) {
+            return null;
+        }
+
+        try {
+            Mockito.reset(previous);
+        } catch (MockitoException e) {
+            logger.debug("Mockito: cannot reset mock for {}: {}", targetClass, e.getMessage());
+            return null;
+        }
+        listener.reset();
+        return previous;
+    }
+
     protected EvoInvocationListener createInvocationListener() {
         return new EvoInvocationListener(retval.getGenericClass());
     }
@@ -595,15 +658,20 @@ public class FunctionalMockStatement extends EntityWithParametersStatement {
                         IllegalArgumentException, IllegalAccessException,
                         InstantiationException, CodeUnderTestException {
 
-                    // First create the listener
-                    listener = createInvocationListener();
+                    Object ret = recycleMock();
+
+                    if (ret == null) {
+                        // First create the listener
+                        listener = createInvocationListener();
+                    }
 
                     //then create the mock
-                    Object ret;
                     try {
-                        logger.debug("Mockito: create mock for {}",targetClass);
+                        if (ret == null) {
+                            logger.debug("Mockito: create mock for {}",targetClass);
 
-                        ret = mock(targetClass.getRawClass(), createMockSettings());
+                            ret = mock(targetClass.getRawClass(), createMockSettings());
+                        }
                         //ret = mockCreator.invoke(null,targetClass,withSettings().invocationListeners(listener));
 
                         //execute all "when" statements
@@ -749,6 +817,8 @@ public class FunctionalMockStatement extends EntityWithParametersStatement {
                     } catch (Throwable e) {
                         throw new EvosuiteError(e);
                     }
+
+                    mock = ret;
                 }
 
                 /**
@@ -226,10 +226,11 @@ public class MethodStatement extends EntityWithParametersStatement {
 					Object callee_object;
 					try {
 						java.lang.reflect.Type[] parameterTypes = method.getParameterTypes();
+						Class<?>[] rawParameterTypes = method.getRawParameterTypes();
 						for (int i = 0; i < parameters.size(); i++) {
 							VariableReference parameterVar = parameters.get(i);
 							inputs[i] = parameterVar.getObject(scope);
-							if(inputs[i] == null && method.getMethod().getParameterTypes()[i].isPrimitive()) {
+							if(inputs[i] == null && rawParameterTypes[i].isPrimitive()) {
 								throw new CodeUnderTestException(new NullPointerException());
 							}
 							if (inputs[i] != null && !TypeUtils.isAssignable(inputs[i].getClass(), parameterTypes[i])) {
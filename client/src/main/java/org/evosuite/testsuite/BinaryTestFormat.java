@@ -0,0 +1,132 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testsuite;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+
+/**
+ * Constants of the compact binary format used to store test cases (e.g. CTG
+ * seeds and object pools), written by {@link BinaryTestWriter} and read by
+ * {@link BinaryTestReader}.
+ *
+ * <p>
+ * A file starts with {@link #MAGIC} and {@link #VERSION}, followed by a
+ * stream of records, each starting with a tag, and ends with
+ * {@link #RECORD_END}. Strings, classes, methods, constructors and fields are
+ * interned: they are written in full only the first time they appear, and
+ * afterwards referred to by their index. The assertions of a test follow its
+ * statements, so that regression tests keep their oracles.
+ * </p>
+ */
+public class BinaryTestFormat {
+
+	/** "EVOT" */
+	public static final int MAGIC = 0x45564F54;
+
+	/** Has to be increased whenever the encoding changes */
+	public static final int VERSION = 2;
+
+	// Record tags
+	static final byte RECORD_END = 0;
+	static final byte RECORD_TEST = 1;
+	/** A test that could not be encoded, stored with Java serialization */
+	static final byte RECORD_SERIALIZED_TEST = 2;
+	static final byte RECORD_CLASS = 3;
+
+	// Statement tags
+	static final byte STATEMENT_NULL = 1;
+	static final byte STATEMENT_PRIMITIVE = 2;
+	static final byte STATEMENT_ARRAY = 3;
+	static final byte STATEMENT_ASSIGNMENT = 4;
+	static final byte STATEMENT_CONSTRUCTOR = 5;
+	static final byte STATEMENT_METHOD = 6;
+	static final byte STATEMENT_FIELD = 7;
+
+	// Variable reference tags
+	static final byte VARIABLE_NONE = 0;
+	static final byte VARIABLE_STATEMENT = 1;
+	static final byte VARIABLE_ARRAY_INDEX = 2;
+	static final byte VARIABLE_FIELD = 3;
+	static final byte VARIABLE_CONSTANT = 4;
+	static final byte VARIABLE_NULL = 5;
+
+	// Type tags
+	static final byte TYPE_NONE = 0;
+	static final byte TYPE_CLASS = 1;
+	static final byte TYPE_PARAMETERIZED = 2;
+	static final byte TYPE_ARRAY = 3;
+	static final byte TYPE_WILDCARD = 4;
+	static final byte TYPE_VARIABLE = 5;
+
+	// Value tags
+	static final byte VALUE_NULL = 0;
+	static final byte VALUE_BOOLEAN = 1;
+	static final byte VALUE_BYTE = 2;
+	static final byte VALUE_SHORT = 3;
+	static final byte VALUE_CHAR = 4;
+	static final byte VALUE_INT = 5;
+	static final byte VALUE_LONG = 6;
+	static final byte VALUE_FLOAT = 7;
+	static final byte VALUE_DOUBLE = 8;
+	static final byte VALUE_STRING = 9;
+	static final byte VALUE_ENUM = 10;
+	static final byte VALUE_CLASS = 11;
+	static final byte VALUE_ARRAY = 12;
+
+	// Assertion tags
+	static final byte ASSERTION_PRIMITIVE = 1;
+	static final byte ASSERTION_NULL = 2;
+	static final byte ASSERTION_PRIMITIVE_FIELD = 3;
+	static final byte ASSERTION_INSPECTOR = 4;
+	static final byte ASSERTION_COMPARE = 5;
+	static final byte ASSERTION_EQUALS = 6;
+	static final byte ASSERTION_SAME = 7;
+	static final byte ASSERTION_ARRAY_EQUALS = 8;
+	static final byte ASSERTION_ARRAY_LENGTH = 9;
+	static final byte ASSERTION_CONTAINS = 10;
+
+	private BinaryTestFormat() {
+	}
+
+	/**
+	 * Check whether the given stream starts with the binary test format. The
+	 * stream is not consumed.
+	 *
+	 * @param in
+	 *            a stream supporting mark/reset
+	 * @return
+	 * @throws IOException
+	 */
+	public static boolean isBinaryFormat(BufferedInputStream in) throws IOException {
+		in.mark(4);
+		int magic = 0;
+		for (int i = 0; i < 4; i++) {
+			int b = in.read();
+			if (b < 0) {
+				in.reset();
+				return false;
+			}
+			magic = (magic << 8) | b;
+		}
+		in.reset();
+		return magic == MAGIC;
+	}
+}
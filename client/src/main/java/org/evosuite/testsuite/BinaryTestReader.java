@@ -0,0 +1,618 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testsuite;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.evosuite.assertion.ArrayEqualsAssertion;
+import org.evosuite.assertion.ArrayLengthAssertion;
+import org.evosuite.assertion.Assertion;
+import org.evosuite.assertion.CompareAssertion;
+import org.evosuite.assertion.ContainsAssertion;
+import org.evosuite.assertion.EqualsAssertion;
+import org.evosuite.assertion.Inspector;
+import org.evosuite.assertion.InspectorAssertion;
+import org.evosuite.assertion.NullAssertion;
+import org.evosuite.assertion.PrimitiveAssertion;
+import org.evosuite.assertion.PrimitiveFieldAssertion;
+import org.evosuite.assertion.SameAssertion;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.statements.ArrayStatement;
+import org.evosuite.testcase.statements.AssignmentStatement;
+import org.evosuite.testcase.statements.ConstructorStatement;
+import org.evosuite.testcase.statements.FieldStatement;
+import org.evosuite.testcase.statements.MethodStatement;
+import org.evosuite.testcase.statements.NullStatement;
+import org.evosuite.testcase.statements.PrimitiveStatement;
+import org.evosuite.testcase.statements.Statement;
+import org.evosuite.testcase.variable.ArrayIndex;
+import org.evosuite.testcase.variable.ArrayReference;
+import org.evosuite.testcase.variable.ConstantValue;
+import org.evosuite.testcase.variable.FieldReference;
+import org.evosuite.testcase.variable.NullReference;
+import org.evosuite.testcase.variable.VariableReference;
+import org.evosuite.utils.ParameterizedTypeImpl;
+import org.evosuite.utils.generic.GenericArrayTypeImpl;
+import org.evosuite.utils.generic.GenericClass;
+import org.evosuite.utils.generic.GenericConstructor;
+import org.evosuite.utils.generic.GenericField;
+import org.evosuite.utils.generic.GenericMethod;
+import org.evosuite.utils.generic.WildcardTypeImpl;
+
+/**
+ * Reads test cases written by {@link BinaryTestWriter}. Tests are read one
+ * at a time, and classes and members are resolved through reflection only
+ * once per stream, the first time they appear.
+ */
+public class BinaryTestReader implements Closeable {
+
+	private final DataInputStream in;
+
+	private final ClassLoader loader;
+
+	private final List<String> strings = new ArrayList<>();
+
+	private final List<Class<?>> classes = new ArrayList<>();
+
+	private final List<Object> members = new ArrayList<>();
+
+	private byte nextRecord;
+
+	/**
+	 * @param in
+	 * @param loader
+	 *            the class loader used to resolve the classes of the tests
+	 * @throws IOException
+	 *             if the stream is not in the binary test format, or its
+	 *             version is not supported
+	 */
+	public BinaryTestReader(InputStream in, ClassLoader loader) throws IOException {
+		this.in = new DataInputStream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in));
+		this.loader = loader;
+		if (this.in.readInt() != BinaryTestFormat.MAGIC) {
+			throw new IOException("Not a binary test file");
+		}
+		int version = readVarInt();
+		if (version != BinaryTestFormat.VERSION) {
+			throw new IOException("Unsupported binary test format version: " + version);
+		}
+		nextRecord = this.in.readByte();
+	}
+
+	public boolean hasNext() {
+		return nextRecord != BinaryTestFormat.RECORD_END;
+	}
+
+	public boolean isNextTest() {
+		return nextRecord == BinaryTestFormat.RECORD_TEST || nextRecord == BinaryTestFormat.RECORD_SERIALIZED_TEST;
+	}
+
+	public boolean isNextGenericClass() {
+		return nextRecord == BinaryTestFormat.RECORD_CLASS;
+	}
+
+	/**
+	 * Read the next record, which has to be a test
+	 *
+	 * @return
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 *             if a class of the test is not available anymore
+	 */
+	public TestCase readTest() throws IOException, ClassNotFoundException {
+		TestCase test;
+		if (nextRecord == BinaryTestFormat.RECORD_SERIALIZED_TEST) {
+			byte[] bytes = new byte[readVarInt()];
+			in.readFully(bytes);
+			try (ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+				test = (TestCase) objectIn.readObject();
+			}
+			for (Statement statement : test) {
+				statement.changeClassLoader(loader);
+			}
+		} else if (nextRecord == BinaryTestFormat.RECORD_TEST) {
+			test = new DefaultTestCase();
+			int size = readVarInt();
+			for (int i = 0; i < size; i++) {
+				test.addStatement(readStatement(test));
+			}
+			for (int i = 0; i < size; i++) {
+				int numAssertions = readVarInt();
+				for (int j = 0; j < numAssertions; j++) {
+					test.getStatement(i).addAssertion(readAssertion(test));
+				}
+			}
+		} else {
+			throw new IOException("Expected a test, found record " + nextRecord);
+		}
+		nextRecord = in.readByte();
+		return test;
+	}
+
+	/**
+	 * Read the next record, which has to be a class
+	 *
+	 * @return
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 */
+	public GenericClass readGenericClass() throws IOException, ClassNotFoundException {
+		if (nextRecord != BinaryTestFormat.RECORD_CLASS) {
+			throw new IOException("Expected a class, found record " + nextRecord);
+		}
+		GenericClass clazz = readGenericClassValue();
+		nextRecord = in.readByte();
+		return clazz;
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Statement readStatement(TestCase test) throws IOException, ClassNotFoundException {
+		byte tag = in.readByte();
+		switch (tag) {
+		case BinaryTestFormat.STATEMENT_NULL:
+			return new NullStatement(test, readType());
+		case BinaryTestFormat.STATEMENT_PRIMITIVE: {
+			GenericClass clazz = readGenericClassValue();
+			Object value = readValue();
+			PrimitiveStatement statement = PrimitiveStatement.getPrimitiveStatement(test, clazz);
+			statement.setValue(value);
+			return statement;
+		}
+		case BinaryTestFormat.STATEMENT_ARRAY: {
+			Type type = readType();
+			int[] lengths = new int[readVarInt()];
+			for (int i = 0; i < lengths.length; i++) {
+				lengths[i] = readVarInt();
+			}
+			return new ArrayStatement(test, type, lengths);
+		}
+		case BinaryTestFormat.STATEMENT_ASSIGNMENT: {
+			VariableReference target = readVariable(test);
+			VariableReference value = readVariable(test);
+			return new AssignmentStatement(test, target, value);
+		}
+		case BinaryTestFormat.STATEMENT_CONSTRUCTOR: {
+			GenericConstructor constructor = readConstructor();
+			return new ConstructorStatement(test, constructor, readVariables(test));
+		}
+		case BinaryTestFormat.STATEMENT_METHOD: {
+			GenericMethod method = readMethod();
+			VariableReference callee = readVariable(test);
+			MethodStatement statement = new MethodStatement(test, method, callee, readVariables(test));
+			if (in.readBoolean()) {
+				GenericClass arrayClass = readGenericClassValue();
+				int length = readVarInt();
+				if (!(statement.getReturnValue() instanceof ArrayReference)) {
+					statement.setRetval(new ArrayReference(test, arrayClass, length));
+				}
+			}
+			statement.getReturnValue().setType(readType());
+			return statement;
+		}
+		case BinaryTestFormat.STATEMENT_FIELD: {
+			GenericField field = readField();
+			VariableReference source = readVariable(test);
+			FieldStatement statement = new FieldStatement(test, field, source);
+			statement.getReturnValue().setType(readType());
+			return statement;
+		}
+		default:
+			throw new IOException("Unknown statement tag " + tag);
+		}
+	}
+
+	private Assertion readAssertion(TestCase test) throws IOException, ClassNotFoundException {
+		byte tag = in.readByte();
+		Assertion assertion;
+		switch (tag) {
+		case BinaryTestFormat.ASSERTION_PRIMITIVE:
+			assertion = new PrimitiveAssertion();
+			assertion.setSource(readVariable(test));
+			break;
+		case BinaryTestFormat.ASSERTION_NULL:
+			assertion = new NullAssertion();
+			assertion.setSource(readVariable(test));
+			break;
+		case BinaryTestFormat.ASSERTION_PRIMITIVE_FIELD: {
+			PrimitiveFieldAssertion fieldAssertion = new PrimitiveFieldAssertion();
+			fieldAssertion.setSource(readVariable(test));
+			fieldAssertion.setField(readRawField());
+			assertion = fieldAssertion;
+			break;
+		}
+		case BinaryTestFormat.ASSERTION_INSPECTOR: {
+			VariableReference source = readVariable(test);
+			Class<?> inspectedClass = ClassUtils.getClass(loader, readString(), false);
+			Inspector inspector = new Inspector(inspectedClass, readRawMethod());
+			assertion = new InspectorAssertion(inspector, null, source, null);
+			break;
+		}
+		case BinaryTestFormat.ASSERTION_COMPARE: {
+			CompareAssertion compareAssertion = new CompareAssertion();
+			compareAssertion.setSource(readVariable(test));
+			compareAssertion.setDest(readVariable(test));
+			assertion = compareAssertion;
+			break;
+		}
+		case BinaryTestFormat.ASSERTION_EQUALS: {
+			EqualsAssertion equalsAssertion = new EqualsAssertion();
+			equalsAssertion.setSource(readVariable(test));
+			equalsAssertion.setDest(readVariable(test));
+			assertion = equalsAssertion;
+			break;
+		}
+		case BinaryTestFormat.ASSERTION_SAME: {
+			SameAssertion sameAssertion = new SameAssertion();
+			sameAssertion.setSource(readVariable(test));
+			sameAssertion.setDest(readVariable(test));
+			assertion = sameAssertion;
+			break;
+		}
+		case BinaryTestFormat.ASSERTION_ARRAY_EQUALS:
+			assertion = new ArrayEqualsAssertion();
+			assertion.setSource(readVariable(test));
+			break;
+		case BinaryTestFormat.ASSERTION_ARRAY_LENGTH:
+			assertion = new ArrayLengthAssertion();
+			assertion.setSource(readVariable(test));
+			break;
+		case BinaryTestFormat.ASSERTION_CONTAINS: {
+			ContainsAssertion containsAssertion = new ContainsAssertion();
+			containsAssertion.setSource(readVariable(test));
+			containsAssertion.setContainedVariable(readVariable(test));
+			assertion = containsAssertion;
+			break;
+		}
+		default:
+			throw new IOException("Unknown assertion tag " + tag);
+		}
+		assertion.setValue(readValue());
+		if (in.readBoolean()) {
+			assertion.setComment(readRawString());
+		}
+		return assertion;
+	}
+
+	private List<VariableReference> readVariables(TestCase test) throws IOException, ClassNotFoundException {
+		int size = readVarInt();
+		List<VariableReference> variables = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			variables.add(readVariable(test));
+		}
+		return variables;
+	}
+
+	private VariableReference readVariable(TestCase test) throws IOException, ClassNotFoundException {
+		byte tag = in.readByte();
+		switch (tag) {
+		case BinaryTestFormat.VARIABLE_NONE:
+			return null;
+		case BinaryTestFormat.VARIABLE_STATEMENT:
+			return test.getStatement(readVarInt()).getReturnValue();
+		case BinaryTestFormat.VARIABLE_ARRAY_INDEX: {
+			ArrayReference array = (ArrayReference) test.getStatement(readVarInt()).getReturnValue();
+			int size = readVarInt();
+			List<Integer> indices = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				indices.add(readVarInt());
+			}
+			return new ArrayIndex(test, array, indices);
+		}
+		case BinaryTestFormat.VARIABLE_FIELD: {
+			GenericField field = readField();
+			VariableReference source = readVariable(test);
+			if (source == null) {
+				return new FieldReference(test, field, field.getFieldType());
+			} else {
+				return new FieldReference(test, field, field.getFieldType(), source);
+			}
+		}
+		case BinaryTestFormat.VARIABLE_CONSTANT: {
+			ConstantValue constant = new ConstantValue(test, readGenericClassValue());
+			constant.setValue(readValue());
+			return constant;
+		}
+		case BinaryTestFormat.VARIABLE_NULL:
+			return new NullReference(test, readType());
+		default:
+			throw new IOException("Unknown variable tag " + tag);
+		}
+	}
+
+	private Object readValue() throws IOException, ClassNotFoundException {
+		byte tag = in.readByte();
+		switch (tag) {
+		case BinaryTestFormat.VALUE_NULL:
+			return null;
+		case BinaryTestFormat.VALUE_BOOLEAN:
+			return in.readBoolean();
+		case BinaryTestFormat.VALUE_BYTE:
+			return in.readByte();
+		case BinaryTestFormat.VALUE_SHORT:
+			return in.readShort();
+		case BinaryTestFormat.VALUE_CHAR:
+			return in.readChar();
+		case BinaryTestFormat.VALUE_INT:
+			return (int) unZigZag(readVarLong());
+		case BinaryTestFormat.VALUE_LONG:
+			return unZigZag(readVarLong());
+		case BinaryTestFormat.VALUE_FLOAT:
+			return in.readFloat();
+		case BinaryTestFormat.VALUE_DOUBLE:
+			return in.readDouble();
+		case BinaryTestFormat.VALUE_STRING:
+			return readRawString();
+		case BinaryTestFormat.VALUE_ENUM: {
+			Class<?> enumClass = readClass();
+			String name = readString();
+			for (Object constant : enumClass.getEnumConstants()) {
+				if (((Enum<?>) constant).name().equals(name)) {
+					return constant;
+				}
+			}
+			throw new ClassNotFoundException("Unknown constant " + name + " of enum " + enumClass.getName());
+		}
+		case BinaryTestFormat.VALUE_CLASS:
+			return readClass();
+		case BinaryTestFormat.VALUE_ARRAY: {
+			Class<?> componentType = readClass();
+			Object array = Array.newInstance(componentType, readVarInt());
+			for (int i = 0; i < Array.getLength(array); i++) {
+				Array.set(array, i, readValue());
+			}
+			return array;
+		}
+		default:
+			throw new IOException("Unknown value tag " + tag);
+		}
+	}
+
+	private GenericClass readGenericClassValue() throws IOException, ClassNotFoundException {
+		Class<?> rawClass = readClass();
+		Type type = readType();
+		return new GenericClass(type, rawClass);
+	}
+
+	private Type readType() throws IOException, ClassNotFoundException {
+		byte tag = in.readByte();
+		switch (tag) {
+		case BinaryTestFormat.TYPE_NONE:
+			return null;
+		case BinaryTestFormat.TYPE_CLASS:
+			return readClass();
+		case BinaryTestFormat.TYPE_PARAMETERIZED: {
+			Class<?> rawType = readClass();
+			Type ownerType = readType();
+			return new ParameterizedTypeImpl(rawType, readTypes(), ownerType);
+		}
+		case BinaryTestFormat.TYPE_ARRAY:
+			return GenericArrayTypeImpl.createArrayType(readType());
+		case BinaryTestFormat.TYPE_WILDCARD: {
+			Type[] upperBounds = readTypes();
+			Type[] lowerBounds = readTypes();
+			return new WildcardTypeImpl(upperBounds, lowerBounds);
+		}
+		case BinaryTestFormat.TYPE_VARIABLE: {
+			Class<?> declaringClass = readClass();
+			String name = readString();
+			for (TypeVariable<?> typeVariable : declaringClass.getTypeParameters()) {
+				if (typeVariable.getName().equals(name)) {
+					return typeVariable;
+				}
+			}
+			throw new ClassNotFoundException("Unknown type variable " + name + " of " + declaringClass.getName());
+		}
+		default:
+			throw new IOException("Unknown type tag " + tag);
+		}
+	}
+
+	private Type[] readTypes() throws IOException, ClassNotFoundException {
+		Type[] types = new Type[readVarInt()];
+		for (int i = 0; i < types.length; i++) {
+			types[i] = readType();
+		}
+		return types;
+	}
+
+	private List<GenericClass> readTypeVariables() throws IOException, ClassNotFoundException {
+		int size = readVarInt();
+		List<GenericClass> typeVariables = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			typeVariables.add(readGenericClassValue());
+		}
+		return typeVariables;
+	}
+
+	private GenericMethod readMethod() throws IOException, ClassNotFoundException {
+		GenericMethod genericMethod = new GenericMethod(readRawMethod(), readGenericClassValue());
+		genericMethod.setTypeParameters(readTypeVariables());
+		return genericMethod;
+	}
+
+	private Method readRawMethod() throws IOException, ClassNotFoundException {
+		int index = readVarInt();
+		Method method;
+		if (index == 0) {
+			Class<?> declaringClass = readClass();
+			String name = readString();
+			String descriptor = readString();
+			method = null;
+			for (Method m : declaringClass.getDeclaredMethods()) {
+				if (m.getName().equals(name) && org.objectweb.asm.Type.getMethodDescriptor(m).equals(descriptor)) {
+					method = m;
+					break;
+				}
+			}
+			if (method == null) {
+				throw new ClassNotFoundException("Unknown method " + name + descriptor + " in class "
+						+ declaringClass.getName());
+			}
+			members.add(method);
+		} else {
+			method = (Method) members.get(index - 1);
+		}
+		return method;
+	}
+
+	private GenericConstructor readConstructor() throws IOException, ClassNotFoundException {
+		int index = readVarInt();
+		Constructor<?> constructor;
+		if (index == 0) {
+			Class<?> declaringClass = readClass();
+			String descriptor = readString();
+			constructor = null;
+			for (Constructor<?> c : declaringClass.getDeclaredConstructors()) {
+				if (org.objectweb.asm.Type.getConstructorDescriptor(c).equals(descriptor)) {
+					constructor = c;
+					break;
+				}
+			}
+			if (constructor == null) {
+				throw new ClassNotFoundException("Unknown constructor " + descriptor + " in class "
+						+ declaringClass.getName());
+			}
+			members.add(constructor);
+		} else {
+			constructor = (Constructor<?>) members.get(index - 1);
+		}
+		GenericConstructor genericConstructor = new GenericConstructor(constructor, readGenericClassValue());
+		genericConstructor.setTypeParameters(readTypeVariables());
+		return genericConstructor;
+	}
+
+	private GenericField readField() throws IOException, ClassNotFoundException {
+		return new GenericField(readRawField(), readGenericClassValue());
+	}
+
+	private Field readRawField() throws IOException, ClassNotFoundException {
+		int index = readVarInt();
+		Field field;
+		if (index == 0) {
+			Class<?> declaringClass = readClass();
+			String name = readString();
+			try {
+				field = declaringClass.getDeclaredField(name);
+			} catch (NoSuchFieldException e) {
+				throw new ClassNotFoundException("Unknown field " + name + " in class " + declaringClass.getName());
+			}
+			field.setAccessible(true);
+			members.add(field);
+		} else {
+			field = (Field) members.get(index - 1);
+		}
+		return field;
+	}
+
+	private Class<?> readClass() throws IOException, ClassNotFoundException {
+		int index = readVarInt();
+		if (index != 0) {
+			return classes.get(index - 1);
+		}
+		Class<?> clazz = ClassUtils.getClass(loader, readString(), false);
+		classes.add(clazz);
+		return clazz;
+	}
+
+	private String readString() throws IOException {
+		int index = readVarInt();
+		if (index != 0) {
+			return strings.get(index - 1);
+		}
+		String s = readRawString();
+		strings.add(s);
+		return s;
+	}
+
+	private String readRawString() throws IOException {
+		int length = readVarInt();
+		if (length < 0) {
+			throw new IOException("Malformed string length " + length);
+		}
+		StringBuilder s = new StringBuilder(Math.min(length, 1024));
+		for (int i = 0; i < length; i++) {
+			int b = in.readUnsignedByte();
+			if ((b & 0x80) == 0) {
+				s.append((char) b);
+			} else if ((b & 0xE0) == 0xC0) {
+				s.append((char) (((b & 0x1F) << 6) | readContinuationByte()));
+			} else if ((b & 0xF0) == 0xE0) {
+				int high = readContinuationByte();
+				s.append((char) (((b & 0x0F) << 12) | (high << 6) | readContinuationByte()));
+			} else {
+				throw new IOException("Malformed string");
+			}
+		}
+		return s.toString();
+	}
+
+	private int readContinuationByte() throws IOException {
+		int b = in.readUnsignedByte();
+		if ((b & 0xC0) != 0x80) {
+			throw new IOException("Malformed string");
+		}
+		return b & 0x3F;
+	}
+
+	private static long unZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private int readVarInt() throws IOException {
+		return (int) readVarLong();
+	}
+
+	private long readVarLong() throws IOException {
+		long value = 0;
+		int shift = 0;
+		while (true) {
+			byte b = in.readByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+			shift += 7;
+			if (shift > 63) {
+				throw new IOException("Malformed variable-length number");
+			}
+		}
+	}
+}
@@ -0,0 +1,645 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testsuite;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.evosuite.assertion.ArrayEqualsAssertion;
+import org.evosuite.assertion.ArrayLengthAssertion;
+import org.evosuite.assertion.Assertion;
+import org.evosuite.assertion.CompareAssertion;
+import org.evosuite.assertion.ContainsAssertion;
+import org.evosuite.assertion.EqualsAssertion;
+import org.evosuite.assertion.Inspector;
+import org.evosuite.assertion.InspectorAssertion;
+import org.evosuite.assertion.NullAssertion;
+import org.evosuite.assertion.PrimitiveAssertion;
+import org.evosuite.assertion.PrimitiveFieldAssertion;
+import org.evosuite.assertion.SameAssertion;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.statements.ArrayStatement;
+import org.evosuite.testcase.statements.AssignmentStatement;
+import org.evosuite.testcase.statements.ClassPrimitiveStatement;
+import org.evosuite.testcase.statements.ConstructorStatement;
+import org.evosuite.testcase.statements.EnumPrimitiveStatement;
+import org.evosuite.testcase.statements.FieldStatement;
+import org.evosuite.testcase.statements.MethodStatement;
+import org.evosuite.testcase.statements.NullStatement;
+import org.evosuite.testcase.statements.PrimitiveStatement;
+import org.evosuite.testcase.statements.Statement;
+import org.evosuite.testcase.statements.StringPrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.BooleanPrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.BytePrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.CharPrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.DoublePrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.FloatPrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.LongPrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.ShortPrimitiveStatement;
+import org.evosuite.testcase.variable.ArrayIndex;
+import org.evosuite.testcase.variable.ArrayReference;
+import org.evosuite.testcase.variable.ConstantValue;
+import org.evosuite.testcase.variable.FieldReference;
+import org.evosuite.testcase.variable.NullReference;
+import org.evosuite.testcase.variable.VariableReference;
+import org.evosuite.testcase.variable.VariableReferenceImpl;
+import org.evosuite.utils.generic.GenericAccessibleObject;
+import org.evosuite.utils.generic.GenericClass;
+import org.evosuite.utils.generic.GenericConstructor;
+import org.evosuite.utils.generic.GenericField;
+import org.evosuite.utils.generic.GenericMethod;
+
+import com.googlecode.gentyref.GenericTypeReflector;
+
+/**
+ * Writes test cases in the format described in {@link BinaryTestFormat}.
+ * Tests are written one at a time, so there is no need to keep a whole
+ * suite in memory. Tests containing statements that have no binary encoding
+ * or assertions (e.g. functional mocks or reflection statements) are embedded
+ * with Java serialization.
+ */
+public class BinaryTestWriter implements Closeable {
+
+	private final DataOutputStream out;
+
+	private final Map<String, Integer> strings = new HashMap<>();
+
+	private final Map<Class<?>, Integer> classes = new HashMap<>();
+
+	private final Map<Object, Integer> members = new HashMap<>();
+
+	public BinaryTestWriter(OutputStream out) throws IOException {
+		this.out = new DataOutputStream(new BufferedOutputStream(out));
+		this.out.writeInt(BinaryTestFormat.MAGIC);
+		writeVarInt(BinaryTestFormat.VERSION);
+	}
+
+	/**
+	 * Write a test case as the next record
+	 *
+	 * @param test
+	 * @throws IOException
+	 */
+	public void writeTest(TestCase test) throws IOException {
+		if (!isEncodable(test)) {
+			out.writeByte(BinaryTestFormat.RECORD_SERIALIZED_TEST);
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (ObjectOutputStream objectOut = new ObjectOutputStream(bytes)) {
+				objectOut.writeObject(test);
+			}
+			writeVarInt(bytes.size());
+			bytes.writeTo(out);
+			return;
+		}
+
+		out.writeByte(BinaryTestFormat.RECORD_TEST);
+		writeVarInt(test.size());
+		for (Statement statement : test) {
+			writeStatement(statement);
+		}
+		for (Statement statement : test) {
+			writeVarInt(statement.getAssertions().size());
+			for (Assertion assertion : statement.getAssertions()) {
+				writeAssertion(assertion);
+			}
+		}
+	}
+
+	/**
+	 * Write a class as the next record, e.g. the class a sequence of an
+	 * object pool generates
+	 *
+	 * @param clazz
+	 * @throws IOException
+	 */
+	public void writeGenericClass(GenericClass clazz) throws IOException {
+		out.writeByte(BinaryTestFormat.RECORD_CLASS);
+		writeGenericClassValue(clazz);
+	}
+
+	@Override
+	public void close() throws IOException {
+		out.writeByte(BinaryTestFormat.RECORD_END);
+		out.close();
+	}
+
+	/**
+	 * Check whether all statements and variables of the test have a binary
+	 * encoding. This has to be checked before writing anything, as the
+	 * intern tables must not contain entries of a test that is not written.
+	 *
+	 * @param test
+	 * @return
+	 */
+	private static boolean isEncodable(TestCase test) {
+		for (Statement statement : test) {
+			Class<?> statementClass = statement.getClass();
+			if (statementClass == NullStatement.class || statementClass == ArrayStatement.class) {
+				continue;
+			} else if (isEncodablePrimitive(statement)) {
+				if (!isEncodableValue(((PrimitiveStatement<?>) statement).getValue())) {
+					return false;
+				}
+			} else if (statementClass == AssignmentStatement.class) {
+				AssignmentStatement assignment = (AssignmentStatement) statement;
+				if (!isEncodable(assignment.getReturnValue()) || !isEncodable(assignment.getValue())) {
+					return false;
+				}
+			} else if (statementClass == ConstructorStatement.class) {
+				if (!isEncodable(((ConstructorStatement) statement).getParameterReferences())) {
+					return false;
+				}
+			} else if (statementClass == MethodStatement.class) {
+				MethodStatement methodStatement = (MethodStatement) statement;
+				if (!isEncodable(methodStatement.getParameterReferences())
+						|| (methodStatement.getCallee() != null && !isEncodable(methodStatement.getCallee()))) {
+					return false;
+				}
+			} else if (statementClass == FieldStatement.class) {
+				FieldStatement fieldStatement = (FieldStatement) statement;
+				if (fieldStatement.getSource() != null && !isEncodable(fieldStatement.getSource())) {
+					return false;
+				}
+			} else {
+				return false;
+			}
+			for (Assertion assertion : statement.getAssertions()) {
+				if (!isEncodable(assertion)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean isEncodable(Assertion assertion) {
+		if (assertion.getSource() == null || !isEncodable(assertion.getSource())
+				|| !isEncodableValue(assertion.getValue())) {
+			return false;
+		}
+		Class<?> assertionClass = assertion.getClass();
+		if (assertionClass == PrimitiveAssertion.class || assertionClass == NullAssertion.class
+				|| assertionClass == ArrayEqualsAssertion.class || assertionClass == ArrayLengthAssertion.class) {
+			return true;
+		} else if (assertionClass == PrimitiveFieldAssertion.class) {
+			return ((PrimitiveFieldAssertion) assertion).getField() != null;
+		} else if (assertionClass == InspectorAssertion.class) {
+			Inspector inspector = ((InspectorAssertion) assertion).getInspector();
+			return inspector != null && inspector.getMethod() != null;
+		} else if (assertionClass == CompareAssertion.class) {
+			return isEncodable(((CompareAssertion) assertion).getDest());
+		} else if (assertionClass == EqualsAssertion.class) {
+			return isEncodable(((EqualsAssertion) assertion).getDest());
+		} else if (assertionClass == SameAssertion.class) {
+			return isEncodable(((SameAssertion) assertion).getDest());
+		} else if (assertionClass == ContainsAssertion.class) {
+			return isEncodable(((ContainsAssertion) assertion).getContainedVariable());
+		}
+		return false;
+	}
+
+	private static boolean isEncodablePrimitive(Statement statement) {
+		Class<?> statementClass = statement.getClass();
+		return statementClass == BooleanPrimitiveStatement.class || statementClass == BytePrimitiveStatement.class
+				|| statementClass == CharPrimitiveStatement.class || statementClass == ShortPrimitiveStatement.class
+				|| statementClass == IntPrimitiveStatement.class || statementClass == LongPrimitiveStatement.class
+				|| statementClass == FloatPrimitiveStatement.class || statementClass == DoublePrimitiveStatement.class
+				|| statementClass == StringPrimitiveStatement.class || statementClass == EnumPrimitiveStatement.class
+				|| statementClass == ClassPrimitiveStatement.class;
+	}
+
+	private static boolean isEncodable(List<VariableReference> variables) {
+		for (VariableReference variable : variables) {
+			if (!isEncodable(variable)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isEncodable(VariableReference variable) {
+		if (variable == null) {
+			return false;
+		}
+		Class<?> variableClass = variable.getClass();
+		if (variableClass == VariableReferenceImpl.class || variableClass == ArrayReference.class
+				|| variableClass == NullReference.class) {
+			return true;
+		} else if (variableClass == ArrayIndex.class) {
+			return ((ArrayIndex) variable).getArray().getClass() == ArrayReference.class;
+		} else if (variableClass == FieldReference.class) {
+			VariableReference source = ((FieldReference) variable).getSource();
+			return source == null || isEncodable(source);
+		} else if (variableClass == ConstantValue.class) {
+			return isEncodableValue(((ConstantValue) variable).getValue());
+		}
+		return false;
+	}
+
+	private static boolean isEncodableValue(Object value) {
+		if (value != null && value.getClass().isArray()) {
+			for (int i = 0; i < Array.getLength(value); i++) {
+				if (!isEncodableValue(Array.get(value, i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return value == null || value instanceof Boolean || value instanceof Byte || value instanceof Short
+				|| value instanceof Character || value instanceof Integer || value instanceof Long
+				|| value instanceof Float || value instanceof Double || value instanceof String
+				|| value instanceof Enum || value instanceof Class;
+	}
+
+	private void writeStatement(Statement statement) throws IOException {
+		Class<?> statementClass = statement.getClass();
+		if (statementClass == NullStatement.class) {
+			out.writeByte(BinaryTestFormat.STATEMENT_NULL);
+			writeType(statement.getReturnValue().getType());
+		} else if (isEncodablePrimitive(statement)) {
+			out.writeByte(BinaryTestFormat.STATEMENT_PRIMITIVE);
+			writeGenericClassValue(statement.getReturnValue().getGenericClass());
+			writeValue(((PrimitiveStatement<?>) statement).getValue());
+		} else if (statementClass == ArrayStatement.class) {
+			out.writeByte(BinaryTestFormat.STATEMENT_ARRAY);
+			writeType(statement.getReturnValue().getType());
+			List<Integer> lengths = ((ArrayStatement) statement).getLengths();
+			writeVarInt(lengths.size());
+			for (Integer length : lengths) {
+				writeVarInt(length);
+			}
+		} else if (statementClass == AssignmentStatement.class) {
+			out.writeByte(BinaryTestFormat.STATEMENT_ASSIGNMENT);
+			writeVariable(statement.getReturnValue());
+			writeVariable(((AssignmentStatement) statement).getValue());
+		} else if (statementClass == ConstructorStatement.class) {
+			ConstructorStatement constructorStatement = (ConstructorStatement) statement;
+			out.writeByte(BinaryTestFormat.STATEMENT_CONSTRUCTOR);
+			writeConstructor(constructorStatement.getConstructor());
+			writeVariables(constructorStatement.getParameterReferences());
+		} else if (statementClass == MethodStatement.class) {
+			MethodStatement methodStatement = (MethodStatement) statement;
+			out.writeByte(BinaryTestFormat.STATEMENT_METHOD);
+			writeMethod(methodStatement.getMethod());
+			writeVariable(methodStatement.isStatic() ? null : methodStatement.getCallee());
+			writeVariables(methodStatement.getParameterReferences());
+			VariableReference retval = methodStatement.getReturnValue();
+			if (retval instanceof ArrayReference) {
+				out.writeBoolean(true);
+				writeGenericClassValue(retval.getGenericClass());
+				writeVarInt(((ArrayReference) retval).getArrayLength());
+			} else {
+				out.writeBoolean(false);
+			}
+			writeType(retval.getType());
+		} else if (statementClass == FieldStatement.class) {
+			FieldStatement fieldStatement = (FieldStatement) statement;
+			out.writeByte(BinaryTestFormat.STATEMENT_FIELD);
+			writeField(fieldStatement.getField());
+			writeVariable(fieldStatement.getField().isStatic() ? null : fieldStatement.getSource());
+			writeType(fieldStatement.getReturnValue().getType());
+		} else {
+			throw new IllegalStateException("No binary encoding for statement " + statementClass.getName());
+		}
+	}
+
+	private void writeAssertion(Assertion assertion) throws IOException {
+		Class<?> assertionClass = assertion.getClass();
+		if (assertionClass == PrimitiveAssertion.class) {
+			out.writeByte(BinaryTestFormat.ASSERTION_PRIMITIVE);
+			writeVariable(assertion.getSource());
+		} else if (assertionClass == NullAssertion.class) {
+			out.writeByte(BinaryTestFormat.ASSERTION_NULL);
+			writeVariable(assertion.getSource());
+		} else if (assertionClass == PrimitiveFieldAssertion.class) {
+			out.writeByte(BinaryTestFormat.ASSERTION_PRIMITIVE_FIELD);
+			writeVariable(assertion.getSource());
+			writeRawField(((PrimitiveFieldAssertion) assertion).getField());
+		} else if (assertionClass == InspectorAssertion.class) {
+			Inspector inspector = ((InspectorAssertion) assertion).getInspector();
+			out.writeByte(BinaryTestFormat.ASSERTION_INSPECTOR);
+			writeVariable(assertion.getSource());
+			writeString(inspector.getClassName());
+			writeRawMethod(inspector.getMethod());
+		} else if (assertionClass == CompareAssertion.class) {
+			out.writeByte(BinaryTestFormat.ASSERTION_COMPARE);
+			writeVariable(assertion.getSource());
+			writeVariable(((CompareAssertion) assertion).getDest());
+		} else if (assertionClass == EqualsAssertion.class) {
+			out.writeByte(BinaryTestFormat.ASSERTION_EQUALS);
+			writeVariable(assertion.getSource());
+			writeVariable(((EqualsAssertion) assertion).getDest());
+		} else if (assertionClass == SameAssertion.class) {
+			out.writeByte(BinaryTestFormat.ASSERTION_SAME);
+			writeVariable(assertion.getSource());
+			writeVariable(((SameAssertion) assertion).getDest());
+		} else if (assertionClass == ArrayEqualsAssertion.class) {
+			out.writeByte(BinaryTestFormat.ASSERTION_ARRAY_EQUALS);
+			writeVariable(assertion.getSource());
+		} else if (assertionClass == ArrayLengthAssertion.class) {
+			out.writeByte(BinaryTestFormat.ASSERTION_ARRAY_LENGTH);
+			writeVariable(assertion.getSource());
+		} else if (assertionClass == ContainsAssertion.class) {
+			out.writeByte(BinaryTestFormat.ASSERTION_CONTAINS);
+			writeVariable(assertion.getSource());
+			writeVariable(((ContainsAssertion) assertion).getContainedVariable());
+		} else {
+			throw new IllegalStateException("No binary encoding for assertion " + assertionClass.getName());
+		}
+		writeValue(assertion.getValue());
+		if (assertion.hasComment()) {
+			out.writeBoolean(true);
+			writeRawString(assertion.getComment());
+		} else {
+			out.writeBoolean(false);
+		}
+	}
+
+	private void writeVariables(List<VariableReference> variables) throws IOException {
+		writeVarInt(variables.size());
+		for (VariableReference variable : variables) {
+			writeVariable(variable);
+		}
+	}
+
+	private void writeVariable(VariableReference variable) throws IOException {
+		if (variable == null) {
+			out.writeByte(BinaryTestFormat.VARIABLE_NONE);
+		} else if (variable instanceof ArrayIndex) {
+			ArrayIndex index = (ArrayIndex) variable;
+			out.writeByte(BinaryTestFormat.VARIABLE_ARRAY_INDEX);
+			writeVarInt(index.getArray().getStPosition());
+			List<Integer> indices = index.getArrayIndices();
+			writeVarInt(indices.size());
+			for (Integer i : indices) {
+				writeVarInt(i);
+			}
+		} else if (variable instanceof FieldReference) {
+			FieldReference fieldReference = (FieldReference) variable;
+			out.writeByte(BinaryTestFormat.VARIABLE_FIELD);
+			writeField(fieldReference.getField());
+			writeVariable(fieldReference.getSource());
+		} else if (variable instanceof ConstantValue) {
+			out.writeByte(BinaryTestFormat.VARIABLE_CONSTANT);
+			writeGenericClassValue(variable.getGenericClass());
+			writeValue(((ConstantValue) variable).getValue());
+		} else if (variable instanceof NullReference) {
+			out.writeByte(BinaryTestFormat.VARIABLE_NULL);
+			writeType(variable.getType());
+		} else {
+			out.writeByte(BinaryTestFormat.VARIABLE_STATEMENT);
+			writeVarInt(variable.getStPosition());
+		}
+	}
+
+	private void writeValue(Object value) throws IOException {
+		if (value == null) {
+			out.writeByte(BinaryTestFormat.VALUE_NULL);
+		} else if (value instanceof Boolean) {
+			out.writeByte(BinaryTestFormat.VALUE_BOOLEAN);
+			out.writeBoolean((Boolean) value);
+		} else if (value instanceof Byte) {
+			out.writeByte(BinaryTestFormat.VALUE_BYTE);
+			out.writeByte((Byte) value);
+		} else if (value instanceof Short) {
+			out.writeByte(BinaryTestFormat.VALUE_SHORT);
+			out.writeShort((Short) value);
+		} else if (value instanceof Character) {
+			out.writeByte(BinaryTestFormat.VALUE_CHAR);
+			out.writeChar((Character) value);
+		} else if (value instanceof Integer) {
+			out.writeByte(BinaryTestFormat.VALUE_INT);
+			writeVarLong(zigZag((Integer) value));
+		} else if (value instanceof Long) {
+			out.writeByte(BinaryTestFormat.VALUE_LONG);
+			writeVarLong(zigZag((Long) value));
+		} else if (value instanceof Float) {
+			out.writeByte(BinaryTestFormat.VALUE_FLOAT);
+			out.writeFloat((Float) value);
+		} else if (value instanceof Double) {
+			out.writeByte(BinaryTestFormat.VALUE_DOUBLE);
+			out.writeDouble((Double) value);
+		} else if (value instanceof String) {
+			out.writeByte(BinaryTestFormat.VALUE_STRING);
+			writeRawString((String) value);
+		} else if (value instanceof Enum) {
+			Enum<?> e = (Enum<?>) value;
+			out.writeByte(BinaryTestFormat.VALUE_ENUM);
+			writeClass(e.getDeclaringClass());
+			writeString(e.name());
+		} else if (value instanceof Class) {
+			out.writeByte(BinaryTestFormat.VALUE_CLASS);
+			writeClass((Class<?>) value);
+		} else if (value.getClass().isArray()) {
+			int length = Array.getLength(value);
+			out.writeByte(BinaryTestFormat.VALUE_ARRAY);
+			writeClass(value.getClass().getComponentType());
+			writeVarInt(length);
+			for (int i = 0; i < length; i++) {
+				writeValue(Array.get(value, i));
+			}
+		} else {
+			throw new IllegalStateException("No binary encoding for value of " + value.getClass().getName());
+		}
+	}
+
+	private void writeGenericClassValue(GenericClass clazz) throws IOException {
+		writeClass(clazz.getRawClass());
+		writeType(clazz.getType());
+	}
+
+	private void writeType(Type type) throws IOException {
+		if (type == null) {
+			out.writeByte(BinaryTestFormat.TYPE_NONE);
+		} else if (type instanceof Class) {
+			out.writeByte(BinaryTestFormat.TYPE_CLASS);
+			writeClass((Class<?>) type);
+		} else if (type instanceof ParameterizedType) {
+			ParameterizedType parameterizedType = (ParameterizedType) type;
+			out.writeByte(BinaryTestFormat.TYPE_PARAMETERIZED);
+			writeClass((Class<?>) parameterizedType.getRawType());
+			writeType(parameterizedType.getOwnerType());
+			writeTypes(parameterizedType.getActualTypeArguments());
+		} else if (type instanceof GenericArrayType) {
+			out.writeByte(BinaryTestFormat.TYPE_ARRAY);
+			writeType(((GenericArrayType) type).getGenericComponentType());
+		} else if (type instanceof WildcardType) {
+			WildcardType wildcardType = (WildcardType) type;
+			out.writeByte(BinaryTestFormat.TYPE_WILDCARD);
+			writeTypes(wildcardType.getUpperBounds());
+			writeTypes(wildcardType.getLowerBounds());
+		} else if (type instanceof TypeVariable<?>
+				&& ((TypeVariable<?>) type).getGenericDeclaration() instanceof Class) {
+			TypeVariable<?> typeVariable = (TypeVariable<?>) type;
+			out.writeByte(BinaryTestFormat.TYPE_VARIABLE);
+			writeClass((Class<?>) typeVariable.getGenericDeclaration());
+			writeString(typeVariable.getName());
+		} else {
+			// Method type variables and capture types are replaced by their erasure
+			out.writeByte(BinaryTestFormat.TYPE_CLASS);
+			writeClass(GenericTypeReflector.erase(type));
+		}
+	}
+
+	private void writeTypes(Type[] types) throws IOException {
+		writeVarInt(types.length);
+		for (Type type : types) {
+			writeType(type);
+		}
+	}
+
+	private void writeOwnerAndTypeVariables(GenericAccessibleObject<?> accessibleObject) throws IOException {
+		writeGenericClassValue(accessibleObject.getOwnerClass());
+		List<GenericClass> typeVariables = accessibleObject.getTypeVariables();
+		writeVarInt(typeVariables.size());
+		for (GenericClass typeVariable : typeVariables) {
+			writeGenericClassValue(typeVariable);
+		}
+	}
+
+	private void writeMethod(GenericMethod method) throws IOException {
+		writeRawMethod(method.getMethod());
+		writeOwnerAndTypeVariables(method);
+	}
+
+	private void writeRawMethod(Method m) throws IOException {
+		if (!writeMemberIndex(m)) {
+			writeClass(m.getDeclaringClass());
+			writeString(m.getName());
+			writeString(org.objectweb.asm.Type.getMethodDescriptor(m));
+		}
+	}
+
+	private void writeConstructor(GenericConstructor constructor) throws IOException {
+		Constructor<?> c = constructor.getConstructor();
+		if (!writeMemberIndex(c)) {
+			writeClass(c.getDeclaringClass());
+			writeString(org.objectweb.asm.Type.getConstructorDescriptor(c));
+		}
+		writeOwnerAndTypeVariables(constructor);
+	}
+
+	private void writeField(GenericField field) throws IOException {
+		writeRawField(field.getField());
+		writeGenericClassValue(field.getOwnerClass());
+	}
+
+	private void writeRawField(Field f) throws IOException {
+		if (!writeMemberIndex(f)) {
+			writeClass(f.getDeclaringClass());
+			writeString(f.getName());
+		}
+	}
+
+	/**
+	 * Write the index of an already known member, or 0 followed by the new
+	 * index if the member is seen for the first time
+	 *
+	 * @return true if the member was already known
+	 */
+	private boolean writeMemberIndex(Object member) throws IOException {
+		Integer index = members.get(member);
+		if (index != null) {
+			writeVarInt(index);
+			return true;
+		}
+		members.put(member, members.size() + 1);
+		writeVarInt(0);
+		return false;
+	}
+
+	private void writeClass(Class<?> clazz) throws IOException {
+		Integer index = classes.get(clazz);
+		if (index != null) {
+			writeVarInt(index);
+			return;
+		}
+		classes.put(clazz, classes.size() + 1);
+		writeVarInt(0);
+		writeString(clazz.getName());
+	}
+
+	private void writeString(String s) throws IOException {
+		Integer index = strings.get(s);
+		if (index != null) {
+			writeVarInt(index);
+			return;
+		}
+		strings.put(s, strings.size() + 1);
+		writeVarInt(0);
+		writeRawString(s);
+	}
+
+	/**
+	 * Write the number of chars followed by the chars in modified UTF-8, which
+	 * encodes each char on its own. Unlike standard UTF-8, this keeps unpaired
+	 * surrogates, which generated strings may contain.
+	 */
+	private void writeRawString(String s) throws IOException {
+		writeVarInt(s.length());
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c != 0 && c < 0x80) {
+				out.writeByte(c);
+			} else if (c < 0x800) {
+				out.writeByte(0xC0 | (c >> 6));
+				out.writeByte(0x80 | (c & 0x3F));
+			} else {
+				out.writeByte(0xE0 | (c >> 12));
+				out.writeByte(0x80 | ((c >> 6) & 0x3F));
+				out.writeByte(0x80 | (c & 0x3F));
+			}
+		}
+	}
+
+	private static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private void writeVarInt(int value) throws IOException {
+		writeVarLong(value & 0xFFFFFFFFL);
+	}
+
+	private void writeVarLong(long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+}
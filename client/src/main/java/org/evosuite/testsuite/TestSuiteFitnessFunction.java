@@ -26,6 +26,7 @@ import org.evosuite.ga.FitnessFunction;
 import org.evosuite.ga.stoppingconditions.MaxStatementsStoppingCondition;
 import org.evosuite.testcase.ExecutableChromosome;
 import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.execution.ExecutionCheckpoint;
 import org.evosuite.testcase.execution.ExecutionResult;
 import org.evosuite.testcase.execution.ExecutionTracer;
 import org.evosuite.testcase.execution.TestCaseExecutor;
@@ -57,10 +58,24 @@ public abstract class TestSuiteFitnessFunction extends
 	 */
 	@Deprecated
 	public ExecutionResult runTest(TestCase test) {
+		return runTestFromCheckpoint(test, null);
+	}
+
+	/**
+	 * Execute a test case, skipping the prefix covered by the checkpoint of a
+	 * previous execution if it is still valid
+	 * 
+	 * @param test
+	 *            The test case to execute
+	 * @param checkpoint
+	 *            The checkpoint to resume from, can be null
+	 * @return Result of the execution
+	 */
+	public ExecutionResult runTestFromCheckpoint(TestCase test, ExecutionCheckpoint checkpoint) {
 		ExecutionResult result = new ExecutionResult(test, null);
 
 		try {
-			result = TestCaseExecutor.getInstance().execute(test);
+			result = TestCaseExecutor.getInstance().execute(test, checkpoint);
 			MaxStatementsStoppingCondition.statementsExecuted(result.getExecutedStatements());
 		} catch (Exception e) {
 			logger.warn("TG: Exception caught: " + e.getMessage(), e);
@@ -19,6 +19,7 @@
  */
 package org.evosuite.testsuite;
 
+import org.evosuite.Properties;
 import org.evosuite.TestGenerationContext;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.statements.Statement;
@@ -47,21 +48,12 @@ public class TestSuiteSerialization {
             parent.mkdirs();
         }
 
-        try(ObjectOutputStream out = new DebuggingObjectOutputStream(new FileOutputStream(target));){
-            for(TestSuiteChromosome ts : list) {
-                for (TestChromosome tc : ts.getTestChromosomes()) {
-                    out.writeObject(tc);
-                }
-            }
-
-            out.flush();
-            out.close();
-        }catch (IOException e){
-            logger.error("Failed to open/handle "+target.getAbsolutePath()+" for writing: "+e.getMessage());
-            return false;
+        List<TestChromosome> tests = new ArrayList<>();
+        for(TestSuiteChromosome ts : list) {
+            tests.addAll(ts.getTestChromosomes());
         }
 
-        return true;
+        return writeTests(tests, target);
     }
     
     public static boolean saveTests(TestSuiteChromosome ts, File target) throws IllegalArgumentException{
@@ -70,8 +62,24 @@ public class TestSuiteSerialization {
             parent.mkdirs();
         }
 
+        return writeTests(ts.getTestChromosomes(), target);
+    }
+
+    private static boolean writeTests(List<TestChromosome> tests, File target) {
+        if(Properties.SERIALIZATION_FORMAT == Properties.SerializationFormat.BINARY) {
+            try(BinaryTestWriter out = new BinaryTestWriter(new FileOutputStream(target))){
+                for (TestChromosome tc : tests) {
+                    out.writeTest(tc.getTestCase());
+                }
+            }catch (IOException e){
+                logger.error("Failed to open/handle "+target.getAbsolutePath()+" for writing: "+e.getMessage());
+                return false;
+            }
+            return true;
+        }
+
         try(ObjectOutputStream out = new DebuggingObjectOutputStream(new FileOutputStream(target));){
-        	for (TestChromosome tc : ts.getTestChromosomes()) {
+        	for (TestChromosome tc : tests) {
         		out.writeObject(tc);
             }
 
@@ -112,6 +120,19 @@ public class TestSuiteSerialization {
 
         List<TestChromosome> list = new ArrayList<>();
 
+        try(BufferedInputStream fileIn = new BufferedInputStream(new FileInputStream(target))) {
+            if (BinaryTestFormat.isBinaryFormat(fileIn)) {
+                loadBinaryTests(fileIn, target, list);
+                return list;
+            }
+        } catch (FileNotFoundException e) {
+            logger.warn("Cannot load tests because file does not exist: "+target.getAbsolutePath());
+            return list;
+        } catch (IOException e) {
+            logger.error("Failed to open/handle " + target.getAbsolutePath() + " for reading: " + e.getMessage());
+            return list;
+        }
+
         try(ObjectInputStream in = new ObjectInputStream(new FileInputStream(target)) ){
 
             try {
@@ -143,4 +164,18 @@ public class TestSuiteSerialization {
 
         return list;
     }
+
+    private static void loadBinaryTests(InputStream in, File target, List<TestChromosome> list) throws IOException {
+        BinaryTestReader reader = new BinaryTestReader(in, TestGenerationContext.getInstance().getClassLoaderForSUT());
+        try {
+            while (reader.hasNext()) {
+                TestChromosome tc = new TestChromosome();
+                tc.setTestCase(reader.readTest());
+                list.add(tc);
+            }
+        } catch (ClassNotFoundException | IOException | RuntimeException e) {
+            //this might happen if the SUT changed since the tests were saved, or if the file is truncated or corrupt
+            logger.warn("Problems when reading a serialized test from " + target.getAbsolutePath() + " : " + e.getMessage());
+        }
+    }
 }
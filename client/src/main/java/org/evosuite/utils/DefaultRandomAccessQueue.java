@@ -23,10 +23,8 @@
 package org.evosuite.utils;
 
 import java.util.ArrayDeque;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Queue;
-import java.util.Set;
 
 import org.evosuite.Properties;
 
@@ -36,7 +34,7 @@ import org.evosuite.Properties;
  */
 public class DefaultRandomAccessQueue<T> implements RandomAccessQueue<T> {
 
-	private final Set<T> valueSet = new HashSet<T>();
+	private final RandomAccessSet<T> valueSet = new RandomAccessSet<T>();
 
 	private final Queue<T> queue = new ArrayDeque<T>();
 
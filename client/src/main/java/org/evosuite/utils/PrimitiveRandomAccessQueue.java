@@ -0,0 +1,226 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.utils;
+
+import java.util.Arrays;
+
+/**
+ * Counterpart of {@link DefaultRandomAccessQueue} for primitive values, which
+ * are stored as <code>long</code> (floating point values by their raw bits).
+ *
+ * <p>
+ * The distinct values are kept in a ring buffer of fixed capacity, where the
+ * oldest value is overwritten once the buffer is full, and an open addressing
+ * hash set is used to detect duplicates. Added values are first collected in
+ * a small batch, which is only merged into the ring buffer when it is full,
+ * when {@link #flush()} is called (e.g. at the end of a test execution), or
+ * when a value is requested. Adding a value therefore neither allocates nor
+ * evicts.
+ * </p>
+ *
+ * <p>
+ * Values are added from the instrumented code, which may run on several
+ * threads of the SUT, so all methods are synchronized.
+ * </p>
+ */
+public class PrimitiveRandomAccessQueue {
+
+	private static final int BATCH_SIZE = 64;
+
+	/** Distinct values, in order of insertion */
+	private final long[] ring;
+
+	/** Position of the oldest value in the ring */
+	private int head = 0;
+
+	private int size = 0;
+
+	private final LongHashSet values;
+
+	private final long[] batch;
+
+	private int batchSize = 0;
+
+	private final LongHashSet batchValues;
+
+	/**
+	 * @param capacity
+	 *            maximum number of distinct values kept
+	 */
+	public PrimitiveRandomAccessQueue(int capacity) {
+		ring = new long[Math.max(1, capacity)];
+		values = new LongHashSet(ring.length);
+		batch = new long[Math.min(BATCH_SIZE, ring.length)];
+		batchValues = new LongHashSet(batch.length);
+	}
+
+	/**
+	 * Add a value, unless it is already contained
+	 *
+	 * @param value
+	 */
+	public synchronized void restrictedAdd(long value) {
+		/*
+		 * Unlike adding the values one at a time, a value that is in the ring
+		 * is ignored even if the batch evicts it before it is merged
+		 */
+		if (values.contains(value) || !batchValues.add(value)) {
+			return;
+		}
+		batch[batchSize++] = value;
+		if (batchSize == batch.length) {
+			flush();
+		}
+	}
+
+	/**
+	 * Merge the values added since the last flush into the ring buffer
+	 */
+	public synchronized void flush() {
+		for (int i = 0; i < batchSize; i++) {
+			long value = batch[i];
+			if (!values.add(value)) {
+				continue;
+			}
+			if (size == ring.length) {
+				values.remove(ring[head]);
+				ring[head] = value;
+				head = (head + 1) % ring.length;
+			} else {
+				ring[(head + size) % ring.length] = value;
+				size++;
+			}
+		}
+		batchSize = 0;
+		batchValues.clear();
+	}
+
+	/**
+	 * @return a random value, or 0 if the queue is empty
+	 */
+	public synchronized long getRandomValue() {
+		flush();
+		if (size == 0) {
+			return 0L;
+		}
+		return ring[(head + Randomness.nextInt(size)) % ring.length];
+	}
+
+	public synchronized int size() {
+		flush();
+		return size;
+	}
+
+	/**
+	 * @return the values, from the oldest to the most recent
+	 */
+	public synchronized long[] getValues() {
+		flush();
+		long[] result = new long[size];
+		for (int i = 0; i < size; i++) {
+			result[i] = ring[(head + i) % ring.length];
+		}
+		return result;
+	}
+
+	@Override
+	public synchronized String toString() {
+		StringBuilder res = new StringBuilder("[ ");
+		for (long value : getValues()) {
+			res.append(value).append(" ");
+		}
+		res.append("]");
+		return res.toString();
+	}
+
+	/**
+	 * Hash set of longs with linear probing. Removal shifts the following
+	 * entries of the cluster back, so no tombstones are needed.
+	 */
+	private static class LongHashSet {
+
+		private final long[] keys;
+
+		private final boolean[] used;
+
+		private final int mask;
+
+		LongHashSet(int expectedSize) {
+			int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+			keys = new long[capacity];
+			used = new boolean[capacity];
+			mask = capacity - 1;
+		}
+
+		private int slot(long key) {
+			long h = key * 0x9E3779B97F4A7C15L;
+			return (int) (h ^ (h >>> 32)) & mask;
+		}
+
+		boolean contains(long key) {
+			for (int i = slot(key); used[i]; i = (i + 1) & mask) {
+				if (keys[i] == key) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * @return false if the key was already contained
+		 */
+		boolean add(long key) {
+			int i = slot(key);
+			for (; used[i]; i = (i + 1) & mask) {
+				if (keys[i] == key) {
+					return false;
+				}
+			}
+			keys[i] = key;
+			used[i] = true;
+			return true;
+		}
+
+		void remove(long key) {
+			int i = slot(key);
+			while (used[i] && keys[i] != key) {
+				i = (i + 1) & mask;
+			}
+			if (!used[i]) {
+				return;
+			}
+			// shift back entries that would not be found anymore
+			int gap = i;
+			for (int j = (gap + 1) & mask; used[j]; j = (j + 1) & mask) {
+				int home = slot(keys[j]);
+				if (((j - home) & mask) >= ((j - gap) & mask)) {
+					keys[gap] = keys[j];
+					used[gap] = true;
+					gap = j;
+				}
+			}
+			used[gap] = false;
+		}
+
+		void clear() {
+			Arrays.fill(used, false);
+		}
+	}
+}
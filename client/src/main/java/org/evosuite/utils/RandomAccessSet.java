@@ -0,0 +1,181 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.utils;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A set that supports access by index, so that a random element can be
+ * selected in constant time (see {@link Randomness#choice(java.util.Collection)}).
+ *
+ * <p>
+ * Elements are kept in a dense array, and a hash map stores the position of
+ * each element. Insertion, removal and lookup take constant time: an element
+ * is removed by moving the last element into its position. Iteration follows
+ * the order of the array, which is the insertion order as long as no element
+ * is removed.
+ * </p>
+ *
+ * @param <E>
+ */
+public class RandomAccessSet<E> extends AbstractSet<E> implements Serializable {
+
+	private static final long serialVersionUID = -2791436352810564327L;
+
+	private final List<E> elements;
+
+	private final Map<E, Integer> positions;
+
+	private transient int modCount = 0;
+
+	public RandomAccessSet() {
+		elements = new ArrayList<E>();
+		positions = new HashMap<E, Integer>();
+	}
+
+	public RandomAccessSet(Collection<? extends E> collection) {
+		elements = new ArrayList<E>(collection.size());
+		positions = new HashMap<E, Integer>(Math.max(16, (int) (collection.size() / .75f) + 1));
+		addAll(collection);
+	}
+
+	/**
+	 * Returns the element at the given position of the underlying array
+	 *
+	 * @param index
+	 *            between 0 (inclusive) and {@link #size()} (exclusive)
+	 * @return
+	 */
+	public E get(int index) {
+		return elements.get(index);
+	}
+
+	@Override
+	public int size() {
+		return elements.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return elements.isEmpty();
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return positions.containsKey(o);
+	}
+
+	@Override
+	public boolean add(E e) {
+		if (positions.containsKey(e)) {
+			return false;
+		}
+		positions.put(e, elements.size());
+		elements.add(e);
+		modCount++;
+		return true;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		Integer position = positions.remove(o);
+		if (position == null) {
+			return false;
+		}
+		removeAt(position);
+		return true;
+	}
+
+	/**
+	 * Fill the gap left by a removed element with the last element
+	 *
+	 * @param position
+	 */
+	private void removeAt(int position) {
+		int last = elements.size() - 1;
+		E lastElement = elements.remove(last);
+		if (position != last) {
+			elements.set(position, lastElement);
+			positions.put(lastElement, position);
+		}
+		modCount++;
+	}
+
+	@Override
+	public void clear() {
+		elements.clear();
+		positions.clear();
+		modCount++;
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+
+			private int next = 0;
+
+			private int lastReturned = -1;
+
+			private int expectedModCount = modCount;
+
+			@Override
+			public boolean hasNext() {
+				return next < elements.size();
+			}
+
+			@Override
+			public E next() {
+				if (expectedModCount != modCount) {
+					throw new ConcurrentModificationException();
+				}
+				if (next >= elements.size()) {
+					throw new NoSuchElementException();
+				}
+				lastReturned = next++;
+				return elements.get(lastReturned);
+			}
+
+			@Override
+			public void remove() {
+				if (lastReturned < 0) {
+					throw new IllegalStateException();
+				}
+				if (expectedModCount != modCount) {
+					throw new ConcurrentModificationException();
+				}
+				positions.remove(elements.get(lastReturned));
+				removeAt(lastReturned);
+				// the last element was moved into the returned position
+				next = lastReturned;
+				lastReturned = -1;
+				expectedModCount = modCount;
+			}
+		};
+	}
+}
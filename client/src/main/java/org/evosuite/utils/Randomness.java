@@ -25,6 +25,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.RandomAccess;
 
 import org.evosuite.Properties;
 import org.slf4j.Logger;
@@ -257,6 +258,11 @@ public class Randomness implements Serializable {
 	 * choice
 	 * </p>
 	 * 
+	 * <p>
+	 * Takes constant time for a {@link RandomAccessSet} or a random access
+	 * list, whereas any other collection is copied to an array first.
+	 * </p>
+	 * 
 	 * @param set
 	 *            a {@link java.util.Collection} object.
 	 * @param <T>
@@ -269,6 +275,11 @@ public class Randomness implements Serializable {
 			return null;
 
 		int position = random.nextInt(set.size());
+		if (set instanceof RandomAccessSet)
+			return ((RandomAccessSet<T>) set).get(position);
+		if (set instanceof List && set instanceof RandomAccess)
+			return ((List<T>) set).get(position);
+
 		return (T) set.toArray()[position];
 	}
 
@@ -26,6 +26,7 @@ import java.io.Serializable;
 import java.lang.reflect.*;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -53,6 +54,12 @@ public abstract class GenericAccessibleObject<T extends GenericAccessibleObject<
 
 	protected List<GenericClass> typeVariables = new ArrayList<>();
 
+	/**
+	 * Exact parameter types as last computed, as they are needed each time a
+	 * statement using this object is executed
+	 */
+	private transient ParameterTypes parameterTypes;
+
 
 	protected static Type getTypeFromExactReturnType(GenericArrayType returnType,
 	        GenericArrayType type) {
@@ -166,6 +173,61 @@ public abstract class GenericAccessibleObject<T extends GenericAccessibleObject<
 		}
 	}
 
+	/**
+	 * Returns the parameter types stored by {@link #cacheParameterTypes}, if
+	 * neither the reflected member, the owner type, nor the type variables have
+	 * changed since.
+	 * 
+	 * @return a copy of the cached types, or null
+	 */
+	protected Type[] getCachedParameterTypes() {
+		ParameterTypes cached = parameterTypes;
+		if (cached == null || !cached.isValidFor(this))
+			return null;
+		return cached.types.clone();
+	}
+
+	protected Type[] cacheParameterTypes(Type[] types) {
+		parameterTypes = new ParameterTypes(this, types.clone());
+		return types;
+	}
+
+	/**
+	 * Parameter types, with everything they were computed from. Types are
+	 * immutable, so they are compared by identity.
+	 */
+	private static class ParameterTypes {
+
+		private final Type[] types;
+
+		private final AccessibleObject member;
+
+		private final Type ownerType;
+
+		private final Type[] typeVariableTypes;
+
+		ParameterTypes(GenericAccessibleObject<?> object, Type[] types) {
+			this.types = types;
+			this.member = object.getAccessibleObject();
+			this.ownerType = object.owner.getType();
+			this.typeVariableTypes = new Type[object.typeVariables.size()];
+			for (int i = 0; i < typeVariableTypes.length; i++) {
+				typeVariableTypes[i] = object.typeVariables.get(i).getType();
+			}
+		}
+
+		boolean isValidFor(GenericAccessibleObject<?> object) {
+			if (member != object.getAccessibleObject() || ownerType != object.owner.getType()
+			        || typeVariableTypes.length != object.typeVariables.size())
+				return false;
+			for (int i = 0; i < typeVariableTypes.length; i++) {
+				if (typeVariableTypes[i] != object.typeVariables.get(i).getType())
+					return false;
+			}
+			return true;
+		}
+	}
+
 	protected void copyTypeVariables(GenericAccessibleObject<?> copy) {
 		for(GenericClass variable : typeVariables) {
 			copy.typeVariables.add(new GenericClass(variable));
@@ -369,6 +431,15 @@ public abstract class GenericAccessibleObject<T extends GenericAccessibleObject<
 
 	public abstract Class<?> getRawGeneratedType();
 
+	/**
+	 * The classes the type parameters of this object are instantiated with
+	 * 
+	 * @return
+	 */
+	public List<GenericClass> getTypeVariables() {
+		return Collections.unmodifiableList(typeVariables);
+	}
+
 	public TypeVariable<?>[] getTypeParameters() {
 		return new TypeVariable<?>[] {};
 	}
@@ -206,6 +206,13 @@ public class GenericConstructor extends GenericAccessibleObject<GenericConstruct
 	}
 
 	public Type[] getParameterTypes() {
+		Type[] types = getCachedParameterTypes();
+		if (types == null)
+			types = cacheParameterTypes(computeParameterTypes());
+		return types;
+	}
+
+	private Type[] computeParameterTypes() {
 		Type[] types = getExactParameterTypes(constructor, owner.getType());
 		Type[] rawTypes = constructor.getParameterTypes();
 
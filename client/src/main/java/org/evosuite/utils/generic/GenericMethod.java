@@ -112,7 +112,10 @@ public class GenericMethod extends GenericAccessibleObject<GenericMethod> {
 	}
 
 	public Type[] getParameterTypes() {
-		return getExactParameterTypes(method, owner.getType());
+		Type[] types = getCachedParameterTypes();
+		if (types == null)
+			types = cacheParameterTypes(getExactParameterTypes(method, owner.getType()));
+		return types;
 	}
 
 	public List<GenericClass> getParameterClasses() {
@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.dse;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class VMDispatchTest {
+
+	private static class RecordingVM extends AbstractVM {
+
+		private final String name;
+
+		private final List<String> calls;
+
+		public RecordingVM(String name, List<String> calls) {
+			this.name = name;
+			this.calls = calls;
+		}
+
+		@Override
+		public void NEW(String typeName) {
+			calls.add(name + ":" + typeName);
+		}
+	}
+
+	private static class StoppingVM extends AbstractVM {
+
+		@Override
+		public void ICONST_0() {
+			throw new StopVMException("stop") {
+			};
+		}
+	}
+
+	@After
+	public void resetVM() {
+		VM.clearInstance();
+	}
+
+	@Test
+	public void testListenersAreCalledInOrder() {
+		List<String> calls = new ArrayList<String>();
+		VM vm = VM.getInstance();
+		vm.prependListener(new RecordingVM("first", calls));
+		vm.appendListener(new RecordingVM("last", calls));
+		vm.setListeners(Arrays.<IVM> asList(new AbstractVM() {
+		}, new RecordingVM("middle", calls)));
+		vm.prepareConcolicExecution();
+
+		VM.NEW("Foo");
+
+		assertEquals(Arrays.asList("first:Foo", "middle:Foo", "last:Foo"), calls);
+	}
+
+	@Test
+	public void testNoCallbacksAfterStop() {
+		List<String> calls = new ArrayList<String>();
+		VM vm = VM.getInstance();
+		vm.setListeners(Arrays.<IVM> asList(new StoppingVM(), new RecordingVM("listener", calls)));
+		vm.prepareConcolicExecution();
+
+		VM.NEW("Foo");
+		VM.ICONST_0();
+		VM.NEW("Bar");
+
+		assertEquals(Arrays.asList("listener:Foo"), calls);
+		assertEquals(true, vm.isStopped());
+	}
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.metaheuristics.mosa.structural;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.evosuite.coverage.branch.BranchCoverageGoal;
+import org.evosuite.coverage.branch.BranchCoverageTestFitness;
+import org.evosuite.ga.FitnessFunction;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.execution.ExecutionResult;
+import org.evosuite.testcase.execution.ExecutionTraceImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BranchesManagerTest {
+
+	/**
+	 * A branchless goal with a fixed fitness, which counts how often it is
+	 * evaluated. The archive is updated as part of the evaluation.
+	 */
+	private static class FixedFitness extends BranchCoverageTestFitness {
+
+		private static final long serialVersionUID = 1L;
+
+		private final double fitness;
+
+		private int evaluations = 0;
+
+		FixedFitness(String methodName, double fitness) {
+			super(new BranchCoverageGoal(null, true, "Foo", methodName, 1));
+			this.fitness = fitness;
+		}
+
+		@Override
+		public double getFitness(TestChromosome individual, ExecutionResult result) {
+			evaluations++;
+			return fitness;
+		}
+	}
+
+	private static TestChromosome createExecutedTest() {
+		TestChromosome test = new TestChromosome();
+		test.setTestCase(new DefaultTestCase());
+		ExecutionResult result = new ExecutionResult(test.getTestCase());
+		result.setTrace(new ExecutionTraceImpl());
+		test.setLastExecutionResult(result);
+		test.setChanged(false);
+		return test;
+	}
+
+	@Test
+	public void testCoveredGoalsAreEvaluatedAgain() {
+		FixedFitness covered = new FixedFitness("covered()V", 0.0);
+		FixedFitness uncovered = new FixedFitness("uncovered()V", 1.0);
+		List<FitnessFunction<TestChromosome>> goals = new ArrayList<FitnessFunction<TestChromosome>>();
+		goals.add(covered);
+		goals.add(uncovered);
+		BranchesManager<TestChromosome> manager = new BranchesManager<TestChromosome>(goals);
+
+		TestChromosome first = createExecutedTest();
+		manager.calculateFitness(first, first.getLastExecutionResult());
+		Assert.assertEquals(0.0, first.getFitness(covered), 0.0);
+		Assert.assertEquals(1.0, first.getFitness(uncovered), 0.0);
+		Assert.assertSame(first, manager.getCoveredGoals().get(covered));
+		Assert.assertFalse(manager.getCurrentGoals().contains(covered));
+		Assert.assertTrue(manager.getCurrentGoals().contains(uncovered));
+
+		// the covered goal is reached through the root goals again, and is
+		// still evaluated, so that the archive sees the new test
+		manager.getCurrentGoals().add(covered);
+		TestChromosome second = createExecutedTest();
+		manager.calculateFitness(second, second.getLastExecutionResult());
+		Assert.assertEquals(2, covered.evaluations);
+		Assert.assertEquals(2, uncovered.evaluations);
+		Assert.assertEquals(0.0, second.getFitness(covered), 0.0);
+		Assert.assertEquals(1.0, second.getFitness(uncovered), 0.0);
+		Assert.assertTrue(second.getTestCase().getCoveredGoals().contains(covered));
+		Assert.assertTrue(manager.getCurrentGoals().contains(uncovered));
+	}
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.operators.selection;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.evosuite.ga.DummyChromosome;
+import org.evosuite.ga.FitnessFunction;
+import org.junit.Test;
+
+public class DiverseKSelectionTest {
+
+	private static class Goal extends FitnessFunction<DummyChromosome> {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public double getFitness(DummyChromosome individual) {
+			return 0;
+		}
+
+		@Override
+		public boolean isMaximizationFunction() {
+			return false;
+		}
+	}
+
+	private final Goal a = new Goal();
+	private final Goal b = new Goal();
+	private final Goal c = new Goal();
+
+	private static DummyChromosome covering(int id, Goal... goals) {
+		DummyChromosome individual = new DummyChromosome(id);
+		for (Goal goal : goals) {
+			individual.setFitness(goal, 0.0);
+		}
+		return individual;
+	}
+
+	@Test
+	public void testSelectsDifferentGoals() {
+		DummyChromosome first = covering(1, a, b);
+		DummyChromosome same = covering(2, a, b);
+		DummyChromosome other = covering(3, c);
+		same.setFitness(c, 1.0);
+
+		List<DummyChromosome> selected = new DiverseKSelection<DummyChromosome>().select(
+		        Arrays.asList(first, same, other), 2);
+		assertEquals(Arrays.asList(first, other), selected);
+	}
+
+	@Test
+	public void testPopulationOrderWithoutNewGoals() {
+		DummyChromosome first = covering(4, a);
+		DummyChromosome second = covering(5, a);
+		DummyChromosome third = covering(6);
+
+		List<DummyChromosome> selected = new DiverseKSelection<DummyChromosome>().select(
+		        Arrays.asList(first, second, third), 3);
+		assertEquals(Arrays.asList(first, second, third), selected);
+	}
+
+	@Test
+	public void testNovelKeepsSelectedGoals() {
+		DummyChromosome first = covering(7, a);
+		DummyChromosome second = covering(8, b);
+		NovelKSelection<DummyChromosome> selection = new NovelKSelection<>();
+
+		assertEquals(Arrays.asList(first), selection.select(Arrays.asList(first, second), 1));
+		// a has been selected before, so b is new
+		assertEquals(Arrays.asList(second), selection.select(Arrays.asList(first, second), 1));
+	}
+}
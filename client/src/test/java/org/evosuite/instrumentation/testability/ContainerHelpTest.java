@@ -132,4 +132,28 @@ public class ContainerHelpTest {
         Assert.assertEquals(1, ContainerHelper.mapContainsValue(map, 233));
         Assert.assertTrue(ContainerHelper.mapContainsValue(map, 24) < 0);
     }
+
+    @Test
+    public void testContainsStringDistance() {
+        Set<String> set = new HashSet<String>();
+        for (int i = 0; i < 100; i++) {
+            set.add("element" + i);
+        }
+        int close = ContainerHelper.collectionContains(set, "element1x");
+        int far = ContainerHelper.collectionContains(set, "something else");
+        Assert.assertTrue(close < 0);
+        Assert.assertTrue(far < close);
+        // same result when the distances are cached
+        Assert.assertEquals(close, ContainerHelper.collectionContains(set, "element1x"));
+        ContainerHelper.clearCache();
+        Assert.assertEquals(far, ContainerHelper.collectionContains(set, "something else"));
+    }
+
+    @Test
+    public void testContainsSortedSetIncomparable() {
+        Set<Object> set = new TreeSet<Object>();
+        set.add("foo");
+        // TreeSet.contains would throw a ClassCastException
+        Assert.assertTrue(ContainerHelper.collectionContains(set, 17) < 0);
+    }
 }
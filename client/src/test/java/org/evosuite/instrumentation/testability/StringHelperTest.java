@@ -335,4 +335,21 @@ public class StringHelperTest {
 		assertTrue(result1 < result4);
 
 	}
+
+	@Test
+	public void testEditDistanceWithLimit() {
+		String[] strings = { "", "a", "ab", "ba", "foo", "fooo", "bar", "kitten", "sitting", "abcdefgh", "hgfedcba" };
+		for (String s : strings) {
+			for (String t : strings) {
+				int distance = StringHelper.editDistance(s, t);
+				for (int limit = 0; limit <= 10; limit++) {
+					int bounded = StringHelper.editDistance(s, t, limit);
+					if (distance <= limit)
+						assertEquals(s + "/" + t + "/" + limit, distance, bounded);
+					else
+						assertEquals(s + "/" + t + "/" + limit, limit + 1, bounded);
+				}
+			}
+		}
+	}
 }
@@ -0,0 +1,159 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.junit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.BitSet;
+
+import org.junit.Test;
+
+public class CoverageMatrixTest {
+
+	private static CoverageMatrix createMatrix() {
+		CoverageMatrix matrix = new CoverageMatrix(5);
+		matrix.addTest(true);
+		matrix.setCovered(0, 0);
+		matrix.setCovered(0, 1);
+		matrix.setCovered(0, 4);
+		matrix.addTest(false); // covers nothing
+		matrix.addTest(false);
+		matrix.setCovered(2, 3);
+		return matrix;
+	}
+
+	@Test
+	public void testArrayConversion() {
+		CoverageMatrix matrix = createMatrix();
+		boolean[][] array = matrix.toArray();
+		assertEquals(3, array.length);
+		assertArrayEquals(new boolean[] { true, true, false, false, true, true }, array[0]);
+		assertArrayEquals(new boolean[] { false, false, false, false, false, false }, array[1]);
+		assertArrayEquals(new boolean[] { false, false, false, true, false, false }, array[2]);
+
+		CoverageMatrix copy = CoverageMatrix.fromArray(array);
+		assertEquals(5, copy.getNumGoals());
+		assertEquals(3, copy.getNumTests());
+		for (int test = 0; test < 3; test++) {
+			assertEquals(matrix.getCoveredGoals(test), copy.getCoveredGoals(test));
+			assertEquals(matrix.isSuccessful(test), copy.isSuccessful(test));
+		}
+		assertEquals(4, matrix.getCoveredGoals().cardinality());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testUnknownGoal() {
+		CoverageMatrix matrix = new CoverageMatrix(2);
+		matrix.addTest(true);
+		matrix.setCovered(0, 2);
+	}
+
+	@Test
+	public void testAddTests() {
+		CoverageMatrix matrix = createMatrix();
+		matrix.addTests(createMatrix());
+		assertEquals(5, matrix.getNumGoals());
+		assertEquals(6, matrix.getNumTests());
+		for (int test = 0; test < 3; test++) {
+			assertEquals(matrix.getCoveredGoals(test), matrix.getCoveredGoals(test + 3));
+			assertEquals(matrix.isSuccessful(test), matrix.isSuccessful(test + 3));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testAddTestsOfOtherGoals() {
+		createMatrix().addTests(new CoverageMatrix(4));
+	}
+
+	@Test
+	public void testText() throws IOException {
+		StringWriter writer = new StringWriter();
+		CoverageReportGenerator.writeText(createMatrix(), writer);
+		assertEquals("1 1 0 0 1 +\n0 0 0 1 0 -\n", writer.toString());
+	}
+
+	@Test
+	public void testBinaryRoundTrip() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (CoverageMatrixWriter writer = new CoverageMatrixWriter(bytes, 5)) {
+			writer.writeAll(createMatrix(), true);
+		}
+
+		BufferedInputStream in = new BufferedInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		assertTrue(CoverageMatrixWriter.isBinaryFormat(in));
+		try (CoverageMatrixReader reader = new CoverageMatrixReader(in)) {
+			assertEquals(5, reader.getNumGoals());
+
+			assertTrue(reader.hasNext());
+			BitSet row = reader.next();
+			assertTrue(reader.wasSuccessful());
+			assertEquals(3, row.cardinality());
+			assertTrue(row.get(0) && row.get(1) && row.get(4));
+
+			assertTrue(reader.hasNext());
+			row = reader.next();
+			assertFalse(reader.wasSuccessful());
+			assertEquals(1, row.cardinality());
+			assertTrue(row.get(3));
+
+			assertFalse(reader.hasNext());
+		}
+	}
+
+	@Test
+	public void testRunLengthEncoding() throws IOException {
+		int numGoals = 100000;
+		BitSet row = new BitSet();
+		row.set(1000, 50000);
+		row.set(99999);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (CoverageMatrixWriter writer = new CoverageMatrixWriter(bytes, numGoals)) {
+			writer.writeTest(row, true);
+			writer.writeTest(new BitSet(), false);
+		}
+		// magic, version, goals, and four runs of at most three bytes per test
+		assertTrue(bytes.size() < 32);
+
+		try (CoverageMatrixReader reader = new CoverageMatrixReader(new ByteArrayInputStream(bytes.toByteArray()))) {
+			CoverageMatrix matrix = reader.readAll();
+			assertEquals(2, matrix.getNumTests());
+			assertEquals(row, matrix.getCoveredGoals(0));
+			assertTrue(matrix.isSuccessful(0));
+			assertTrue(matrix.getCoveredGoals(1).isEmpty());
+			assertFalse(matrix.isSuccessful(1));
+		}
+	}
+
+	@Test
+	public void testNotBinary() throws IOException {
+		BufferedInputStream in = new BufferedInputStream(new ByteArrayInputStream("1 0 +\n".getBytes()));
+		assertFalse(CoverageMatrixWriter.isBinaryFormat(in));
+		assertEquals('1', in.read());
+	}
+}
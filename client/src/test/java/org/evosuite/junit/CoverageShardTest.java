@@ -0,0 +1,76 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.junit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+
+import org.evosuite.Properties.Criterion;
+import org.junit.Test;
+
+public class CoverageShardTest {
+
+	private static CoverageShard createShard(int goal, boolean wasSuccessful) {
+		CoverageMatrix matrix = new CoverageMatrix(3);
+		matrix.addTest(wasSuccessful);
+		matrix.setCovered(0, goal);
+		BitSet covered = new BitSet();
+		covered.set(goal);
+
+		CoverageShard shard = new CoverageShard(1);
+		shard.setCoverage("Foo", Criterion.LINE, matrix, covered);
+		return shard;
+	}
+
+	@Test
+	public void testMerge() {
+		CoverageShard shard = createShard(0, true);
+		shard.merge(createShard(2, false));
+		assertEquals(2, shard.getNumTests());
+
+		CoverageMatrix matrix = shard.getCoverageMatrix("Foo", Criterion.LINE);
+		assertEquals(2, matrix.getNumTests());
+		assertTrue(matrix.isCovered(0, 0) && matrix.isSuccessful(0));
+		assertTrue(matrix.isCovered(1, 2) && !matrix.isSuccessful(1));
+
+		BitSet covered = shard.getCoveredGoals("Foo", Criterion.LINE);
+		assertEquals(2, covered.cardinality());
+		assertTrue(covered.get(0) && covered.get(2));
+	}
+
+	@Test
+	public void testMergeIntoEmptyShard() {
+		CoverageShard shard = new CoverageShard(0);
+		shard.merge(createShard(1, true));
+		assertEquals(1, shard.getNumTests());
+		assertEquals(1, shard.getCoverageMatrix("Foo", Criterion.LINE).getNumTests());
+		assertTrue(shard.getCoveredGoals("Foo", Criterion.LINE).get(1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMergeOtherGoals() {
+		CoverageShard shard = createShard(0, true);
+		CoverageShard other = new CoverageShard(1);
+		other.setCoverage("Foo", Criterion.LINE, new CoverageMatrix(4), new BitSet());
+		shard.merge(other);
+	}
+}
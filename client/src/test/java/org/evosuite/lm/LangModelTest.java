@@ -0,0 +1,71 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.lm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.evosuite.Properties;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class LangModelTest {
+
+    private static LangModel model;
+
+    @BeforeClass
+    public static void loadModel() throws IOException {
+        model = new LangModel(Properties.LM_SRC);
+    }
+
+    @Test
+    public void testEnglishScoresBetterThanNoise() {
+        assertTrue(model.score("hello world") > model.score("qxzj vkwq"));
+    }
+
+    @Test
+    public void testPredictions() {
+        for (int n = 1; n < 10; n++) {
+            assertTrue(model.predict_char_prob(n - 1) >= model.predict_char_prob(n));
+        }
+        assertNull(model.predict_char(10));
+        assertEquals(0.0, model.predict_char_prob("\u4e2d", 0), 0.0);
+    }
+
+    @Test
+    public void testImage() throws IOException {
+        ByteArrayOutputStream image = new ByteArrayOutputStream();
+        model.writeImage(image);
+        LangModel loaded = LangModel.fromImage(new ByteArrayInputStream(image.toByteArray()));
+
+        for (String str : new String[] { "hello world", "qxzj vkwq", " <s> ", "\u00e9t\u00e9" }) {
+            assertEquals(model.score(str), loaded.score(str), 0.0);
+        }
+        for (int n = 0; n < 10; n++) {
+            assertEquals(model.predict_char("e", n), loaded.predict_char("e", n));
+            assertEquals(model.predict_char_prob("e", n), loaded.predict_char_prob("e", n), 0.0);
+        }
+    }
+}
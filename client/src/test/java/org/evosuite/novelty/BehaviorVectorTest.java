@@ -0,0 +1,56 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.novelty;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.BitSet;
+
+import org.junit.Test;
+
+public class BehaviorVectorTest {
+
+    private static BitSet bits(int... indices) {
+        BitSet bits = new BitSet();
+        for (int index : indices)
+            bits.set(index);
+        return bits;
+    }
+
+    @Test
+    public void testBranchDistances() {
+        BehaviorVector v1 = new BehaviorVector(new double[] { 1.0, 2.0, Double.NaN, Double.NaN }, bits());
+        BehaviorVector v2 = new BehaviorVector(new double[] { 3.5, Double.NaN, 0.0, Double.NaN }, bits());
+
+        // 2.5 for the first branch, 1 each for the branches reached by one test only
+        assertEquals(4.5, v1.distance(v2), 0.0);
+        assertEquals(4.5, v2.distance(v1), 0.0);
+        assertEquals(0.0, v1.distance(v1), 0.0);
+    }
+
+    @Test
+    public void testBranchlessMethods() {
+        BehaviorVector v1 = new BehaviorVector(new double[0], bits(0, 3, 70));
+        BehaviorVector v2 = new BehaviorVector(new double[0], bits(3, 130));
+
+        assertEquals(3.0, v1.distance(v2), 0.0);
+        assertEquals(3.0, v2.distance(v1), 0.0);
+    }
+}
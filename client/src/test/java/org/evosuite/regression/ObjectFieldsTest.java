@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.regression;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class ObjectFieldsTest {
+
+    private static class Inner {
+
+        private int y = 2;
+    }
+
+    private static class Outer {
+
+        private int x = 1;
+        private String name = "foo";
+        private Object any = null;
+        private Inner inner = new Inner();
+        private Inner[] inners = new Inner[]{new Inner()};
+        private final int constant = 3;
+    }
+
+    private static class SubOuter extends Outer {
+
+        private long z = 4L;
+    }
+
+    @Test
+    public void elementaryValue() {
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("fake_var_java_lang_Integer", 42);
+        assertEquals(expected, ObjectFields.getObjectMap(42));
+    }
+
+    @Test
+    public void nestedFields() {
+        Map<String, Object> inner = new HashMap<>();
+        inner.put("innery", 2.0);
+        Map<String, Object> innerInArray = new HashMap<>();
+        innerInArray.put("innersy", 2.0);
+
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("x", 1.0);
+        expected.put("name", "foo");
+        expected.put("any", true);
+        expected.put("inner", inner);
+        expected.put("inners", innerInArray);
+
+        assertEquals(expected, ObjectFields.getObjectMap(new Outer()));
+    }
+
+    @Test
+    public void inheritedFields() {
+        Map<String, Object> map = ObjectFields.getObjectMap(new SubOuter());
+        assertEquals(4.0, map.get("z"));
+        assertEquals(1.0, map.get("x"));
+        assertEquals(6, map.size());
+    }
+}
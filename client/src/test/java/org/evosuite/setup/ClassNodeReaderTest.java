@@ -0,0 +1,56 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.setup;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+
+public class ClassNodeReaderTest {
+
+	private static final List<String> CLASSES = Arrays.asList("org/evosuite/setup/ClassNodeReader",
+	        "org/evosuite/setup/DoesNotExist", "org/evosuite/setup/ClassNodeReaderTest",
+	        "org/evosuite/setup/InheritanceTree", "org/evosuite/setup/DependencyAnalysis");
+
+	private static List<String> read(int numThreads) {
+		final List<String> read = new ArrayList<>();
+		new ClassNodeReader(ClassReader.SKIP_CODE, numThreads).read(CLASSES,
+		        className -> ClassNodeReaderTest.class.getClassLoader().getResourceAsStream(className + ".class"),
+		        (className, cn) -> {
+			        assertEquals(className, cn.name);
+			        read.add(className);
+		        });
+		return read;
+	}
+
+	@Test
+	public void testOrderIsKept() {
+		List<String> expected = new ArrayList<>(CLASSES);
+		expected.remove("org/evosuite/setup/DoesNotExist");
+
+		assertEquals(expected, read(1));
+		assertEquals(expected, read(3));
+	}
+}
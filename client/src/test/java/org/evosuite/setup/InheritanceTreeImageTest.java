@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.setup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class InheritanceTreeImageTest {
+
+	private static InheritanceTree createTree() {
+		InheritanceTree tree = new InheritanceTree();
+		tree.addSuperclass("java/util/AbstractCollection", "java/lang/Object", 0);
+		tree.addSuperclass("java/util/AbstractList", "java/util/AbstractCollection", 0);
+		tree.addSuperclass("java/util/ArrayList", "java/util/AbstractList", 0);
+		tree.addInterface("java/util/AbstractCollection", "java/util/Collection");
+		tree.addInterface("java/util/AbstractList", "java/util/List");
+		tree.addInterface("java/util/ArrayList", "java/util/List");
+		tree.addInterface("java/util/List", "java/util/Collection");
+		tree.registerAbstractClass("java/util/AbstractCollection");
+		tree.registerAbstractClass("java/util/AbstractList");
+		tree.addAnalyzedMethod("java.util.ArrayList", "size", "()I");
+		tree.addAnalyzedMethod("java.util.ArrayList", "get", "(I)Ljava/lang/Object;");
+		tree.addAnalyzedMethod("java.util.AbstractList", "get", "(I)Ljava/lang/Object;");
+		return tree;
+	}
+
+	private static void assertSameTree(InheritanceTree expected, InheritanceTree actual) {
+		assertEquals(expected.getAllClasses(), actual.getAllClasses());
+		assertEquals(expected.getNumClasses(), actual.getNumClasses());
+		for (String className : expected.getAllClasses()) {
+			assertEquals(expected.getSubclasses(className), actual.getSubclasses(className));
+			assertEquals(expected.getSuperclasses(className), actual.getSuperclasses(className));
+			assertEquals(expected.getOrderedSuperclasses(className), actual.getOrderedSuperclasses(className));
+			assertEquals(expected.isInterface(className), actual.isInterface(className));
+			assertEquals(expected.isAbstractClass(className), actual.isAbstractClass(className));
+		}
+		assertEquals(expected.getAnalyzedMethods(), actual.getAnalyzedMethods());
+	}
+
+	@Test
+	public void testRoundTripThroughStream() throws IOException {
+		InheritanceTree tree = createTree();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		InheritanceTreeImage.write(tree, bytes);
+
+		InheritanceTree loaded = InheritanceTreeImage.read(new ByteArrayInputStream(bytes.toByteArray()));
+		assertSameTree(tree, loaded);
+
+		assertTrue(loaded.isInterface("java.util.List"));
+		assertTrue(loaded.isAbstractClass("java.util.AbstractList"));
+		assertFalse(loaded.isAbstractClass("java.util.ArrayList"));
+		assertTrue(loaded.isMethodDefined("java.util.ArrayList", "size", "()I"));
+		assertFalse(loaded.isMethodDefined("java.util.AbstractList", "size", "()I"));
+		assertTrue(loaded.getSubclasses("java.util.Collection").contains("java.util.ArrayList"));
+	}
+
+	@Test
+	public void testRoundTripThroughMappedFile() throws IOException {
+		InheritanceTree tree = createTree();
+		File file = File.createTempFile("inheritance", ".bin");
+		file.deleteOnExit();
+		InheritanceTreeImage.write(tree, file);
+
+		assertSameTree(tree, InheritanceTreeImage.read(file));
+	}
+
+	@Test
+	public void testLoadedTreeCanBeExtended() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		InheritanceTreeImage.write(createTree(), bytes);
+		InheritanceTree loaded = InheritanceTreeImage.read(new ByteArrayInputStream(bytes.toByteArray()));
+
+		loaded.addSuperclass("com/example/MyList", "java/util/ArrayList", 0);
+		assertTrue(loaded.getSubclasses("java.util.List").contains("com.example.MyList"));
+		assertTrue(loaded.getSuperclasses("com.example.MyList").contains("java.util.Collection"));
+	}
+
+	@Test(expected = IOException.class)
+	public void testRejectsOtherData() throws IOException {
+		InheritanceTreeImage.read(new ByteArrayInputStream("<org.evosuite.setup.InheritanceTree>".getBytes()));
+	}
+}
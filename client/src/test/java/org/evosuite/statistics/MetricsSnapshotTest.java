@@ -0,0 +1,70 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics;
+
+import static org.junit.Assert.assertEquals;
+
+import org.evosuite.coverage.line.LineCoverageSuiteFitness;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.ExecutableChromosome;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.evosuite.testsuite.AbstractTestSuiteChromosome;
+import org.evosuite.testsuite.TestSuiteChromosome;
+import org.evosuite.testsuite.TestSuiteFitnessFunction;
+import org.junit.Test;
+
+public class MetricsSnapshotTest {
+
+	private static class DummySuiteFitness extends TestSuiteFitnessFunction {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public double getFitness(AbstractTestSuiteChromosome<? extends ExecutableChromosome> individual) {
+			return 0;
+		}
+	}
+
+	@Test
+	public void testValuesOfSuite() {
+		TestSuiteChromosome suite = new TestSuiteChromosome();
+		DefaultTestCase test = new DefaultTestCase();
+		test.addStatement(new IntPrimitiveStatement(test, 0));
+		test.addStatement(new IntPrimitiveStatement(test, 1));
+		suite.addTest(test);
+
+		DummySuiteFitness fitness = new DummySuiteFitness();
+		suite.setFitness(fitness, 3.0);
+		suite.setCoverage(fitness, 0.5);
+
+		MetricsSnapshot snapshot = new MetricsSnapshot(suite, 42);
+		assertEquals(1, snapshot.size());
+		assertEquals(2, snapshot.totalLengthOfTestCases());
+		assertEquals(42, snapshot.getFitnessEvaluations());
+		assertEquals(suite.getFitness(), snapshot.getFitness(), 0.0);
+		assertEquals(suite.getCoverage(), snapshot.getCoverage(), 0.0);
+
+		assertEquals(3.0, snapshot.getFitnessInstanceOf(DummySuiteFitness.class), 0.0);
+		assertEquals(0.5, snapshot.getCoverageInstanceOf(DummySuiteFitness.class), 0.0);
+		// as for chromosomes, super classes of the fitness function match as well
+		assertEquals(3.0, snapshot.getFitnessInstanceOf(TestSuiteFitnessFunction.class), 0.0);
+		assertEquals(0.0, snapshot.getFitnessInstanceOf(LineCoverageSuiteFitness.class), 0.0);
+	}
+}
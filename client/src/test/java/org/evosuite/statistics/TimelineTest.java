@@ -0,0 +1,85 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class TimelineTest {
+
+	@Test
+	public void testKeepsFirstAndLastOfEachInterval() {
+		Timeline timeline = new Timeline(100);
+		for (long time = 0; time < 1000; time += 5) {
+			timeline.add(time, time);
+		}
+		assertEquals(20, timeline.size());
+		assertEquals(0, timeline.getTimeStamp(0));
+		assertEquals(95, timeline.getTimeStamp(1));
+		assertEquals(100, timeline.getTimeStamp(2));
+		assertEquals(995.0, timeline.getValue(19), 0.0);
+	}
+
+	@Test
+	public void testSameLookupsAsAllSamples() {
+		Random random = new Random(42);
+		long interval = 50;
+		Timeline timeline = new Timeline(interval);
+		List<Long> timeStamps = new ArrayList<>();
+		List<Double> values = new ArrayList<>();
+
+		long time = 0;
+		for (int i = 0; i < 10000; i++) {
+			time += random.nextInt(20);
+			double value = random.nextDouble();
+			timeline.add(time, value);
+			timeStamps.add(time);
+			values.add(value);
+		}
+		assertTrue(timeline.size() <= 2 * (time / interval + 1));
+
+		for (long preferred = interval; preferred <= time + interval; preferred += interval) {
+			int expected = -1;
+			for (int i = 0; i < timeStamps.size(); i++) {
+				if (timeStamps.get(i) >= preferred) {
+					expected = i;
+					break;
+				}
+			}
+			int actual = timeline.indexOfFirstAtOrAfter(preferred);
+			if (expected < 0) {
+				assertEquals(-1, actual);
+				continue;
+			}
+			assertEquals(timeStamps.get(expected).longValue(), timeline.getTimeStamp(actual));
+			assertEquals(values.get(expected), timeline.getValue(actual), 0.0);
+			if (expected > 0) {
+				assertEquals(timeStamps.get(expected - 1).longValue(), timeline.getTimeStamp(actual - 1));
+				assertEquals(values.get(expected - 1), timeline.getValue(actual - 1), 0.0);
+			}
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.expr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Collections;
+
+import org.evosuite.symbolic.expr.bv.IntegerBinaryExpression;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.evosuite.symbolic.vm.ExpressionFactory;
+import org.junit.After;
+import org.junit.Test;
+
+public class SharedSubexpressionTest {
+
+	@After
+	public void tearDown() {
+		ExpressionFactory.clearInternedExpressions();
+	}
+
+	@Test
+	public void testSharedSubexpressions() {
+		IntegerVariable x = new IntegerVariable("x", 3, Integer.MIN_VALUE, Integer.MAX_VALUE);
+		Expression<Long> expr = x;
+		long value = 3;
+		for (int i = 0; i < 10; i++) {
+			value = value + value;
+			expr = new IntegerBinaryExpression(expr, Operator.PLUS, expr, value);
+		}
+		assertEquals(2047, expr.getSize());
+		assertEquals(Collections.singleton(x), expr.getVariables());
+		assertEquals(value, expr.accept(new ExpressionEvaluator(), null));
+
+		x.setConcreteValue(1L);
+		assertEquals(1024L, expr.accept(new ExpressionEvaluator(), null));
+	}
+
+	@Test
+	public void testIntern() {
+		IntegerVariable x = new IntegerVariable("x", 3, Integer.MIN_VALUE, Integer.MAX_VALUE);
+		IntegerBinaryExpression first = ExpressionFactory.intern(new IntegerBinaryExpression(x, Operator.MUL,
+		        x, 9L));
+		IntegerBinaryExpression second = ExpressionFactory.intern(new IntegerBinaryExpression(x, Operator.MUL,
+		        x, 9L));
+		assertSame(first, second);
+		assertEquals(first.hashCode(), second.hashCode());
+
+		IntegerBinaryExpression other = ExpressionFactory.intern(new IntegerBinaryExpression(x, Operator.PLUS,
+		        x, 6L));
+		assertNotSame(first, other);
+
+		ExpressionFactory.clearInternedExpressions();
+		IntegerBinaryExpression third = ExpressionFactory.intern(new IntegerBinaryExpression(x, Operator.MUL,
+		        x, 9L));
+		assertNotSame(first, third);
+		assertEquals(first, third);
+	}
+}
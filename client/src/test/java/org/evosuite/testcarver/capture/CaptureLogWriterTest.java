@@ -0,0 +1,99 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcarver.capture;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class CaptureLogWriterTest {
+
+	private static CaptureLog createLog(Object receiver) {
+		CaptureLog log = new CaptureLog();
+		log.log(1, receiver, CaptureLog.OBSERVED_INIT, "()V");
+		log.logEnd(1, receiver, CaptureLog.RETURN_TYPE_VOID);
+		log.log(2, receiver, "add", "(Ljava/lang/Object;)Z", "foo");
+		log.logEnd(2, receiver, Boolean.TRUE);
+		log.log(3, receiver, "add", "(Ljava/lang/Object;)Z", 42L);
+		log.logEnd(3, receiver, Boolean.TRUE);
+		log.log(4, String.class, "valueOf", "(C)Ljava/lang/String;", 'x');
+		log.logEnd(4, String.class, "x");
+		return log;
+	}
+
+	private static void assertSameLog(CaptureLog expected, CaptureLog actual) {
+		assertEquals(expected.objectIds, actual.objectIds);
+		assertEquals(expected.captureIds, actual.captureIds);
+		assertEquals(expected.methodNames, actual.methodNames);
+		assertEquals(expected.descList, actual.descList);
+		assertEquals(expected.returnValues, actual.returnValues);
+		assertEquals(expected.isStaticCallList, actual.isStaticCallList);
+		assertEquals(expected.params.size(), actual.params.size());
+		for (int i = 0; i < expected.params.size(); i++) {
+			assertArrayEquals(expected.params.get(i), actual.params.get(i));
+		}
+		assertEquals(expected.getObservedClasses(), actual.getObservedClasses());
+		assertEquals(expected.toString(), actual.toString());
+	}
+
+	@Test
+	public void testWriteAndRead() throws Exception {
+		CaptureLog log = createLog(new ArrayList<Object>());
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (CaptureLogWriter writer = new CaptureLogWriter(out)) {
+			writer.write(log);
+		}
+
+		try (CaptureLogReader reader = new CaptureLogReader(new ByteArrayInputStream(out.toByteArray()),
+		        getClass().getClassLoader())) {
+			assertTrue(reader.hasNext());
+			assertSameLog(log, reader.read());
+			assertFalse(reader.hasNext());
+		}
+	}
+
+	@Test
+	public void testSkipLogsOfOtherClasses() throws Exception {
+		CaptureLog first = createLog(new ArrayList<Object>());
+		CaptureLog second = createLog(new StringBuilder());
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (CaptureLogWriter writer = new CaptureLogWriter(out)) {
+			writer.write(first);
+			writer.write(second);
+		}
+
+		try (CaptureLogReader reader = new CaptureLogReader(new ByteArrayInputStream(out.toByteArray()),
+		        getClass().getClassLoader())) {
+			assertTrue(reader.skipTo(Collections.singleton(StringBuilder.class.getName())));
+			assertSameLog(second, reader.read());
+			assertFalse(reader.skipTo(Collections.singleton(StringBuilder.class.getName())));
+		}
+	}
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.evosuite.testcase.statements.ConstructorStatement;
+import org.evosuite.testcase.statements.Statement;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.evosuite.testcase.variable.VariableReference;
+import org.evosuite.utils.generic.GenericConstructor;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestCaseMinimizerTest {
+
+	@Test
+	public void testDependentPositions() throws Exception {
+		TestCase test = new DefaultTestCase();
+		VariableReference int0 = test.addStatement(new IntPrimitiveStatement(test, 0));
+		test.addStatement(new IntPrimitiveStatement(test, 1));
+		GenericConstructor constructor = new GenericConstructor(Integer.class.getConstructor(int.class),
+		        Integer.class);
+		test.addStatement(new ConstructorStatement(test, constructor, Collections.singletonList(int0)));
+		test.addStatement(new IntPrimitiveStatement(test, 3));
+
+		Assert.assertEquals(new TreeSet<>(Arrays.asList(0, 2)), TestCaseMinimizer.getDependentPositions(test, 0, 1));
+		Assert.assertEquals(new TreeSet<>(Arrays.asList(1)), TestCaseMinimizer.getDependentPositions(test, 1, 2));
+		Assert.assertEquals(new TreeSet<>(Arrays.asList(0, 1, 2)), TestCaseMinimizer.getDependentPositions(test, 0, 2));
+		Assert.assertEquals(new TreeSet<>(Arrays.asList(2, 3)), TestCaseMinimizer.getDependentPositions(test, 2, 4));
+	}
+
+	@Test
+	public void testCountRemaining() throws Exception {
+		TestCase test = new DefaultTestCase();
+		for (int i = 0; i < 4; i++) {
+			test.addStatement(new IntPrimitiveStatement(test, i));
+		}
+		List<Statement> preceding = Arrays.asList(test.getStatement(0), test.getStatement(1), test.getStatement(2));
+
+		// deleting statement 3 also deleted statement 1, which came before it
+		test.remove(3);
+		test.remove(1);
+		Assert.assertEquals(2, TestCaseMinimizer.countRemaining(test, preceding));
+	}
+}
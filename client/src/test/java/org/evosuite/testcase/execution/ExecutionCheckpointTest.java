@@ -0,0 +1,158 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import java.util.ArrayList;
+
+import org.evosuite.runtime.Runtime;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.statements.EnumPrimitiveStatement;
+import org.evosuite.testcase.statements.Statement;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ExecutionCheckpointTest {
+
+	@Before
+	public void setUp() {
+		Runtime.getInstance().resetRuntime();
+		ExecutionTracer.getExecutionTracer().clear();
+	}
+
+	@After
+	public void tearDown() {
+		ExecutionTracer.getExecutionTracer().clear();
+	}
+
+	private static TestCase createTest(int... values) {
+		TestCase test = new DefaultTestCase();
+		for (int value : values) {
+			test.addStatement(new IntPrimitiveStatement(test, value));
+		}
+		return test;
+	}
+
+	private static TestCase createSetupTest(int... values) {
+		TestCase test = createTest(values);
+		test.addStatement(new EnumPrimitiveStatement<Thread.State>(test, Thread.State.NEW));
+		return test;
+	}
+
+	private static ExecutionCheckpoint execute(TestCase test) throws Exception {
+		Scope scope = new Scope();
+		ExecutionCheckpoint.Recorder recorder = new ExecutionCheckpoint.Recorder(test, null);
+		for (Statement statement : test) {
+			Throwable exceptionThrown = statement.execute(scope, System.out);
+			recorder.statementExecuted(statement, scope, exceptionThrown);
+		}
+		return recorder.getCheckpoint();
+	}
+
+	@Test
+	public void testImmutableValues() {
+		Assert.assertTrue(ExecutionCheckpoint.isImmutableValue(null));
+		Assert.assertTrue(ExecutionCheckpoint.isImmutableValue(42));
+		Assert.assertTrue(ExecutionCheckpoint.isImmutableValue("foo"));
+		Assert.assertFalse(ExecutionCheckpoint.isImmutableValue(new int[] { 42 }));
+		Assert.assertFalse(ExecutionCheckpoint.isImmutableValue(new ArrayList<String>()));
+	}
+
+	@Test
+	public void testRecordPrefix() throws Exception {
+		TestCase test = createTest(1, 2, 3);
+		ExecutionCheckpoint checkpoint = execute(test);
+		Assert.assertNotNull(checkpoint);
+		Assert.assertEquals(3, checkpoint.size());
+	}
+
+	@Test
+	public void testApplicableToSamePrefix() throws Exception {
+		ExecutionCheckpoint checkpoint = execute(createTest(1, 2));
+
+		Assert.assertTrue(checkpoint.isApplicableTo(createTest(1, 2)));
+		Assert.assertTrue(checkpoint.isApplicableTo(createTest(1, 2, 3)));
+		Assert.assertFalse(checkpoint.isApplicableTo(createTest(1, 3, 3)));
+		Assert.assertFalse(checkpoint.isApplicableTo(createTest(1)));
+	}
+
+	@Test
+	public void testRestore() throws Exception {
+		ExecutionCheckpoint checkpoint = execute(createTest(1, 2));
+
+		ExecutionTracer.getExecutionTracer().clear();
+		TestCase test = createTest(1, 2, 3);
+		Scope scope = new Scope();
+		checkpoint.restore(test, scope);
+
+		Assert.assertEquals(1, scope.getObject(test.getStatement(0).getReturnValue()));
+		Assert.assertEquals(2, scope.getObject(test.getStatement(1).getReturnValue()));
+		Assert.assertNull(scope.getObject(test.getStatement(2).getReturnValue()));
+		Assert.assertEquals(2, ExecutionTracer.getExecutionTracer().getNumStatementsExecuted());
+	}
+
+	@Test
+	public void testResumedCheckpointIsReused() throws Exception {
+		ExecutionCheckpoint checkpoint = execute(createTest(1, 2));
+
+		TestCase test = createTest(1, 2);
+		ExecutionCheckpoint.Recorder recorder = new ExecutionCheckpoint.Recorder(test, checkpoint);
+		Assert.assertSame(checkpoint, recorder.getCheckpoint());
+	}
+
+	@Test
+	public void testImmutablePrefixLength() {
+		Assert.assertEquals(2, ExecutionCheckpoint.getImmutablePrefixLength(createTest(1, 2)));
+		Assert.assertEquals(1, ExecutionCheckpoint.getImmutablePrefixLength(createSetupTest(1)));
+	}
+
+	@Test
+	public void testSetupPrefixIsClaimedOnce() throws Exception {
+		ExecutionCheckpoint checkpoint = execute(createSetupTest(1));
+		Assert.assertFalse(checkpoint.isReusable());
+		Assert.assertEquals(2, checkpoint.size());
+
+		TestCase test = createSetupTest(1);
+		test.addStatement(new IntPrimitiveStatement(test, 3));
+		Assert.assertSame(checkpoint, checkpoint.claim(test));
+		Assert.assertFalse(checkpoint.isApplicableTo(test));
+
+		ExecutionCheckpoint fallback = checkpoint.claim(test);
+		Assert.assertNotNull(fallback);
+		Assert.assertTrue(fallback.isReusable());
+		Assert.assertEquals(1, fallback.size());
+		Assert.assertSame(fallback, checkpoint.claim(test));
+	}
+
+	@Test
+	public void testClaimedCheckpointIsHandedOver() throws Exception {
+		ExecutionCheckpoint checkpoint = execute(createSetupTest(1));
+
+		TestCase test = createSetupTest(1);
+		Assert.assertSame(checkpoint, checkpoint.claim(test));
+		ExecutionCheckpoint.Recorder recorder = new ExecutionCheckpoint.Recorder(test, checkpoint);
+		ExecutionCheckpoint handedOver = recorder.getCheckpoint();
+		Assert.assertNotSame(checkpoint, handedOver);
+		Assert.assertTrue(handedOver.isApplicableTo(test));
+	}
+}
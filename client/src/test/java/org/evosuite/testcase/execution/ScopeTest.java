@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.evosuite.testcase.variable.VariableReference;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ScopeTest {
+
+	private static VariableReference[] createVariables(int number) {
+		TestCase test = new DefaultTestCase();
+		VariableReference[] variables = new VariableReference[number];
+		for (int i = 0; i < number; i++) {
+			variables[i] = test.addStatement(new IntPrimitiveStatement(test, i));
+		}
+		return variables;
+	}
+
+	@Test
+	public void testValuesKeepFirstSetOrder() {
+		VariableReference[] vars = createVariables(3);
+		Scope scope = new Scope();
+		scope.setObject(vars[2], 2);
+		scope.setObject(vars[0], 0);
+		scope.setObject(vars[1], 1);
+		scope.setObject(vars[2], 42);
+
+		Assert.assertEquals(42, scope.getObject(vars[2]));
+		Assert.assertEquals(0, scope.getObject(vars[0]));
+		Assert.assertEquals(Arrays.asList(vars[2], vars[0], vars[1]), Arrays.asList(scope.getVariables().toArray()));
+		Assert.assertEquals(Arrays.asList(42, 0, 1), Arrays.asList(scope.getObjects().toArray()));
+	}
+
+	@Test
+	public void testUnknownVariable() {
+		VariableReference[] vars = createVariables(2);
+		Scope scope = new Scope();
+		scope.setObject(vars[0], 0);
+		Assert.assertNull(scope.getObject(vars[1]));
+	}
+
+	@Test
+	public void testObjectsOfTypeFollowValueChanges() {
+		VariableReference[] vars = createVariables(3);
+		Scope scope = new Scope();
+		scope.setObject(vars[0], 0);
+		scope.setObject(vars[1], "foo");
+		scope.setObject(vars[2], null);
+		Assert.assertEquals(Collections.singletonList(0), Arrays.asList(scope.getObjects(Integer.class).toArray()));
+		Assert.assertEquals(Collections.singletonList("foo"), Arrays.asList(scope.getObjects(String.class).toArray()));
+
+		scope.setObject(vars[0], "bar");
+		scope.setObject(vars[2], 2);
+		Assert.assertEquals(Collections.singletonList(2), Arrays.asList(scope.getObjects(Integer.class).toArray()));
+		Assert.assertEquals(Arrays.asList("bar", "foo"), Arrays.asList(scope.getObjects(String.class).toArray()));
+		Assert.assertTrue(scope.getObjects(Long.class).isEmpty());
+	}
+
+	@Test
+	public void testElementsByVariableTypeOrValueClass() {
+		VariableReference[] vars = createVariables(3);
+		Scope scope = new Scope();
+		scope.setObject(vars[0], 0);
+		scope.setObject(vars[1], "foo");
+		scope.setObject(vars[2], null);
+
+		Assert.assertEquals(Arrays.asList(vars), scope.getElements(int.class));
+		Assert.assertEquals(Collections.singletonList(vars[1]), scope.getElements(String.class));
+		Assert.assertEquals(Collections.singletonList(vars[0]), scope.getElements(Integer.class));
+	}
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution.reset;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StaticStateSnapshotTest {
+
+	public static class StaticHolder {
+		public static int counter = 42;
+		public static String name = "foo";
+		public static final Integer constant = Integer.valueOf(7);
+	}
+
+	public static class MutableStaticHolder {
+		public static int counter = 42;
+		public static List<String> names = new ArrayList<String>();
+	}
+
+	@Test
+	public void testRestoreWrittenFields() {
+		ClassLoader loader = StaticStateSnapshotTest.class.getClassLoader();
+		String className = StaticHolder.class.getName();
+
+		StaticStateSnapshot snapshot = new StaticStateSnapshot();
+		Assert.assertFalse(snapshot.hasSnapshot(loader, className));
+		snapshot.capture(loader, className);
+		Assert.assertTrue(snapshot.hasSnapshot(loader, className));
+
+		StaticHolder.counter = 0;
+		StaticHolder.name = "bar";
+
+		Set<String> written = new HashSet<String>();
+		written.add("counter");
+		Assert.assertTrue(snapshot.restore(loader, className, written));
+		Assert.assertEquals(42, StaticHolder.counter);
+		// not recorded as written, thus not restored
+		Assert.assertEquals("bar", StaticHolder.name);
+
+		written.add("name");
+		Assert.assertTrue(snapshot.restore(loader, className, written));
+		Assert.assertEquals("foo", StaticHolder.name);
+	}
+
+	@Test
+	public void testCannotRestore() {
+		ClassLoader loader = StaticStateSnapshotTest.class.getClassLoader();
+		String className = StaticHolder.class.getName();
+
+		StaticStateSnapshot snapshot = new StaticStateSnapshot();
+		Assert.assertFalse(snapshot.restore(loader, className, Collections.singleton("counter")));
+
+		snapshot.capture(loader, className);
+		Assert.assertFalse(snapshot.restore(loader, className, Collections.<String> emptySet()));
+		Assert.assertFalse(snapshot.restore(loader, className, Collections.singleton("constant")));
+		Assert.assertFalse(snapshot.restore(loader, className, Collections.singleton("unknown")));
+	}
+
+	@Test
+	public void testMutableStaticState() {
+		ClassLoader loader = StaticStateSnapshotTest.class.getClassLoader();
+		String className = MutableStaticHolder.class.getName();
+
+		// the list could be changed in place, which a snapshot cannot undo
+		StaticStateSnapshot snapshot = new StaticStateSnapshot();
+		snapshot.capture(loader, className);
+		Assert.assertFalse(snapshot.hasSnapshot(loader, className));
+		Assert.assertFalse(snapshot.restore(loader, className, Collections.singleton("counter")));
+	}
+}
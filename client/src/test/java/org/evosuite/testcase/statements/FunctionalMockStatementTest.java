@@ -672,4 +672,77 @@ public class FunctionalMockStatementTest {
         Assert.assertEquals(MOCKED_VALUE, val.intValue());
     }
 
+
+    @Test
+    public void testRecycledMock() throws Exception {
+        TestCase tc = new DefaultTestCase();
+
+        final int MOCKED_VALUE = 42;
+        VariableReference mockedInput  = tc.addStatement(new IntPrimitiveStatement(tc, MOCKED_VALUE));
+        VariableReference ref = new VariableReferenceImpl(tc, Foo.class);
+        FunctionalMockStatement mockStmt = new FunctionalMockStatement(tc, ref, new GenericClass(Foo.class));
+        VariableReference mock = tc.addStatement(mockStmt);
+        VariableReference result = tc.addStatement(new MethodStatement(tc,
+                new GenericMethod(this.getClass().getDeclaredMethod("base", Foo.class), FunctionalMockStatementTest.class),
+                null, Arrays.asList(mock)));
+
+        Scope scope = execute(tc);
+        Object first = scope.getObject(mock);
+        Assert.assertEquals(0, ((Integer) scope.getObject(result)).intValue());
+
+        mockStmt.updateMockedMethods();
+        mockStmt.addMissingInputs(Arrays.asList(mockedInput));
+
+        //same mock, but with the new stubbing and a fresh listener
+        scope = execute(tc);
+        Assert.assertSame(first, scope.getObject(mock));
+        Assert.assertEquals(MOCKED_VALUE, ((Integer) scope.getObject(result)).intValue());
+        Assert.assertFalse(mockStmt.doesNeedToUpdateInputs());
+
+        //once the mock is handed over to a copy, it is not recycled here any more
+        tc.clone();
+        scope = execute(tc);
+        Assert.assertNotSame(first, scope.getObject(mock));
+        Assert.assertEquals(MOCKED_VALUE, ((Integer) scope.getObject(result)).intValue());
+    }
+
+    @Test
+    public void testRecycledMockOfCopy() throws Exception {
+        TestCase tc = new DefaultTestCase();
+
+        final int MOCKED_VALUE = 42;
+        VariableReference mockedInput  = tc.addStatement(new IntPrimitiveStatement(tc, MOCKED_VALUE));
+        VariableReference ref = new VariableReferenceImpl(tc, Foo.class);
+        FunctionalMockStatement mockStmt = new FunctionalMockStatement(tc, ref, new GenericClass(Foo.class));
+        VariableReference mock = tc.addStatement(mockStmt);
+        tc.addStatement(new MethodStatement(tc,
+                new GenericMethod(this.getClass().getDeclaredMethod("base", Foo.class), FunctionalMockStatementTest.class),
+                null, Arrays.asList(mock)));
+
+        Scope scope = execute(tc);
+        Object first = scope.getObject(mock);
+        Assert.assertTrue(mockStmt.doesNeedToUpdateInputs());
+
+        TestCase copy = tc.clone();
+        FunctionalMockStatement copiedStmt = (FunctionalMockStatement) copy.getStatement(mock.getStPosition());
+
+        //the original keeps the invocations of its last execution
+        Assert.assertTrue(mockStmt.doesNeedToUpdateInputs());
+        Assert.assertTrue(copiedStmt.doesNeedToUpdateInputs());
+
+        copiedStmt.updateMockedMethods();
+        copiedStmt.addMissingInputs(Arrays.asList(copy.getStatement(mockedInput.getStPosition()).getReturnValue()));
+
+        //the copy reuses the mock of the original
+        scope = execute(copy);
+        VariableReference copiedMock = copiedStmt.getReturnValue();
+        Assert.assertSame(first, scope.getObject(copiedMock));
+        VariableReference copiedResult = copy.getStatement(copy.size() - 1).getReturnValue();
+        Assert.assertEquals(MOCKED_VALUE, ((Integer) scope.getObject(copiedResult)).intValue());
+        Assert.assertFalse(copiedStmt.doesNeedToUpdateInputs());
+
+        //which does not change what the original reports
+        Assert.assertTrue(mockStmt.doesNeedToUpdateInputs());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,181 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testsuite;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import org.evosuite.assertion.Inspector;
+import org.evosuite.assertion.InspectorAssertion;
+import org.evosuite.assertion.NullAssertion;
+import org.evosuite.assertion.PrimitiveAssertion;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.statements.ConstructorStatement;
+import org.evosuite.testcase.statements.MethodStatement;
+import org.evosuite.testcase.statements.StringPrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.evosuite.testcase.variable.VariableReference;
+import org.evosuite.utils.generic.GenericClass;
+import org.evosuite.utils.generic.GenericConstructor;
+import org.evosuite.utils.generic.GenericMethod;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BinaryTestFormatTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static TestCase createTest(int value) throws Exception {
+		TestCase test = new DefaultTestCase();
+		VariableReference i = test.addStatement(new IntPrimitiveStatement(test, value));
+		VariableReference s = test.addStatement(new StringPrimitiveStatement(test, "foo"));
+		GenericConstructor constructor = new GenericConstructor(StringBuilder.class.getConstructor(String.class),
+				StringBuilder.class);
+		VariableReference sb = test.addStatement(new ConstructorStatement(test, constructor, Arrays.asList(s)));
+		GenericMethod method = new GenericMethod(StringBuilder.class.getMethod("append", int.class),
+				StringBuilder.class);
+		test.addStatement(new MethodStatement(test, method, sb, Arrays.asList(i)));
+		return test;
+	}
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		TestCase test1 = createTest(42);
+		TestCase test2 = createTest(-17);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (BinaryTestWriter writer = new BinaryTestWriter(bytes)) {
+			writer.writeGenericClass(new GenericClass(StringBuilder.class));
+			writer.writeTest(test1);
+			writer.writeTest(test2);
+		}
+
+		BufferedInputStream in = new BufferedInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		Assert.assertTrue(BinaryTestFormat.isBinaryFormat(in));
+
+		try (BinaryTestReader reader = new BinaryTestReader(in, getClass().getClassLoader())) {
+			Assert.assertTrue(reader.isNextGenericClass());
+			Assert.assertEquals(StringBuilder.class, reader.readGenericClass().getRawClass());
+			Assert.assertTrue(reader.isNextTest());
+			Assert.assertEquals(test1.toCode(), reader.readTest().toCode());
+			Assert.assertEquals(test2.toCode(), reader.readTest().toCode());
+			Assert.assertFalse(reader.hasNext());
+		}
+	}
+
+	@Test
+	public void testAssertionsRoundTrip() throws Exception {
+		TestCase test = createTest(42);
+		PrimitiveAssertion primitiveAssertion = new PrimitiveAssertion();
+		primitiveAssertion.setSource(test.getStatement(0).getReturnValue());
+		primitiveAssertion.setValue(42);
+		test.getStatement(0).addAssertion(primitiveAssertion);
+		NullAssertion nullAssertion = new NullAssertion();
+		nullAssertion.setSource(test.getStatement(2).getReturnValue());
+		nullAssertion.setValue(false);
+		nullAssertion.setComment("// not null");
+		test.getStatement(3).addAssertion(nullAssertion);
+		Inspector inspector = new Inspector(StringBuilder.class, StringBuilder.class.getMethod("length"));
+		test.getStatement(3).addAssertion(new InspectorAssertion(inspector, test.getStatement(3),
+				test.getStatement(2).getReturnValue(), 5));
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (BinaryTestWriter writer = new BinaryTestWriter(bytes)) {
+			writer.writeTest(test);
+		}
+
+		try (BinaryTestReader reader = new BinaryTestReader(new ByteArrayInputStream(bytes.toByteArray()),
+				getClass().getClassLoader())) {
+			TestCase copy = reader.readTest();
+			Assert.assertEquals(3, copy.getAssertions().size());
+			Assert.assertEquals(test.toCode(), copy.toCode());
+		}
+	}
+
+	@Test
+	public void testUnpairedSurrogates() throws Exception {
+		String value = "a\uD800b\uDC00\u0000\u00E9\uD83D\uDE00";
+		TestCase test = new DefaultTestCase();
+		test.addStatement(new StringPrimitiveStatement(test, value));
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (BinaryTestWriter writer = new BinaryTestWriter(bytes)) {
+			writer.writeTest(test);
+		}
+
+		try (BinaryTestReader reader = new BinaryTestReader(new ByteArrayInputStream(bytes.toByteArray()),
+				getClass().getClassLoader())) {
+			StringPrimitiveStatement statement = (StringPrimitiveStatement) reader.readTest().getStatement(0);
+			Assert.assertEquals(value, statement.getValue());
+		}
+	}
+
+	@Test
+	public void testTruncatedFile() throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (BinaryTestWriter writer = new BinaryTestWriter(bytes)) {
+			writer.writeTest(createTest(1));
+			writer.writeTest(createTest(2));
+		}
+		byte[] content = bytes.toByteArray();
+		File target = folder.newFile("truncated.seed");
+		try (FileOutputStream out = new FileOutputStream(target)) {
+			out.write(content, 0, content.length - 3);
+		}
+
+		// The first test is kept, and the corrupt second test is skipped
+		List<TestChromosome> tests = TestSuiteSerialization.loadTests(target);
+		Assert.assertEquals(1, tests.size());
+	}
+
+	@Test
+	public void testDescriptorsAreInterned() throws Exception {
+		ByteArrayOutputStream one = new ByteArrayOutputStream();
+		try (BinaryTestWriter writer = new BinaryTestWriter(one)) {
+			writer.writeTest(createTest(1));
+		}
+		ByteArrayOutputStream two = new ByteArrayOutputStream();
+		try (BinaryTestWriter writer = new BinaryTestWriter(two)) {
+			writer.writeTest(createTest(1));
+			writer.writeTest(createTest(1));
+		}
+		// The second test only refers to the already written descriptors
+		int secondTestSize = two.size() - one.size();
+		Assert.assertTrue(secondTestSize < one.size() / 2);
+	}
+
+	@Test
+	public void testJavaSerializationIsNotBinary() throws Exception {
+		BufferedInputStream in = new BufferedInputStream(new ByteArrayInputStream(new byte[] { (byte) 0xAC,
+				(byte) 0xED, 0, 5 }));
+		Assert.assertFalse(BinaryTestFormat.isBinaryFormat(in));
+		Assert.assertEquals(0xAC, in.read());
+	}
+}
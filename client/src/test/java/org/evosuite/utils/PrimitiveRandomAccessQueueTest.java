@@ -0,0 +1,94 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class PrimitiveRandomAccessQueueTest {
+
+	@Test
+	public void testDuplicatesAreIgnored() {
+		PrimitiveRandomAccessQueue queue = new PrimitiveRandomAccessQueue(10);
+		queue.restrictedAdd(1);
+		queue.restrictedAdd(2);
+		queue.restrictedAdd(1);
+		queue.flush();
+		queue.restrictedAdd(2);
+		assertArrayEquals(new long[] { 1, 2 }, queue.getValues());
+	}
+
+	@Test
+	public void testOldestValueIsEvicted() {
+		PrimitiveRandomAccessQueue queue = new PrimitiveRandomAccessQueue(3);
+		for (long i = 0; i < 5; i++) {
+			queue.restrictedAdd(i);
+		}
+		assertArrayEquals(new long[] { 2, 3, 4 }, queue.getValues());
+
+		// an evicted value can be added again
+		queue.restrictedAdd(0);
+		assertArrayEquals(new long[] { 3, 4, 0 }, queue.getValues());
+	}
+
+	@Test
+	public void testManyValues() {
+		PrimitiveRandomAccessQueue queue = new PrimitiveRandomAccessQueue(50);
+		for (long i = 0; i < 10_000; i++) {
+			queue.restrictedAdd(i * 31 % 977);
+		}
+		assertEquals(50, queue.size());
+		long[] values = queue.getValues();
+		for (int i = 0; i < 1000; i++) {
+			long value = queue.getRandomValue();
+			boolean found = false;
+			for (long v : values) {
+				found |= v == value;
+			}
+			assertTrue(found);
+		}
+	}
+
+	@Test
+	public void testConcurrentAdds() throws InterruptedException {
+		final PrimitiveRandomAccessQueue queue = new PrimitiveRandomAccessQueue(1000);
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			final long offset = t * 100_000L;
+			threads[t] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					for (long i = 0; i < 100_000; i++) {
+						queue.restrictedAdd(offset + i);
+					}
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(1000, queue.size());
+		assertEquals(1000, queue.getValues().length);
+	}
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class RandomAccessSetTest {
+
+	@Test
+	public void testAddAndRemove() {
+		RandomAccessSet<String> set = new RandomAccessSet<>();
+		assertTrue(set.add("a"));
+		assertTrue(set.add("b"));
+		assertTrue(set.add("c"));
+		assertFalse(set.add("b"));
+		assertEquals(3, set.size());
+
+		assertTrue(set.remove("a"));
+		assertFalse(set.remove("a"));
+		assertEquals(2, set.size());
+		assertFalse(set.contains("a"));
+		assertTrue(set.contains("b"));
+		assertTrue(set.contains("c"));
+		assertEquals(new HashSet<>(Arrays.asList("b", "c")), set);
+	}
+
+	@Test
+	public void testInsertionOrder() {
+		RandomAccessSet<Integer> set = new RandomAccessSet<>(Arrays.asList(3, 1, 2));
+		assertEquals(Integer.valueOf(3), set.get(0));
+		assertEquals(Integer.valueOf(1), set.get(1));
+		assertEquals(Integer.valueOf(2), set.get(2));
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		RandomAccessSet<Integer> set = new RandomAccessSet<>(Arrays.asList(0, 1, 2, 3, 4, 5));
+		Set<Integer> visited = new HashSet<>();
+		Iterator<Integer> iterator = set.iterator();
+		while (iterator.hasNext()) {
+			int value = iterator.next();
+			visited.add(value);
+			if (value % 2 == 0) {
+				iterator.remove();
+			}
+		}
+		assertEquals(6, visited.size());
+		assertEquals(new HashSet<>(Arrays.asList(1, 3, 5)), set);
+		for (int i = 0; i < set.size(); i++) {
+			assertTrue(set.contains(set.get(i)));
+		}
+	}
+
+	@Test
+	public void testRandomChoice() {
+		RandomAccessSet<Integer> set = new RandomAccessSet<>(Arrays.asList(0, 1, 2));
+		set.remove(1);
+		for (int i = 0; i < 100; i++) {
+			Integer choice = Randomness.choice(set);
+			assertTrue(choice == 0 || choice == 2);
+		}
+	}
+}
@@ -134,4 +134,31 @@ public class GenericMethodTest {
         Class<?> upper = (Class<?>) wt.getUpperBounds()[0];
         Assert.assertEquals(Object.class,upper);
     }
+
+    @Test
+    public void testGetParameterTypes_cachedCopy() throws Exception {
+        Method m = B.class.getDeclaredMethod("bar", Object.class);
+
+        GenericMethod gm = new GenericMethod(m,B.class);
+        Type[] types = gm.getParameterTypes();
+        Assert.assertArrayEquals(gm.getExactParameterTypes(m, B.class), types);
+
+        //modifying the returned array must not affect later calls
+        types[0] = null;
+        Assert.assertArrayEquals(gm.getExactParameterTypes(m, B.class), gm.getParameterTypes());
+    }
+
+    @Test
+    public void testGetParameterTypes_typeParametersChanged() throws Exception {
+        Method m = A.class.getDeclaredMethod("bar", Object.class);
+
+        GenericMethod gm = new GenericMethod(m,A.class);
+        Type before = gm.getParameterTypes()[0];
+        Assert.assertTrue(before instanceof WildcardTypeImpl);
+
+        gm.setTypeParameters(Arrays.asList(new GenericClass(String.class)));
+        Type[] after = gm.getParameterTypes();
+        Assert.assertArrayEquals(gm.getExactParameterTypes(m, A.class), after);
+        Assert.assertNotSame(before, after[0]);
+    }
 }
\ No newline at end of file
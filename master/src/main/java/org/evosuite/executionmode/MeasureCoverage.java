@@ -99,7 +99,12 @@ public class MeasureCoverage {
 
 		classPath += !classPath.isEmpty() ? File.pathSeparator + projectCP : projectCP;
 
-		ExternalProcessGroupHandler handler = new ExternalProcessGroupHandler();
+		if (Properties.NUM_PARALLEL_CLIENTS < 1) {
+			Properties.NUM_PARALLEL_CLIENTS = 1;
+		}
+
+		// each client executes its own shard of the test classes
+		ExternalProcessGroupHandler handler = new ExternalProcessGroupHandler(Properties.NUM_PARALLEL_CLIENTS);
 		int port = handler.openServer();
 		List<String> cmdLine = new ArrayList<String>();
 		cmdLine.add(JavaExecCmdUtil.getJavaBinExecutablePath(true)/*EvoSuite.JAVA_CMD*/);
@@ -136,23 +141,31 @@ public class MeasureCoverage {
 		Properties.TARGET_CLASS = targetClass;
 		Properties.PROCESS_COMMUNICATION_PORT = port;
 
-		LoggingUtils logUtils = new LoggingUtils();
+		LoggingUtils[] logServer = new LoggingUtils[Properties.NUM_PARALLEL_CLIENTS];
+		List<String[]> processArgs = new ArrayList<String[]>();
 
-		if (!Properties.CLIENT_ON_THREAD) {
-			/*
-			 * We want to completely mute the SUT. So, we block all outputs from client, and use a remote logging
-			 */
-			boolean logServerStarted = logUtils.startLogServer();
-			if (!logServerStarted) {
-				logger.error("Cannot start the log server");
-				return;
+		for (int i = 0; i < Properties.NUM_PARALLEL_CLIENTS; i++) {
+			List<String> cmdLineClone = new ArrayList<String>(cmdLine);
+			cmdLineClone.add(ClientProcess.CLIENT_PREFIX + i);
+
+			if (!Properties.CLIENT_ON_THREAD) {
+				/*
+				 * We want to completely mute the SUT. So, we block all outputs from client, and use a remote logging
+				 */
+				logServer[i] = new LoggingUtils();
+				boolean logServerStarted = logServer[i].startLogServer();
+				if (!logServerStarted) {
+					logger.error("Cannot start the log server");
+					return;
+				}
+				int logPort = logServer[i].getLogServerPort(); //
+				cmdLineClone.add(1, "-Dmaster_log_port=" + logPort);
+				cmdLineClone.add(1, "-Devosuite.log.appender=CLIENT");
 			}
-			int logPort = logUtils.getLogServerPort(); //
-			cmdLine.add(1, "-Dmaster_log_port=" + logPort);
-			cmdLine.add(1, "-Devosuite.log.appender=CLIENT");
+
+			processArgs.add(cmdLineClone.toArray(new String[cmdLineClone.size()]));
 		}
 
-		String[] newArgs = cmdLine.toArray(new String[cmdLine.size()]);
 		for (String entry : ClassPathHandler.getInstance().getClassPathElementsForTargetProject()) {
 			try {
 				ClassPathHacker.addFile(entry);
@@ -163,7 +176,7 @@ public class MeasureCoverage {
 		}
 
 		handler.setBaseDir(EvoSuite.base_dir_path);
-		if (handler.startProcess(newArgs)) {
+		if (handler.startProcessGroup(processArgs)) {
 			Set<ClientNodeRemote> clients = null;
 			try {
 				clients = new CopyOnWriteArraySet<ClientNodeRemote>(MasterServices.getInstance().getMasterNode()
@@ -215,7 +228,9 @@ public class MeasureCoverage {
 				Thread.sleep(100);
 			} catch (InterruptedException e) {
 			}
-			logUtils.closeLogServer();
+			for (LoggingUtils logUtils : logServer) {
+				logUtils.closeLogServer();
+			}
 		}
 
 	}
@@ -32,12 +32,14 @@ import org.evosuite.ClientProcess;
 import org.evosuite.Properties;
 import org.evosuite.Properties.NoSuchParameterException;
 import org.evosuite.ga.Chromosome;
+import org.evosuite.junit.CoverageShard;
 import org.evosuite.result.TestGenerationResult;
 import org.evosuite.rmi.service.topology.AbstractTopology;
 import org.evosuite.rmi.service.topology.HypercubeTopology;
 import org.evosuite.rmi.service.topology.NoTopology;
 import org.evosuite.rmi.service.topology.RandomTopology;
 import org.evosuite.rmi.service.topology.RingTopology;
+import org.evosuite.statistics.MetricsSnapshot;
 import org.evosuite.statistics.SearchStatistics;
 import org.evosuite.statistics.RuntimeVariable;
 import org.evosuite.utils.Listener;
@@ -138,6 +140,11 @@ public class MasterNodeImpl implements MasterNodeRemote, MasterNodeLocal {
 		SearchStatistics.getInstance(clientRmiIdentifier).currentIndividual(individual);
 	}
 
+	@Override
+	public void evosuite_collectMetrics(String clientRmiIdentifier, List<MetricsSnapshot> snapshots) {
+		SearchStatistics.getInstance(clientRmiIdentifier).currentMetrics(snapshots);
+	}
+
 	@Override
 	public void evosuite_collectStatistics(String clientRmiIdentifier, RuntimeVariable variable, Object value)
 	        throws RemoteException {
@@ -172,6 +179,11 @@ public class MasterNodeImpl implements MasterNodeRemote, MasterNodeLocal {
         }
     }
 
+    @Override
+    public ClientNodeRemote evosuite_selectMigrationReceiver(String clientRmiIdentifier) throws RemoteException {
+        return this.topology.selectReceiver(clientRmiIdentifier);
+    }
+
     @Override
     public void evosuite_collectBestSolutions(String clientRmiIdentifier, Set<? extends Chromosome> solutions) {
         try {
@@ -183,6 +195,38 @@ public class MasterNodeImpl implements MasterNodeRemote, MasterNodeLocal {
         }
     }
 
+    @Override
+    public void evosuite_collectCoverageShard(String clientRmiIdentifier, CoverageShard shard) {
+        try {
+            ClientNodeRemote node = this.topology.getClientNode(ClientProcess.DEFAULT_CLIENT_NAME);
+            assert node != null;
+            node.collectCoverageShard(clientRmiIdentifier, shard);
+        } catch (RemoteException e) {
+            logger.error(clientRmiIdentifier + " cannot send coverage to " + ClientProcess.DEFAULT_CLIENT_NAME, e);
+        }
+    }
+
+    @Override
+    public boolean evosuite_isClientRunning(String clientRmiIdentifier) {
+        ClientState state = this.topology.getCurrentState(clientRmiIdentifier);
+        if (ClientState.DONE.equals(state) || ClientState.FINISHED.equals(state)) {
+            return false;
+        }
+        ClientNodeRemote node = this.topology.getClientNode(clientRmiIdentifier);
+        if (node == null) {
+            return false;
+        }
+        try {
+            return !node.waitUntilFinished(0);
+        } catch (RemoteException e) {
+            logger.warn("Cannot reach " + clientRmiIdentifier + ": " + e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+    }
+
     @Override
 	public void addListener(Listener<ClientStateInformation> listener) {
 		listeners.add(listener);
@@ -70,6 +70,9 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 	/** Map of client id to best individual received from that client so far */
 	private TestSuiteChromosome bestIndividual = null;
 
+	/** Metrics of the best individual received from that client so far */
+	private MetricsSnapshot lastMetrics = null;
+
 	/** Backend used to output the data */
 	private StatisticsBackend backend = null;
 
@@ -107,6 +110,9 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		case DEBUG:
 			backend = new DebugStatisticsBackend();
 			break;
+		case COLUMNAR:
+			backend = new ColumnarStatisticsBackend();
+			break;
 		case NONE:
 		default:
 			// If no backend is specified, there is no output
@@ -175,7 +181,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 
 	/**
 	 * This method is called when a new individual is sent from a client.
-	 * The individual represents the best individual of the current generation.
+	 * This usually only happens once the generation of the test suite is done.
 	 * 
 	 * @param individual best individual of current generation
 	 */
@@ -190,11 +196,33 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 
 		logger.debug("Received individual");
 		bestIndividual = (TestSuiteChromosome) individual;
-        for(ChromosomeOutputVariableFactory<?> v : variableFactories.values()) {
-            setOutputVariable(v.getVariable((TestSuiteChromosome) individual));
-        }
-		for(SequenceOutputVariableFactory<?> v : sequenceOutputVariableFactories.values()) {
-			v.update((TestSuiteChromosome) individual);
+		currentMetrics(Collections.singletonList(getMetrics(bestIndividual)));
+	}
+
+	private MetricsSnapshot getMetrics(TestSuiteChromosome individual) {
+		int fitnessEvaluations = lastMetrics == null ? 0 : lastMetrics.getFitnessEvaluations();
+		return new MetricsSnapshot(individual, fitnessEvaluations);
+	}
+
+	/**
+	 * This method is called when the metrics of new individuals are sent from a client.
+	 * Each snapshot represents the best individual at the time it was taken.
+	 * 
+	 * @param snapshots in the order in which they were taken
+	 */
+	public void currentMetrics(List<MetricsSnapshot> snapshots) {
+		if(backend == null)
+			return;
+
+		logger.debug("Received metrics of {} individuals", snapshots.size());
+		for(MetricsSnapshot snapshot : snapshots) {
+			lastMetrics = snapshot;
+			for(ChromosomeOutputVariableFactory<?> v : variableFactories.values()) {
+				setOutputVariable(v.getVariable(snapshot));
+			}
+			for(SequenceOutputVariableFactory<?> v : sequenceOutputVariableFactories.values()) {
+				v.update(snapshot);
+			}
 		}
 	}
 
@@ -300,6 +328,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 	 */
 	private Map<String, OutputVariable<?>> getOutputVariables(TestSuiteChromosome individual, boolean skip_missing) {
 		Map<String, OutputVariable<?>> variables = new LinkedHashMap<String, OutputVariable<?>>();
+		MetricsSnapshot metrics = getMetrics(individual);
 		
 		for(String variableName : getOutputVariableNames()) {
 			if(outputVariables.containsKey(variableName)) {
@@ -310,7 +339,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 				variables.put(variableName, new PropertyOutputVariableFactory(variableName).getVariable());
 			} else if(variableFactories.containsKey(variableName)) {
 				//values extracted from the individual
-				variables.put(variableName, variableFactories.get(variableName).getVariable(individual));
+				variables.put(variableName, variableFactories.get(variableName).getVariable(metrics));
 			} else if(sequenceOutputVariableFactories.containsKey(variableName)) {
 				/*
 				 * time related values, which will be expanded in a list of values
@@ -470,7 +499,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		}
 
 		@Override
-		protected Integer getData(TestSuiteChromosome individual) {
+		protected Integer getData(MetricsSnapshot individual) {
 			return individual.totalLengthOfTestCases();
 		}
 	}
@@ -484,7 +513,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		}
 
 		@Override
-		protected Integer getData(TestSuiteChromosome individual) {
+		protected Integer getData(MetricsSnapshot individual) {
 			return individual.size();
 		}
 	}
@@ -498,7 +527,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		}
 
 		@Override
-		protected Double getData(TestSuiteChromosome individual) {
+		protected Double getData(MetricsSnapshot individual) {
 			return individual.getFitness();
 		}
 	}
@@ -512,7 +541,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		}
 
 		@Override
-		protected Double getData(TestSuiteChromosome individual) {
+		protected Double getData(MetricsSnapshot individual) {
 			return individual.getCoverage();
 		}
 	}
@@ -527,7 +556,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		}
 
 		@Override
-		protected Double getValue(TestSuiteChromosome individual) {
+		protected Double getValue(MetricsSnapshot individual) {
 			return individual.getFitness();
 		}
 	}
@@ -542,7 +571,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		}
 
 		@Override
-		public Double getValue(TestSuiteChromosome individual) {
+		public Double getValue(MetricsSnapshot individual) {
 			return individual.getCoverage();
 		}
 	}
@@ -557,7 +586,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		}
 
 		@Override
-		public Integer getValue(TestSuiteChromosome individual) {
+		public Integer getValue(MetricsSnapshot individual) {
 			return individual.size();
 		}
 	}
@@ -572,7 +601,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		}
 
 		@Override
-		public Integer getValue(TestSuiteChromosome individual) {
+		public Integer getValue(MetricsSnapshot individual) {
 			return individual.totalLengthOfTestCases();
 		}
 	}
@@ -587,7 +616,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Integer getValue(TestSuiteChromosome individual) {
+        public Integer getValue(MetricsSnapshot individual) {
             return (Integer) this.value;
         }
 
@@ -607,7 +636,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		}
 
 		@Override
-		public Double getValue(TestSuiteChromosome individual) {
+		public Double getValue(MetricsSnapshot individual) {
 			return (Double) this.value;
 		}
 
@@ -627,7 +656,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Integer getValue(TestSuiteChromosome individual) {
+        public Integer getValue(MetricsSnapshot individual) {
             return individual.getNumOfNotCoveredGoals();
         }
     }
@@ -639,7 +668,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getCoverageInstanceOf(BranchCoverageSuiteFitness.class);
         }
     }
@@ -651,7 +680,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getFitnessInstanceOf(OnlyBranchCoverageSuiteFitness.class);
         }
     }
@@ -663,7 +692,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getCoverageInstanceOf(OnlyBranchCoverageSuiteFitness.class);
         }
     }
@@ -675,7 +704,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getFitnessInstanceOf(CBranchSuiteFitness.class);
         }
     }
@@ -687,7 +716,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getCoverageInstanceOf(CBranchSuiteFitness.class);
         }
     }
@@ -699,7 +728,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getFitnessInstanceOf(MethodTraceCoverageSuiteFitness.class);
         }
     }
@@ -711,7 +740,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getCoverageInstanceOf(MethodTraceCoverageSuiteFitness.class);
         }
     }
@@ -723,7 +752,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getFitnessInstanceOf(MethodCoverageSuiteFitness.class);
         }
     }
@@ -735,7 +764,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getCoverageInstanceOf(MethodCoverageSuiteFitness.class);
         }
     }
@@ -747,7 +776,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getFitnessInstanceOf(MethodNoExceptionCoverageSuiteFitness.class);
         }
     }
@@ -759,7 +788,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getCoverageInstanceOf(MethodNoExceptionCoverageSuiteFitness.class);
         }
     }
@@ -771,7 +800,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             Double d = individual.getFitnessInstanceOf(RhoCoverageSuiteFitness.class);
             return d > 1.0 ? 0.0 : d;
         }
@@ -784,7 +813,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getFitnessInstanceOf(AmbiguityCoverageSuiteFitness.class);
         }
     }
@@ -796,7 +825,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getFitnessInstanceOf(LineCoverageSuiteFitness.class);
         }
     }
@@ -808,7 +837,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getCoverageInstanceOf(LineCoverageSuiteFitness.class);
         }
     }
@@ -820,7 +849,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getFitnessInstanceOf(OutputCoverageSuiteFitness.class);
         }
     }
@@ -832,7 +861,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getCoverageInstanceOf(OutputCoverageSuiteFitness.class);
         }
     }
@@ -844,7 +873,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getFitnessInstanceOf(InputCoverageSuiteFitness.class);
         }
     }
@@ -856,7 +885,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getCoverageInstanceOf(InputCoverageSuiteFitness.class);
         }
     }
@@ -868,7 +897,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getFitnessInstanceOf(ExceptionCoverageSuiteFitness.class);
         }
     }
@@ -880,7 +909,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getCoverageInstanceOf(ExceptionCoverageSuiteFitness.class);
         }
     }
@@ -892,7 +921,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getCoverageInstanceOf(WeakMutationSuiteFitness.class);
         }
     }
@@ -904,7 +933,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getFitnessInstanceOf(OnlyMutationSuiteFitness.class);
         }
     }
@@ -916,7 +945,7 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(MetricsSnapshot individual) {
             return individual.getCoverageInstanceOf(OnlyMutationSuiteFitness.class);
         }
     }
@@ -0,0 +1,247 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics.backend;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.evosuite.Properties;
+import org.evosuite.ga.Chromosome;
+import org.evosuite.statistics.OutputVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This statistics backend writes all (selected) output variables to a
+ * compressed columnar file, which can be converted to CSV with
+ * {@link ColumnarStatisticsReader}.
+ *
+ * <p>
+ * Rows are collected until {@link Properties#STATISTICS_BATCH_SIZE} of them
+ * with the same variables are available, and then appended to the file as
+ * one block. A block is a separate GZIP member, so appending never needs to
+ * read or rewrite what is already in the file. Within a block, the values of
+ * each variable are stored together: integral columns as zig-zag encoded
+ * deltas, floating point columns as doubles, and all other columns as
+ * dictionary encoded strings. Rows still collected when the JVM exits are
+ * written by a shutdown hook.
+ * </p>
+ */
+public class ColumnarStatisticsBackend implements StatisticsBackend {
+
+	private static Logger logger = LoggerFactory.getLogger(ColumnarStatisticsBackend.class);
+
+	public static final String FILE_NAME = "statistics.col.gz";
+
+	/** "EVOT" */
+	public static final int MAGIC = 0x45564F54;
+
+	/** Has to be increased whenever the encoding changes */
+	public static final int VERSION = 1;
+
+	static final byte TYPE_LONG = 0;
+	static final byte TYPE_DOUBLE = 1;
+	static final byte TYPE_STRING = 2;
+
+	/** Rows not written yet, shared by all instances as they write to the same file */
+	private static final List<Object[]> pendingRows = new ArrayList<>();
+
+	/** Variable names of the pending rows */
+	private static List<String> pendingColumns = null;
+
+	private static File pendingFile = null;
+
+	private static boolean shutdownHookAdded = false;
+
+	@Override
+	public void writeData(Chromosome result, Map<String, OutputVariable<?>> data) {
+		List<String> columns = new ArrayList<>(data.keySet());
+		Object[] row = new Object[columns.size()];
+		int i = 0;
+		for (OutputVariable<?> variable : data.values()) {
+			row[i++] = variable.getValue();
+		}
+
+		try {
+			File file = new File(CSVStatisticsBackend.getReportDir().getAbsolutePath() + File.separator + FILE_NAME);
+			synchronized (pendingRows) {
+				if (!pendingRows.isEmpty() && (!columns.equals(pendingColumns) || !file.equals(pendingFile))) {
+					flush();
+				}
+				pendingColumns = columns;
+				pendingFile = file;
+				pendingRows.add(row);
+				if (pendingRows.size() >= Properties.STATISTICS_BATCH_SIZE) {
+					flush();
+				} else {
+					addShutdownHook();
+				}
+			}
+		} catch (IOException e) {
+			logger.warn("Error while writing statistics: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Write all collected rows to disk
+	 */
+	public static void flushPendingRows() {
+		synchronized (pendingRows) {
+			try {
+				flush();
+			} catch (IOException e) {
+				logger.warn("Error while writing statistics: " + e.getMessage());
+			}
+		}
+	}
+
+	private static void flush() throws IOException {
+		if (pendingRows.isEmpty()) {
+			return;
+		}
+		try (OutputStream out = new FileOutputStream(pendingFile, true)) {
+			writeBlock(out, pendingColumns, pendingRows);
+		} finally {
+			pendingRows.clear();
+		}
+	}
+
+	private static void addShutdownHook() {
+		if (shutdownHookAdded) {
+			return;
+		}
+		Runtime.getRuntime().addShutdownHook(new Thread() {
+			@Override
+			public void run() {
+				flushPendingRows();
+			}
+		});
+		shutdownHookAdded = true;
+	}
+
+	/**
+	 * Append one block of rows, as one GZIP member
+	 *
+	 * @param out
+	 *            is not closed
+	 * @param columns
+	 * @param rows
+	 * @throws IOException
+	 */
+	static void writeBlock(OutputStream out, List<String> columns, List<Object[]> rows) throws IOException {
+		GZIPOutputStream gzip = new GZIPOutputStream(out, 8192);
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(gzip));
+		data.writeInt(MAGIC);
+		writeVarInt(data, VERSION);
+		writeVarInt(data, columns.size());
+		writeVarInt(data, rows.size());
+
+		for (int column = 0; column < columns.size(); column++) {
+			writeString(data, columns.get(column));
+			byte type = getType(rows, column);
+			data.writeByte(type);
+
+			if (type == TYPE_LONG) {
+				long previous = 0;
+				for (Object[] row : rows) {
+					long value = ((Number) row[column]).longValue();
+					long delta = value - previous;
+					writeVarLong(data, (delta << 1) ^ (delta >> 63));
+					previous = value;
+				}
+			} else if (type == TYPE_DOUBLE) {
+				for (Object[] row : rows) {
+					data.writeDouble((Double) row[column]);
+				}
+			} else {
+				Map<String, Integer> dictionary = new HashMap<>();
+				for (Object[] row : rows) {
+					// same text as the CSV backend
+					String value = String.valueOf(row[column]);
+					Integer index = dictionary.get(value);
+					if (index == null) {
+						dictionary.put(value, dictionary.size());
+						writeVarInt(data, 0);
+						writeString(data, value);
+					} else {
+						writeVarInt(data, index + 1);
+					}
+				}
+			}
+		}
+
+		data.flush();
+		gzip.finish();
+	}
+
+	/**
+	 * Integral values are only stored as numbers if they are printed the same
+	 * way, whatever their type. Floats are stored as strings, as they are not
+	 * printed like the doubles they can be converted to.
+	 */
+	private static byte getType(List<Object[]> rows, int column) {
+		boolean integral = true;
+		boolean floating = true;
+		for (Object[] row : rows) {
+			Object value = row[column];
+			if (!(value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)) {
+				integral = false;
+			}
+			if (!(value instanceof Double)) {
+				floating = false;
+			}
+		}
+		if (integral) {
+			return TYPE_LONG;
+		} else if (floating) {
+			return TYPE_DOUBLE;
+		} else {
+			return TYPE_STRING;
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException {
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(out, bytes.length);
+		out.write(bytes);
+	}
+
+	private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+		writeVarLong(out, value & 0xFFFFFFFFL);
+	}
+
+	private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+}
@@ -0,0 +1,233 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics.backend;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads the statistics written by {@link ColumnarStatisticsBackend}, one
+ * block of rows at a time, and converts them to CSV.
+ */
+public class ColumnarStatisticsReader implements Closeable {
+
+	private final DataInputStream in;
+
+	private List<String> columns = new ArrayList<>();
+
+	/** Values by column, then by row, as written by the CSV backend */
+	private String[][] values = new String[0][];
+
+	private int numRows = 0;
+
+	public ColumnarStatisticsReader(InputStream in) throws IOException {
+		// GZIPInputStream reads all members of the file, one after the other
+		this.in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(new BufferedInputStream(in))));
+	}
+
+	/**
+	 * Read the next block of rows
+	 *
+	 * @return false if there are no more blocks
+	 * @throws IOException
+	 */
+	public boolean nextBlock() throws IOException {
+		int first = in.read();
+		if (first < 0) {
+			return false;
+		}
+		int magic = (first << 24) | (in.readUnsignedByte() << 16) | (in.readUnsignedByte() << 8)
+		        | in.readUnsignedByte();
+		if (magic != ColumnarStatisticsBackend.MAGIC) {
+			throw new IOException("Not a columnar statistics file");
+		}
+		int version = readVarInt();
+		if (version != ColumnarStatisticsBackend.VERSION) {
+			throw new IOException("Unsupported columnar statistics version: " + version);
+		}
+
+		int numColumns = readVarInt();
+		numRows = readVarInt();
+		columns = new ArrayList<>(numColumns);
+		values = new String[numColumns][numRows];
+
+		for (int column = 0; column < numColumns; column++) {
+			columns.add(readString());
+			byte type = in.readByte();
+			String[] columnValues = values[column];
+
+			if (type == ColumnarStatisticsBackend.TYPE_LONG) {
+				long previous = 0;
+				for (int row = 0; row < numRows; row++) {
+					long zigZag = readVarLong();
+					previous += (zigZag >>> 1) ^ -(zigZag & 1);
+					columnValues[row] = Long.toString(previous);
+				}
+			} else if (type == ColumnarStatisticsBackend.TYPE_DOUBLE) {
+				for (int row = 0; row < numRows; row++) {
+					columnValues[row] = Double.toString(in.readDouble());
+				}
+			} else if (type == ColumnarStatisticsBackend.TYPE_STRING) {
+				List<String> dictionary = new ArrayList<>();
+				for (int row = 0; row < numRows; row++) {
+					int index = readVarInt();
+					if (index == 0) {
+						String value = readString();
+						dictionary.add(value);
+						columnValues[row] = value;
+					} else {
+						columnValues[row] = dictionary.get(index - 1);
+					}
+				}
+			} else {
+				throw new IOException("Unknown column type: " + type);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the variable names of the current block
+	 */
+	public List<String> getColumns() {
+		return columns;
+	}
+
+	public int getNumRows() {
+		return numRows;
+	}
+
+	/**
+	 * @param row
+	 * @param column
+	 * @return the value as it would have been written by the CSV backend
+	 */
+	public String getValue(int row, int column) {
+		return values[column][row];
+	}
+
+	/**
+	 * Convert a columnar statistics file to CSV. As blocks can have different
+	 * variables, the header has all variables of the file, and values of
+	 * variables missing in a block are left empty.
+	 *
+	 * @param columnarFile
+	 * @param csvFile
+	 * @throws IOException
+	 */
+	public static void exportToCSV(File columnarFile, File csvFile) throws IOException {
+		Map<String, Integer> allColumns = new LinkedHashMap<>();
+		try (ColumnarStatisticsReader reader = new ColumnarStatisticsReader(new FileInputStream(columnarFile))) {
+			while (reader.nextBlock()) {
+				for (String column : reader.getColumns()) {
+					if (!allColumns.containsKey(column)) {
+						allColumns.put(column, allColumns.size());
+					}
+				}
+			}
+		}
+
+		try (ColumnarStatisticsReader reader = new ColumnarStatisticsReader(new FileInputStream(columnarFile));
+		        Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(csvFile),
+		                StandardCharsets.UTF_8))) {
+			out.write(String.join(",", allColumns.keySet()));
+			out.write("\n");
+
+			String[] line = new String[allColumns.size()];
+			while (reader.nextBlock()) {
+				int[] positions = new int[reader.getColumns().size()];
+				for (int column = 0; column < positions.length; column++) {
+					positions[column] = allColumns.get(reader.getColumns().get(column));
+				}
+				for (int row = 0; row < reader.getNumRows(); row++) {
+					Arrays.fill(line, "");
+					for (int column = 0; column < positions.length; column++) {
+						line[positions[column]] = reader.getValue(row, column);
+					}
+					out.write(String.join(",", line));
+					out.write("\n");
+				}
+			}
+		}
+	}
+
+	private String readString() throws IOException {
+		byte[] bytes = new byte[readVarInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private int readVarInt() throws IOException {
+		return (int) readVarLong();
+	}
+
+	private long readVarLong() throws IOException {
+		int shift = 0;
+		long value = 0;
+		while (true) {
+			int b = in.read();
+			if (b < 0) {
+				throw new EOFException();
+			}
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+			shift += 7;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+
+	/**
+	 * Convert a file written by the columnar statistics backend to CSV
+	 *
+	 * @param args
+	 *            the columnar file, and the CSV file to write
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.err.println("Usage: " + ColumnarStatisticsReader.class.getName()
+			        + " <" + ColumnarStatisticsBackend.FILE_NAME + "> <statistics.csv>");
+			System.exit(1);
+		}
+		exportToCSV(new File(args[0]), new File(args[1]));
+	}
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics.backend;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class ColumnarStatisticsBackendTest {
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		List<String> columns = Arrays.asList("TARGET_CLASS", "Coverage", "Size", "Ratio");
+		List<Object[]> rows = Arrays.asList(
+		        new Object[] { "com.example.Foo", 0.5, 3, 0.25f },
+		        new Object[] { "com.example.Bar", 1.0, 12L, null },
+		        new Object[] { "com.example.Foo", 0.75, -4, 1.5f });
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ColumnarStatisticsBackend.writeBlock(bytes, columns, rows);
+		ColumnarStatisticsBackend.writeBlock(bytes, columns.subList(0, 2), rows.subList(0, 1));
+
+		try (ColumnarStatisticsReader reader = new ColumnarStatisticsReader(new ByteArrayInputStream(bytes.toByteArray()))) {
+			assertTrue(reader.nextBlock());
+			assertEquals(columns, reader.getColumns());
+			assertEquals(3, reader.getNumRows());
+			for (int row = 0; row < rows.size(); row++) {
+				for (int column = 0; column < columns.size(); column++) {
+					assertEquals(String.valueOf(rows.get(row)[column]), reader.getValue(row, column));
+				}
+			}
+
+			assertTrue(reader.nextBlock());
+			assertEquals(columns.subList(0, 2), reader.getColumns());
+			assertEquals(1, reader.getNumRows());
+			assertEquals("0.5", reader.getValue(0, 1));
+
+			assertFalse(reader.nextBlock());
+		}
+	}
+
+	@Test
+	public void testExportToCSV() throws IOException {
+		File columnar = File.createTempFile("statistics", ".col.gz");
+		File csv = File.createTempFile("statistics", ".csv");
+		columnar.deleteOnExit();
+		csv.deleteOnExit();
+
+		try (OutputStream out = new FileOutputStream(columnar)) {
+			ColumnarStatisticsBackend.writeBlock(out, Arrays.asList("A", "B"),
+			        Arrays.asList(new Object[] { 1, 2.0 }, new Object[] { 3, 4.0 }));
+		}
+		// appended later, as a separate block with other variables
+		try (OutputStream out = new FileOutputStream(columnar, true)) {
+			ColumnarStatisticsBackend.writeBlock(out, Arrays.asList("B", "C"),
+			        Arrays.<Object[]> asList(new Object[] { 5.0, "x" }));
+		}
+
+		ColumnarStatisticsReader.exportToCSV(columnar, csv);
+		List<String> lines = Files.readAllLines(csv.toPath(), StandardCharsets.UTF_8);
+		assertEquals(Arrays.asList("A,B,C", "1,2.0,", "3,4.0,", ",5.0,x"), lines);
+	}
+}
@@ -695,7 +695,9 @@ public class MSecurityManager extends SecurityManager {
 			This would be a reason more to actually mock RMI in VNET
 		 */
 
-		if(!Thread.currentThread().getName().startsWith("RMI ") && !Thread.currentThread().getName().equals("Statistics sender in client process")) {
+		String threadName = Thread.currentThread().getName();
+		if(!threadName.startsWith("RMI ") && !threadName.equals("Statistics sender in client process")
+				&& !threadName.equals("Migration sender in client process")) {
 			return false;
 		}
 